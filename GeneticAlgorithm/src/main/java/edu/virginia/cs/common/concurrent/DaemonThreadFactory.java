@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates named daemon threads so that idle pools never keep the JVM alive
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DaemonThreadFactory implements ThreadFactory {
+
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+    private final String _prefix;
+    private final AtomicInteger _threadNum = new AtomicInteger();
+
+    /**
+     * @param name Identifies the pool in thread names
+     */
+    public DaemonThreadFactory(final String name) {
+        _prefix = name + "-" + POOL_COUNTER.incrementAndGet() + "-";
+    }
+
+    /**
+     * @see java.util.concurrent.ThreadFactory#newThread(java.lang.Runnable)
+     */
+    @Override
+    public Thread newThread(final Runnable r) {
+        final Thread retval = new Thread(r, _prefix + _threadNum.incrementAndGet());
+        retval.setDaemon(true);
+        return retval;
+    }
+}
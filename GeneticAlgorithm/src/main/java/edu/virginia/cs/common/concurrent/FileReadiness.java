@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Future that completes (with the file itself) once a {@link FileReadinessService} sees a signal file exist
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FileReadiness implements Future<File> {
+
+    private final File _file;
+    private final FileReadinessService _service;
+    private final CountDownLatch _done = new CountDownLatch(1);
+    private volatile boolean _cancelled = false;
+    private final List<Runnable> _listeners = new ArrayList<Runnable>();
+    private boolean _completing = false; // Guarded by _listeners
+
+    FileReadiness(final File file, final FileReadinessService service) {
+        _file = file;
+        _service = service;
+    }
+
+    /**
+     * @return Signal file being waited for
+     */
+    public File getFile() {
+        return _file;
+    }
+
+    /**
+     * Registers an action to perform once the file exists (or the wait is cancelled). If that has already happened, the
+     * action is performed immediately on the calling thread; otherwise it is performed on the service's thread and so
+     * should be brief.
+     * @param listener Action to perform
+     */
+    public void addCompletionListener(final Runnable listener) {
+        synchronized (_listeners) {
+            if (!_completing) {
+                _listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    void complete() {
+        complete(false);
+    }
+
+    /**
+     * Notifies listeners and then releases waiting threads, so that anyone who has waited sees the listeners' effects
+     * @return Whether this call completed the future (rather than it having been completed already)
+     */
+    private boolean complete(final boolean cancelled) {
+        final List<Runnable> listeners;
+        synchronized (_listeners) {
+            if (_completing) return false;
+            _completing = true;
+            _cancelled = cancelled;
+            listeners = new ArrayList<Runnable>(_listeners);
+            _listeners.clear();
+        }
+        try {
+            for (final Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+        finally {
+            _done.countDown();
+        }
+        return true;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#cancel(boolean)
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        if (!complete(true)) return false;
+        _service.unregister(this);
+        return true;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#isCancelled()
+     */
+    @Override
+    public boolean isCancelled() {
+        return _cancelled;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#isDone()
+     */
+    @Override
+    public boolean isDone() {
+        return _done.getCount() == 0;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#get()
+     */
+    @Override
+    public File get() throws InterruptedException {
+        _done.await();
+        return result();
+    }
+
+    /**
+     * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public File get(final long timeout, final TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!_done.await(timeout, unit)) throw new TimeoutException("Couldn't find file '" + _file.getPath() + "'");
+        return result();
+    }
+
+    private File result() {
+        if (_cancelled) throw new CancellationException("Stopped waiting for '" + _file.getPath() + "'");
+        return _file;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
+
+/**
+ * Central service for waiting on signal (e.g., <code>.ready</code>) files. Rather than each waiting thread checking for
+ * its own file, a single thread lists every directory with pending files and completes the corresponding
+ * {@link FileReadiness} futures, so thousands of pending files cost one thread and one directory listing per directory
+ * per scan. Java 6 has no way of being told about new files, so directories are still scanned, but each directory is
+ * scanned less and less often while nothing in it becomes ready, and whoever knows that a directory has changed (such
+ * as when the process writing to it exits) can have it scanned at once with {@link #directoryChanged(File)}.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FileReadinessService {
+
+    /**
+     * Default shortest time (in milliseconds) between scans of a watched directory
+     */
+    public static final long DEFAULT_SCAN_INTERVAL = 50;
+    /**
+     * How many times the shortest interval a directory can go without being scanned while nothing in it becomes ready
+     */
+    private static final int MAX_BACKOFF = 16;
+    private static final Timer WAIT_TIMER = Metrics.getDefault().timer("file.wait");
+    private static FileReadinessService _default = null;
+    private final long _scanInterval;
+    private final Map<File, WatchedDirectory> _pending = new HashMap<File, WatchedDirectory>();
+    private final ScheduledExecutorService _scanner =
+            Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("file-readiness"));
+    private final Runnable _scan = new Runnable() {
+        @Override
+        public void run() {
+            try {
+                scan();
+            }
+            catch (final RuntimeException e) {
+                // An exception would silently cancel all future scans
+                Logger.getLogger(FileReadinessService.class.getName()).log(Level.SEVERE, null, e);
+            }
+        }
+    };
+
+    /**
+     * @return Service shared by the application
+     */
+    public static synchronized FileReadinessService getDefault() {
+        if (_default == null) {
+            _default = new FileReadinessService(DEFAULT_SCAN_INTERVAL);
+        }
+        return _default;
+    }
+
+    /**
+     * Constructor
+     * @param scanInterval Shortest time (in milliseconds) between scans of a watched directory
+     */
+    public FileReadinessService(final long scanInterval) {
+        if (scanInterval < 1) throw new IllegalArgumentException("Scan interval must be positive");
+        _scanInterval = scanInterval;
+        _scanner.scheduleWithFixedDelay(_scan, scanInterval, scanInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Registers interest in a file
+     * @param file File whose existence is being waited for
+     * @return Future that completes once the file exists (already complete if it exists now)
+     */
+    public FileReadiness whenReady(final File file) {
+        final File absFile = file.getAbsoluteFile();
+        final FileReadiness retval = new FileReadiness(absFile, this);
+        if (absFile.exists()) {
+            retval.complete();
+            return retval;
+        }
+        synchronized (_pending) {
+            final File dir = absFile.getParentFile();
+            WatchedDirectory watched = _pending.get(dir);
+            if (watched == null) {
+                watched = new WatchedDirectory();
+                _pending.put(dir, watched);
+            }
+            watched._waiting.add(retval);
+            watched.scanSoon(_scanInterval);
+        }
+        // Covers the file appearing between the check above and registration
+        if (absFile.exists()) {
+            unregister(retval);
+            retval.complete();
+        }
+        return retval;
+    }
+
+    /**
+     * Blocks until a file exists or maxWait milliseconds has elapsed (drop-in replacement for
+     * {@link edu.virginia.cs.common.utils.Pause#untilExists(File, int)})
+     * @param file File whose existence is being waited for
+     * @param maxWait Maximum number of milliseconds to wait for
+     * @return Whether the file exists
+     */
+    public boolean awaitReady(final File file, final long maxWait) {
+        final long start = WAIT_TIMER.start();
+        final FileReadiness readiness = whenReady(file);
+        try {
+            readiness.get(maxWait, TimeUnit.MILLISECONDS);
+            return true;
+        }
+        catch (final TimeoutException e) {
+            readiness.cancel(false);
+            return file.exists();
+        }
+        catch (final InterruptedException e) {
+            readiness.cancel(false);
+            Thread.currentThread().interrupt();
+            return file.exists();
+        }
+        finally {
+            WAIT_TIMER.stop(start);
+        }
+    }
+
+    /**
+     * Scans a directory straight away, rather than waiting for its next scan
+     * @param dir Directory whose contents have (or may have) changed
+     */
+    public void directoryChanged(final File dir) {
+        synchronized (_pending) {
+            final WatchedDirectory watched = _pending.get(dir.getAbsoluteFile());
+            if (watched == null) return;
+            watched.scanSoon(_scanInterval);
+        }
+        try {
+            _scanner.execute(_scan);
+        }
+        catch (final RejectedExecutionException e) {
+            // Shut down, so there's no point scanning
+        }
+    }
+
+    /**
+     * @return Number of files currently being waited for
+     */
+    public int getNumPending() {
+        synchronized (_pending) {
+            int retval = 0;
+            for (final WatchedDirectory watched : _pending.values()) {
+                retval += watched._waiting.size();
+            }
+            return retval;
+        }
+    }
+
+    /**
+     * Stops watching for files. Pending futures never complete unless cancelled.
+     */
+    public void shutdown() {
+        _scanner.shutdown();
+    }
+
+    void unregister(final FileReadiness readiness) {
+        synchronized (_pending) {
+            final File dir = readiness.getFile().getParentFile();
+            final WatchedDirectory watched = _pending.get(dir);
+            if (watched != null) {
+                watched._waiting.remove(readiness);
+                if (watched._waiting.isEmpty()) _pending.remove(dir);
+            }
+        }
+    }
+
+    private void scan() {
+        final long now = System.currentTimeMillis();
+        final Map<File, List<FileReadiness>> snapshot = new HashMap<File, List<FileReadiness>>();
+        synchronized (_pending) {
+            for (final Map.Entry<File, WatchedDirectory> entry : _pending.entrySet()) {
+                if (now >= entry.getValue()._nextScan) {
+                    snapshot.put(entry.getKey(), new ArrayList<FileReadiness>(entry.getValue()._waiting));
+                }
+            }
+        }
+        final List<FileReadiness> ready = new ArrayList<FileReadiness>();
+        for (final Map.Entry<File, List<FileReadiness>> entry : snapshot.entrySet()) {
+            final String[] names = entry.getKey().list();
+            final int numReady = ready.size();
+            if (names != null) { // Otherwise the directory doesn't exist (yet)
+                final Set<String> present = new HashSet<String>(Arrays.asList(names));
+                for (final FileReadiness readiness : entry.getValue()) {
+                    if (present.contains(readiness.getFile().getName())) ready.add(readiness);
+                }
+            }
+            synchronized (_pending) {
+                final WatchedDirectory watched = _pending.get(entry.getKey());
+                if (watched != null) {
+                    watched.scanned(now, ready.size() > numReady, _scanInterval);
+                }
+            }
+        }
+        for (final FileReadiness readiness : ready) {
+            unregister(readiness);
+            readiness.complete();
+        }
+    }
+
+    /**
+     * Files waited for in one directory, and when the directory is next due to be scanned
+     */
+    private static final class WatchedDirectory {
+
+        private final List<FileReadiness> _waiting = new ArrayList<FileReadiness>();
+        private long _interval = 0;
+        private long _nextScan = 0;
+
+        void scanSoon(final long scanInterval) {
+            _interval = scanInterval;
+            _nextScan = 0;
+        }
+
+        void scanned(final long time, final boolean foundReady, final long scanInterval) {
+            // Directories where files are turning up are scanned often, quiet ones less and less often
+            _interval = foundReady ? scanInterval : Math.min(2 * _interval, MAX_BACKOFF * scanInterval);
+            _nextScan = time + _interval;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads what Linux reports about processes in /proc. On other platforms nothing is reported (CPU times are -1 and no
+ * process has any descendants).
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+final class ProcFileSystem {
+
+    private static final File PROC = new File("/proc");
+    /**
+     * Clock ticks per second assumed if they cannot be looked up (the value on almost every Linux system)
+     */
+    private static final long DEFAULT_CLOCK_TICKS = 100;
+    private static long _clockTicks = -1;
+
+    private ProcFileSystem() {
+        // Static methods only
+    }
+
+    /**
+     * @return Number of clock ticks per second that CPU times in /proc are measured in (USER_HZ), as reported by getconf
+     */
+    static synchronized long getClockTicksPerSecond() {
+        if (_clockTicks < 0) {
+            _clockTicks = DEFAULT_CLOCK_TICKS;
+            try {
+                final Process getconf = new ProcessBuilder("getconf", "CLK_TCK").redirectErrorStream(true).start();
+                final BufferedReader reader = new BufferedReader(new InputStreamReader(getconf.getInputStream()));
+                try {
+                    final String line = reader.readLine();
+                    if (getconf.waitFor() == 0 && line != null) {
+                        _clockTicks = Long.parseLong(line.trim());
+                    }
+                }
+                finally {
+                    reader.close();
+                }
+            }
+            catch (final IOException e) {
+                Logger.getLogger(ProcFileSystem.class.getName())
+                      .log(Level.WARNING, "Assuming " + DEFAULT_CLOCK_TICKS + " clock ticks per second", e);
+            }
+            catch (final NumberFormatException e) {
+                Logger.getLogger(ProcFileSystem.class.getName())
+                      .log(Level.WARNING, "Assuming " + DEFAULT_CLOCK_TICKS + " clock ticks per second", e);
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return _clockTicks;
+    }
+
+    /**
+     * @param pid Process to look up
+     * @return CPU time (in milliseconds) used by the process and every child it has waited for, or -1 if unavailable
+     */
+    static long getCpuTime(final long pid) {
+        final String[] fields = readStat(pid);
+        if (fields == null) return -1;
+        try {
+            // utime, stime, cutime and cstime are the 14th to 17th fields overall
+            long ticks = 0;
+            for (int i = 11; i <= 14; ++i) {
+                ticks += Long.parseLong(fields[i]);
+            }
+            return ticks * 1000 / getClockTicksPerSecond();
+        }
+        catch (final RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @param pid Process to look up
+     * @return CPU time (in milliseconds) used by the process and all of its descendants, including those that have
+     *         already exited, or -1 if unavailable
+     */
+    static long getTotalCpuTime(final long pid) {
+        long retval = getCpuTime(pid);
+        if (retval < 0) return -1;
+        for (final long descendant : getDescendants(pid)) {
+            // A descendant may exit between being found and being read, in which case its parent will count it
+            retval += Math.max(0, getCpuTime(descendant));
+        }
+        return retval;
+    }
+
+    /**
+     * @param pid Process to look up
+     * @return Living descendants of the process, parents before their children
+     */
+    static List<Long> getDescendants(final long pid) {
+        final List<Long> retval = new ArrayList<Long>();
+        if (pid < 0) return retval;
+        Map<Long, List<Long>> childMap = null;
+        retval.add(pid);
+        for (int i = 0; i < retval.size(); ++i) {
+            List<Long> children = getChildren(retval.get(i));
+            if (children == null) {
+                // Kernel doesn't list children, so find them by their parents
+                if (childMap == null) {
+                    childMap = getChildMap();
+                }
+                children = childMap.get(retval.get(i));
+            }
+            if (children != null) {
+                retval.addAll(children);
+            }
+        }
+        retval.remove(0);
+        return retval;
+    }
+
+    /**
+     * @return Children of the process as listed by each of its threads, or null if the kernel doesn't list them
+     */
+    private static List<Long> getChildren(final long pid) {
+        final File[] tasks = new File(new File(PROC, String.valueOf(pid)), "task").listFiles();
+        if (tasks == null) return new ArrayList<Long>(); // Already gone (or not Linux)
+        final List<Long> retval = new ArrayList<Long>();
+        for (final File task : tasks) {
+            final File children = new File(task, "children");
+            if (!children.exists()) return null;
+            final String line = readLine(children);
+            if (line != null) {
+                for (final String child : line.trim().split(" ")) {
+                    if (!child.isEmpty()) {
+                        retval.add(Long.valueOf(child));
+                    }
+                }
+            }
+        }
+        return retval;
+    }
+
+    /**
+     * @return Children of every process, found from the parent each process lists
+     */
+    private static Map<Long, List<Long>> getChildMap() {
+        final Map<Long, List<Long>> retval = new HashMap<Long, List<Long>>();
+        final String[] names = PROC.list();
+        if (names == null) return retval;
+        for (final String name : names) {
+            if (!name.matches("\\d+")) continue;
+            final String[] fields = readStat(Long.parseLong(name));
+            if (fields == null) continue;
+            final Long parent = Long.valueOf(fields[1]);
+            List<Long> children = retval.get(parent);
+            if (children == null) {
+                children = new ArrayList<Long>();
+                retval.put(parent, children);
+            }
+            children.add(Long.valueOf(name));
+        }
+        return retval;
+    }
+
+    /**
+     * @return Fields of /proc/pid/stat after the command name (so the state is first), or null if unavailable
+     */
+    private static String[] readStat(final long pid) {
+        final String line = readLine(new File(new File(PROC, String.valueOf(pid)), "stat"));
+        // The command name (2nd field) is parenthesized and may contain spaces
+        if (line == null || line.lastIndexOf(')') < 0) return null;
+        return line.substring(line.lastIndexOf(')') + 2).split(" ");
+    }
+
+    private static String readLine(final File file) {
+        try {
+            final BufferedReader reader = new BufferedReader(new FileReader(file));
+            try {
+                return reader.readLine();
+            }
+            finally {
+                reader.close();
+            }
+        }
+        catch (final IOException e) {
+            return null;
+        }
+    }
+}
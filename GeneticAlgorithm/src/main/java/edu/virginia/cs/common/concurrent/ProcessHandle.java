@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Handle on a process launched by a {@link ProcessSupervisor}. The value of the future is the exit code of the process.
+ * The handle completes when the process exits, even if descendants of the process (such as the program a wrapper script
+ * runs) still hold its output streams open, and killing the process kills its descendants too.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class ProcessHandle implements Future<Integer> {
+
+    /**
+     * How long (in milliseconds) to keep collecting output after the process exits before completing without the rest
+     */
+    private static final long OUTPUT_GRACE_PERIOD = 1000;
+    private final Process _process;
+    private final String _description;
+    private final long _pid;
+    private final long _startTime = System.currentTimeMillis();
+    private volatile long _endTime = -1;
+    private volatile int _exitCode = -1;
+    private volatile boolean _killed = false;
+    private volatile String _timeoutReason = null;
+    private volatile Future<?> _watchdog = null;
+    private final RingBuffer _out;
+    private final RingBuffer _err;
+    private final CountDownLatch _drained = new CountDownLatch(2);
+    private final CountDownLatch _done = new CountDownLatch(1);
+    private final List<Runnable> _listeners = new ArrayList<Runnable>();
+    private boolean _completing = false; // Guarded by _listeners
+
+    ProcessHandle(final Process process, final String description, final int bufferSize) {
+        _process = process;
+        _description = description;
+        _pid = pidOf(process);
+        _out = new RingBuffer(bufferSize);
+        _err = new RingBuffer(bufferSize);
+    }
+
+    /**
+     * Asks the process and its descendants to stop, if the process is still running
+     */
+    public void kill() {
+        if (markKilled(null)) stop(false);
+    }
+
+    /**
+     * Stops the process and its descendants without giving them a chance to clean up, if the process is still running.
+     * Use this when they have not responded to {@link #kill()}.
+     */
+    public void killForcibly() {
+        if (markKilled(null)) stop(true);
+    }
+
+    /**
+     * Kills the process for exceeding a time limit, forcibly if it has already been asked to stop for that reason
+     */
+    void timeOut(final String reason) {
+        final boolean alreadyTimedOut = isTimedOut();
+        if (markKilled(reason)) stop(alreadyTimedOut);
+    }
+
+    /**
+     * @return Whether the process is still running (so that it now counts as killed)
+     */
+    private boolean markKilled(final String timeoutReason) {
+        synchronized (_listeners) {
+            if (_completing) return false;
+            _killed = true;
+            if (timeoutReason != null && _timeoutReason == null) {
+                _timeoutReason = timeoutReason;
+            }
+            return true;
+        }
+    }
+
+    private void stop(final boolean forcibly) {
+        // Descendants must be found first, since they are adopted by init once the process has exited
+        final List<Long> descendants = ProcFileSystem.getDescendants(_pid);
+        if (!forcibly) {
+            _process.destroy();
+        }
+        else if (!destroyForcibly()) {
+            descendants.add(0, _pid);
+        }
+        signal(forcibly ? "KILL" : "TERM", descendants);
+    }
+
+    /**
+     * Uses the destroyForcibly() method (Java 8+) when it is available
+     * @return Whether the process was destroyed (otherwise it is up to the caller to kill it by its pid)
+     */
+    private boolean destroyForcibly() {
+        try {
+            final Method destroyForcibly = Process.class.getMethod("destroyForcibly");
+            destroyForcibly.invoke(_process);
+            return true;
+        }
+        catch (final Exception e) {
+            if (_pid >= 0) return false;
+            // Without a pid, there's nothing more forcible to try
+            _process.destroy();
+            return true;
+        }
+    }
+
+    private static void signal(final String signal, final List<Long> pids) {
+        if (pids.isEmpty()) return;
+        final List<String> command = new ArrayList<String>();
+        command.add("kill");
+        command.add("-" + signal);
+        for (final Long pid : pids) {
+            command.add(pid.toString());
+        }
+        try {
+            // Processes that have exited already are reported on standard error, which is of no interest
+            final Process kill = new ProcessBuilder(command).redirectErrorStream(true).start();
+            kill.getOutputStream().close();
+            kill.getInputStream().close();
+            kill.waitFor();
+        }
+        catch (final IOException e) {
+            Logger.getLogger(ProcessHandle.class.getName()).log(Level.WARNING, "Couldn't signal " + pids, e);
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    void setWatchdog(final Future<?> watchdog) {
+        _watchdog = watchdog;
+        if (isDone()) watchdog.cancel(false);
+    }
+
+    /**
+     * Registers an action to perform once the process has terminated and its output has been collected. If the process
+     * has already terminated, the action is performed immediately on the calling thread. Actions are performed before
+     * threads waiting on the process are released.
+     * @param listener Action to perform
+     */
+    public void addCompletionListener(final Runnable listener) {
+        synchronized (_listeners) {
+            if (!_completing) {
+                _listeners.add(listener);
+                return;
+            }
+        }
+        listener.run();
+    }
+
+    /**
+     * @see java.util.concurrent.Future#cancel(boolean)
+     */
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        if (!markKilled(null)) return false;
+        stop(false);
+        return true;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#isCancelled()
+     */
+    @Override
+    public boolean isCancelled() {
+        return _killed && _timeoutReason == null;
+    }
+
+    /**
+     * @see java.util.concurrent.Future#isDone()
+     */
+    @Override
+    public boolean isDone() {
+        return _done.getCount() == 0;
+    }
+
+    /**
+     * @return Whether the process was stopped for exceeding its wall-clock or CPU time limit
+     */
+    public boolean isTimedOut() {
+        return _timeoutReason != null;
+    }
+
+    /**
+     * @return Whether the process was stopped before it finished on its own (either killed or timed out)
+     */
+    public boolean isKilled() {
+        return _killed;
+    }
+
+    /**
+     * Waits for the process to terminate and for its output to be collected, no matter how it terminated
+     * @throws InterruptedException If the calling thread is interrupted while waiting
+     */
+    public void waitForTermination() throws InterruptedException {
+        _done.await();
+    }
+
+    /**
+     * Waits for the process to terminate and for its output to be collected, no matter how it terminated, for at most
+     * the given time
+     * @param timeout Maximum time to wait
+     * @param unit Unit of timeout
+     * @return Whether the process terminated
+     * @throws InterruptedException If the calling thread is interrupted while waiting
+     */
+    public boolean waitForTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return _done.await(timeout, unit);
+    }
+
+    /**
+     * @see java.util.concurrent.Future#get()
+     */
+    @Override
+    public Integer get() throws InterruptedException, ExecutionException {
+        _done.await();
+        return result();
+    }
+
+    /**
+     * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
+     */
+    @Override
+    public Integer get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException,
+                                                                      TimeoutException {
+        if (!_done.await(timeout, unit)) throw new TimeoutException("Still waiting on " + _description);
+        return result();
+    }
+
+    private Integer result() throws ExecutionException {
+        if (_timeoutReason != null) throw new ExecutionException(new TimeoutException(_timeoutReason));
+        if (_killed) throw new CancellationException(_description + " was killed");
+        return _exitCode;
+    }
+
+    /**
+     * @return Most recent standard output of the process (bounded by the supervisor's buffer size)
+     */
+    public String getOutput() {
+        return _out.toString();
+    }
+
+    /**
+     * @return Most recent standard error of the process (bounded by the supervisor's buffer size)
+     */
+    public String getErrors() {
+        return _err.toString();
+    }
+
+    /**
+     * @return How long (in milliseconds) the process has been running, or ran if it has terminated
+     */
+    public long getDuration() {
+        final long end = _endTime;
+        return ((end > 0) ? end : System.currentTimeMillis()) - _startTime;
+    }
+
+    /**
+     * @return CPU time (in milliseconds) used by the process and all of its descendants (so that the time of a program
+     *         run by a wrapper script is counted), or -1 if this platform does not make it available
+     */
+    public long getCpuTime() {
+        if (_pid < 0) return -1;
+        return ProcFileSystem.getTotalCpuTime(_pid);
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return _description;
+    }
+
+    Runnable createOutputDrainer() {
+        return new Drainer(_process.getInputStream(), _out);
+    }
+
+    Runnable createErrorDrainer() {
+        return new Drainer(_process.getErrorStream(), _err);
+    }
+
+    /**
+     * @return Task that waits for the process to exit and then completes this handle
+     */
+    Runnable createWaiter() {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    _exitCode = _process.waitFor();
+                    // Descendants that outlive the process may hold its output streams open indefinitely
+                    _drained.await(OUTPUT_GRACE_PERIOD, TimeUnit.MILLISECONDS);
+                }
+                catch (final InterruptedException e) {
+                    _process.destroy();
+                    Thread.currentThread().interrupt();
+                }
+                finally {
+                    complete();
+                }
+            }
+        };
+    }
+
+    private void complete() {
+        _endTime = System.currentTimeMillis();
+        final Future<?> watchdog = _watchdog;
+        if (watchdog != null) watchdog.cancel(false);
+        final List<Runnable> listeners;
+        synchronized (_listeners) {
+            _completing = true;
+            listeners = new ArrayList<Runnable>(_listeners);
+            _listeners.clear();
+        }
+        try {
+            for (final Runnable listener : listeners) {
+                listener.run();
+            }
+        }
+        finally {
+            _done.countDown();
+        }
+    }
+
+    /**
+     * Uses the pid() method (Java 9+) or the pid field of UNIXProcess (earlier Javas) when either is available
+     */
+    private static long pidOf(final Process process) {
+        try {
+            final Method pid = Process.class.getMethod("pid");
+            return ((Number) pid.invoke(process)).longValue();
+        }
+        catch (final Exception e) {
+            // Fall through
+        }
+        try {
+            final Field pid = process.getClass().getDeclaredField("pid");
+            pid.setAccessible(true);
+            return pid.getInt(process);
+        }
+        catch (final Exception e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Copies one stream of the process into a ring buffer
+     */
+    private class Drainer implements Runnable {
+
+        private final InputStream _stream;
+        private final RingBuffer _buffer;
+
+        Drainer(final InputStream stream, final RingBuffer buffer) {
+            _stream = stream;
+            _buffer = buffer;
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            try {
+                final Reader reader = new InputStreamReader(_stream);
+                final char[] chars = new char[4096];
+                try {
+                    int numRead;
+                    while ((numRead = reader.read(chars)) >= 0) {
+                        _buffer.append(chars, 0, numRead);
+                    }
+                }
+                catch (final IOException e) {
+                    // Stream closed underneath us, most likely because the process was killed
+                }
+                finally {
+                    try {
+                        reader.close();
+                    }
+                    catch (final IOException e) {
+                        // do nothing
+                    }
+                }
+            }
+            finally {
+                _drained.countDown();
+            }
+        }
+    }
+}
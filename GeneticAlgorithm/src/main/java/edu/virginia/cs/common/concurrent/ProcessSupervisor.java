@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
+
+/**
+ * Launches external processes without blocking the caller. Both output streams of every process are drained concurrently
+ * (so a chatty process can never stall on a full pipe), and processes exceeding their wall-clock or CPU time limits are
+ * killed (forcibly, if they are still running when next checked).
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class ProcessSupervisor {
+
+    /**
+     * Time limit signifying that there is no limit
+     */
+    public static final long NO_LIMIT = 0;
+    /**
+     * Default number of characters of each output stream to retain
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    /**
+     * How often (in milliseconds) time limits are checked
+     */
+    private static final long CHECK_INTERVAL = 100;
+    private static final Timer LAUNCH_TIMER = Metrics.getDefault().timer("process.launch");
+    private static ProcessSupervisor _default = null;
+    private final int _bufferSize;
+    private final ExecutorService _drainers = Executors.newCachedThreadPool(new DaemonThreadFactory("process-drainer"));
+    private final ScheduledExecutorService _watchdog =
+            Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("process-watchdog"));
+
+    /**
+     * @return Supervisor shared by the application
+     */
+    public static synchronized ProcessSupervisor getDefault() {
+        if (_default == null) {
+            _default = new ProcessSupervisor(DEFAULT_BUFFER_SIZE);
+        }
+        return _default;
+    }
+
+    /**
+     * Constructor
+     * @param bufferSize Number of characters of each output stream to retain
+     */
+    public ProcessSupervisor(final int bufferSize) {
+        if (bufferSize < 1) throw new IllegalArgumentException("Buffer size must be positive");
+        _bufferSize = bufferSize;
+    }
+
+    /**
+     * Launches a process without any time limits
+     * @param workingDir directory to run program from
+     * @param executable program to run
+     * @param arguments arguments to pass to the program
+     * @return Handle on the running process
+     * @throws IOException if program does not exist and possibly for other reasons
+     */
+    public ProcessHandle launch(final File workingDir, final File executable, final String... arguments)
+            throws IOException {
+        return launch(NO_LIMIT, NO_LIMIT, workingDir, executable, arguments);
+    }
+
+    /**
+     * Launches a process that is killed if it exceeds either time limit
+     * @param wallTimeLimit How long (in milliseconds) the process may run, or {@link #NO_LIMIT}
+     * @param cpuTimeLimit How much CPU time (in milliseconds) the process may use, or {@link #NO_LIMIT} (ignored on
+     *            platforms that do not report CPU time of other processes)
+     * @param workingDir directory to run program from
+     * @param executable program to run
+     * @param arguments arguments to pass to the program
+     * @return Handle on the running process
+     * @throws IOException if program does not exist and possibly for other reasons
+     */
+    public ProcessHandle launch(final long wallTimeLimit, final long cpuTimeLimit, final File workingDir,
+                                final File executable, final String... arguments) throws IOException {
+        final List<String> command = new ArrayList<String>();
+        command.add(executable.getCanonicalPath());
+        command.addAll(Arrays.asList(arguments));
+        final ProcessBuilder builder = new ProcessBuilder(command);
+        builder.directory(workingDir);
+        final long start = LAUNCH_TIMER.start();
+        final ProcessHandle retval = new ProcessHandle(builder.start(), command.toString(), _bufferSize);
+        LAUNCH_TIMER.stop(start);
+        _drainers.execute(retval.createOutputDrainer());
+        _drainers.execute(retval.createErrorDrainer());
+        _drainers.execute(retval.createWaiter());
+        if (wallTimeLimit > NO_LIMIT || cpuTimeLimit > NO_LIMIT) {
+            retval.setWatchdog(_watchdog.scheduleWithFixedDelay(new LimitChecker(retval, wallTimeLimit, cpuTimeLimit),
+                                                                CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MILLISECONDS));
+        }
+        return retval;
+    }
+
+    /**
+     * Stops accepting new processes. Processes already launched continue to be supervised.
+     */
+    public void shutdown() {
+        _drainers.shutdown();
+        _watchdog.shutdown();
+    }
+
+    private static class LimitChecker implements Runnable {
+
+        private final ProcessHandle _handle;
+        private final long _wallTimeLimit;
+        private final long _cpuTimeLimit;
+
+        LimitChecker(final ProcessHandle handle, final long wallTimeLimit, final long cpuTimeLimit) {
+            _handle = handle;
+            _wallTimeLimit = wallTimeLimit;
+            _cpuTimeLimit = cpuTimeLimit;
+        }
+
+        /**
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            if (_handle.isDone()) return;
+            if (_wallTimeLimit > NO_LIMIT && _handle.getDuration() > _wallTimeLimit) {
+                _handle.timeOut(_handle + " exceeded wall-clock limit of " + _wallTimeLimit + " ms");
+            }
+            else if (_cpuTimeLimit > NO_LIMIT && _handle.getCpuTime() > _cpuTimeLimit) {
+                _handle.timeOut(_handle + " exceeded CPU limit of " + _cpuTimeLimit + " ms");
+            }
+        }
+    }
+}
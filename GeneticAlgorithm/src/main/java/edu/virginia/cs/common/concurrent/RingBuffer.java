@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+/**
+ * Thread-safe character buffer of fixed capacity that retains only the most recently appended characters
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class RingBuffer {
+
+    private final char[] _buffer;
+    private int _next = 0;
+    private long _totalWritten = 0;
+
+    /**
+     * @param capacity Maximum number of characters retained
+     */
+    public RingBuffer(final int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        _buffer = new char[capacity];
+    }
+
+    /**
+     * Appends characters, overwriting the oldest ones once the buffer is full
+     * @param chars Source of characters to append
+     * @param offset Index of first character in chars to append
+     * @param length Number of characters to append
+     */
+    public synchronized void append(final char[] chars, final int offset, final int length) {
+        _totalWritten += length;
+        int from = offset;
+        int remaining = length;
+        if (remaining > _buffer.length) {
+            // Only the tail can survive
+            from += remaining - _buffer.length;
+            remaining = _buffer.length;
+        }
+        while (remaining > 0) {
+            final int chunk = Math.min(remaining, _buffer.length - _next);
+            System.arraycopy(chars, from, _buffer, _next, chunk);
+            _next = (_next + chunk) % _buffer.length;
+            from += chunk;
+            remaining -= chunk;
+        }
+    }
+
+    /**
+     * @param s String to append
+     */
+    public void append(final String s) {
+        append(s.toCharArray(), 0, s.length());
+    }
+
+    /**
+     * @return Maximum number of characters retained
+     */
+    public int getCapacity() {
+        return _buffer.length;
+    }
+
+    /**
+     * @return Number of characters ever appended (including ones that have since been overwritten)
+     */
+    public synchronized long getTotalWritten() {
+        return _totalWritten;
+    }
+
+    /**
+     * @return Whether any characters have been overwritten
+     */
+    public synchronized boolean isTruncated() {
+        return _totalWritten > _buffer.length;
+    }
+
+    /**
+     * @return Retained characters, oldest first
+     */
+    @Override
+    public synchronized String toString() {
+        if (_totalWritten < _buffer.length) return new String(_buffer, 0, _next);
+        final StringBuilder retval = new StringBuilder(_buffer.length);
+        retval.append(_buffer, _next, _buffer.length - _next);
+        retval.append(_buffer, 0, _next);
+        return retval.toString();
+    }
+}
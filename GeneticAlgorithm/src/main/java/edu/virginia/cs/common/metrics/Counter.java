@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe count of events (e.g., cache hits), which only counts while its {@link Metrics} registry is enabled
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class Counter {
+
+    private final Metrics _metrics;
+    private final AtomicLong _count = new AtomicLong();
+
+    /**
+     * @param metrics Registry that determines whether events are counted
+     */
+    Counter(final Metrics metrics) {
+        _metrics = metrics;
+    }
+
+    /**
+     * Counts one event
+     */
+    public void increment() {
+        if (_metrics.isEnabled()) {
+            _count.incrementAndGet();
+        }
+    }
+
+    /**
+     * @param n Number of events to count
+     */
+    public void add(final long n) {
+        if (_metrics.isEnabled()) {
+            _count.addAndGet(n);
+        }
+    }
+
+    /**
+     * @return Number of events counted
+     */
+    public long getCount() {
+        return _count.get();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+/**
+ * Thread-safe distribution of non-negative values (e.g., file sizes), which only records while its {@link Metrics}
+ * registry is enabled. Values are kept in power-of-two buckets, so percentiles are accurate to within a factor of two
+ * while recording costs a few operations and no allocation.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class Histogram {
+
+    /**
+     * Number of buckets (bucket i holds values in [2<sup>i-1</sup>, 2<sup>i</sup>), and bucket 0 holds 0)
+     */
+    static final int NUM_BUCKETS = 64;
+    private final Metrics _metrics;
+    private final long[] _buckets = new long[NUM_BUCKETS];
+    private long _count = 0;
+    private long _sum = 0;
+    private long _min = Long.MAX_VALUE;
+    private long _max = Long.MIN_VALUE;
+
+    /**
+     * @param metrics Registry that determines whether values are recorded
+     */
+    Histogram(final Metrics metrics) {
+        _metrics = metrics;
+    }
+
+    /**
+     * @param value Value to record (negative values are recorded as 0)
+     */
+    public void record(final long value) {
+        if (!_metrics.isEnabled()) return;
+        final long v = Math.max(0, value);
+        final int bucket = NUM_BUCKETS - Long.numberOfLeadingZeros(v);
+        synchronized (this) {
+            ++_buckets[bucket];
+            ++_count;
+            _sum += v;
+            _min = Math.min(_min, v);
+            _max = Math.max(_max, v);
+        }
+    }
+
+    /**
+     * @return Copy of what has been recorded so far
+     */
+    public synchronized Snapshot getSnapshot() {
+        return new Snapshot(_count, _sum, _min, _max, _buckets.clone());
+    }
+
+    /**
+     * Immutable copy of what a {@link Histogram} had recorded at some point
+     * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+     * @since Oct 18, 2026
+     */
+    public static final class Snapshot {
+
+        private final long _count;
+        private final long _sum;
+        private final long _min;
+        private final long _max;
+        private final long[] _buckets;
+
+        private Snapshot(final long count, final long sum, final long min, final long max, final long[] buckets) {
+            _count = count;
+            _sum = sum;
+            _min = min;
+            _max = max;
+            _buckets = buckets;
+        }
+
+        /**
+         * @return Number of values recorded
+         */
+        public long getCount() {
+            return _count;
+        }
+
+        /**
+         * @return Sum of values recorded
+         */
+        public long getSum() {
+            return _sum;
+        }
+
+        /**
+         * @return Smallest value recorded (0 if none have been)
+         */
+        public long getMin() {
+            return _count == 0 ? 0 : _min;
+        }
+
+        /**
+         * @return Largest value recorded (0 if none have been)
+         */
+        public long getMax() {
+            return _count == 0 ? 0 : _max;
+        }
+
+        /**
+         * @return Mean of values recorded (0 if none have been)
+         */
+        public double getMean() {
+            return _count == 0 ? 0 : (double) _sum / _count;
+        }
+
+        /**
+         * @param fraction Fraction (from 0 to 1) of recorded values that are no larger than the percentile
+         * @return Upper bound of the bucket containing the percentile, limited to the range of recorded values (0 if
+         *         none have been recorded)
+         */
+        public long getPercentile(final double fraction) {
+            if (fraction < 0 || fraction > 1) throw new IllegalArgumentException("Fraction must be between 0 and 1");
+            if (_count == 0) return 0;
+            final long rank = Math.max(1, (long) Math.ceil(fraction * _count));
+            long seen = 0;
+            for (int i = 0; i < NUM_BUCKETS; ++i) {
+                seen += _buckets[i];
+                if (seen >= rank) {
+                    final long upper = (1L << i) - 1; // Long.MAX_VALUE for the last bucket
+                    return Math.max(getMin(), Math.min(getMax(), upper));
+                }
+            }
+            return getMax();
+        }
+
+        /**
+         * @param earlier Snapshot of the same histogram taken before this one
+         * @return What was recorded between the two snapshots. The extremes of values recorded in between aren't known,
+         *         so they are estimated from the buckets that changed.
+         */
+        public Snapshot since(final Snapshot earlier) {
+            final long[] buckets = new long[NUM_BUCKETS];
+            int lowest = -1;
+            int highest = -1;
+            for (int i = 0; i < NUM_BUCKETS; ++i) {
+                buckets[i] = _buckets[i] - earlier._buckets[i];
+                if (buckets[i] > 0) {
+                    if (lowest < 0) lowest = i;
+                    highest = i;
+                }
+            }
+            if (lowest < 0) return new Snapshot(0, 0, Long.MAX_VALUE, Long.MIN_VALUE, buckets);
+            final long min = Math.max(getMin(), lowest == 0 ? 0 : 1L << (lowest - 1));
+            final long max = Math.min(getMax(), (1L << highest) - 1);
+            return new Snapshot(_count - earlier._count, _sum - earlier._sum, min, max, buckets);
+        }
+    }
+}
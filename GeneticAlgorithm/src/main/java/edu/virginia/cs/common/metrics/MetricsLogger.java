@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.virginia.cs.common.concurrent.DaemonThreadFactory;
+
+/**
+ * Appends {@link MetricsSnapshot snapshots} of a {@link Metrics} registry to a file, one line of JSON per snapshot.
+ * Periodic lines (labeled "periodic") hold everything recorded so far, while {@link #logInterval(String)} lines hold only
+ * what was recorded since the previous such line, e.g., to break down the time spent in each generation.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class MetricsLogger {
+
+    private final Metrics _metrics;
+    private final File _file;
+    private ScheduledExecutorService _scheduler = null;
+    private MetricsSnapshot _lastInterval;
+
+    /**
+     * @param metrics Registry to log
+     * @param file File to append lines to
+     */
+    public MetricsLogger(final Metrics metrics, final File file) {
+        _metrics = metrics;
+        _file = file;
+        _lastInterval = metrics.snapshot();
+    }
+
+    /**
+     * Starts logging periodically (on a daemon thread)
+     * @param period Time (in milliseconds) between lines
+     * @return This logger
+     */
+    public synchronized MetricsLogger start(final long period) {
+        if (period < 1) throw new IllegalArgumentException("Period must be positive");
+        if (_scheduler != null) throw new IllegalStateException("Already started");
+        _scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("metrics-logger"));
+        _scheduler.scheduleAtFixedRate(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    log("periodic");
+                }
+                catch (final IOException e) {
+                    Logger.getLogger(MetricsLogger.class.getName()).log(Level.WARNING, null, e);
+                }
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    /**
+     * Stops logging periodically, after logging everything recorded so far one last time
+     * @throws IOException If the line cannot be written
+     */
+    public synchronized void stop() throws IOException {
+        if (_scheduler != null) {
+            _scheduler.shutdownNow();
+            _scheduler = null;
+        }
+        log("final");
+    }
+
+    /**
+     * Logs everything recorded so far
+     * @param label Describes why the line was written
+     * @return Snapshot that was logged
+     * @throws IOException If the line cannot be written
+     */
+    public MetricsSnapshot log(final String label) throws IOException {
+        final MetricsSnapshot retval = _metrics.snapshot();
+        write(retval.toJson(label));
+        return retval;
+    }
+
+    /**
+     * Logs what was recorded since the previous call (or since this logger was created)
+     * @param label Describes the interval (e.g., "generation 5")
+     * @return What was recorded during the interval
+     * @throws IOException If the line cannot be written
+     */
+    public synchronized MetricsSnapshot logInterval(final String label) throws IOException {
+        final MetricsSnapshot now = _metrics.snapshot();
+        final MetricsSnapshot retval = now.since(_lastInterval);
+        _lastInterval = now;
+        write(retval.toJson(label));
+        return retval;
+    }
+
+    private synchronized void write(final String line) throws IOException {
+        final PrintWriter out = new PrintWriter(new FileWriter(_file, true));
+        try {
+            out.println(line);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * @return File lines are appended to
+     */
+    public File getFile() {
+        return _file;
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable copy of everything a {@link Metrics} registry had recorded at some point, which can be written as a single
+ * line of JSON
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class MetricsSnapshot {
+
+    private static final double NANOS_PER_MILLI = 1e6;
+    private static final double[] PERCENTILES = { 0.5, 0.9, 0.99 };
+    private final long _time;
+    private final Map<String, Long> _counters;
+    private final Map<String, Histogram.Snapshot> _histograms;
+    private final Map<String, Histogram.Snapshot> _timers;
+
+    /**
+     * @param time When the snapshot was taken (in milliseconds since the epoch)
+     * @param counters Counts by counter name
+     * @param histograms Histogram snapshots by histogram name
+     * @param timers Timer snapshots (in nanoseconds) by timer name
+     */
+    MetricsSnapshot(final long time, final Map<String, Long> counters, final Map<String, Histogram.Snapshot> histograms,
+                    final Map<String, Histogram.Snapshot> timers) {
+        _time = time;
+        _counters = Collections.unmodifiableMap(counters);
+        _histograms = Collections.unmodifiableMap(histograms);
+        _timers = Collections.unmodifiableMap(timers);
+    }
+
+    /**
+     * @return When the snapshot was taken (in milliseconds since the epoch)
+     */
+    public long getTime() {
+        return _time;
+    }
+
+    /**
+     * @param name Name of the counter
+     * @return Number of events counted (0 if there is no such counter)
+     */
+    public long getCount(final String name) {
+        final Long retval = _counters.get(name);
+        return retval == null ? 0 : retval;
+    }
+
+    /**
+     * @return Counts by counter name
+     */
+    public Map<String, Long> getCounters() {
+        return _counters;
+    }
+
+    /**
+     * @return Histogram snapshots by histogram name
+     */
+    public Map<String, Histogram.Snapshot> getHistograms() {
+        return _histograms;
+    }
+
+    /**
+     * @return Timer snapshots (in nanoseconds) by timer name
+     */
+    public Map<String, Histogram.Snapshot> getTimers() {
+        return _timers;
+    }
+
+    /**
+     * @param earlier Snapshot of the same registry taken before this one
+     * @return What was recorded between the two snapshots (e.g., during one generation)
+     */
+    public MetricsSnapshot since(final MetricsSnapshot earlier) {
+        final Map<String, Long> counters = new TreeMap<String, Long>();
+        for (final Map.Entry<String, Long> entry : _counters.entrySet()) {
+            counters.put(entry.getKey(), entry.getValue() - earlier.getCount(entry.getKey()));
+        }
+        return new MetricsSnapshot(_time, counters, since(_histograms, earlier._histograms),
+                                   since(_timers, earlier._timers));
+    }
+
+    private static Map<String, Histogram.Snapshot> since(final Map<String, Histogram.Snapshot> later,
+                                                         final Map<String, Histogram.Snapshot> earlier) {
+        final Map<String, Histogram.Snapshot> retval = new TreeMap<String, Histogram.Snapshot>();
+        for (final Map.Entry<String, Histogram.Snapshot> entry : later.entrySet()) {
+            final Histogram.Snapshot before = earlier.get(entry.getKey());
+            retval.put(entry.getKey(), before == null ? entry.getValue() : entry.getValue().since(before));
+        }
+        return retval;
+    }
+
+    /**
+     * @return Total time (in seconds) recorded by each timer that recorded anything, e.g., "file.parse=1.25 s"
+     */
+    public String describeTimers() {
+        final StringBuilder retval = new StringBuilder();
+        for (final Map.Entry<String, Histogram.Snapshot> entry : _timers.entrySet()) {
+            if (entry.getValue().getCount() == 0) continue;
+            if (retval.length() > 0) retval.append(", ");
+            retval.append(entry.getKey()).append('=').append(entry.getValue().getSum() / (1000 * NANOS_PER_MILLI))
+                  .append(" s");
+        }
+        return retval.toString();
+    }
+
+    /**
+     * @param label Describes what the snapshot covers (e.g., "periodic"), or null for none
+     * @return The snapshot as a single line of JSON, with timer values in milliseconds
+     */
+    public String toJson(final String label) {
+        final StringBuilder retval = new StringBuilder("{\"time\":").append(_time);
+        if (label != null) {
+            retval.append(",\"label\":");
+            appendString(retval, label);
+        }
+        retval.append(",\"counters\":{");
+        boolean first = true;
+        for (final Map.Entry<String, Long> entry : _counters.entrySet()) {
+            if (!first) retval.append(',');
+            first = false;
+            appendString(retval, entry.getKey());
+            retval.append(':').append(entry.getValue());
+        }
+        retval.append("},\"histograms\":");
+        appendHistograms(retval, _histograms, 1);
+        retval.append(",\"timers_ms\":");
+        appendHistograms(retval, _timers, NANOS_PER_MILLI);
+        return retval.append('}').toString();
+    }
+
+    private static void appendHistograms(final StringBuilder sb, final Map<String, Histogram.Snapshot> histograms,
+                                         final double scale) {
+        sb.append('{');
+        boolean first = true;
+        for (final Map.Entry<String, Histogram.Snapshot> entry : histograms.entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            final Histogram.Snapshot h = entry.getValue();
+            appendString(sb, entry.getKey());
+            sb.append(":{\"count\":").append(h.getCount());
+            sb.append(",\"sum\":").append(h.getSum() / scale);
+            sb.append(",\"mean\":").append(h.getMean() / scale);
+            sb.append(",\"min\":").append(h.getMin() / scale);
+            sb.append(",\"max\":").append(h.getMax() / scale);
+            for (final double p : PERCENTILES) {
+                sb.append(",\"p").append(Math.round(p * 100)).append("\":").append(h.getPercentile(p) / scale);
+            }
+            sb.append('}');
+        }
+        sb.append('}');
+    }
+
+    private static void appendString(final StringBuilder sb, final String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); ++i) {
+            final char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            }
+            else if (c < ' ') {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return toJson(null);
+    }
+}
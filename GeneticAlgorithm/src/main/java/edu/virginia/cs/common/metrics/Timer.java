@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+/**
+ * {@link Histogram} of how long something takes, in nanoseconds. While its {@link Metrics} registry is disabled, timing
+ * doesn't even read the clock:
+ *
+ * <pre>
+ * final long start = TIMER.start();
+ * doWork();
+ * TIMER.stop(start);
+ * </pre>
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class Timer {
+
+    /**
+     * What {@link #start()} returns while metrics are disabled
+     */
+    public static final long NOT_STARTED = Long.MIN_VALUE;
+    private final Metrics _metrics;
+    private final Histogram _histogram;
+
+    /**
+     * @param metrics Registry that determines whether times are recorded
+     */
+    Timer(final Metrics metrics) {
+        _metrics = metrics;
+        _histogram = new Histogram(metrics);
+    }
+
+    /**
+     * @return Start time to pass to {@link #stop(long)} ({@link #NOT_STARTED} if metrics are disabled)
+     */
+    public long start() {
+        return _metrics.isEnabled() ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Records the time since start
+     * @param start What {@link #start()} returned
+     */
+    public void stop(final long start) {
+        if (start != NOT_STARTED) {
+            _histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @param nanos Time (in nanoseconds) to record, for something that was timed some other way
+     */
+    public void record(final long nanos) {
+        _histogram.record(nanos);
+    }
+
+    /**
+     * @return Copy of the times (in nanoseconds) recorded so far
+     */
+    public Histogram.Snapshot getSnapshot() {
+        return _histogram.getSnapshot();
+    }
+}
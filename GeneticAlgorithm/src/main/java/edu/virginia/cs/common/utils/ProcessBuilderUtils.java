@@ -52,12 +52,15 @@ public class ProcessBuilderUtils {
         builder.directory(workingDir);
         if (!wantsInterrupt(interruptListener)) {
             final Process process = builder.start();
+            // Standard error is drained concurrently so that a process filling its error pipe cannot stall
+            final ErrorDrainer errDrainer = new ErrorDrainer(errBuff, process.getErrorStream());
+            errDrainer.start();
             processStream(outBuff, process.getInputStream(), interruptListener);
             if (wantsInterrupt(interruptListener)) {
                 process.destroy();
             }
             else {
-                processStream(errBuff, process.getErrorStream(), interruptListener);
+                errDrainer.finish();
                 if (wantsInterrupt(interruptListener)) {
                     process.destroy();
                 }
@@ -65,6 +68,40 @@ public class ProcessBuilderUtils {
         }
     }
 
+    private static class ErrorDrainer extends Thread {
+
+        private final StringBuffer _buff;
+        private final InputStream _stream;
+        private IOException _exception = null;
+
+        ErrorDrainer(final StringBuffer buff, final InputStream stream) {
+            _buff = buff;
+            _stream = stream;
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                processStream(_buff, _stream, null);
+            }
+            catch (final IOException e) {
+                _exception = e;
+            }
+        }
+
+        void finish() throws IOException {
+            try {
+                join();
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while reading standard error");
+            }
+            if (_exception != null) throw _exception;
+        }
+    }
+
     /**
      * Null-safe check for whether interruptListener has requested an interrupt
      * @param interruptListener Listener to check
@@ -9,7 +9,7 @@ package edu.virginia.cs.data;
  * @param <T> Type of objects to maintain a history for
  * @since Jun 28, 2011
  */
-public interface History<T> {
+public interface History<T> extends Iterable<T> {
 
     /**
      * Add an item to the history
@@ -23,4 +23,14 @@ public interface History<T> {
      * @return ith item added to the history
      */
     T get(final int i);
+
+    /**
+     * @return Number of items in the history
+     */
+    int size();
+
+    /**
+     * Forgets every item in the history
+     */
+    void clear();
 }
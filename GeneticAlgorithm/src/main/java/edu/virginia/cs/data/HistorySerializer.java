@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.data;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Converts items of a {@link History} to and from binary, so that they can be kept on disk rather than in memory
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @param <T> Type of item to convert
+ * @since Oct 18, 2026
+ */
+public interface HistorySerializer<T> {
+
+    /**
+     * @param out Destination of the item
+     * @param item Item to write
+     * @throws IOException If the item cannot be written
+     */
+    void write(final DataOutput out, final T item) throws IOException;
+
+    /**
+     * @param in Source of the item
+     * @return Item written by {@link #write(DataOutput, Object)}
+     * @throws IOException If the item cannot be read
+     */
+    T read(final DataInput in) throws IOException;
+}
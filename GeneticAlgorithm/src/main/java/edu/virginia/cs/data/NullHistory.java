@@ -3,6 +3,9 @@
  */
 package edu.virginia.cs.data;
 
+import java.util.Collections;
+import java.util.Iterator;
+
 /**
  * History with no memory
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
@@ -27,4 +30,28 @@ public class NullHistory<T> implements History<T> {
         return null;
     }
 
+    /**
+     * @see edu.virginia.cs.data.History#size()
+     */
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    /**
+     * @see edu.virginia.cs.data.History#clear()
+     */
+    @Override
+    public void clear() {
+        // Nothing to forget
+    }
+
+    /**
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return Collections.<T> emptyList().iterator();
+    }
+
 }
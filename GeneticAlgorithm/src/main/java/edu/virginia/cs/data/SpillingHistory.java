@@ -0,0 +1,338 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.data;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * History that keeps only its most recent items in memory. Older items are appended to segment files on disk (in the
+ * binary form given by a {@link HistorySerializer}), so memory use stays constant however long the history grows. Any
+ * item can still be read back with {@link #get(int)}, and {@link #iterator()} streams through the segments one item at
+ * a time, so analysing the whole history never needs it all in memory. Saving its state saves where the spilled items
+ * are, rather than the items themselves. Not thread-safe.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @param <T> Type of item to maintain a history of
+ * @since Oct 18, 2026
+ */
+public final class SpillingHistory<T> implements History<T>, Closeable {
+
+    /**
+     * Default number of items written to each segment file
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 16;
+    private static final String SEGMENT_PREFIX = "history-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private final File _dir;
+    private final int _numInMemory;
+    private final int _segmentSize;
+    private final HistorySerializer<T> _serializer;
+    private final List<T> _recent = new ArrayList<T>();
+    private final List<Long> _offsets = new ArrayList<Long>(); // Position of each spilled item within its segment
+    private FileOutputStream _segment = null;
+    private DataOutputStream _out = null;
+
+    /**
+     * @param dir Directory for the segment files (any left there by an earlier history are deleted when this one first
+     *            spills an item, unless it is restored with {@link #readState(DataInput)} first)
+     * @param numInMemory Number of most recent items to keep in memory
+     * @param serializer Converts items to and from binary
+     */
+    public SpillingHistory(final File dir, final int numInMemory, final HistorySerializer<T> serializer) {
+        this(dir, numInMemory, DEFAULT_SEGMENT_SIZE, serializer);
+    }
+
+    /**
+     * @param dir Directory for the segment files (any left there by an earlier history are deleted when this one first
+     *            spills an item, unless it is restored with {@link #readState(DataInput)} first)
+     * @param numInMemory Number of most recent items to keep in memory
+     * @param segmentSize Number of items written to each segment file
+     * @param serializer Converts items to and from binary
+     */
+    public SpillingHistory(final File dir, final int numInMemory, final int segmentSize,
+                           final HistorySerializer<T> serializer) {
+        if (numInMemory < 0) throw new IllegalArgumentException("Number of items in memory cannot be negative");
+        if (segmentSize < 1) throw new IllegalArgumentException("Segment size must be positive");
+        _dir = dir;
+        _numInMemory = numInMemory;
+        _segmentSize = segmentSize;
+        _serializer = serializer;
+        if (!_dir.isDirectory() && !_dir.mkdirs()) {
+            throw new IllegalArgumentException("Unable to create directory '" + _dir.getPath() + "'");
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.data.History#add(java.lang.Object)
+     */
+    @Override
+    public boolean add(final T item) {
+        _recent.add(item);
+        while (_recent.size() > _numInMemory) {
+            spill(_recent.remove(0));
+        }
+        return true;
+    }
+
+    private void spill(final T item) {
+        try {
+            final boolean newSegment = _offsets.size() % _segmentSize == 0;
+            if (_offsets.isEmpty()) {
+                deleteSegments();
+            }
+            if (newSegment || _out == null) {
+                closeSegment();
+                // A segment is only reopened (and appended to) if the history was closed part way through it
+                _segment = new FileOutputStream(getSegmentFile(_offsets.size() / _segmentSize), !newSegment);
+                _out = new DataOutputStream(new BufferedOutputStream(_segment));
+            }
+            _out.flush();
+            _offsets.add(_segment.getChannel().position());
+            _serializer.write(_out, item);
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.data.History#get(int)
+     */
+    @Override
+    public T get(final int i) {
+        if (i < 0 || i >= size()) throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size());
+        if (i >= getNumSpilled()) return _recent.get(i - getNumSpilled());
+        try {
+            flush();
+            final RandomAccessFile file = new RandomAccessFile(getSegmentFile(i / _segmentSize), "r");
+            try {
+                file.seek(_offsets.get(i));
+                return _serializer.read(new DataInputStream(new BufferedInputStream(Channels.newInputStream(file
+                        .getChannel()))));
+            }
+            finally {
+                file.close();
+            }
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.data.History#size()
+     */
+    @Override
+    public int size() {
+        return getNumSpilled() + _recent.size();
+    }
+
+    /**
+     * @return Number of items that have been moved to disk
+     */
+    public int getNumSpilled() {
+        return _offsets.size();
+    }
+
+    /**
+     * @see edu.virginia.cs.data.History#clear()
+     */
+    @Override
+    public void clear() {
+        try {
+            closeSegment();
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        _recent.clear();
+        _offsets.clear();
+        deleteSegments();
+    }
+
+    /**
+     * Iterates through the history oldest first, reading spilled items from disk only as they are reached. The history
+     * must not be added to while iterating.
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<T> iterator() {
+        try {
+            flush();
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Iterator<T>() {
+            private final int _size = size();
+            private int _next = 0;
+            private DataInputStream _in = null;
+
+            @Override
+            public boolean hasNext() {
+                return _next < _size;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (size() != _size) throw new ConcurrentModificationException();
+                try {
+                    if (_next >= getNumSpilled()) {
+                        closeInput();
+                        return _recent.get(_next++ - getNumSpilled());
+                    }
+                    if (_next % _segmentSize == 0) {
+                        closeInput();
+                        _in = new DataInputStream(new BufferedInputStream(new FileInputStream(getSegmentFile(_next
+                                / _segmentSize))));
+                    }
+                    final T retval = _serializer.read(_in);
+                    ++_next;
+                    if (!hasNext()) {
+                        closeInput();
+                    }
+                    return retval;
+                }
+                catch (final IOException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+
+            private void closeInput() throws IOException {
+                if (_in != null) {
+                    _in.close();
+                    _in = null;
+                }
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("History is append-only");
+            }
+        };
+    }
+
+    /**
+     * Saves the number of items spilled to disk, where each starts, and how long the last segment file is (which stay in
+     * the directory), and the items still in memory
+     * @param out Destination of the state
+     * @throws IOException If the state cannot be written
+     */
+    public void writeState(final DataOutput out) throws IOException {
+        flush();
+        out.writeInt(_offsets.size());
+        for (final Long offset : _offsets) {
+            out.writeLong(offset);
+        }
+        out.writeLong(_offsets.isEmpty() ? 0 : getSegmentFile(getLastSegment()).length());
+        out.writeInt(_recent.size());
+        for (final T item : _recent) {
+            _serializer.write(out, item);
+        }
+    }
+
+    /**
+     * Restores state saved by {@link #writeState(DataOutput)} by a history using the same directory and segment size.
+     * Anything spilled after the state was saved is discarded.
+     * @param in Source of the state
+     * @throws IOException If the state cannot be read, or the segment files no longer hold the spilled items
+     */
+    public void readState(final DataInput in) throws IOException {
+        closeSegment();
+        _offsets.clear();
+        _recent.clear();
+        final int numSpilled = in.readInt();
+        if (numSpilled < 0) throw new IOException("Invalid number of spilled items: " + numSpilled);
+        for (int i = 0; i < numSpilled; ++i) {
+            _offsets.add(in.readLong());
+        }
+        final long length = in.readLong();
+        if (numSpilled > 0) {
+            final File last = getSegmentFile(getLastSegment());
+            if (last.length() < length)
+                throw new IOException("Segment file '" + last.getPath() + "' is shorter than when its state was saved");
+            final RandomAccessFile file = new RandomAccessFile(last, "rw");
+            try {
+                file.setLength(length);
+            }
+            finally {
+                file.close();
+            }
+        }
+        // Segments started after the state was saved
+        int segment = (numSpilled == 0) ? 0 : getLastSegment() + 1;
+        while (getSegmentFile(segment).delete()) {
+            ++segment;
+        }
+        final int numInMemory = in.readInt();
+        for (int i = 0; i < numInMemory; ++i) {
+            _recent.add(_serializer.read(in));
+        }
+    }
+
+    private int getLastSegment() {
+        return (_offsets.size() - 1) / _segmentSize;
+    }
+
+    /**
+     * Finishes writing the current segment file (the history can still be added to afterwards)
+     * @see java.io.Closeable#close()
+     */
+    @Override
+    public void close() throws IOException {
+        closeSegment();
+    }
+
+    private void flush() throws IOException {
+        if (_out != null) {
+            _out.flush();
+        }
+    }
+
+    private void closeSegment() throws IOException {
+        if (_out != null) {
+            _out.close();
+            _out = null;
+            _segment = null;
+        }
+    }
+
+    private File getSegmentFile(final int segment) {
+        return new File(_dir, String.format("%s%05d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private void deleteSegments() {
+        final File[] files = _dir.listFiles();
+        if (files == null) return;
+        for (final File f : files) {
+            if (f.getName().startsWith(SEGMENT_PREFIX) && f.getName().endsWith(SEGMENT_SUFFIX)) {
+                f.delete();
+            }
+        }
+    }
+
+    /**
+     * @return Directory holding the segment files
+     */
+    public File getDir() {
+        return _dir;
+    }
+}
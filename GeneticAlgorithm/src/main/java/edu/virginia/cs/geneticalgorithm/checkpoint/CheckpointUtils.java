@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+import edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype;
+import edu.virginia.cs.geneticalgorithm.gene.Gene;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGene;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
+
+/**
+ * Helper functions for saving and restoring the pieces of state shared by several {@link Checkpointable} classes
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CheckpointUtils {
+
+    private static final byte STANDARD_GENOTYPE = 0;
+    private static final byte DOUBLE_ARRAY_GENOTYPE = 1;
+    private static final byte STANDARD_ZERO = 0;
+    private static final byte STANDARD_ONE = 1;
+    private static final byte INTERVAL = 2;
+
+    private CheckpointUtils() {
+        // Utility class
+    }
+
+    /**
+     * @param out Destination of the state
+     * @param rng Random number generator whose state is saved. Must be a {@link CheckpointableRandom}.
+     * @throws IOException If the state cannot be written
+     */
+    public static void writeRandom(final DataOutput out, final Random rng) throws IOException {
+        asCheckpointable(rng).writeState(out);
+    }
+
+    /**
+     * @param in Source of the state
+     * @param rng Random number generator whose state is restored. Must be a {@link CheckpointableRandom}.
+     * @throws IOException If the state cannot be read
+     */
+    public static void readRandom(final DataInput in, final Random rng) throws IOException {
+        asCheckpointable(rng).readState(in);
+    }
+
+    private static CheckpointableRandom asCheckpointable(final Random rng) {
+        if (!(rng instanceof CheckpointableRandom))
+            throw new IllegalArgumentException("Random number generator must be a CheckpointableRandom to be checkpointed");
+        return (CheckpointableRandom) rng;
+    }
+
+    /**
+     * Saves the state of an object if it has any (i.e., if it is {@link Checkpointable})
+     * @param out Destination of the state
+     * @param o Object whose state is saved
+     * @throws IOException If the state cannot be written
+     */
+    public static void writeOptionalState(final DataOutput out, final Object o) throws IOException {
+        if (o instanceof Checkpointable) {
+            ((Checkpointable) o).writeState(out);
+        }
+    }
+
+    /**
+     * Restores state saved by {@link #writeOptionalState(DataOutput, Object)}
+     * @param in Source of the state
+     * @param o Object whose state is restored
+     * @throws IOException If the state cannot be read
+     */
+    public static void readOptionalState(final DataInput in, final Object o) throws IOException {
+        if (o instanceof Checkpointable) {
+            ((Checkpointable) o).readState(in);
+        }
+    }
+
+    /**
+     * @param out Destination of the values
+     * @param values Values to save
+     * @throws IOException If the values cannot be written
+     */
+    public static void writeDoubles(final DataOutput out, final List<Double> values) throws IOException {
+        out.writeInt(values.size());
+        for (final Double d : values) {
+            out.writeDouble(d);
+        }
+    }
+
+    /**
+     * @param in Source of the values
+     * @return Values saved by {@link #writeDoubles(DataOutput, List)}
+     * @throws IOException If the values cannot be read
+     */
+    public static List<Double> readDoubles(final DataInput in) throws IOException {
+        final int numValues = readSize(in);
+        final List<Double> retval = new ArrayList<Double>(numValues);
+        for (int i = 0; i < numValues; ++i) {
+            retval.add(in.readDouble());
+        }
+        return retval;
+    }
+
+    /**
+     * @param out Destination of the values
+     * @param values Values to save
+     * @throws IOException If the values cannot be written
+     */
+    public static void writeDoubleArray(final DataOutput out, final double[] values) throws IOException {
+        out.writeInt(values.length);
+        for (final double d : values) {
+            out.writeDouble(d);
+        }
+    }
+
+    /**
+     * @param in Source of the values
+     * @return Values saved by {@link #writeDoubleArray(DataOutput, double[])}
+     * @throws IOException If the values cannot be read
+     */
+    public static double[] readDoubleArray(final DataInput in) throws IOException {
+        final double[] retval = new double[readSize(in)];
+        for (int i = 0; i < retval.length; ++i) {
+            retval[i] = in.readDouble();
+        }
+        return retval;
+    }
+
+    /**
+     * @param out Destination of the {@link Genotype}
+     * @param g {@link DoubleArrayGenotype}, or {@link StandardGenotype} of {@link StandardGene StandardGenes} and/or
+     *            {@link IntervalGene IntervalGenes}
+     * @throws IOException If the {@link Genotype} cannot be written
+     */
+    public static void writeGenotype(final DataOutput out, final Genotype g) throws IOException {
+        if (g instanceof DoubleArrayGenotype) {
+            final DoubleArrayGenotype dag = (DoubleArrayGenotype) g;
+            out.writeByte(DOUBLE_ARRAY_GENOTYPE);
+            out.writeInt(dag.getNumGenes());
+            for (int i = 0; i < dag.getNumGenes(); ++i) {
+                out.writeDouble(dag.getRawValue(i));
+                out.writeDouble(dag.getSigma(i));
+            }
+            return;
+        }
+        if (!(g instanceof StandardGenotype))
+            throw new IllegalArgumentException("Cannot checkpoint genotype of type " + g.getClass().getName());
+        out.writeByte(STANDARD_GENOTYPE);
+        out.writeInt(g.getNumGenes());
+        for (final Gene gene : g) {
+            if (gene == StandardGene.ZERO) {
+                out.writeByte(STANDARD_ZERO);
+            }
+            else if (gene == StandardGene.ONE) {
+                out.writeByte(STANDARD_ONE);
+            }
+            else if (gene instanceof IntervalGene && gene.getClass().equals(IntervalGene.class)) {
+                final IntervalGene ig = (IntervalGene) gene;
+                out.writeByte(INTERVAL);
+                out.writeDouble(ig.getRawValue());
+                out.writeDouble(ig.getSigma());
+            }
+            else {
+                throw new IllegalArgumentException("Cannot checkpoint gene of type " + gene.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * @param in Source of the {@link Genotype}
+     * @return {@link Genotype} saved by {@link #writeGenotype(DataOutput, Genotype)}
+     * @throws IOException If the {@link Genotype} cannot be read
+     */
+    public static Genotype readGenotype(final DataInput in) throws IOException {
+        final byte type = in.readByte();
+        if (type == DOUBLE_ARRAY_GENOTYPE) {
+            final int numGenes = readSize(in);
+            final double[] values = new double[numGenes];
+            final double[] sigmas = new double[numGenes];
+            for (int i = 0; i < numGenes; ++i) {
+                values[i] = in.readDouble();
+                sigmas[i] = in.readDouble();
+            }
+            return new DoubleArrayGenotype(values, sigmas);
+        }
+        if (type != STANDARD_GENOTYPE) throw new IOException("Unknown genotype tag " + type);
+        final int numGenes = readSize(in);
+        final StandardGenotype retval = new StandardGenotype();
+        for (int i = 0; i < numGenes; ++i) {
+            final byte tag = in.readByte();
+            switch (tag) {
+            case STANDARD_ZERO:
+                retval.add(StandardGene.ZERO);
+                break;
+            case STANDARD_ONE:
+                retval.add(StandardGene.ONE);
+                break;
+            case INTERVAL:
+                final double value = in.readDouble();
+                retval.add(new IntervalGene(value, in.readDouble()));
+                break;
+            default:
+                throw new IOException("Unknown gene tag " + tag);
+            }
+        }
+        return retval;
+    }
+
+    /**
+     * @param out Destination of the population
+     * @param population Population to save
+     * @throws IOException If the population cannot be written
+     */
+    public static void writeGenotypes(final DataOutput out, final List<Genotype> population) throws IOException {
+        out.writeInt(population.size());
+        for (final Genotype g : population) {
+            writeGenotype(out, g);
+        }
+    }
+
+    /**
+     * @param in Source of the population
+     * @return Population saved by {@link #writeGenotypes(DataOutput, List)}
+     * @throws IOException If the population cannot be read
+     */
+    public static List<Genotype> readGenotypes(final DataInput in) throws IOException {
+        final int numIndividuals = readSize(in);
+        final List<Genotype> retval = new ArrayList<Genotype>(numIndividuals);
+        for (int i = 0; i < numIndividuals; ++i) {
+            retval.add(readGenotype(in));
+        }
+        return retval;
+    }
+
+    /**
+     * @param out Destination of the {@link Distribution}
+     * @param distribution {@link Distribution} to save
+     * @throws IOException If the {@link Distribution} cannot be written
+     */
+    public static void writeDistribution(final DataOutput out, final Distribution distribution) throws IOException {
+        out.writeInt(distribution.size());
+        for (int i = 0; i < distribution.size(); ++i) {
+            out.writeDouble(distribution.getValue(i));
+            out.writeInt(distribution.getNumFitnessValues());
+            for (int j = 0; j < distribution.getNumFitnessValues(); ++j) {
+                out.writeDouble(distribution.getFitnessValue(i, j));
+            }
+            writeGenotype(out, distribution.getGenotype(i));
+        }
+    }
+
+    /**
+     * @param in Source of the {@link Distribution}
+     * @return {@link Distribution} saved by {@link #writeDistribution(DataOutput, Distribution)}
+     * @throws IOException If the {@link Distribution} cannot be read
+     */
+    public static Distribution readDistribution(final DataInput in) throws IOException {
+        final int numMembers = readSize(in);
+        final Distribution retval = new Distribution();
+        for (int i = 0; i < numMembers; ++i) {
+            final double value = in.readDouble();
+            final List<Double> fitnessValues = readDoubles(in);
+            retval.add(new DistributionMember(value, fitnessValues, readGenotype(in)));
+        }
+        return retval;
+    }
+
+    /**
+     * @param in Source of the size
+     * @return Non-negative size
+     * @throws IOException If the size cannot be read or is negative
+     */
+    public static int readSize(final DataInput in) throws IOException {
+        final int retval = in.readInt();
+        if (retval < 0) throw new IOException("Corrupt checkpoint: negative size " + retval);
+        return retval;
+    }
+}
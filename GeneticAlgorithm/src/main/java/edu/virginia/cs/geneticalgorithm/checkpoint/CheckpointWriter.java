@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import edu.virginia.cs.common.concurrent.DaemonThreadFactory;
+
+/**
+ * Writes checkpoints of {@link Checkpointable} objects to a file. The state is captured immediately (so the objects may
+ * continue to evolve), but the file is written by a background thread. Each checkpoint is written to a temporary file,
+ * synced to disk, and then renamed over the previous checkpoint, so that the checkpoint file is always either the
+ * previous or the new checkpoint in its entirety. If checkpoints are requested faster than they can be written, only
+ * the most recent one is written.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CheckpointWriter {
+
+    private static final int MAGIC = 0x47414350; // "GACP"
+    private static final int VERSION = 6;
+    private static final int HEADER_SIZE = 12;
+    private static final int TRAILER_SIZE = 8;
+    private final File _file;
+    private final File _tempFile;
+    private final AtomicReference<byte[]> _pending = new AtomicReference<byte[]>();
+    private final ExecutorService _executor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("checkpoint"));
+    private Future<?> _lastWrite = null;
+    private volatile IOException _lastError = null;
+
+    /**
+     * @param file File in which to store checkpoints
+     */
+    public CheckpointWriter(final File file) {
+        _file = file.getAbsoluteFile();
+        _tempFile = new File(_file.getParentFile(), _file.getName() + ".tmp");
+    }
+
+    /**
+     * @return File in which checkpoints are stored
+     */
+    public File getFile() {
+        return _file;
+    }
+
+    /**
+     * Captures the state of the specified objects and schedules it to be written
+     * @param parts Objects whose state makes up the checkpoint. The same objects (in the same order) must be passed to
+     *            {@link #restore(File, Checkpointable...)}.
+     * @throws IOException If the state of any of the objects cannot be captured
+     */
+    public void checkpoint(final Checkpointable... parts) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(parts.length);
+        for (final Checkpointable part : parts) {
+            part.writeState(out);
+        }
+        out.flush();
+        final CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+        _pending.set(bytes.toByteArray());
+        synchronized (this) {
+            _lastWrite = _executor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    writePending();
+                }
+            });
+        }
+    }
+
+    /**
+     * Waits until all requested checkpoints have been written
+     * @throws IOException If the most recent attempt to write a checkpoint failed
+     */
+    public void flush() throws IOException {
+        final Future<?> lastWrite;
+        synchronized (this) {
+            lastWrite = _lastWrite;
+        }
+        if (lastWrite != null) {
+            try {
+                lastWrite.get();
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for checkpoint to be written");
+            }
+            catch (final ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        final IOException lastError = _lastError;
+        if (lastError != null) throw lastError;
+    }
+
+    /**
+     * Writes any outstanding checkpoint and stops the background thread
+     * @throws IOException If the most recent attempt to write a checkpoint failed
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        }
+        finally {
+            _executor.shutdown();
+        }
+    }
+
+    private void writePending() {
+        final byte[] toWrite = _pending.getAndSet(null);
+        if (toWrite == null) return; // A later request already wrote a newer checkpoint
+        try {
+            final FileOutputStream out = new FileOutputStream(_tempFile);
+            try {
+                out.write(toWrite);
+                out.flush();
+                out.getFD().sync();
+            }
+            finally {
+                out.close();
+            }
+            if (!_tempFile.renameTo(_file)) {
+                // Some platforms will not rename over an existing file
+                _file.delete();
+                if (!_tempFile.renameTo(_file))
+                    throw new IOException("Unable to rename " + _tempFile.getPath() + " to " + _file.getPath());
+            }
+            _lastError = null;
+        }
+        catch (final IOException e) {
+            Logger.getLogger(CheckpointWriter.class.getName()).log(Level.SEVERE, null, e);
+            _lastError = e;
+        }
+    }
+
+    /**
+     * Restores the state of objects from a checkpoint
+     * @param file File written by a {@link CheckpointWriter}
+     * @param parts Objects whose state makes up the checkpoint, in the same order as passed to
+     *            {@link #checkpoint(Checkpointable...)}
+     * @throws IOException If the file cannot be read or is not a valid checkpoint of the specified objects
+     */
+    public static void restore(final File file, final Checkpointable... parts) throws IOException {
+        final byte[] bytes = new byte[(int) file.length()];
+        final DataInputStream fileIn = new DataInputStream(new FileInputStream(file));
+        try {
+            fileIn.readFully(bytes);
+        }
+        finally {
+            fileIn.close();
+        }
+        if (bytes.length < HEADER_SIZE + TRAILER_SIZE) throw new IOException(file.getPath() + " is too short to be a checkpoint");
+        final CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - TRAILER_SIZE);
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        if (in.readInt() != MAGIC) throw new IOException(file.getPath() + " is not a checkpoint");
+        final int version = in.readInt();
+        if (version != VERSION) throw new IOException("Unsupported checkpoint version " + version);
+        final int numParts = in.readInt();
+        if (numParts != parts.length)
+            throw new IOException("Checkpoint has " + numParts + " parts, but " + parts.length + " were expected");
+        in.mark(bytes.length);
+        in.skip(bytes.length - HEADER_SIZE - TRAILER_SIZE);
+        if (in.readLong() != crc.getValue()) throw new IOException(file.getPath() + " is corrupt");
+        in.reset();
+        for (final Checkpointable part : parts) {
+            part.readState(in);
+        }
+        if (in.available() != TRAILER_SIZE) throw new IOException("Checkpoint does not match the objects being restored");
+    }
+}
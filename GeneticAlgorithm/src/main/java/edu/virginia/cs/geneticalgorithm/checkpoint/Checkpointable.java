@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Interface for classes whose evolving state can be saved and later restored, so that an interrupted genetic algorithm can
+ * continue exactly where it left off
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface Checkpointable {
+
+    /**
+     * Saves the evolving state (configuration that is set at construction need not be saved)
+     * @param out Destination of the state
+     * @throws IOException If the state cannot be written
+     */
+    public void writeState(DataOutput out) throws IOException;
+
+    /**
+     * Restores state previously saved by {@link #writeState(DataOutput)} on an identically constructed object
+     * @param in Source of the state
+     * @throws IOException If the state cannot be read
+     */
+    public void readState(DataInput in) throws IOException;
+}
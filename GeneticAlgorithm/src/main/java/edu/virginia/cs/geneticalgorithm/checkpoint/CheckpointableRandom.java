@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Random number generator producing exactly the same sequence as {@link java.util.Random} for the same seed, but whose
+ * internal state (which java.util.Random keeps private) can be saved and restored
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class CheckpointableRandom extends Random implements Checkpointable {
+
+    private static final long serialVersionUID = 1L;
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    // No initializers, since the superclass constructor sets these through setSeed
+    private long _seed;
+    private double _nextNextGaussian;
+    private boolean _haveNextNextGaussian;
+
+    /**
+     * Constructor using a seed that is very likely to be distinct from other invocations
+     */
+    public CheckpointableRandom() {
+        super();
+    }
+
+    /**
+     * @param seed Initial seed
+     */
+    public CheckpointableRandom(final long seed) {
+        super(seed);
+    }
+
+    /**
+     * @see java.util.Random#setSeed(long)
+     */
+    @Override
+    public synchronized void setSeed(final long seed) {
+        _seed = (seed ^ MULTIPLIER) & MASK;
+        _haveNextNextGaussian = false;
+    }
+
+    /**
+     * Same linear congruential generator as {@link java.util.Random#next(int)}
+     * @see java.util.Random#next(int)
+     */
+    @Override
+    protected synchronized int next(final int bits) {
+        _seed = (_seed * MULTIPLIER + ADDEND) & MASK;
+        return (int) (_seed >>> (48 - bits));
+    }
+
+    /**
+     * Same polar method as {@link java.util.Random#nextGaussian()}, but with the cached second value visible to this class
+     * @see java.util.Random#nextGaussian()
+     */
+    @Override
+    public synchronized double nextGaussian() {
+        if (_haveNextNextGaussian) {
+            _haveNextNextGaussian = false;
+            return _nextNextGaussian;
+        }
+        double v1, v2, s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        final double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        _nextNextGaussian = v2 * multiplier;
+        _haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public synchronized void writeState(final DataOutput out) throws IOException {
+        out.writeLong(_seed);
+        out.writeBoolean(_haveNextNextGaussian);
+        out.writeDouble(_nextNextGaussian);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public synchronized void readState(final DataInput in) throws IOException {
+        _seed = in.readLong() & MASK;
+        _haveNextNextGaussian = in.readBoolean();
+        _nextNextGaussian = in.readDouble();
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import edu.virginia.cs.data.HistorySerializer;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+
+/**
+ * Converts {@link Distribution Distributions} to and from the same binary form that checkpoints use, so that a
+ * population history can be kept on disk (see {@link edu.virginia.cs.data.SpillingHistory SpillingHistory})
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DistributionSerializer implements HistorySerializer<Distribution> {
+
+    /**
+     * @see edu.virginia.cs.data.HistorySerializer#write(java.io.DataOutput, java.lang.Object)
+     */
+    @Override
+    public void write(final DataOutput out, final Distribution item) throws IOException {
+        CheckpointUtils.writeDistribution(out, item);
+    }
+
+    /**
+     * @see edu.virginia.cs.data.HistorySerializer#read(java.io.DataInput)
+     */
+    @Override
+    public Distribution read(final DataInput in) throws IOException {
+        return CheckpointUtils.readDistribution(in);
+    }
+}
@@ -3,9 +3,14 @@
  */
 package edu.virginia.cs.geneticalgorithm.crossover;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
 import edu.virginia.cs.common.utils.UnorderedPair;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
 
@@ -15,7 +20,7 @@ import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Jul 5, 2010
  */
-public final class OnePointCrossover implements Crossover {
+public final class OnePointCrossover implements Crossover, Checkpointable {
 
     private final Random _rng;
     private Mutator _mutator;
@@ -58,4 +63,22 @@ public final class OnePointCrossover implements Crossover {
     public Mutator getMutator() {
         return _mutator;
     }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+        CheckpointUtils.writeOptionalState(out, _mutator);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        CheckpointUtils.readOptionalState(in, _mutator);
+    }
 }
@@ -3,11 +3,18 @@
  */
 package edu.virginia.cs.geneticalgorithm.crossover;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
 import edu.virginia.cs.common.utils.UnorderedPair;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype;
 import edu.virginia.cs.geneticalgorithm.gene.Gene;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.mutator.InPlaceMutator;
 import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
 
 /**
@@ -16,7 +23,7 @@ import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Jul 5, 2010
  */
-public final class UniformCrossover implements Crossover {
+public final class UniformCrossover implements Crossover, Checkpointable {
 
     private Mutator _mutator;
     private final double _xOverProb;
@@ -39,6 +46,8 @@ public final class UniformCrossover implements Crossover {
 
     @Override
     public UnorderedPair<Genotype> crossover(final Genotype mother, final Genotype father) {
+        if (mother instanceof DoubleArrayGenotype && father instanceof DoubleArrayGenotype)
+            return crossover((DoubleArrayGenotype) mother, (DoubleArrayGenotype) father);
         final Genotype kid1 = mother.clone();
         final Genotype kid2 = father.clone();
         final int site = _rng.nextInt(mother.getNumGenes() - 1) + 1;
@@ -53,6 +62,31 @@ public final class UniformCrossover implements Crossover {
         return new UnorderedPair<Genotype>(_mutator.mutate(kid1), _mutator.mutate(kid2));
     }
 
+    /**
+     * Same as {@link #crossover(Genotype, Genotype)}, but working directly on the gene values (and mutating the children
+     * in place when the {@link Mutator} supports it)
+     */
+    private UnorderedPair<Genotype> crossover(final DoubleArrayGenotype mother, final DoubleArrayGenotype father) {
+        final DoubleArrayGenotype kid1 = mother.clone();
+        final DoubleArrayGenotype kid2 = father.clone();
+        final int site = _rng.nextInt(mother.getNumGenes() - 1) + 1;
+        if (_rng.nextDouble() < _xOverProb) {
+            for (int i = site; i < mother.getNumGenes(); ++i) {
+                if (_rng.nextDouble() < _geneXOverProb) {
+                    kid1.setRawValue(i, father.getRawValue(i));
+                    kid2.setRawValue(i, mother.getRawValue(i));
+                }
+            }
+        }
+        if (_mutator instanceof InPlaceMutator) {
+            final InPlaceMutator mutator = (InPlaceMutator) _mutator;
+            mutator.mutateInPlace(kid1);
+            mutator.mutateInPlace(kid2);
+            return new UnorderedPair<Genotype>(kid1, kid2);
+        }
+        return new UnorderedPair<Genotype>(_mutator.mutate(kid1), _mutator.mutate(kid2));
+    }
+
     @Override
     public void setMutator(final Mutator mutator) {
         _mutator = mutator;
@@ -66,4 +100,21 @@ public final class UniformCrossover implements Crossover {
         return _mutator;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+        CheckpointUtils.writeOptionalState(out, _mutator);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        CheckpointUtils.readOptionalState(in, _mutator);
+    }
 }
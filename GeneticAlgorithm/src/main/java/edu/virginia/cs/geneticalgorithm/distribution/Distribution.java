@@ -3,20 +3,42 @@
  */
 package edu.virginia.cs.geneticalgorithm.distribution;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.GenotypeIndex;
 
 /**
- * Population of {@link Genotype Genotypes} with their corresponding {@link Fitness} information.
+ * Population of {@link Genotype Genotypes} with their corresponding {@link Fitness} information. The information is
+ * stored by column (overall fitness, multi-objective fitness values, and genotypes) so that selection over large
+ * populations doesn't need to create objects; the column accessors ({@link #getValue(int)},
+ * {@link #getFitnessValue(int, int)} and {@link #getGenotype(int)}) should be preferred. As a {@link List}, a
+ * Distribution presents each individual as a {@link DistributionMember} created on demand, so modifying a member
+ * obtained from the list has no effect on the Distribution (use {@link #set(int, DistributionMember)} instead). Missing
+ * (null) fitness values are stored as NaN.
  * @see DistributionMember
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 24, 2010
  */
-public class Distribution extends ArrayList<DistributionMember> {
+public class Distribution extends AbstractList<DistributionMember> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private int _size = 0;
+    private int _version = 0;
+    private int _numFitnessValues = -1; // Unknown until the first member is added
+    private double[] _values = new double[INITIAL_CAPACITY];
+    private double[] _fitnessValues = new double[0]; // Row-major matrix of _numFitnessValues columns
+    private Genotype[] _genotypes = new Genotype[INITIAL_CAPACITY];
+    // Reused by sort() so that repeated sorting doesn't allocate
+    private int[] _order = new int[0];
+    private int[] _orderScratch = new int[0];
+    private double[] _valuesScratch = new double[0];
+    private double[] _fitnessValuesScratch = new double[0];
+    private Genotype[] _genotypesScratch = new Genotype[0];
 
     /**
      * Default constructor
@@ -31,9 +53,137 @@ public class Distribution extends ArrayList<DistributionMember> {
      */
     public Distribution(final Distribution distribution) {
         super();
-        for (final DistributionMember m : distribution) {
-            add(new DistributionMember(m));
+        _size = distribution._size;
+        _numFitnessValues = distribution._numFitnessValues;
+        _values = distribution._values.clone();
+        _fitnessValues = distribution._fitnessValues.clone();
+        _genotypes = new Genotype[_values.length];
+        for (int i = 0; i < _size; ++i) {
+            _genotypes[i] = distribution._genotypes[i].clone();
+        }
+    }
+
+    /**
+     * @see java.util.AbstractCollection#size()
+     */
+    @Override
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * @see java.util.AbstractList#get(int)
+     */
+    @Override
+    public DistributionMember get(final int index) {
+        checkIndex(index);
+        final List<Double> fitnessValues = new ArrayList<Double>(Math.max(_numFitnessValues, 0));
+        for (int j = 0; j < _numFitnessValues; ++j) {
+            fitnessValues.add(toObject(_fitnessValues[index * _numFitnessValues + j]));
+        }
+        return new DistributionMember(toObject(_values[index]), fitnessValues, _genotypes[index]);
+    }
+
+    /**
+     * @see java.util.AbstractList#set(int, java.lang.Object)
+     */
+    @Override
+    public DistributionMember set(final int index, final DistributionMember member) {
+        final DistributionMember retval = get(index);
+        setRow(index, member);
+        ++_version;
+        return retval;
+    }
+
+    /**
+     * @see java.util.AbstractList#add(int, java.lang.Object)
+     */
+    @Override
+    public void add(final int index, final DistributionMember member) {
+        if (index < 0 || index > _size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+        if (_numFitnessValues < 0) {
+            _numFitnessValues = member.getFirst().size() - 1;
+            _fitnessValues = new double[_values.length * _numFitnessValues];
+        }
+        ensureCapacity(_size + 1);
+        moveRows(index, index + 1, _size - index);
+        ++_size;
+        ++modCount;
+        ++_version;
+        setRow(index, member);
+    }
+
+    /**
+     * @see java.util.AbstractList#remove(int)
+     */
+    @Override
+    public DistributionMember remove(final int index) {
+        final DistributionMember retval = get(index);
+        moveRows(index + 1, index, _size - index - 1);
+        --_size;
+        _genotypes[_size] = null;
+        ++modCount;
+        ++_version;
+        return retval;
+    }
+
+    /**
+     * @see java.util.AbstractList#clear()
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < _size; ++i) {
+            _genotypes[i] = null;
         }
+        _size = 0;
+        _numFitnessValues = -1;
+        ++modCount;
+        ++_version;
+    }
+
+    /**
+     * @return Number that changes whenever the contents of this Distribution change (including normalization and
+     *         sorting), so that information derived from it can be recalculated only when necessary
+     */
+    public int getVersion() {
+        return _version;
+    }
+
+    /**
+     * @param index Position of the individual
+     * @return Overall {@link Fitness} of the individual (NaN if it has not been calculated)
+     */
+    public double getValue(final int index) {
+        checkIndex(index);
+        return _values[index];
+    }
+
+    /**
+     * @param index Position of the individual
+     * @param objective Which of the multi-objective {@link Fitness} values to return
+     * @return Multi-objective {@link Fitness} value of the individual
+     */
+    public double getFitnessValue(final int index, final int objective) {
+        checkIndex(index);
+        if (objective < 0 || objective >= _numFitnessValues)
+            throw new IndexOutOfBoundsException("Objective: " + objective + ", Number of objectives: " + _numFitnessValues);
+        return _fitnessValues[index * _numFitnessValues + objective];
+    }
+
+    /**
+     * @return Number of multi-objective {@link Fitness} values for each individual (0 if the Distribution is empty)
+     */
+    public int getNumFitnessValues() {
+        return Math.max(_numFitnessValues, 0);
+    }
+
+    /**
+     * @param index Position of the individual
+     * @return {@link Genotype} of the individual
+     */
+    public Genotype getGenotype(final int index) {
+        checkIndex(index);
+        return _genotypes[index];
     }
 
     /**
@@ -48,22 +198,23 @@ public class Distribution extends ArrayList<DistributionMember> {
      * Remove all but one of a group of DistributionMembers with the same {@link Genotype}.
      */
     public void removeDuplicates() {
-        final List<Boolean> duplicates = new ArrayList<Boolean>(Collections.nCopies(size(), (Boolean) null));
-        for (int i = 0; i < size(); ++i) {
-            if (duplicates.get(i) == null) {
-                duplicates.set(i, false);
-                final DistributionMember cf = get(i);
-                for (int j = i + 1; j < size(); ++j) {
-                    if (cf.getGenotype().equals(get(j).getGenotype())) {
-                        duplicates.set(j, true);
-                    }
+        final GenotypeIndex seen = new GenotypeIndex(_size);
+        int numKept = 0;
+        for (int i = 0; i < _size; ++i) {
+            if (seen.add(_genotypes[i])) {
+                if (numKept != i) {
+                    moveRows(i, numKept, 1);
                 }
+                ++numKept;
             }
         }
-        for (int i = size() - 1; i >= 0; --i) {
-            if (duplicates.get(i)) {
-                remove(i);
-            }
+        for (int i = numKept; i < _size; ++i) {
+            _genotypes[i] = null;
+        }
+        if (numKept != _size) {
+            _size = numKept;
+            ++modCount;
+            ++_version;
         }
     }
 
@@ -72,8 +223,8 @@ public class Distribution extends ArrayList<DistributionMember> {
      * @return Whether all fitness values have been calculated.
      */
     public boolean hasValues() {
-        for (final DistributionMember m : this) {
-            if (m.getValue() == null) return false;
+        for (int i = 0; i < _size; ++i) {
+            if (Double.isNaN(_values[i])) return false;
         }
         return true;
     }
@@ -84,16 +235,138 @@ public class Distribution extends ArrayList<DistributionMember> {
     public void normalize() {
         if (!hasValues()) return; // Not ready to normalize yet
         double sum = 0.0;
-        for (final DistributionMember m : this) {
-            sum += m.getValue();
+        for (int i = 0; i < _size; ++i) {
+            sum += _values[i];
         }
         // Make sure it hasn't already been normalized (and that we don't divide by zero)
         if (sum > 0 && Math.abs(sum - 1) > 0.0001) {
-            final Distribution copy = new Distribution(this);
-            clear();
-            for (final DistributionMember m : copy) {
-                add(new DistributionMember(m.getValue() / sum, m.getFitnessValues(), m.getGenotype()));
+            for (int i = 0; i < _size; ++i) {
+                _values[i] /= sum;
             }
+            ++_version;
+        }
+    }
+
+    /**
+     * Sorts the individuals with the most fit first, in the same order as sorting the {@link DistributionMember
+     * DistributionMembers} would (see {@link DistributionMember#compareTo(DistributionMember)}), but without creating
+     * them. The sort is stable.
+     */
+    public void sort() {
+        if (_order.length < _size) {
+            _order = new int[_values.length];
+            _orderScratch = new int[_values.length];
+        }
+        for (int i = 0; i < _size; ++i) {
+            _order[i] = i;
+        }
+        mergeSort(_order, _orderScratch, 0, _size);
+        if (_valuesScratch.length != _values.length || _fitnessValuesScratch.length != _fitnessValues.length) {
+            _valuesScratch = new double[_values.length];
+            _fitnessValuesScratch = new double[_fitnessValues.length];
+            _genotypesScratch = new Genotype[_genotypes.length];
+        }
+        for (int i = 0; i < _size; ++i) {
+            final int from = _order[i];
+            _valuesScratch[i] = _values[from];
+            System.arraycopy(_fitnessValues, from * _numFitnessValues, _fitnessValuesScratch, i * _numFitnessValues,
+                             _numFitnessValues);
+            _genotypesScratch[i] = _genotypes[from];
+        }
+        final double[] values = _values;
+        _values = _valuesScratch;
+        _valuesScratch = values;
+        final double[] fitnessValues = _fitnessValues;
+        _fitnessValues = _fitnessValuesScratch;
+        _fitnessValuesScratch = fitnessValues;
+        final Genotype[] genotypes = _genotypes;
+        _genotypes = _genotypesScratch;
+        _genotypesScratch = genotypes;
+        ++modCount;
+        ++_version;
+    }
+
+    /**
+     * Compares two rows the same way {@link DistributionMember#compareTo(DistributionMember)} compares members
+     */
+    private int compareRows(final int r1, final int r2) {
+        if (Double.doubleToLongBits(_values[r1]) != Double.doubleToLongBits(_values[r2]))
+            return (int) Math.signum(_values[r2] - _values[r1]);
+        final int offset1 = r1 * _numFitnessValues;
+        final int offset2 = r2 * _numFitnessValues;
+        for (int j = 0; j < _numFitnessValues; ++j) {
+            final double v1 = _fitnessValues[offset1 + j];
+            final double v2 = _fitnessValues[offset2 + j];
+            if (Double.doubleToLongBits(v1) != Double.doubleToLongBits(v2)) return (int) Math.signum(v2 - v1);
         }
+        return _genotypes[r1].compareTo(_genotypes[r2]);
+    }
+
+    /**
+     * Stable merge sort of rows indices [from, to) in order, using scratch (of at least the same size) as temporary
+     * storage
+     */
+    private void mergeSort(final int[] order, final int[] scratch, final int from, final int to) {
+        if (to - from < 2) return;
+        final int mid = (from + to) >>> 1;
+        mergeSort(order, scratch, from, mid);
+        mergeSort(order, scratch, mid, to);
+        if (compareRows(order[mid - 1], order[mid]) <= 0) return; // Already in order
+        System.arraycopy(order, from, scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; ++i) {
+            if (right >= to || (left < mid && compareRows(scratch[left], scratch[right]) <= 0)) {
+                order[i] = scratch[left++];
+            }
+            else {
+                order[i] = scratch[right++];
+            }
+        }
+    }
+
+    private void setRow(final int index, final DistributionMember member) {
+        final List<Double> row = member.getFirst(); // Overall fitness followed by the multi-objective values
+        if (row.size() - 1 != _numFitnessValues)
+            throw new IllegalArgumentException("Member has " + (row.size() - 1) + " fitness values, but "
+                                               + _numFitnessValues + " were expected");
+        _values[index] = toPrimitive(row.get(0));
+        for (int j = 0; j < _numFitnessValues; ++j) {
+            _fitnessValues[index * _numFitnessValues + j] = toPrimitive(row.get(j + 1));
+        }
+        _genotypes[index] = member.getGenotype();
+    }
+
+    private void moveRows(final int from, final int to, final int numRows) {
+        System.arraycopy(_values, from, _values, to, numRows);
+        System.arraycopy(_fitnessValues, from * _numFitnessValues, _fitnessValues, to * _numFitnessValues,
+                         numRows * _numFitnessValues);
+        System.arraycopy(_genotypes, from, _genotypes, to, numRows);
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity <= _values.length) return;
+        final int newCapacity = Math.max(capacity, _values.length + (_values.length >> 1));
+        final double[] values = new double[newCapacity];
+        System.arraycopy(_values, 0, values, 0, _size);
+        _values = values;
+        final double[] fitnessValues = new double[newCapacity * _numFitnessValues];
+        System.arraycopy(_fitnessValues, 0, fitnessValues, 0, _size * _numFitnessValues);
+        _fitnessValues = fitnessValues;
+        final Genotype[] genotypes = new Genotype[newCapacity];
+        System.arraycopy(_genotypes, 0, genotypes, 0, _size);
+        _genotypes = genotypes;
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= _size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + _size);
+    }
+
+    private static double toPrimitive(final Double d) {
+        return d == null ? Double.NaN : d.doubleValue();
+    }
+
+    private static Double toObject(final double d) {
+        return Double.isNaN(d) ? null : Double.valueOf(d);
     }
 }
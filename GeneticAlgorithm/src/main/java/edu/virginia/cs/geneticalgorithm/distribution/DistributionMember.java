@@ -53,9 +53,8 @@ public final class DistributionMember extends OrderedPair<List<Double>, Genotype
      * @return Multi-objective {@link Fitness} values.
      */
     public List<Double> getFitnessValues() {
-        final List<Double> retval = new ArrayList<Double>(getFirst());
-        retval.remove(0);
-        return retval;
+        final List<Double> values = getFirst();
+        return new ArrayList<Double>(values.subList(1, values.size()));
     }
 
     /**
@@ -93,9 +92,9 @@ public final class DistributionMember extends OrderedPair<List<Double>, Genotype
         // This is the most important bit.
         if (!getValue().equals(o.getValue())) return (int) Math.signum(o.getValue() - getValue());
         // The rest is arbitrary and just designed to keep non-identical DistributionMembers from being equal
-        final List<Double> fitVals = getFitnessValues();
-        final List<Double> otherVals = o.getFitnessValues();
-        for (int i = 0; i < fitVals.size(); ++i) {
+        final List<Double> fitVals = getFirst(); // Overall fitness followed by the multi-objective values
+        final List<Double> otherVals = o.getFirst();
+        for (int i = 1; i < fitVals.size(); ++i) {
             if (!fitVals.get(i).equals(otherVals.get(i))) return (int) Math.signum(otherVals.get(i) - fitVals.get(i));
         }
         final Genotype g = getGenotype();
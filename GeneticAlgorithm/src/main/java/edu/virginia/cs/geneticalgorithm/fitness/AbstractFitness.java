@@ -39,4 +39,20 @@ public abstract class AbstractFitness implements Fitness {
         }
     }
 
+    /**
+     * @param f Fitness function (evaluated if necessary)
+     * @return Whether the results of the fitness function are provisional (see {@link ProvisionalFitness})
+     */
+    public static boolean isProvisional(final Fitness f) {
+        return (f instanceof ProvisionalFitness) && ((ProvisionalFitness) f).isProvisional();
+    }
+
+    /**
+     * @param f Fitness function (not evaluated)
+     * @return Whether the results of the fitness function are already available (see {@link PrecomputedFitness})
+     */
+    public static boolean isPrecomputed(final Fitness f) {
+        return (f instanceof PrecomputedFitness) && ((PrecomputedFitness) f).isPrecomputed();
+    }
+
 }
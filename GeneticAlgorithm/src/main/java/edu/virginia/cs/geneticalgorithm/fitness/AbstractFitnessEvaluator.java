@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Abstract version of FitnessEvaluator that collects results in submission order
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public abstract class AbstractFitnessEvaluator implements FitnessEvaluator {
+
+    /**
+     * Submits every fitness function before waiting on any of them, then gathers the results in submission order
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#evaluate(java.util.List)
+     */
+    @Override
+    public List<FitnessEvaluation> evaluate(final List<? extends Fitness> fitnesses) {
+        final List<Future<FitnessEvaluation>> futures = new ArrayList<Future<FitnessEvaluation>>(fitnesses.size());
+        for (final Fitness f : fitnesses) {
+            futures.add(submit(f));
+        }
+        final List<FitnessEvaluation> retval = new ArrayList<FitnessEvaluation>(futures.size());
+        for (final Future<FitnessEvaluation> future : futures) {
+            retval.add(getResult(future));
+        }
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#submit(edu.virginia.cs.geneticalgorithm.fitness.Fitness,
+     *      java.util.concurrent.BlockingQueue)
+     */
+    @Override
+    public Future<FitnessEvaluation> submit(final Fitness fitness,
+                                            final BlockingQueue<Future<FitnessEvaluation>> completionQueue) {
+        final FutureTask<FitnessEvaluation> retval = new FutureTask<FitnessEvaluation>(new EvaluationTask(fitness)) {
+            @Override
+            protected void done() {
+                completionQueue.add(this);
+            }
+        };
+        execute(retval);
+        return retval;
+    }
+
+    /**
+     * Runs a task (evaluating a {@link Fitness} function) however this evaluator runs them
+     * @param task Task to run
+     */
+    protected abstract void execute(Runnable task);
+
+    /**
+     * Waits for a submitted evaluation, unwrapping any exception thrown by the {@link Fitness} function
+     * @param future Future returned by {@link #submit(Fitness)}
+     * @return Result of the evaluation
+     */
+    public static FitnessEvaluation getResult(final Future<FitnessEvaluation> future) {
+        try {
+            return future.get();
+        }
+        catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            if (e.getCause() instanceof Error) throw (Error) e.getCause();
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Unit of work that evaluates a single {@link Fitness} function
+     */
+    protected static class EvaluationTask implements Callable<FitnessEvaluation> {
+
+        private final Fitness _fitness;
+
+        /**
+         * @param fitness {@link Fitness} function to evaluate
+         */
+        protected EvaluationTask(final Fitness fitness) {
+            _fitness = fitness;
+        }
+
+        /**
+         * @see java.util.concurrent.Callable#call()
+         */
+        @Override
+        public FitnessEvaluation call() {
+            return FitnessEvaluation.evaluate(_fitness);
+        }
+    }
+}
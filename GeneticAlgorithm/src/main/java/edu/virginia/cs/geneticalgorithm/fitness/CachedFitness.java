@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fitness whose values were already calculated (e.g., in a previous run)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CachedFitness implements PrecomputedFitness {
+
+    private final List<Double> _fitnessValues;
+    private final double _totalFitness;
+
+    /**
+     * @param fitnessValues Multi-objective fitness values
+     * @param totalFitness Overall fitness
+     */
+    public CachedFitness(final List<Double> fitnessValues, final double totalFitness) {
+        _fitnessValues = Collections.unmodifiableList(new ArrayList<Double>(fitnessValues));
+        _totalFitness = totalFitness;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#prepare()
+     */
+    @Override
+    public void prepare() {
+        // No preparation required
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#fitnessValues()
+     */
+    @Override
+    public List<Double> fitnessValues() {
+        return _fitnessValues;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#totalFitness()
+     */
+    @Override
+    public double totalFitness() {
+        return _totalFitness;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#numFitnessValues()
+     */
+    @Override
+    public int numFitnessValues() {
+        return _fitnessValues.size();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+     */
+    @Override
+    public boolean isPrecomputed() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "{cached fitness = '" + _totalFitness + "'}";
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.List;
+
+import edu.virginia.cs.common.metrics.Counter;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Creates fitness functions that consult a {@link PersistentFitnessCache} before evaluating individuals, and that store
+ * the results of any evaluations they do perform (unless the results are provisional; see {@link ProvisionalFitness})
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class CachingFitnessFactory implements FitnessFactory {
+
+    private static final Counter HITS = Metrics.getDefault().counter("cache.hits");
+    private static final Counter MISSES = Metrics.getDefault().counter("cache.misses");
+    private final FitnessFactory _factory;
+    private final PersistentFitnessCache _cache;
+    private final GenotypeKeyGenerator _keyGenerator;
+    private final String _context;
+    private int _numHits = 0;
+    private int _numMisses = 0;
+
+    /**
+     * @param factory {@link FitnessFactory} used to evaluate individuals not already in the cache
+     * @param cache Cache of previously evaluated individuals
+     * @param keyGenerator Identifies which individuals are equivalent
+     * @param context Distinguishes results from differently configured factories sharing the same cache
+     */
+    public CachingFitnessFactory(final FitnessFactory factory, final PersistentFitnessCache cache,
+                                 final GenotypeKeyGenerator keyGenerator, final String context) {
+        _factory = factory;
+        _cache = cache;
+        _keyGenerator = keyGenerator;
+        _context = context;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#createFitness(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+     */
+    @Override
+    public Fitness createFitness(final Genotype individual) {
+        final String key = _context + ":" + _keyGenerator.generateKey(individual);
+        final CachedFitness cached = _cache.get(key);
+        synchronized (this) {
+            if (cached != null) {
+                ++_numHits;
+                HITS.increment();
+                return cached;
+            }
+            ++_numMisses;
+            MISSES.increment();
+        }
+        return new RecordingFitness(_factory.createFitness(individual), key);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#ready()
+     */
+    @Override
+    public void ready() {
+        _factory.ready();
+    }
+
+    /**
+     * @return Number of individuals whose fitness was found in the cache
+     */
+    public synchronized int getNumHits() {
+        return _numHits;
+    }
+
+    /**
+     * @return Number of individuals whose fitness had to be evaluated
+     */
+    public synchronized int getNumMisses() {
+        return _numMisses;
+    }
+
+    /**
+     * Fitness that stores its results in the cache the first time it is evaluated, unless they are provisional
+     */
+    public final class RecordingFitness implements PrecomputedFitness, ProvisionalFitness, WrappedFitness {
+
+        private final Fitness _fitness;
+        private final String _key;
+        private boolean _recorded = false;
+
+        RecordingFitness(final Fitness fitness, final String key) {
+            _fitness = fitness;
+            _key = key;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness#getFitness()
+         */
+        @Override
+        public Fitness getFitness() {
+            return _fitness;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#prepare()
+         */
+        @Override
+        public void prepare() {
+            _fitness.prepare();
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#fitnessValues()
+         */
+        @Override
+        public List<Double> fitnessValues() {
+            final List<Double> retval = _fitness.fitnessValues();
+            record(retval, _fitness.totalFitness());
+            return retval;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#totalFitness()
+         */
+        @Override
+        public double totalFitness() {
+            final double retval = _fitness.totalFitness();
+            record(_fitness.fitnessValues(), retval);
+            return retval;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#numFitnessValues()
+         */
+        @Override
+        public int numFitnessValues() {
+            return _fitness.numFitnessValues();
+        }
+
+        private synchronized void record(final List<Double> fitnessValues, final double totalFitness) {
+            if (!_recorded) {
+                // A failed evaluation might succeed next time, and a partial average will be improved on
+                if (!AbstractFitness.isProvisional(_fitness)) {
+                    _cache.put(_key, fitnessValues, totalFitness);
+                }
+                _recorded = true;
+            }
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+         */
+        @Override
+        public boolean isPrecomputed() {
+            return AbstractFitness.isPrecomputed(_fitness);
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness#isProvisional()
+         */
+        @Override
+        public boolean isProvisional() {
+            return AbstractFitness.isProvisional(_fitness);
+        }
+
+        @Override
+        public String toString() {
+            return _fitness.toString();
+        }
+    }
+}
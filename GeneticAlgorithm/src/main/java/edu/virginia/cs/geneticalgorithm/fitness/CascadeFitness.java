@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Composite {@link Fitness} function that evaluates the stages of a {@link CascadeFitnessFactory} in order, stopping at
+ * the first stage that doesn't pass its threshold. Any later stages that can be halted are halted, and their fitness
+ * values are zero. The total fitness is the sum of the (scaled and limited) total fitnesses of the stages that were
+ * evaluated.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class CascadeFitness extends AbstractFitness implements HaltableFitness, ProvisionalFitness, PrecomputedFitness,
+                                                        WrappedFitness {
+
+    private final CascadeFitnessFactory _parent;
+    private final List<Fitness> _fitnesses;
+    private List<Double> _fitnessValues = null;
+    private double _totalFitness = 0.0;
+    private int _numStagesEvaluated = 0;
+    private boolean _provisional = false;
+    private volatile boolean _halted = false;
+    private final AtomicBoolean _reported = new AtomicBoolean(false); // Whether the parent knows this is finished
+
+    CascadeFitness(final CascadeFitnessFactory parent, final List<Fitness> fitnesses) {
+        _parent = parent;
+        _fitnesses = fitnesses;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#prepare()
+     */
+    @Override
+    public void prepare() {
+        for (final Fitness fitness : _fitnesses) {
+            fitness.prepare();
+        }
+    }
+
+    private void evaluate() {
+        try {
+            evaluateStages();
+        }
+        finally {
+            reportFinished();
+        }
+    }
+
+    private synchronized void evaluateStages() {
+        if (_fitnessValues != null) return;
+        final List<CascadeStage> stages = _parent.getStages();
+        final List<Double> values = new ArrayList<Double>(numFitnessValues());
+        double total = 0.0;
+        int s = 0;
+        boolean passed = true;
+        while (s < stages.size() && passed && !_halted) {
+            final CascadeStage stage = stages.get(s);
+            final Fitness fitness = _fitnesses.get(s);
+            final long beginTime = System.nanoTime();
+            values.addAll(fitness.fitnessValues());
+            final double stageTotal = fitness.totalFitness();
+            passed = stage.record(stageTotal, System.nanoTime() - beginTime, s + 1 == stages.size());
+            if (s + 1 < stages.size()) {
+                _parent.countOutcome(s, passed);
+            }
+            total += stage.contribution(stageTotal);
+            ++s;
+        }
+        _numStagesEvaluated = s;
+        // Halting part way through leaves the stages after it unevaluated, rather than failed
+        _provisional = _halted && passed && s < stages.size();
+        for (int i = 0; i < s; ++i) {
+            _provisional |= isProvisional(_fitnesses.get(i));
+        }
+        haltFrom(s);
+        for (; s < stages.size(); ++s) {
+            values.addAll(Collections.nCopies(stages.get(s).getNumFitnessValues(), 0.0));
+        }
+        _fitnessValues = Collections.unmodifiableList(values);
+        _totalFitness = total;
+    }
+
+    private void reportFinished() {
+        if (_reported.compareAndSet(false, true)) {
+            _parent.evaluated();
+        }
+    }
+
+    private void haltFrom(final int firstStage) {
+        for (int s = firstStage; s < _fitnesses.size(); ++s) {
+            if (_fitnesses.get(s) instanceof HaltableFitness) {
+                ((HaltableFitness) _fitnesses.get(s)).halt();
+            }
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#fitnessValues()
+     */
+    @Override
+    public List<Double> fitnessValues() {
+        evaluate();
+        return _fitnessValues;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness#totalFitness()
+     */
+    @Override
+    public double totalFitness() {
+        evaluate();
+        return _totalFitness;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#numFitnessValues()
+     */
+    @Override
+    public int numFitnessValues() {
+        int retval = 0;
+        for (final CascadeStage stage : _parent.getStages()) {
+            retval += stage.getNumFitnessValues();
+        }
+        return retval;
+    }
+
+    /**
+     * Halts every stage that can be halted. Stages not yet evaluated won't be, and count as not having passed.
+     * @see edu.virginia.cs.geneticalgorithm.fitness.HaltableFitness#halt()
+     */
+    @Override
+    public void halt() {
+        _halted = true;
+        haltFrom(0);
+        reportFinished();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness#isProvisional()
+     */
+    @Override
+    public boolean isProvisional() {
+        evaluate();
+        return _provisional;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+     */
+    @Override
+    public boolean isPrecomputed() {
+        for (final Fitness fitness : _fitnesses) {
+            if (!isPrecomputed(fitness)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param stage Which stage (0-based)
+     * @return {@link Fitness} function for that stage
+     */
+    public Fitness getStageFitness(final int stage) {
+        return _fitnesses.get(stage);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness#getFitness()
+     */
+    @Override
+    public Fitness getFitness() {
+        return getStageFitness(getNumStages() - 1); // The last stage has the final say
+    }
+
+    /**
+     * @return Number of stages in the cascade
+     */
+    public int getNumStages() {
+        return _fitnesses.size();
+    }
+
+    /**
+     * @return Number of stages that were evaluated (evaluating them if necessary)
+     */
+    public int getNumStagesEvaluated() {
+        evaluate();
+        return _numStagesEvaluated;
+    }
+
+    @Override
+    public String toString() {
+        return "{hash = " + hashCode() + ", stages = " + _fitnesses + "}";
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import edu.virginia.cs.common.metrics.Counter;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Generalization of {@link ShortCircuitFitnessFactory} to any number of stages, each (typically) more expensive than the
+ * one before it, where each stage is only evaluated if the previous one passes its {@link CascadeStage threshold}.
+ * Thresholds that adapt do so at the end of each generation, which is detected when every {@link Fitness} function this
+ * factory has created has been evaluated (as happens when a whole population is created before any of it is evaluated),
+ * or after a set number of evaluations (see {@link #setGenerationSize(int)}), whichever comes first. How often each stage
+ * is passed and failed is counted by the default {@link Metrics} ("cascade.stage1.passed", "cascade.stage1.failed", and
+ * so on). Checkpoints include each stage's state and the progress through the current generation, so that a resumed run
+ * adapts its thresholds just as an uninterrupted run would.
+ * @see CascadeFitness
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class CascadeFitnessFactory implements FitnessFactory, Checkpointable {
+
+    private final List<CascadeStage> _stages;
+    private final Counter[] _passed; // Per stage, except the last (which has nothing to pass to)
+    private final Counter[] _failed;
+    private final Object _lock = new Object();
+    private int _numOutstanding = 0; // Created, but not yet evaluated
+    private int _numCompleted = 0; // Evaluated during the current generation
+    private int _generationSize = 0;
+    private int _numGenerations = 0;
+
+    /**
+     * @param stages Stages in the order they are evaluated (at least one)
+     */
+    public CascadeFitnessFactory(final List<CascadeStage> stages) {
+        if (stages.isEmpty()) throw new IllegalArgumentException("A cascade needs at least one stage");
+        if (stages.get(0).getFactory() == null)
+            throw new IllegalArgumentException("The first stage must have a fitness factory");
+        _stages = Collections.unmodifiableList(new ArrayList<CascadeStage>(stages));
+        _passed = new Counter[_stages.size() - 1];
+        _failed = new Counter[_stages.size() - 1];
+        for (int s = 0; s < _passed.length; ++s) {
+            _passed[s] = Metrics.getDefault().counter("cascade.stage" + (s + 1) + ".passed");
+            _failed[s] = Metrics.getDefault().counter("cascade.stage" + (s + 1) + ".failed");
+        }
+    }
+
+    /**
+     * @param generationSize Number of evaluations after which a generation ends even if some {@link Fitness} functions
+     *            are still outstanding (0, the default, to rely only on every function having been evaluated)
+     */
+    public void setGenerationSize(final int generationSize) {
+        if (generationSize < 0) throw new IllegalArgumentException("Generation size cannot be negative");
+        synchronized (_lock) {
+            _generationSize = generationSize;
+        }
+    }
+
+    /**
+     * @return Stages in the order they are evaluated
+     */
+    public List<CascadeStage> getStages() {
+        return _stages;
+    }
+
+    /**
+     * @return Number of generations that have ended
+     */
+    public int getNumGenerations() {
+        synchronized (_lock) {
+            return _numGenerations;
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#createFitness(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+     */
+    @Override
+    public Fitness createFitness(final Genotype individual) {
+        final List<Fitness> fitnesses = new ArrayList<Fitness>(_stages.size());
+        Fitness previous = null;
+        for (final CascadeStage stage : _stages) {
+            final Fitness fitness;
+            if (previous instanceof ProxyFitness && ((ProxyFitness) previous).generatesPostFitness()) {
+                fitness = ((ProxyFitness) previous).getPostFitness();
+            }
+            else {
+                if (stage.getFactory() == null)
+                    throw new IllegalStateException("Stage " + fitnesses.size() + " has no fitness factory, and the "
+                                                    + "previous stage did not generate its fitness function");
+                fitness = stage.getFactory().createFitness(individual);
+            }
+            fitnesses.add(fitness);
+            previous = fitness;
+        }
+        synchronized (_lock) {
+            ++_numOutstanding;
+        }
+        return new CascadeFitness(this, fitnesses);
+    }
+
+    /**
+     * @param stage Which stage (0-based, and not the last) was evaluated
+     * @param passed Whether it passed, so that the next stage was evaluated
+     */
+    void countOutcome(final int stage, final boolean passed) {
+        (passed ? _passed[stage] : _failed[stage]).increment();
+    }
+
+    /**
+     * Called once by each {@link CascadeFitness} when its evaluation is complete (or is halted)
+     */
+    void evaluated() {
+        synchronized (_lock) {
+            --_numOutstanding;
+            ++_numCompleted;
+            if (_numOutstanding <= 0 || (_generationSize > 0 && _numCompleted >= _generationSize)) {
+                endGeneration();
+            }
+        }
+    }
+
+    /**
+     * Ends the current generation, adapting the thresholds of the stages. This happens automatically, but may be called
+     * directly by code that knows where generations end.
+     */
+    public void endGeneration() {
+        synchronized (_lock) {
+            for (final CascadeStage stage : _stages) {
+                stage.endGeneration();
+            }
+            _numCompleted = 0;
+            ++_numGenerations;
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#ready()
+     */
+    @Override
+    public void ready() {
+        for (final CascadeStage stage : _stages) {
+            if (stage.getFactory() != null) stage.getFactory().ready();
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        synchronized (_lock) {
+            out.writeInt(_stages.size());
+            for (final CascadeStage stage : _stages) {
+                stage.writeState(out);
+            }
+            out.writeInt(_numOutstanding);
+            out.writeInt(_numCompleted);
+            out.writeInt(_numGenerations);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        synchronized (_lock) {
+            final int numStages = in.readInt();
+            if (numStages != _stages.size())
+                throw new IOException("Checkpoint has " + numStages + " cascade stages, but " + _stages.size()
+                                      + " were expected");
+            for (final CascadeStage stage : _stages) {
+                stage.readState(in);
+            }
+            _numOutstanding = in.readInt();
+            _numCompleted = in.readInt();
+            _numGenerations = in.readInt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "{hash = " + hashCode() + ", stages = " + _stages + "}";
+    }
+}
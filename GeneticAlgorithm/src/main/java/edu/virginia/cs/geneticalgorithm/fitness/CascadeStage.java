@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+
+/**
+ * One stage of a {@link CascadeFitnessFactory}: how to create the stage's {@link Fitness} functions, how much the stage
+ * contributes to the total fitness, and the threshold that the stage's total fitness must exceed for the next stage to
+ * be evaluated. The threshold can adapt, once per generation, so that only a target fraction of the individuals reaching
+ * this stage go on to the next one. Also keeps track of how often the stage is evaluated, how often it is passed, and how
+ * long it takes. Only this bookkeeping (including the current threshold) is checkpointed; the configuration is not.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CascadeStage implements Checkpointable {
+
+    private final FitnessFactory _factory;
+    private final int _numFitnessValues;
+    private double _threshold = Double.NEGATIVE_INFINITY;
+    private double _passFraction = 1.0; // 1 means the threshold never adapts
+    private double _scale = 1.0;
+    private double _limit = Double.POSITIVE_INFINITY;
+    private double[] _scores = new double[64]; // Scores of the current generation
+    private int _numScores = 0;
+    private int _numEvaluated = 0;
+    private int _numPassed = 0;
+    private long _totalNanos = 0;
+
+    /**
+     * @param factory {@link FitnessFactory} that creates this stage's {@link Fitness} functions (null if the previous
+     *            stage's functions are {@link ProxyFitness} functions that generate them)
+     * @param numFitnessValues Number of fitness values returned by this stage's {@link Fitness} functions
+     */
+    public CascadeStage(final FitnessFactory factory, final int numFitnessValues) {
+        if (numFitnessValues < 0) throw new IllegalArgumentException("Number of fitness values cannot be negative");
+        _factory = factory;
+        _numFitnessValues = numFitnessValues;
+    }
+
+    /**
+     * @param threshold Total fitness this stage must exceed for the next stage to be evaluated (the starting value, if
+     *            the threshold adapts)
+     * @return This stage
+     */
+    public synchronized CascadeStage setThreshold(final double threshold) {
+        _threshold = threshold;
+        return this;
+    }
+
+    /**
+     * @param passFraction Fraction (between 0 and 1) of the individuals evaluated by this stage in each generation that
+     *            should go on to the next stage, or 1 to keep the threshold fixed
+     * @return This stage
+     */
+    public synchronized CascadeStage setPassFraction(final double passFraction) {
+        if (!(passFraction >= 0 && passFraction <= 1))
+            throw new IllegalArgumentException("Pass fraction must be between 0 and 1");
+        _passFraction = passFraction;
+        return this;
+    }
+
+    /**
+     * @param scale Amount to multiply this stage's total fitness by when adding it to the overall fitness
+     * @return This stage
+     */
+    public synchronized CascadeStage setScale(final double scale) {
+        _scale = scale;
+        return this;
+    }
+
+    /**
+     * @param limit Largest total fitness (before scaling) this stage can contribute to the overall fitness. Setting this
+     *            to the threshold ensures that a proxy doesn't get too much weight once the next stage is evaluated.
+     * @return This stage
+     */
+    public synchronized CascadeStage setLimit(final double limit) {
+        _limit = limit;
+        return this;
+    }
+
+    FitnessFactory getFactory() {
+        return _factory;
+    }
+
+    /**
+     * @return Number of fitness values returned by this stage's {@link Fitness} functions
+     */
+    public int getNumFitnessValues() {
+        return _numFitnessValues;
+    }
+
+    /**
+     * @return Total fitness this stage must currently exceed for the next stage to be evaluated
+     */
+    public synchronized double getThreshold() {
+        return _threshold;
+    }
+
+    /**
+     * @return Target fraction of individuals that go on to the next stage (1 if the threshold is fixed)
+     */
+    public synchronized double getPassFraction() {
+        return _passFraction;
+    }
+
+    /**
+     * @param totalFitness Total fitness of this stage
+     * @return Contribution to the overall fitness
+     */
+    synchronized double contribution(final double totalFitness) {
+        return _scale * Math.min(totalFitness, _limit);
+    }
+
+    /**
+     * Records an evaluation of this stage
+     * @param totalFitness Total fitness of this stage
+     * @param nanos How long the evaluation took (in nanoseconds)
+     * @param isLastStage Whether there is no next stage to pass to
+     * @return Whether the next stage should be evaluated
+     */
+    synchronized boolean record(final double totalFitness, final long nanos, final boolean isLastStage) {
+        ++_numEvaluated;
+        _totalNanos += nanos;
+        if (isLastStage) return false;
+        if (_numScores == _scores.length) {
+            _scores = Arrays.copyOf(_scores, _numScores * 2);
+        }
+        _scores[_numScores++] = Double.isNaN(totalFitness) ? Double.NEGATIVE_INFINITY : totalFitness;
+        final boolean passed = totalFitness > _threshold;
+        if (passed) {
+            ++_numPassed;
+        }
+        return passed;
+    }
+
+    /**
+     * Ends a generation, adapting the threshold (if it isn't fixed) so that the target fraction of the individuals that
+     * reached this stage would have passed it. The threshold is left alone if no individuals reached this stage.
+     */
+    synchronized void endGeneration() {
+        if (_passFraction < 1 && _numScores > 0) {
+            Arrays.sort(_scores, 0, _numScores);
+            final int numToPass = (int) Math.ceil(_passFraction * _numScores);
+            // Passing requires exceeding the threshold, so ties at the threshold all fail
+            _threshold = (numToPass >= _numScores) ? Double.NEGATIVE_INFINITY : _scores[_numScores - numToPass - 1];
+        }
+        _numScores = 0;
+    }
+
+    /**
+     * @return Number of times this stage has been evaluated
+     */
+    public synchronized int getNumEvaluated() {
+        return _numEvaluated;
+    }
+
+    /**
+     * @return Number of times this stage has been passed (so that the next stage was evaluated)
+     */
+    public synchronized int getNumPassed() {
+        return _numPassed;
+    }
+
+    /**
+     * @return Fraction of evaluations of this stage that were passed (NaN if it has never been evaluated)
+     */
+    public synchronized double getPassRate() {
+        return _numEvaluated == 0 ? Double.NaN : _numPassed / (double) _numEvaluated;
+    }
+
+    /**
+     * @return Total time (in milliseconds) spent evaluating this stage
+     */
+    public synchronized long getTotalTime() {
+        return _totalNanos / 1000000;
+    }
+
+    /**
+     * @return Mean time (in milliseconds) to evaluate this stage (NaN if it has never been evaluated)
+     */
+    public synchronized double getMeanTime() {
+        return _numEvaluated == 0 ? Double.NaN : _totalNanos / 1e6 / _numEvaluated;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public synchronized void writeState(final DataOutput out) throws IOException {
+        out.writeDouble(_threshold);
+        out.writeInt(_numScores);
+        for (int i = 0; i < _numScores; ++i) {
+            out.writeDouble(_scores[i]);
+        }
+        out.writeInt(_numEvaluated);
+        out.writeInt(_numPassed);
+        out.writeLong(_totalNanos);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public synchronized void readState(final DataInput in) throws IOException {
+        _threshold = in.readDouble();
+        _numScores = CheckpointUtils.readSize(in);
+        if (_numScores > _scores.length) {
+            _scores = new double[_numScores];
+        }
+        for (int i = 0; i < _numScores; ++i) {
+            _scores[i] = in.readDouble();
+        }
+        _numEvaluated = in.readInt();
+        _numPassed = in.readInt();
+        _totalNanos = in.readLong();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "{threshold = " + _threshold + ", evaluated = " + _numEvaluated + ", passed = " + _numPassed
+               + ", time = " + getTotalTime() + " ms}";
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.virginia.cs.common.concurrent.DaemonThreadFactory;
+
+/**
+ * FitnessEvaluator that evaluates {@link Fitness} functions on a bounded pool of worker threads
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class ConcurrentFitnessEvaluator extends AbstractFitnessEvaluator {
+
+    private final ExecutorService _executor;
+    private final int _numWorkers;
+
+    /**
+     * Constructor
+     * @param numWorkers Maximum number of {@link Fitness} functions to evaluate at the same time
+     */
+    public ConcurrentFitnessEvaluator(final int numWorkers) {
+        if (numWorkers < 1) throw new IllegalArgumentException("Number of workers must be positive");
+        _numWorkers = numWorkers;
+        _executor = Executors.newFixedThreadPool(numWorkers, new DaemonThreadFactory("fitness"));
+    }
+
+    /**
+     * Constructor
+     * @param executor Executor on which to evaluate {@link Fitness} functions (e.g., to share a pool between components)
+     * @param numWorkers Number of workers executor provides (informational only)
+     */
+    public ConcurrentFitnessEvaluator(final ExecutorService executor, final int numWorkers) {
+        if (numWorkers < 1) throw new IllegalArgumentException("Number of workers must be positive");
+        _executor = executor;
+        _numWorkers = numWorkers;
+    }
+
+    /**
+     * @return Maximum number of {@link Fitness} functions evaluated at the same time
+     */
+    public int getNumWorkers() {
+        return _numWorkers;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#submit(edu.virginia.cs.geneticalgorithm.fitness.Fitness)
+     */
+    @Override
+    public Future<FitnessEvaluation> submit(final Fitness fitness) {
+        return _executor.submit(new EvaluationTask(fitness));
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.AbstractFitnessEvaluator#execute(java.lang.Runnable)
+     */
+    @Override
+    protected void execute(final Runnable task) {
+        _executor.execute(task);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#shutdown()
+     */
+    @Override
+    public void shutdown() {
+        _executor.shutdown();
+    }
+}
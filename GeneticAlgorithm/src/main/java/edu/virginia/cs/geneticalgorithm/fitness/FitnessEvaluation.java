@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of evaluating a {@link Fitness} function, captured so that the (possibly expensive) evaluation only happens once
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FitnessEvaluation {
+
+    private final Fitness _fitness;
+    private final List<Double> _fitnessValues;
+    private final double _totalFitness;
+    private final long _elapsedTime;
+
+    /**
+     * Constructor
+     * @param fitness {@link Fitness} function that was evaluated
+     * @param fitnessValues Multi-objective fitness values returned by the {@link Fitness} function
+     * @param totalFitness Overall fitness returned by the {@link Fitness} function
+     * @param elapsedTime How long (in milliseconds) the evaluation took
+     */
+    public FitnessEvaluation(final Fitness fitness, final List<Double> fitnessValues, final double totalFitness,
+                             final long elapsedTime) {
+        _fitness = fitness;
+        _fitnessValues = Collections.unmodifiableList(fitnessValues);
+        _totalFitness = totalFitness;
+        _elapsedTime = elapsedTime;
+    }
+
+    /**
+     * Evaluates a {@link Fitness} function on the calling thread
+     * @param fitness {@link Fitness} function to evaluate
+     * @return Result of the evaluation
+     */
+    public static FitnessEvaluation evaluate(final Fitness fitness) {
+        final long beginTime = System.currentTimeMillis();
+        final List<Double> fitnessValues = fitness.fitnessValues();
+        final double totalFitness = fitness.totalFitness();
+        return new FitnessEvaluation(fitness, fitnessValues, totalFitness, System.currentTimeMillis() - beginTime);
+    }
+
+    /**
+     * @return {@link Fitness} function that was evaluated
+     */
+    public Fitness getFitness() {
+        return _fitness;
+    }
+
+    /**
+     * @return Multi-objective fitness values
+     */
+    public List<Double> getFitnessValues() {
+        return _fitnessValues;
+    }
+
+    /**
+     * @return Overall fitness
+     */
+    public double getTotalFitness() {
+        return _totalFitness;
+    }
+
+    /**
+     * @return How long (in milliseconds) the evaluation took
+     */
+    public long getElapsedTime() {
+        return _elapsedTime;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+
+/**
+ * Interface for classes that decide where and when prepared {@link Fitness} functions are evaluated
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface FitnessEvaluator {
+
+    /**
+     * Schedules a single (already prepared) {@link Fitness} function for evaluation
+     * @param fitness {@link Fitness} function to evaluate
+     * @return Future holding the result of the evaluation
+     */
+    public Future<FitnessEvaluation> submit(Fitness fitness);
+
+    /**
+     * Schedules a single (already prepared) {@link Fitness} function for evaluation, so that whoever submitted it can
+     * find out as soon as it finishes, without having to wait on it in particular
+     * @param fitness {@link Fitness} function to evaluate
+     * @param completionQueue Queue to which the returned future is added once the evaluation has finished (however it
+     *            finished)
+     * @return Future holding the result of the evaluation
+     */
+    public Future<FitnessEvaluation> submit(Fitness fitness, BlockingQueue<Future<FitnessEvaluation>> completionQueue);
+
+    /**
+     * Evaluates a group of (already prepared) {@link Fitness} functions
+     * @param fitnesses {@link Fitness} functions to evaluate
+     * @return Results of the evaluations, in the same order as fitnesses regardless of the order they completed in
+     */
+    public List<FitnessEvaluation> evaluate(List<? extends Fitness> fitnesses);
+
+    /**
+     * Releases any resources (e.g., worker threads) held by this evaluator. Evaluations already submitted still complete.
+     */
+    public void shutdown();
+}
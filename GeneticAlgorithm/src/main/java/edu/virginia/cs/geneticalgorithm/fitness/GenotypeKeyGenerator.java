@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Interface for classes that identify which individuals are guaranteed to be evaluated identically
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface GenotypeKeyGenerator {
+
+    /**
+     * @param individual {@link Genotype} describing the individual to evaluate
+     * @return Key that is equal for two individuals (even across runs) if and only if they have the same fitness
+     */
+    public String generateKey(Genotype individual);
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UTFDataFormatException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+/**
+ * Durable map from individual keys (see {@link GenotypeKeyGenerator}) to fitness values. Entries are stored in an
+ * append-only log file, each record guarded by a checksum; on opening, the log is replayed into an in-memory index and
+ * any partially written record at the end (e.g., from a crash) is discarded.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class PersistentFitnessCache {
+
+    private static final int RECORD_MARKER = 0x46495431; // "FIT1"
+    private static final int MAX_FITNESS_VALUES = 1 << 16; // Anything larger must be corruption
+    private final File _logFile;
+    private final Map<String, CachedFitness> _index = new HashMap<String, CachedFitness>();
+    private DataOutputStream _out;
+
+    /**
+     * Opens (creating if necessary) a fitness cache
+     * @param logFile File in which to store the cache
+     * @throws IOException If the file cannot be read or written
+     */
+    public PersistentFitnessCache(final File logFile) throws IOException {
+        _logFile = logFile;
+        final File parentDir = logFile.getAbsoluteFile().getParentFile();
+        if (!parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        final long validLength = replay();
+        if (validLength < logFile.length()) {
+            Logger.getLogger(PersistentFitnessCache.class.getName())
+                  .log(Level.WARNING, "Discarding " + (logFile.length() - validLength) + " corrupt bytes at end of "
+                                      + logFile.getPath());
+            final RandomAccessFile raf = new RandomAccessFile(logFile, "rw");
+            try {
+                raf.setLength(validLength);
+            }
+            finally {
+                raf.close();
+            }
+        }
+        _out = new DataOutputStream(new FileOutputStream(logFile, true));
+    }
+
+    /**
+     * @param key Key identifying the individual
+     * @return Previously stored fitness for the individual, or null if there is none
+     */
+    public synchronized CachedFitness get(final String key) {
+        return _index.get(key);
+    }
+
+    /**
+     * Stores fitness values for an individual (replacing any previously stored values)
+     * @param key Key identifying the individual
+     * @param fitnessValues Multi-objective fitness values
+     * @param totalFitness Overall fitness
+     */
+    public synchronized void put(final String key, final List<Double> fitnessValues, final double totalFitness) {
+        if (_out == null) throw new IllegalStateException("Fitness cache " + _logFile.getPath() + " is closed");
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream record = new DataOutputStream(bytes);
+            record.writeInt(RECORD_MARKER);
+            record.writeUTF(key);
+            record.writeInt(fitnessValues.size());
+            for (final Double d : fitnessValues) {
+                record.writeDouble(d);
+            }
+            record.writeDouble(totalFitness);
+            record.flush();
+            final CRC32 crc = new CRC32();
+            crc.update(bytes.toByteArray());
+            record.writeLong(crc.getValue());
+            record.flush();
+            bytes.writeTo(_out);
+            _out.flush();
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+        _index.put(key, new CachedFitness(fitnessValues, totalFitness));
+    }
+
+    /**
+     * @return Number of individuals with stored fitness values
+     */
+    public synchronized int size() {
+        return _index.size();
+    }
+
+    /**
+     * @return File in which the cache is stored
+     */
+    public File getLogFile() {
+        return _logFile;
+    }
+
+    /**
+     * Releases the log file. Stored values remain readable, but no more can be stored.
+     */
+    public synchronized void close() {
+        if (_out != null) {
+            try {
+                _out.close();
+            }
+            catch (final IOException e) {
+                Logger.getLogger(PersistentFitnessCache.class.getName()).log(Level.SEVERE, null, e);
+            }
+            _out = null;
+        }
+    }
+
+    /**
+     * Reads every intact record of the log into the index
+     * @return Length of the intact part of the log
+     */
+    private long replay() throws IOException {
+        if (!_logFile.exists()) return 0;
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(_logFile)));
+        long validLength = 0;
+        try {
+            while (true) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                final DataOutputStream copy = new DataOutputStream(bytes);
+                final int marker = in.readInt();
+                if (marker != RECORD_MARKER) break;
+                copy.writeInt(marker);
+                final String key = in.readUTF();
+                copy.writeUTF(key);
+                final int numValues = in.readInt();
+                if (numValues < 0 || numValues > MAX_FITNESS_VALUES) break;
+                copy.writeInt(numValues);
+                final List<Double> fitnessValues = new ArrayList<Double>(numValues);
+                for (int i = 0; i < numValues; ++i) {
+                    final double d = in.readDouble();
+                    copy.writeDouble(d);
+                    fitnessValues.add(d);
+                }
+                final double totalFitness = in.readDouble();
+                copy.writeDouble(totalFitness);
+                copy.flush();
+                final CRC32 crc = new CRC32();
+                crc.update(bytes.toByteArray());
+                if (in.readLong() != crc.getValue()) break;
+                _index.put(key, new CachedFitness(fitnessValues, totalFitness));
+                validLength += bytes.size() + 8;
+            }
+        }
+        catch (final EOFException e) {
+            // End of log (possibly in the middle of a partially written record)
+        }
+        catch (final UTFDataFormatException e) {
+            // Corrupt key, so treat the rest of the log as unusable
+        }
+        finally {
+            in.close();
+        }
+        return validLength;
+    }
+}
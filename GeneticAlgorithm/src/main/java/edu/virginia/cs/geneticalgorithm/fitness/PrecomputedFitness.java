@@ -0,0 +1,18 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+/**
+ * Interface for fitness functions that may already have their results (e.g., from a cache, a surrogate model, or a
+ * simulation that finished earlier), in which case evaluating them runs nothing and takes next to no time
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface PrecomputedFitness extends Fitness {
+
+    /**
+     * @return Whether the results are already available (without evaluating anything)
+     */
+    public boolean isPrecomputed();
+}
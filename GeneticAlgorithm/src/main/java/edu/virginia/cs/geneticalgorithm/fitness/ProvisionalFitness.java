@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+/**
+ * Interface for fitness functions whose results may not be their final word on an individual, either because they
+ * average fewer samples than will eventually be taken, or because the evaluation failed (e.g., a simulation that crashed
+ * or timed out, and so scored zero). Provisional results are used as usual, but aren't remembered beyond them.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface ProvisionalFitness extends Fitness {
+
+    /**
+     * @return Whether the results (evaluated if necessary) are provisional
+     */
+    public boolean isProvisional();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * FitnessEvaluator that evaluates each {@link Fitness} function on the calling thread as soon as it is submitted
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SerialFitnessEvaluator extends AbstractFitnessEvaluator {
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#submit(edu.virginia.cs.geneticalgorithm.fitness.Fitness)
+     */
+    @Override
+    public Future<FitnessEvaluation> submit(final Fitness fitness) {
+        final FutureTask<FitnessEvaluation> retval = new FutureTask<FitnessEvaluation>(new EvaluationTask(fitness));
+        retval.run();
+        return retval;
+    }
+
+    /**
+     * Runs the task on the calling thread
+     * @see edu.virginia.cs.geneticalgorithm.fitness.AbstractFitnessEvaluator#execute(java.lang.Runnable)
+     */
+    @Override
+    protected void execute(final Runnable task) {
+        task.run();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#shutdown()
+     */
+    @Override
+    public void shutdown() {
+        // Nothing to release
+    }
+}
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import edu.virginia.cs.common.metrics.Counter;
+import edu.virginia.cs.common.metrics.Metrics;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 
 /**
@@ -17,14 +19,17 @@ import edu.virginia.cs.geneticalgorithm.gene.Genotype;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Jun 12, 2010
  */
-public class ShortCircuitFitness extends AbstractFitness {
+public class ShortCircuitFitness extends AbstractFitness implements ProvisionalFitness, PrecomputedFitness, WrappedFitness {
 
+    private static final Counter PASSED = Metrics.getDefault().counter("shortcircuit.passed");
+    private static final Counter FAILED = Metrics.getDefault().counter("shortcircuit.failed");
     private final ProxyFitness _preFit;
     private final List<Double> _preThreshold;
     private final Fitness _postFit;
     private final int _postFitLen;
     private double _postScale = 1.0; // Amount to scale post fitness by
     final boolean _useThresholdAsLimit = true;
+    private boolean _counted = false; // Whether the outcome of the threshold test has been counted
 
     /**
      * Constructor
@@ -69,6 +74,10 @@ public class ShortCircuitFitness extends AbstractFitness {
                 }
             }
         }
+        if (!_counted) {
+            _counted = true;
+            (passedThreshold ? PASSED : FAILED).increment();
+        }
         return passedThreshold;
     }
 
@@ -127,6 +136,14 @@ public class ShortCircuitFitness extends AbstractFitness {
         return _postFit;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness#getFitness()
+     */
+    @Override
+    public Fitness getFitness() {
+        return getPostFitness(); // The post fitness function has the final say
+    }
+
     /**
      * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#totalFitness()
      */
@@ -146,6 +163,24 @@ public class ShortCircuitFitness extends AbstractFitness {
         return retval;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness#isProvisional()
+     */
+    @Override
+    public boolean isProvisional() {
+        return isProvisional(_preFit) || (passedThreshold() && isProvisional(_postFit));
+    }
+
+    /**
+     * Doesn't check the threshold (which would evaluate the pre-fitness), so an individual whose post-fitness would be
+     * skipped only counts if that was precomputed too
+     * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+     */
+    @Override
+    public boolean isPrecomputed() {
+        return isPrecomputed(_preFit) && isPrecomputed(_postFit);
+    }
+
     @Override
     public String toString() {
         return "{hash = " + hashCode() + "\n\tpre = " + _preFit + "\n\tthreshold = " + _preThreshold + "\n\tpost = " + _postFit
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+import edu.virginia.cs.common.concurrent.DaemonThreadFactory;
+
+/**
+ * FitnessEvaluator that deals submitted {@link Fitness} functions out to its workers' queues in turn. Each worker takes
+ * the oldest function from its own queue, and once that is empty steals the oldest from the longest queue of another
+ * worker. When functions are submitted longest first (see
+ * {@link edu.virginia.cs.geneticalgorithm.reproduction.Reproduction#setRuntimePredictor(edu.virginia.cs.geneticalgorithm.surrogate.RuntimePredictor)
+ * Reproduction.setRuntimePredictor}), every worker starts on a long evaluation, and whatever is left at the end of a
+ * generation goes, longest first, to whichever workers are free, rather than waiting behind a long evaluation.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class WorkStealingFitnessEvaluator extends AbstractFitnessEvaluator {
+
+    private final List<LinkedBlockingDeque<Runnable>> _queues;
+    private final Object _lock = new Object(); // Guards adding tasks and shutting down, and idle workers wait on it
+    private int _nextQueue = 0;
+    private int _numSteals = 0;
+    private boolean _shutdown = false;
+
+    /**
+     * Constructor
+     * @param numWorkers Maximum number of {@link Fitness} functions to evaluate at the same time
+     */
+    public WorkStealingFitnessEvaluator(final int numWorkers) {
+        if (numWorkers < 1) throw new IllegalArgumentException("Number of workers must be positive");
+        _queues = new ArrayList<LinkedBlockingDeque<Runnable>>(numWorkers);
+        for (int i = 0; i < numWorkers; ++i) {
+            _queues.add(new LinkedBlockingDeque<Runnable>());
+        }
+        final ThreadFactory threadFactory = new DaemonThreadFactory("fitness");
+        for (int i = 0; i < numWorkers; ++i) {
+            final int worker = i;
+            threadFactory.newThread(new Runnable() {
+                @Override
+                public void run() {
+                    Runnable task;
+                    while ((task = takeTask(worker)) != null) {
+                        task.run();
+                    }
+                }
+            }).start();
+        }
+    }
+
+    /**
+     * @return Maximum number of {@link Fitness} functions evaluated at the same time
+     */
+    public int getNumWorkers() {
+        return _queues.size();
+    }
+
+    /**
+     * @return Number of tasks that a worker took from another worker's queue
+     */
+    public int getNumSteals() {
+        synchronized (_lock) {
+            return _numSteals;
+        }
+    }
+
+    /**
+     * @param worker Which worker is asking
+     * @return Next task for the worker, waiting for one if necessary (null once shut down with nothing left to do)
+     */
+    private Runnable takeTask(final int worker) {
+        while (true) {
+            final Runnable own = _queues.get(worker).pollFirst();
+            if (own != null) return own;
+            final Runnable stolen = steal(worker);
+            if (stolen != null) return stolen;
+            synchronized (_lock) {
+                // Tasks are only added while holding the lock, so none can be missed between checking and waiting
+                if (!allEmpty()) continue;
+                if (_shutdown) return null;
+                try {
+                    _lock.wait();
+                }
+                catch (final InterruptedException e) {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param worker Which worker is stealing
+     * @return Oldest task of the other worker with the most tasks (null if the others have none)
+     */
+    private Runnable steal(final int worker) {
+        while (true) {
+            LinkedBlockingDeque<Runnable> victim = null;
+            for (int i = 1; i < _queues.size(); ++i) {
+                final LinkedBlockingDeque<Runnable> queue = _queues.get((worker + i) % _queues.size());
+                if (!queue.isEmpty() && (victim == null || queue.size() > victim.size())) {
+                    victim = queue;
+                }
+            }
+            if (victim == null) return null;
+            final Runnable retval = victim.pollFirst();
+            if (retval != null) {
+                synchronized (_lock) {
+                    ++_numSteals;
+                }
+                return retval;
+            }
+            // Another worker emptied the victim's queue first, so look again
+        }
+    }
+
+    private boolean allEmpty() {
+        for (final LinkedBlockingDeque<Runnable> queue : _queues) {
+            if (!queue.isEmpty()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#submit(edu.virginia.cs.geneticalgorithm.fitness.Fitness)
+     */
+    @Override
+    public Future<FitnessEvaluation> submit(final Fitness fitness) {
+        final FutureTask<FitnessEvaluation> retval = new FutureTask<FitnessEvaluation>(new EvaluationTask(fitness));
+        execute(retval);
+        return retval;
+    }
+
+    /**
+     * Adds the task to the next worker's queue in turn
+     * @see edu.virginia.cs.geneticalgorithm.fitness.AbstractFitnessEvaluator#execute(java.lang.Runnable)
+     */
+    @Override
+    protected void execute(final Runnable task) {
+        synchronized (_lock) {
+            if (_shutdown) throw new RejectedExecutionException("Evaluator has been shut down");
+            _queues.get(_nextQueue).addLast(task);
+            _nextQueue = (_nextQueue + 1) % _queues.size();
+            _lock.notifyAll();
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator#shutdown()
+     */
+    @Override
+    public void shutdown() {
+        synchronized (_lock) {
+            _shutdown = true;
+            _lock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+/**
+ * Interface for fitness functions that wrap another fitness function, which has the final say on an individual
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface WrappedFitness extends Fitness {
+
+    /**
+     * @return Wrapped fitness function
+     */
+    public Fitness getFitness();
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.gene;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import edu.virginia.cs.common.utils.HashUtils;
+import edu.virginia.cs.common.utils.MathUtils;
+
+/**
+ * {@link Genotype} of {@link IntervalGene IntervalGenes} stored as a packed array of values. The standard deviations
+ * used for mutation are shared (not copied) between an individual and its clones, so cloning and mutating a
+ * DoubleArrayGenotype allocates only a single array. {@link Gene} objects are only created when requested through the
+ * {@link Genotype} interface; mutators and crossovers that know about this class work on the values directly.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DoubleArrayGenotype implements Genotype {
+
+    private final double[] _values;
+    private final double[] _sigmas;
+    private int _hash = 0; // Zero until calculated (as with String.hashCode)
+
+    /**
+     * Constructor
+     * @param values Internal values of the genes (copied)
+     * @param sigmas Standard deviations to use when mutating each gene (shared, so must not be modified afterwards)
+     */
+    public DoubleArrayGenotype(final double[] values, final double[] sigmas) {
+        if (values.length != sigmas.length)
+            throw new IllegalArgumentException("Number of values (" + values.length + ") and standard deviations ("
+                                               + sigmas.length + ") must match");
+        _values = values.clone();
+        _sigmas = sigmas;
+    }
+
+    /**
+     * Constructor generating genes the same way that {@link IntervalGene#generate(Random)} does (uniformly distributed,
+     * unless the standard deviation is zero, in which case the value is 0.5)
+     * @param sigmas Standard deviations to use when mutating each gene (shared, so must not be modified afterwards)
+     * @param rng Random number generator used for generating initial values
+     */
+    public DoubleArrayGenotype(final double[] sigmas, final Random rng) {
+        _values = new double[sigmas.length];
+        _sigmas = sigmas;
+        for (int i = 0; i < _values.length; ++i) {
+            _values[i] = (sigmas[i] == 0) ? 0.5 : rng.nextDouble();
+        }
+    }
+
+    /**
+     * Copy constructor
+     * @param c DoubleArrayGenotype to copy
+     */
+    public DoubleArrayGenotype(final DoubleArrayGenotype c) {
+        _values = c._values.clone();
+        _sigmas = c._sigmas;
+        _hash = c._hash;
+    }
+
+    /**
+     * @param i Position of the gene
+     * @return Value of the gene, bounded to [0,1] (see {@link IntervalGene#getValue()})
+     */
+    public double getValue(final int i) {
+        return MathUtils.imposeBounds(0.0, _values[i], 1.0);
+    }
+
+    /**
+     * @param i Position of the gene
+     * @return Internal value of the gene, which may lie outside [0,1]
+     */
+    public double getRawValue(final int i) {
+        return _values[i];
+    }
+
+    /**
+     * @param i Position of the gene
+     * @param value New internal value of the gene
+     */
+    public void setRawValue(final int i, final double value) {
+        _values[i] = value;
+        _hash = 0;
+    }
+
+    /**
+     * @param i Position of the gene
+     * @return Standard deviation to use when mutating the gene
+     */
+    public double getSigma(final int i) {
+        return _sigmas[i];
+    }
+
+    /**
+     * Sets the value of a gene. The standard deviation of g is ignored, since standard deviations are shared.
+     * @see edu.virginia.cs.geneticalgorithm.gene.Genotype#setGene(int, edu.virginia.cs.geneticalgorithm.gene.Gene)
+     */
+    @Override
+    public void setGene(final int i, final Gene g) {
+        if (!(g instanceof IntervalGene)) throw new IllegalArgumentException("Genes must be IntervalGenes");
+        setRawValue(i, ((IntervalGene) g).getRawValue());
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.gene.Genotype#getGene(int)
+     */
+    @Override
+    public Gene getGene(final int i) {
+        return new IntervalGene(_values[i], _sigmas[i]);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.gene.Genotype#getNumGenes()
+     */
+    @Override
+    public int getNumGenes() {
+        return _values.length;
+    }
+
+    /**
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    public Iterator<Gene> iterator() {
+        return new Iterator<Gene>() {
+            private int _next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return _next < _values.length;
+            }
+
+            @Override
+            public Gene next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return getGene(_next++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException("Genes cannot be removed from a DoubleArrayGenotype");
+            }
+        };
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.gene.Genotype#clone()
+     */
+    @Override
+    public DoubleArrayGenotype clone() {
+        return new DoubleArrayGenotype(this);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (o == this) return true;
+        if (o == null || !(o.getClass().equals(getClass()))) return false;
+        final DoubleArrayGenotype dag = (DoubleArrayGenotype) o;
+        return hashCode() == dag.hashCode() && Arrays.equals(_values, dag._values);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = _hash;
+        if (result == 0) {
+            result = HashUtils.SEED;
+            for (final double d : _values) {
+                result = HashUtils.hash(result, d);
+            }
+            _hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Orders genotypes the same way that {@link StandardGenotype StandardGenotypes} of {@link IntervalGene
+     * IntervalGenes} are ordered
+     * @see java.lang.Comparable#compareTo(java.lang.Object)
+     */
+    @Override
+    public int compareTo(final Genotype g) {
+        if (!(g instanceof DoubleArrayGenotype)) throw new IllegalArgumentException("Genotypes must be of the same type");
+        final double[] other = ((DoubleArrayGenotype) g)._values;
+        final int numCommon = Math.min(_values.length, other.length);
+        for (int i = 0; i < numCommon; ++i) {
+            final int result = (int) Math.signum(_values[i] - other[i]);
+            if (result != 0) return result;
+        }
+        return _values.length - other.length;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < _values.length; ++i) {
+            if (i > 0) sb.append(", ");
+            sb.append(getGene(i));
+        }
+        sb.append("]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.gene;
+
+/**
+ * Set of {@link Genotype Genotypes} for rejecting duplicates. Each genotype is reduced to a 64-bit fingerprint read
+ * straight from its gene values (without the reflection and boxing of {@link Genotype#hashCode()}), and fingerprints are
+ * kept in an open-addressing table, so a lookup is usually a single probe. Genotypes are only compared with
+ * {@link Genotype#equals(Object)} when their fingerprints match, so distinct genotypes that happen to share a
+ * fingerprint are still told apart.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class GenotypeIndex {
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private long[] _fingerprints;
+    private Genotype[] _genotypes; // null marks an empty slot
+    private int _size = 0;
+
+    /**
+     * @param expectedSize Number of genotypes expected to be added (the index grows if more are)
+     */
+    public GenotypeIndex(final int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("Expected size cannot be negative");
+        allocate(Math.max(16, Integer.highestOneBit(Math.max(1, expectedSize)) << 2)); // Kept at most half full
+    }
+
+    private void allocate(final int capacity) {
+        _fingerprints = new long[capacity];
+        _genotypes = new Genotype[capacity];
+    }
+
+    /**
+     * @param g Genotype to add
+     * @return Whether g was added (false if an equal genotype was already in the index)
+     */
+    public boolean add(final Genotype g) {
+        final long fingerprint = fingerprint(g);
+        final int mask = _genotypes.length - 1;
+        int slot = (int) fingerprint & mask;
+        while (_genotypes[slot] != null) {
+            if (_fingerprints[slot] == fingerprint && _genotypes[slot].equals(g)) return false;
+            slot = (slot + 1) & mask;
+        }
+        _fingerprints[slot] = fingerprint;
+        _genotypes[slot] = g;
+        if (++_size * 2 > _genotypes.length) {
+            grow();
+        }
+        return true;
+    }
+
+    /**
+     * @param g Genotype to look for
+     * @return Whether a genotype equal to g is in the index
+     */
+    public boolean contains(final Genotype g) {
+        final long fingerprint = fingerprint(g);
+        final int mask = _genotypes.length - 1;
+        for (int slot = (int) fingerprint & mask; _genotypes[slot] != null; slot = (slot + 1) & mask) {
+            if (_fingerprints[slot] == fingerprint && _genotypes[slot].equals(g)) return true;
+        }
+        return false;
+    }
+
+    private void grow() {
+        final long[] fingerprints = _fingerprints;
+        final Genotype[] genotypes = _genotypes;
+        allocate(genotypes.length * 2);
+        final int mask = _genotypes.length - 1;
+        for (int i = 0; i < genotypes.length; ++i) {
+            if (genotypes[i] != null) {
+                int slot = (int) fingerprints[i] & mask;
+                while (_genotypes[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                _fingerprints[slot] = fingerprints[i];
+                _genotypes[slot] = genotypes[i];
+            }
+        }
+    }
+
+    /**
+     * @return Number of genotypes in the index
+     */
+    public int size() {
+        return _size;
+    }
+
+    /**
+     * Computes a fingerprint that is the same for any two genotypes that are equal. Values of
+     * {@link DoubleArrayGenotype DoubleArrayGenotypes} and {@link IntervalGene IntervalGenes} are read directly, and
+     * other genes contribute their hash codes.
+     * @param g Genotype to fingerprint
+     * @return 64-bit fingerprint of g
+     */
+    public static long fingerprint(final Genotype g) {
+        long retval = FNV_OFFSET;
+        if (g instanceof DoubleArrayGenotype) {
+            final DoubleArrayGenotype dag = (DoubleArrayGenotype) g;
+            for (int i = 0; i < dag.getNumGenes(); ++i) {
+                // Same bits that Arrays.equals compares
+                retval = (retval ^ Double.doubleToLongBits(dag.getRawValue(i))) * FNV_PRIME;
+            }
+        }
+        else {
+            for (int i = 0; i < g.getNumGenes(); ++i) {
+                final Gene gene = g.getGene(i);
+                final long bits;
+                if (gene instanceof IntervalGene) {
+                    final double value = ((IntervalGene) gene).getRawValue();
+                    bits = value == 0 ? 0 : Double.doubleToLongBits(value); // 0.0 and -0.0 are equal genes
+                }
+                else {
+                    bits = gene == null ? 0 : gene.hashCode();
+                }
+                retval = (retval ^ bits) * FNV_PRIME;
+            }
+        }
+        // Spreads every bit into the low bits used for choosing slots (MurmurHash3's finalizer)
+        retval ^= retval >>> 33;
+        retval *= 0xff51afd7ed558ccdL;
+        retval ^= retval >>> 33;
+        retval *= 0xc4ceb9fe1a85ec53L;
+        retval ^= retval >>> 33;
+        return retval;
+    }
+}
@@ -86,6 +86,20 @@ public class IntervalGene implements Gene {
         return MathUtils.imposeBounds(0.0, _value, 1.0);
     }
 
+    /**
+     * @return Internal value of this gene, which may lie outside [0,1] (see {@link #getValue()})
+     */
+    public double getRawValue() {
+        return _value;
+    }
+
+    /**
+     * @return Standard deviation to use when mutating the {@link Gene}
+     */
+    public double getSigma() {
+        return _sigma;
+    }
+
     /**
      * @see java.lang.Object#hashCode()
      */
@@ -4,9 +4,11 @@
 package edu.virginia.cs.geneticalgorithm.gene;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointableRandom;
 import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
 import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
 import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
@@ -43,7 +45,7 @@ public class IntervalGeneticFactory implements GeneticFactory {
      * from 0.5-1 are essentially the same as 1-x (where x is the value given).
      */
     public IntervalGeneticFactory(final long seed, final double mutateProb, final double xOverProb, final double geneXOverProb) {
-        this(seed, xOverProb, geneXOverProb, new StandardMutator(mutateProb, new Random(seed)));
+        this(seed, xOverProb, geneXOverProb, new StandardMutator(mutateProb, new CheckpointableRandom(seed)));
     }
 
     /**
@@ -55,7 +57,7 @@ public class IntervalGeneticFactory implements GeneticFactory {
      * @param mutator Mutator to use when reproducing
      */
     public IntervalGeneticFactory(final long seed, final double xOverProb, final double geneXOverProb, final Mutator mutator) {
-        _rng = new Random(seed);
+        _rng = new CheckpointableRandom(seed);
         _select = new StandardSelect(_rng);
         _mutator = mutator;
         _xOver = new UniformCrossover(_mutator, xOverProb, geneXOverProb, _rng);
@@ -100,6 +102,25 @@ public class IntervalGeneticFactory implements GeneticFactory {
         return population;
     }
 
+    /**
+     * Creates a population stored as {@link DoubleArrayGenotype DoubleArrayGenotypes}, which is far more compact than
+     * {@link #createPopulation(int, int, double)} for large populations. Given the same random number generator state,
+     * the individuals have the same gene values as those created by {@link #createPopulation(int, int, double)}.
+     * @param numIndividuals Number of individuals in the population
+     * @param genotypeLength Number of {@link Gene Genes} in each {@link Genotype}
+     * @param sigma standard deviation to use when mutating interval genes
+     * @return Population of {@link DoubleArrayGenotype DoubleArrayGenotypes}
+     */
+    public List<Genotype> createArrayPopulation(final int numIndividuals, final int genotypeLength, final double sigma) {
+        final List<Genotype> population = new ArrayList<Genotype>(numIndividuals);
+        final double[] sigmas = new double[genotypeLength];
+        Arrays.fill(sigmas, sigma);
+        for (int i = 0; i < numIndividuals; ++i) {
+            population.add(new DoubleArrayGenotype(sigmas, _rng));
+        }
+        return population;
+    }
+
     /**
      * @see edu.virginia.cs.geneticalgorithm.gene.GeneticFactory#createPopulation(int, int)
      */
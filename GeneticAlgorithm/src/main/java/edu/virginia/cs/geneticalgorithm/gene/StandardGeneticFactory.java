@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointableRandom;
 import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
 import edu.virginia.cs.geneticalgorithm.crossover.OnePointCrossover;
 import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
@@ -41,7 +42,7 @@ public final class StandardGeneticFactory implements GeneticFactory {
      * @param xOverProb Probability (0 to 1) that there will be any {@link Crossover Crossovers}
      */
     public StandardGeneticFactory(final long seed, final double mutateProb, final double xOverProb) {
-        _rng = new Random(seed);
+        _rng = new CheckpointableRandom(seed);
         _select = new StandardSelect(_rng);
         _mutator = new StandardMutator(mutateProb, _rng);
         _xOver = new OnePointCrossover(_mutator, xOverProb, _rng);
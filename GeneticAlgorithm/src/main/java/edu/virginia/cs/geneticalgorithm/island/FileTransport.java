@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * {@link MigrationTransport} between islands that may be in different processes (or, given a shared file system, on
+ * different nodes). Each island has a mailbox directory, and each group of migrants sent to it is a file in that
+ * directory. Files are written under a temporary name and then renamed, so that an island never reads a partly written
+ * group. Islands only ever write to each other's mailboxes, so there is nothing central to wait on.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FileTransport implements MigrationTransport {
+
+    private static final String MIGRANT_EXTENSION = ".mig";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private final File _directory;
+
+    /**
+     * @param directory Directory containing the islands' mailboxes (created if needed)
+     */
+    public FileTransport(final File directory) {
+        _directory = directory;
+    }
+
+    /**
+     * @param island Island (0-based)
+     * @return Directory to which migrants for island are sent
+     */
+    public File getMailbox(final int island) {
+        final File retval = new File(_directory, "island_" + island);
+        if (!retval.isDirectory() && !retval.mkdirs() && !retval.isDirectory())
+            throw new RuntimeException("Couldn't create mailbox " + retval);
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTransport#send(int, java.util.List)
+     */
+    @Override
+    public void send(final int destination, final List<Genotype> migrants) {
+        try {
+            final File mailbox = getMailbox(destination);
+            // A name unique among all senders, in the order the groups were sent (at least to the millisecond)
+            final File temp = File.createTempFile(String.format("%013d_", System.currentTimeMillis()), TEMP_EXTENSION,
+                                                  mailbox);
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)));
+            try {
+                CheckpointUtils.writeGenotypes(out, migrants);
+            }
+            finally {
+                out.close();
+            }
+            final String name = temp.getName();
+            final File target = new File(mailbox, name.substring(0, name.length() - TEMP_EXTENSION.length())
+                                                  + MIGRANT_EXTENSION);
+            if (!temp.renameTo(target)) {
+                temp.delete();
+                throw new IOException("Couldn't rename " + temp + " to " + target);
+            }
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reads (and deletes) every group of migrants in the island's mailbox. A group that can't be read is logged and
+     * skipped.
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTransport#receive(int)
+     */
+    @Override
+    public List<Genotype> receive(final int island) {
+        final List<Genotype> retval = new ArrayList<Genotype>();
+        final File[] files = getMailbox(island).listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(final File dir, final String name) {
+                return name.endsWith(MIGRANT_EXTENSION);
+            }
+        });
+        if (files == null) return retval;
+        Arrays.sort(files);
+        for (final File f : files) {
+            try {
+                final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(f)));
+                try {
+                    retval.addAll(CheckpointUtils.readGenotypes(in));
+                }
+                finally {
+                    in.close();
+                }
+            }
+            catch (final IOException e) {
+                Logger.getLogger(FileTransport.class.getName()).log(Level.WARNING, "Couldn't read migrants from " + f, e);
+            }
+            f.delete();
+        }
+        return retval;
+    }
+
+    @Override
+    public String toString() {
+        return "{directory = '" + _directory + "'}";
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@link MigrationTopology} in which each island sends its migrants to every other island
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FullyConnectedTopology implements MigrationTopology {
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTopology#getDestinations(int, int, java.util.Random)
+     */
+    @Override
+    public List<Integer> getDestinations(final int island, final int numIslands, final Random rng) {
+        final List<Integer> retval = new ArrayList<Integer>(numIslands - 1);
+        for (int i = 0; i < numIslands; ++i) {
+            if (i != island) {
+                retval.add(i);
+            }
+        }
+        return retval;
+    }
+
+    @Override
+    public String toString() {
+        return "fully connected";
+    }
+}
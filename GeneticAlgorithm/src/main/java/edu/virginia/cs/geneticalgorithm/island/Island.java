@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+import edu.virginia.cs.geneticalgorithm.select.Select;
+
+/**
+ * One population of an {@link IslandModel}, which evolves on its own (with its own {@link Reproduction} and random
+ * number generators) apart from the migrants it exchanges with other islands
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class Island {
+
+    private final int _id;
+    private final Reproduction _reproduction;
+    private final FitnessFactory _fitnessFactory;
+    private final Select _select;
+    private final Crossover _crossover;
+    private List<Genotype> _population;
+    private int _numEmigrants = 0;
+    private int _numImmigrants = 0;
+
+    /**
+     * @param id Which island this is (0-based)
+     * @param population Initial population
+     * @param reproduction How the population reproduces
+     * @param fitnessFactory {@link FitnessFactory} factory used to determine which members reproduce and how well
+     * @param select {@link Select} function used for selecting individuals to reproduce
+     * @param crossover {@link Crossover} function used for creating children from parent {@link Genotype Genotypes}
+     */
+    public Island(final int id, final List<Genotype> population, final Reproduction reproduction,
+                  final FitnessFactory fitnessFactory, final Select select, final Crossover crossover) {
+        if (id < 0) throw new IllegalArgumentException("Island ID cannot be negative");
+        _id = id;
+        _population = new ArrayList<Genotype>(population);
+        _reproduction = reproduction;
+        _fitnessFactory = fitnessFactory;
+        _select = select;
+        _crossover = crossover;
+    }
+
+    /**
+     * @return Which island this is (0-based)
+     */
+    public int getId() {
+        return _id;
+    }
+
+    /**
+     * @return How the population reproduces (and its history)
+     */
+    public Reproduction getReproduction() {
+        return _reproduction;
+    }
+
+    /**
+     * @return Current population
+     */
+    public List<Genotype> getPopulation() {
+        return _population;
+    }
+
+    /**
+     * Evaluates the current population and replaces it with the next generation
+     */
+    public void reproduce() {
+        _population = _reproduction.reproduce(_population, _fitnessFactory, _select, _crossover);
+    }
+
+    /**
+     * @param numEmigrants Number of individuals to emigrate
+     * @return Copies of the fittest individuals of the most recently evaluated generation, fittest first (empty if no
+     *         generation has been evaluated)
+     */
+    public List<Genotype> getEmigrants(final int numEmigrants) {
+        final List<Genotype> retval = new ArrayList<Genotype>();
+        final Distribution lastGeneration = _reproduction.getLastGeneration();
+        if (lastGeneration != null) {
+            for (int i = 0; i < Math.min(numEmigrants, lastGeneration.size()); ++i) {
+                retval.add(lastGeneration.getGenotype(i).clone());
+            }
+            _numEmigrants += retval.size();
+        }
+        return retval;
+    }
+
+    /**
+     * Replaces the last members of the current population (bred children, rather than the elites, which
+     * {@link Reproduction#reproduce(List, FitnessFactory, Select, Crossover)} puts first) with immigrants. Immigrants
+     * already in the population are ignored, as are any more than would leave room for the elites.
+     * @param immigrants Individuals arriving from other islands
+     */
+    public void immigrate(final List<Genotype> immigrants) {
+        final Set<Genotype> present = new HashSet<Genotype>(_population);
+        int next = _population.size() - 1;
+        for (final Genotype immigrant : immigrants) {
+            if (next < _reproduction.getLastNumElites()) break;
+            if (present.add(immigrant)) {
+                _population.set(next--, immigrant);
+                ++_numImmigrants;
+            }
+        }
+    }
+
+    /**
+     * @return Number of individuals that have emigrated from this island
+     */
+    public int getNumEmigrants() {
+        return _numEmigrants;
+    }
+
+    /**
+     * @return Number of immigrants that have joined this island's population
+     */
+    public int getNumImmigrants() {
+        return _numImmigrants;
+    }
+
+    @Override
+    public String toString() {
+        return "{id = " + _id + ", population = " + _population.size() + ", emigrants = " + _numEmigrants
+               + ", immigrants = " + _numImmigrants + "}";
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import edu.virginia.cs.common.concurrent.DaemonThreadFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Evolves several {@link Island islands}, each of which sends copies of its fittest individuals to other islands (as
+ * chosen by a {@link MigrationTopology}) every so many generations. The islands may all be in this JVM, each on its own
+ * thread, or spread across processes, with each process running some of them; either way they exchange migrants through
+ * a {@link MigrationTransport}. Islands never wait for each other: migrants are taken in at the start of whichever
+ * generation follows their arrival.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class IslandModel {
+
+    private final int _numIslands;
+    private final MigrationTopology _topology;
+    private final MigrationTransport _transport;
+    private final long _seed;
+    private int _migrationInterval = 5;
+    private int _numMigrants = 2;
+    private Runnable _generationAction = null;
+    // Number of islands (run by this process) that have finished each generation that not all of them have
+    private final Map<Integer, Integer> _numFinished = new HashMap<Integer, Integer>();
+
+    /**
+     * @param numIslands Total number of islands (including any run by other processes)
+     * @param topology Which islands each island sends its migrants to
+     * @param transport How migrants get from one island to another
+     * @param seed Random seed used to choose destinations (combined with each island's ID)
+     */
+    public IslandModel(final int numIslands, final MigrationTopology topology, final MigrationTransport transport,
+                       final long seed) {
+        if (numIslands < 1) throw new IllegalArgumentException("Number of islands must be positive");
+        _numIslands = numIslands;
+        _topology = topology;
+        _transport = transport;
+        _seed = seed;
+    }
+
+    /**
+     * @param migrationInterval Number of generations between migrations
+     */
+    public void setMigrationInterval(final int migrationInterval) {
+        if (migrationInterval < 1) throw new IllegalArgumentException("Migration interval must be positive");
+        _migrationInterval = migrationInterval;
+    }
+
+    /**
+     * @return Number of generations between migrations
+     */
+    public int getMigrationInterval() {
+        return _migrationInterval;
+    }
+
+    /**
+     * @param numMigrants Number of individuals (the fittest) each island sends to each of its destinations
+     */
+    public void setNumMigrants(final int numMigrants) {
+        if (numMigrants < 0) throw new IllegalArgumentException("Number of migrants cannot be negative");
+        _numMigrants = numMigrants;
+    }
+
+    /**
+     * @return Number of individuals (the fittest) each island sends to each of its destinations
+     */
+    public int getNumMigrants() {
+        return _numMigrants;
+    }
+
+    /**
+     * @param generationAction Action to run each time every island run by this process has finished another generation
+     *            (run by the last of them to finish it), or null to skip
+     */
+    public void setGenerationAction(final Runnable generationAction) {
+        _generationAction = generationAction;
+    }
+
+    /**
+     * @return Total number of islands (including any run by other processes)
+     */
+    public int getNumIslands() {
+        return _numIslands;
+    }
+
+    /**
+     * Evolves islands, each on its own thread, until each has run the specified number of generations
+     * @param islands Islands run by this process
+     * @param numGenerations Number of generations each island runs
+     */
+    public void run(final List<Island> islands, final int numGenerations) {
+        for (final Island island : islands) {
+            if (island.getId() >= _numIslands)
+                throw new IllegalArgumentException("Island " + island.getId() + " is not one of the " + _numIslands
+                                                   + " islands");
+        }
+        if (islands.size() == 1) {
+            run(islands.get(0), numGenerations);
+            return;
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(islands.size(), new DaemonThreadFactory("island"));
+        try {
+            final List<Future<?>> futures = new ArrayList<Future<?>>(islands.size());
+            for (final Island island : islands) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        runIsland(island, numGenerations, islands.size());
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                }
+                catch (final ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                    if (e.getCause() instanceof Error) throw (Error) e.getCause();
+                    throw new RuntimeException(e.getCause());
+                }
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Evolves a single island on the calling thread
+     * @param island Island to evolve
+     * @param numGenerations Number of generations to run
+     */
+    public void run(final Island island, final int numGenerations) {
+        runIsland(island, numGenerations, 1);
+    }
+
+    private void runIsland(final Island island, final int numGenerations, final int numLocalIslands) {
+        final Random rng = new Random(_seed * 31 + island.getId());
+        for (int generation = 1; generation <= numGenerations; ++generation) {
+            island.reproduce();
+            if (generation % _migrationInterval == 0 && _numMigrants > 0) {
+                final List<Genotype> emigrants = island.getEmigrants(_numMigrants);
+                for (final int destination : _topology.getDestinations(island.getId(), _numIslands, rng)) {
+                    _transport.send(destination, emigrants);
+                }
+            }
+            island.immigrate(_transport.receive(island.getId()));
+            finishedGeneration(generation, numLocalIslands);
+        }
+    }
+
+    private void finishedGeneration(final int generation, final int numLocalIslands) {
+        if (_generationAction == null) return;
+        synchronized (_numFinished) {
+            final Integer previous = _numFinished.get(generation);
+            final int numFinished = (previous == null) ? 1 : previous + 1;
+            if (numFinished < numLocalIslands) {
+                _numFinished.put(generation, numFinished);
+                return;
+            }
+            _numFinished.remove(generation);
+            _generationAction.run();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "{islands = " + _numIslands + ", topology = " + _topology + ", transport = " + _transport
+               + ", interval = " + _migrationInterval + ", migrants = " + _numMigrants + "}";
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Interface for classes that decide which islands of an {@link IslandModel} an island sends its migrants to
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface MigrationTopology {
+
+    /**
+     * @param island Island sending migrants (0-based)
+     * @param numIslands Total number of islands
+     * @param rng Random number generator (for topologies that change from one migration to the next)
+     * @return Islands to send migrants to (never including island itself)
+     */
+    public List<Integer> getDestinations(int island, int numIslands, Random rng);
+}
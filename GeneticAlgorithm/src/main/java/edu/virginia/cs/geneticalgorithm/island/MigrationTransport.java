@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.List;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Interface for classes that carry migrating {@link Genotype Genotypes} between the islands of an {@link IslandModel}.
+ * Sending never waits for the destination island, and receiving never waits for migrants to arrive, so that no island
+ * holds up any other.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface MigrationTransport {
+
+    /**
+     * @param destination Island to send the migrants to
+     * @param migrants {@link Genotype Genotypes} to send
+     */
+    public void send(int destination, List<Genotype> migrants);
+
+    /**
+     * @param island Island receiving migrants
+     * @return Every {@link Genotype} sent to island since it last received any, in the order they arrived (empty if
+     *         none have arrived)
+     */
+    public List<Genotype> receive(int island);
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * {@link MigrationTransport} between islands in the same JVM, with a queue for each island
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class QueueTransport implements MigrationTransport {
+
+    private final List<ConcurrentLinkedQueue<Genotype>> _queues;
+
+    /**
+     * @param numIslands Number of islands that migrants may be sent to
+     */
+    public QueueTransport(final int numIslands) {
+        _queues = new ArrayList<ConcurrentLinkedQueue<Genotype>>(numIslands);
+        for (int i = 0; i < numIslands; ++i) {
+            _queues.add(new ConcurrentLinkedQueue<Genotype>());
+        }
+    }
+
+    /**
+     * Sends copies of the migrants, so that they can't be changed by either island once they have been sent
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTransport#send(int, java.util.List)
+     */
+    @Override
+    public void send(final int destination, final List<Genotype> migrants) {
+        final ConcurrentLinkedQueue<Genotype> queue = _queues.get(destination);
+        for (final Genotype migrant : migrants) {
+            queue.add(migrant.clone());
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTransport#receive(int)
+     */
+    @Override
+    public List<Genotype> receive(final int island) {
+        final ConcurrentLinkedQueue<Genotype> queue = _queues.get(island);
+        final List<Genotype> retval = new ArrayList<Genotype>();
+        Genotype migrant;
+        while ((migrant = queue.poll()) != null) {
+            retval.add(migrant);
+        }
+        return retval;
+    }
+}
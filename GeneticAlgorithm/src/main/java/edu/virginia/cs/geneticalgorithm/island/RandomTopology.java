@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@link MigrationTopology} in which each island sends its migrants to a different random selection of other islands
+ * each time
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class RandomTopology implements MigrationTopology {
+
+    private final int _numDestinations;
+
+    /**
+     * @param numDestinations Number of islands to send migrants to each time (or as many as there are, if fewer)
+     */
+    public RandomTopology(final int numDestinations) {
+        if (numDestinations < 1) throw new IllegalArgumentException("Number of destinations must be positive");
+        _numDestinations = numDestinations;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTopology#getDestinations(int, int, java.util.Random)
+     */
+    @Override
+    public List<Integer> getDestinations(final int island, final int numIslands, final Random rng) {
+        final List<Integer> others = new FullyConnectedTopology().getDestinations(island, numIslands, rng);
+        Collections.shuffle(others, rng);
+        return new ArrayList<Integer>(others.subList(0, Math.min(_numDestinations, others.size())));
+    }
+
+    @Override
+    public String toString() {
+        return "random (" + _numDestinations + ")";
+    }
+}
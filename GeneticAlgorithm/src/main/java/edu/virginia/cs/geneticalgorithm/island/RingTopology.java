@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@link MigrationTopology} in which each island sends its migrants to the next island, with the last island sending
+ * them to the first
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class RingTopology implements MigrationTopology {
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.island.MigrationTopology#getDestinations(int, int, java.util.Random)
+     */
+    @Override
+    public List<Integer> getDestinations(final int island, final int numIslands, final Random rng) {
+        if (numIslands < 2) return Collections.emptyList();
+        return Collections.singletonList((island + 1) % numIslands);
+    }
+
+    @Override
+    public String toString() {
+        return "ring";
+    }
+}
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.mutator;
+
+import edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype;
+
+/**
+ * {@link Mutator} that can also mutate a {@link DoubleArrayGenotype} without copying it (e.g., when a crossover has
+ * just created the child)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface InPlaceMutator extends Mutator {
+
+    /**
+     * Mutates the genotype exactly as {@link Mutator#mutate(edu.virginia.cs.geneticalgorithm.gene.Genotype)} would,
+     * but modifies it rather than returning a mutated copy
+     * @param toMutate {@link DoubleArrayGenotype} to modify
+     */
+    void mutateInPlace(DoubleArrayGenotype toMutate);
+}
@@ -1,7 +1,13 @@
 package edu.virginia.cs.geneticalgorithm.mutator;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype;
 import edu.virginia.cs.geneticalgorithm.gene.Gene;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
@@ -11,7 +17,7 @@ import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 25, 2010
  */
-public final class IntervalMutator implements Mutator {
+public final class IntervalMutator implements InPlaceMutator, Checkpointable {
 
     private double _mutateRate;
     private double _mutateSigma;
@@ -64,6 +70,11 @@ public final class IntervalMutator implements Mutator {
      */
     @Override
     public Genotype mutate(final Genotype toMutate) {
+        if (toMutate instanceof DoubleArrayGenotype) {
+            final DoubleArrayGenotype retval = ((DoubleArrayGenotype) toMutate).clone();
+            mutateInPlace(retval);
+            return retval;
+        }
         final Genotype retval = toMutate.clone();
         for (int i = 0; i < toMutate.getNumGenes(); ++i) {
             if (_rng.nextDouble() < _mutateRate) {
@@ -80,4 +91,35 @@ public final class IntervalMutator implements Mutator {
         return retval;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.mutator.InPlaceMutator#mutateInPlace(edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype)
+     */
+    @Override
+    public void mutateInPlace(final DoubleArrayGenotype toMutate) {
+        for (int i = 0; i < toMutate.getNumGenes(); ++i) {
+            if (_rng.nextDouble() < _mutateRate) {
+                toMutate.setRawValue(i, toMutate.getRawValue(i) + _rng.nextGaussian() * _mutateSigma);
+            }
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        out.writeDouble(_mutateRate);
+        out.writeDouble(_mutateSigma);
+        CheckpointUtils.writeRandom(out, _rng);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        _mutateRate = in.readDouble();
+        _mutateSigma = in.readDouble();
+        CheckpointUtils.readRandom(in, _rng);
+    }
 }
\ No newline at end of file
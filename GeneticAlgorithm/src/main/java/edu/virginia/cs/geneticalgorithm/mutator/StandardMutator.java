@@ -1,7 +1,12 @@
 package edu.virginia.cs.geneticalgorithm.mutator;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.gene.Gene;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 
@@ -10,7 +15,7 @@ import edu.virginia.cs.geneticalgorithm.gene.Genotype;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 25, 2010
  */
-public final class StandardMutator implements Mutator {
+public final class StandardMutator implements Mutator, Checkpointable {
 
     private final Random _rng;
     private double _mutateRate;
@@ -55,4 +60,21 @@ public final class StandardMutator implements Mutator {
         return retval;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        out.writeDouble(_mutateRate);
+        CheckpointUtils.writeRandom(out, _rng);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        _mutateRate = in.readDouble();
+        CheckpointUtils.readRandom(in, _rng);
+    }
 }
\ No newline at end of file
@@ -3,31 +3,48 @@
  */
 package edu.virginia.cs.geneticalgorithm.reproduction;
 
-import edu.virginia.cs.common.utils.OrderedPair;
-import edu.virginia.cs.common.utils.Pair;
 import java.io.BufferedReader;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.PrintStream;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashSet;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.Semaphore;
 
+import edu.virginia.cs.common.metrics.Counter;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
 import edu.virginia.cs.common.utils.UnorderedPair;
 import edu.virginia.cs.data.History;
+import edu.virginia.cs.data.ListHistory;
+import edu.virginia.cs.data.NullHistory;
+import edu.virginia.cs.data.SpillingHistory;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
 import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
 import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator;
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluation;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator;
 import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
-import edu.virginia.cs.geneticalgorithm.fitness.ShortCircuitFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.SerialFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness;
+import edu.virginia.cs.geneticalgorithm.gene.GeneticFactory;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.GenotypeIndex;
 import edu.virginia.cs.geneticalgorithm.select.Select;
+import edu.virginia.cs.geneticalgorithm.select.SelectionSession;
+import edu.virginia.cs.geneticalgorithm.select.SessionSelect;
+import edu.virginia.cs.geneticalgorithm.surrogate.RuntimePredictor;
 import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetTraceFitness;
 import java.io.IOException;
 import java.io.InputStreamReader;
@@ -40,15 +57,37 @@ import java.util.logging.Logger;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 24, 2010
  */
-public final class Reproduction {
+public final class Reproduction implements Checkpointable {
 
+    private static final Timer GENERATION_TIMER = Metrics.getDefault().timer("reproduction.generation");
+    private static final Timer PREPARE_TIMER = Metrics.getDefault().timer("reproduction.prepare");
+    private static final Timer END_PREPARE_TIMER = Metrics.getDefault().timer("reproduction.endPrepare");
+    private static final Timer EVALUATE_TIMER = Metrics.getDefault().timer("reproduction.evaluate");
+    private static final Timer EVALUATION_TIMER = Metrics.getDefault().timer("fitness.evaluation");
+    private static final Timer HISTORY_TIMER = Metrics.getDefault().timer("reproduction.history");
+    private static final Timer SELECT_TIMER = Metrics.getDefault().timer("reproduction.select");
+    private static final Timer CROSSOVER_TIMER = Metrics.getDefault().timer("reproduction.crossover");
+    private static final Counter OFFSPRING = Metrics.getDefault().counter("reproduction.offspring");
+    private static final Counter DUPLICATES = Metrics.getDefault().counter("reproduction.duplicates");
+    private static final Counter IMMIGRANTS = Metrics.getDefault().counter("reproduction.immigrants");
+    private static final long NANOS_PER_MILLI = 1000000;
+    /**
+     * Number of offspring bred (or immigrants created) for each member of the next generation before duplicates are
+     * allowed
+     */
+    public static final int MAX_ATTEMPTS_PER_INDIVIDUAL = 100;
+    /**
+     * Number of offspring bred before the duplicate rate is compared with the maximum
+     */
+    private static final int MIN_DUPLICATE_SAMPLE = 20;
     private final boolean _allowDuplicates;
     private final boolean _keepAllHistory;
     private History<Distribution> _history;
     private final List<List<Double>> _bestFits = new ArrayList<List<Double>>();
     private final List<Double> _meanFits = new ArrayList<Double>();
-    private final List<Distribution> _popHist = new ArrayList<Distribution>();
+    private Distribution _lastGeneration = null;
     private int _numElites = 0;
+    private int _lastNumElites = 0; // At the start of the most recent new generation
     private int _currentGeneration = 0;
     private File _endPrepareAction = null;
 
@@ -56,14 +95,31 @@ public final class Reproduction {
      * DEBUG_LEVEL controls detail of messages to standard out (0 is quiet)
      */
     public static int DEBUG_LEVEL = 1;
-    private static Semaphore _monitor = new Semaphore(1);
+    private static int _numProcesses = 1;
+    private FitnessEvaluator _fitnessEvaluator = null;
+    private RuntimePredictor _runtimePredictor = null;
+    private GeneticFactory _immigrantFactory = null;
+    private double _maxDuplicateRate = 0.5;
+    private double _lastDuplicateRate = 0;
+    private int _lastNumImmigrants = 0;
+    private long _lastMakespan = 0;
+    private long _lastTotalWork = 0;
 
     /**
-     * Sets the number of concurrent processes to allow from this class
+     * Sets the number of concurrent processes to allow from this class. Only affects instances that have not yet created
+     * their {@link FitnessEvaluator}.
      * @param numProcesses Number of concurrent processes to allow from this class
      */
     public static void SetNumProcesses(final int numProcesses) {
-        _monitor = new Semaphore(numProcesses);
+        if (numProcesses < 1) throw new IllegalArgumentException("Number of processes must be positive");
+        _numProcesses = numProcesses;
+    }
+
+    /**
+     * @return Number of concurrent processes to allow from this class
+     */
+    public static int GetNumProcesses() {
+        return _numProcesses;
     }
 
     /**
@@ -74,6 +130,7 @@ public final class Reproduction {
     public Reproduction(final boolean allowDuplicates, final boolean keepAllHistory) {
         _allowDuplicates = allowDuplicates;
         _keepAllHistory = keepAllHistory;
+        _history = keepAllHistory ? new ListHistory<Distribution>() : new NullHistory<Distribution>();
     }
 
     /**
@@ -82,7 +139,7 @@ public final class Reproduction {
      * @param fitFactory {@link FitnessFactory} factory used to determine which members reproduce and how well
      * @param selFn {@link Select} function used for selecting individuals to reproduce
      * @param xFn {@link Crossover} function used for creating children from parent {@link Genotype Genotypes}
-     * @return The new generation
+     * @return The new generation, starting with the elites (see {@link #getLastNumElites()})
      */
     public List<Genotype> reproduce(final List<Genotype> population, final FitnessFactory fitFactory, final Select selFn,
                                     final Crossover xFn) {
@@ -90,16 +147,20 @@ public final class Reproduction {
     }
 
     /**
-     * Uses an existing population to find the next generation of the population.
+     * Uses an existing population to find the next generation of the population. The new generation starts with the
+     * elites (copies of the fittest members of the current generation, fittest first), followed by the offspring and
+     * any immigrants, so that callers (such as an island taking in migrants) can replace offspring without losing
+     * elites.
      * @param population Current generation ({@link java.util.List List} of {@link Genotype Genotypes}).
      * @param newPopSize Population size of the new population (allows the population to shrink or grow).
      * @param fitFactory {@link Fitness} function used to determine which members reproduce and how well
      * @param selFn {@link Select} function used for selecting individuals to reproduce
      * @param xFn {@link Crossover} function used for creating children from parent {@link Genotype Genotypes}
-     * @return The new generation
+     * @return The new generation, whose first {@link #getLastNumElites()} members are the elites
      */
     public List<Genotype> reproduce(final List<Genotype> population, final int newPopSize, final FitnessFactory fitFactory,
                                     final Select selFn, final Crossover xFn) {
+        final long generationStart = GENERATION_TIMER.start();
         ++_currentGeneration;
         double totalFit = 0;
         double bestFit = 0; // Best is maximal, and all fitness values need to be positive
@@ -108,65 +169,32 @@ public final class Reproduction {
         int ctr = 0;
         String bestDesc = "";
         if (DEBUG_LEVEL == 1) System.out.print("Evaluating individual:");
-        List<Pair<Genotype, Fitness>> fitnesses = new ArrayList<Pair<Genotype, Fitness>>();
+        long start = PREPARE_TIMER.start();
+        final List<Fitness> fitnesses = new ArrayList<Fitness>(population.size());
         for (final Genotype i : population) {
             final Fitness fitFn = fitFactory.createFitness(i);
-            fitnesses.add(new OrderedPair<Genotype, Fitness>(i, fitFn));
+            fitnesses.add(fitFn);
             fitFn.prepare();
         }
+        PREPARE_TIMER.stop(start);
+        start = END_PREPARE_TIMER.start();
         endPrepare();
-        for (final Pair<Genotype, Fitness> pair : fitnesses) {
+        END_PREPARE_TIMER.stop(start);
+        // Evaluations may finish in any order, but they are gathered in population order so statistics match a serial run
+        start = EVALUATE_TIMER.start();
+        final List<FitnessEvaluation> evaluations = evaluate(population, fitnesses);
+        EVALUATE_TIMER.stop(start);
+        for (int idx = 0; idx < evaluations.size(); ++idx) {
             if (DEBUG_LEVEL > 1) System.out.println("Finding fitness of individual #" + ++ctr);
             if (DEBUG_LEVEL == 1) System.out.print(" " + ++ctr);
-            try {
-                _monitor.acquire();
-            }
-            catch (final InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-            final Genotype i = pair.getFirst();
-            final Fitness fitFn = pair.getLast();
-            final List<Double> fitList = fitFn.fitnessValues();
-            final double fit = fitFn.totalFitness();
-            // TODO: Fix this hack
-            Fitness workingFitFn = fitFn;
-            if (workingFitFn instanceof ShortCircuitFitness) {
-                workingFitFn = ((ShortCircuitFitness) workingFitFn).getPostFitness();
-            }
-            if (workingFitFn instanceof NeuroJetTraceFitness) {
-                try {
-                    final File workingDir = ((NeuroJetTraceFitness) workingFitFn).getWorkingDir();
-                    final File generationFile = new File(workingDir, "generations.dat");
-                    final StringBuilder priorGenerations = new StringBuilder();
-                    boolean alreadyAccountedFor = false;
-                    if (generationFile.exists()) {
-                        final BufferedReader reader = new BufferedReader(new FileReader(generationFile));
-                        final String line = reader.readLine();
-                        priorGenerations.append(line);
-                        final String[] generations = priorGenerations.toString().split(" ");
-                        alreadyAccountedFor = Arrays.asList(generations).contains(String.valueOf(_currentGeneration));
-                        if (!alreadyAccountedFor) {
-                            priorGenerations.append(" ");
-                        }
-                        reader.close();
-                    }
-                    if (!alreadyAccountedFor) {
-                        priorGenerations.append(String.valueOf(_currentGeneration));
-                        PrintStream out = null;
-                        try {
-                            out = new PrintStream(new FileOutputStream(generationFile));
-                            out.println(priorGenerations.toString());
-                        }
-                        finally {
-                            out.close();
-                        }
-                    }
-                }
-                catch (final Exception e) {
-                    throw new RuntimeException("Runtime exception", e);
-                }
-            }
-            _monitor.release();
+            final Genotype i = population.get(idx);
+            final FitnessEvaluation evaluation = evaluations.get(idx);
+            final Fitness fitFn = evaluation.getFitness();
+            final List<Double> fitList = new ArrayList<Double>(evaluation.getFitnessValues());
+            final double fit = evaluation.getTotalFitness();
+            start = HISTORY_TIMER.start();
+            recordGeneration(fitFn);
+            HISTORY_TIMER.stop(start);
             if (DEBUG_LEVEL > 1) System.out.println("\tfitness: " + fit);
             distribution.add(new DistributionMember(fit, fitList, i));
             totalFit += fit;
@@ -184,27 +212,236 @@ public final class Reproduction {
         best.addAll(bestFitList);
         _bestFits.add(best);
         _meanFits.add(Double.valueOf(totalFit / population.size()));
-        // TODO: Add good test for disallowing duplicates
-        // TODO: Encapsulate disallowing of duplicates (see above)
-        final Collection<Genotype> retval = _allowDuplicates ? new ArrayList<Genotype>() : new HashSet<Genotype>();
+        final List<Genotype> retval = new ArrayList<Genotype>(newPopSize);
+        GenotypeIndex index = _allowDuplicates ? null : new GenotypeIndex(newPopSize);
         // Sorts with most fit members first
-        Collections.sort(distribution);
-        for (int i = 0; i < _numElites; ++i) {
-            retval.add(distribution.get(i).getGenotype().clone());
+        distribution.sort();
+        _lastGeneration = distribution;
+        // Elites go first, before anything else is offered
+        _lastNumElites = 0;
+        for (int i = 0; i < Math.min(_numElites, distribution.size()) && retval.size() < newPopSize; ++i) {
+            if (offer(retval, index, distribution.getGenotype(i).clone())) ++_lastNumElites;
         }
+        int numOffspring = 0;
+        int numDuplicates = 0;
+        _lastNumImmigrants = 0;
+        // Whatever selection needs to know about this generation is worked out once, not for every parent
+        final SelectionSession session =
+                (selFn instanceof SessionSelect) ? ((SessionSelect) selFn).createSession(distribution) : null;
         while (retval.size() < newPopSize) {
-            final Genotype mom = selFn.select(distribution);
-            final Genotype dad = selFn.select(distribution);
+            if (index != null && tooManyDuplicates(numOffspring, numDuplicates, newPopSize)) {
+                if (_immigrantFactory != null) {
+                    _lastNumImmigrants = addImmigrants(retval, index, newPopSize, population.get(0).getNumGenes());
+                    break;
+                }
+                // Better a generation with duplicates than one that never finishes
+                Logger.getLogger(Reproduction.class.getName())
+                      .log(Level.WARNING, "Allowing duplicates after " + numDuplicates + " of " + numOffspring
+                                          + " offspring were duplicates");
+                index = null;
+            }
+            start = SELECT_TIMER.start();
+            final Genotype mom = (session != null) ? session.select() : selFn.select(distribution);
+            final Genotype dad = (session != null) ? session.select() : selFn.select(distribution);
+            SELECT_TIMER.stop(start);
+            start = CROSSOVER_TIMER.start();
             final UnorderedPair<Genotype> kids = xFn.crossover(mom, dad);
-            retval.add(kids.getFirst());
+            CROSSOVER_TIMER.stop(start);
+            ++numOffspring;
+            if (!offer(retval, index, kids.getFirst())) ++numDuplicates;
             if (retval.size() < newPopSize) {
-                retval.add(kids.getLast());
+                ++numOffspring;
+                if (!offer(retval, index, kids.getLast())) ++numDuplicates;
             }
         }
+        _lastDuplicateRate = (numOffspring == 0) ? 0 : (double) numDuplicates / numOffspring;
+        OFFSPRING.add(numOffspring);
+        DUPLICATES.add(numDuplicates);
+        IMMIGRANTS.add(_lastNumImmigrants);
         if (_keepAllHistory) {
-            _popHist.add(new Distribution(distribution));
+            start = HISTORY_TIMER.start();
+            _history.add(new Distribution(distribution));
+            HISTORY_TIMER.stop(start);
+        }
+        GENERATION_TIMER.stop(generationStart);
+        return retval;
+    }
+
+    /**
+     * @param retval Next generation so far
+     * @param index Genotypes already in the next generation (null if duplicates are allowed)
+     * @param child Candidate for the next generation
+     * @return Whether the child was added (false if it duplicates one already in the next generation)
+     */
+    private static boolean offer(final List<Genotype> retval, final GenotypeIndex index, final Genotype child) {
+        if (index != null && !index.add(child)) return false;
+        retval.add(child);
+        return true;
+    }
+
+    /**
+     * @return Whether breeding should stop, either because too many attempts have been made to fill the next generation,
+     *         or because offspring are duplicates often enough that it's better to fill it with immigrants
+     */
+    private boolean tooManyDuplicates(final int numOffspring, final int numDuplicates, final int newPopSize) {
+        if (numOffspring >= MAX_ATTEMPTS_PER_INDIVIDUAL * newPopSize) return true;
+        return _immigrantFactory != null && numOffspring >= MIN_DUPLICATE_SAMPLE
+               && numDuplicates > _maxDuplicateRate * numOffspring;
+    }
+
+    /**
+     * Fills the rest of the next generation with random individuals that it doesn't already contain
+     * @return Number of immigrants added
+     */
+    private int addImmigrants(final List<Genotype> retval, final GenotypeIndex index, final int newPopSize,
+                              final int numGenes) {
+        final int maxAttempts = MAX_ATTEMPTS_PER_INDIVIDUAL * newPopSize;
+        int numImmigrants = 0;
+        for (int attempt = 0; retval.size() < newPopSize; ++attempt) {
+            final Genotype immigrant = _immigrantFactory.createPopulation(1, numGenes).get(0);
+            // Even random individuals can all be duplicates if there are few possible genotypes
+            if (index.add(immigrant) || attempt >= maxAttempts) {
+                retval.add(immigrant);
+                ++numImmigrants;
+            }
+        }
+        return numImmigrants;
+    }
+
+    /**
+     * Specifies where offspring come from once breeding produces too many duplicates (only used if duplicates are not
+     * allowed). Without one, breeding continues until {@value #MAX_ATTEMPTS_PER_INDIVIDUAL} offspring per member of the
+     * next generation have been bred, after which duplicates are allowed.
+     * @param immigrantFactory Creates random individuals (null to keep breeding)
+     */
+    public void setImmigrantFactory(final GeneticFactory immigrantFactory) {
+        _immigrantFactory = immigrantFactory;
+    }
+
+    /**
+     * @param maxDuplicateRate Fraction of offspring that may be duplicates before the rest of the generation is made up
+     *            of immigrants (see {@link #setImmigrantFactory(GeneticFactory)})
+     */
+    public void setMaxDuplicateRate(final double maxDuplicateRate) {
+        if (maxDuplicateRate < 0 || maxDuplicateRate > 1)
+            throw new IllegalArgumentException("Maximum duplicate rate must be between 0 and 1");
+        _maxDuplicateRate = maxDuplicateRate;
+    }
+
+    /**
+     * @return Fraction of the offspring bred for the current generation that were rejected as duplicates
+     */
+    public double getLastDuplicateRate() {
+        return _lastDuplicateRate;
+    }
+
+    /**
+     * @return Number of immigrants in the current generation
+     */
+    public int getLastNumImmigrants() {
+        return _lastNumImmigrants;
+    }
+
+    /**
+     * Evaluates a generation, submitting first the evaluations predicted to take longest (if there is a runtime
+     * predictor), and teaching the predictor how long each took that actually ran (rather than reusing results that
+     * were already available, as elites, cache hits and surrogate predictions do)
+     * @return Results of the evaluations, in population order
+     */
+    private List<FitnessEvaluation> evaluate(final List<Genotype> population, final List<Fitness> fitnesses) {
+        final Integer[] order = new Integer[fitnesses.size()];
+        for (int i = 0; i < order.length; ++i) {
+            order[i] = i;
+        }
+        final boolean[] precomputed = new boolean[order.length];
+        for (int i = 0; i < order.length; ++i) {
+            precomputed[i] = AbstractFitness.isPrecomputed(fitnesses.get(i));
+        }
+        if (_runtimePredictor != null) {
+            final double[] predicted = new double[order.length];
+            for (int i = 0; i < order.length; ++i) {
+                predicted[i] = precomputed[i] ? 0 : _runtimePredictor.predict(population.get(i));
+            }
+            // Longest first, with those that can't be predicted yet (NaN) ahead of the rest
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override
+                public int compare(final Integer lhs, final Integer rhs) {
+                    return Double.compare(predicted[rhs], predicted[lhs]);
+                }
+            });
+        }
+        final List<Fitness> ordered = new ArrayList<Fitness>(order.length);
+        for (final Integer i : order) {
+            ordered.add(fitnesses.get(i));
+        }
+        final long beginTime = System.currentTimeMillis();
+        final List<FitnessEvaluation> results = getFitnessEvaluator().evaluate(ordered);
+        _lastMakespan = System.currentTimeMillis() - beginTime;
+        _lastTotalWork = 0;
+        final FitnessEvaluation[] retval = new FitnessEvaluation[order.length];
+        for (int i = 0; i < order.length; ++i) {
+            final FitnessEvaluation evaluation = results.get(i);
+            retval[order[i]] = evaluation;
+            _lastTotalWork += evaluation.getElapsedTime();
+            EVALUATION_TIMER.record(evaluation.getElapsedTime() * NANOS_PER_MILLI);
+            if (_runtimePredictor != null && !precomputed[order[i]]) {
+                _runtimePredictor.record(population.get(order[i]), evaluation.getElapsedTime());
+            }
+        }
+        return Arrays.asList(retval);
+    }
+
+    /**
+     * Specifies how (and how many at a time) {@link Fitness} functions are evaluated. By default a
+     * {@link ConcurrentFitnessEvaluator} with as many workers as {@link #SetNumProcesses(int)} allows is used (or a
+     * {@link SerialFitnessEvaluator} if only one process is allowed).
+     * @param fitnessEvaluator How {@link Fitness} functions are evaluated
+     */
+    public void setFitnessEvaluator(final FitnessEvaluator fitnessEvaluator) {
+        _fitnessEvaluator = fitnessEvaluator;
+    }
+
+    /**
+     * @return How {@link Fitness} functions are evaluated
+     */
+    public FitnessEvaluator getFitnessEvaluator() {
+        if (_fitnessEvaluator == null) {
+            _fitnessEvaluator = _numProcesses > 1 ? new ConcurrentFitnessEvaluator(_numProcesses)
+                                                  : new SerialFitnessEvaluator();
         }
-        return _allowDuplicates ? (List<Genotype>) retval : new ArrayList<Genotype>(retval);
+        return _fitnessEvaluator;
+    }
+
+    /**
+     * Specifies how to predict how long evaluating each individual will take, so that the longest evaluations can start
+     * first instead of being left at the end of a generation (best combined with a
+     * {@link edu.virginia.cs.geneticalgorithm.fitness.WorkStealingFitnessEvaluator WorkStealingFitnessEvaluator}). By
+     * default individuals are submitted in population order.
+     * @param runtimePredictor Predictor of how long evaluations take (null to submit in population order)
+     */
+    public void setRuntimePredictor(final RuntimePredictor runtimePredictor) {
+        _runtimePredictor = runtimePredictor;
+    }
+
+    /**
+     * @return Predictor of how long evaluations take (null if individuals are submitted in population order)
+     */
+    public RuntimePredictor getRuntimePredictor() {
+        return _runtimePredictor;
+    }
+
+    /**
+     * @return Time (in milliseconds) from the first evaluation of the current generation starting to the last finishing
+     */
+    public long getLastMakespan() {
+        return _lastMakespan;
+    }
+
+    /**
+     * @return Sum of the times (in milliseconds) that the evaluations of the current generation took
+     */
+    public long getLastTotalWork() {
+        return _lastTotalWork;
     }
 
     /**
@@ -223,6 +460,14 @@ public final class Reproduction {
         return _numElites;
     }
 
+    /**
+     * @return Number of elites at the start of the most recent new generation (fewer than {@link #getNumElites()} if
+     *         the current generation was smaller, or some of its fittest members were duplicates)
+     */
+    public int getLastNumElites() {
+        return _lastNumElites;
+    }
+
     /**
      * @return Best fitness for the current generation
      */
@@ -238,10 +483,44 @@ public final class Reproduction {
     }
 
     /**
-     * @return The entire population history, including {@link Fitness} and {@link Genotype} information
+     * @return The entire population history, including {@link Fitness} and {@link Genotype} information (a read-only
+     *         view, so that generations kept on disk are only read as they are reached)
      */
     public List<Distribution> getHistory() {
-        return _popHist;
+        return new AbstractList<Distribution>() {
+            @Override
+            public Distribution get(final int index) {
+                return _history.get(index);
+            }
+
+            @Override
+            public int size() {
+                return _history.size();
+            }
+
+            @Override
+            public Iterator<Distribution> iterator() {
+                return _history.iterator();
+            }
+        };
+    }
+
+    /**
+     * Specifies where the population history is kept, if all history is kept. By default it is kept in memory, which
+     * for long runs with large populations can be replaced by a {@link edu.virginia.cs.data.SpillingHistory
+     * SpillingHistory} so that memory use stays constant.
+     * @param history Where the population history is kept (any generations already kept are not copied to it)
+     */
+    public void setHistory(final History<Distribution> history) {
+        if (!_keepAllHistory) throw new IllegalStateException("History is not being kept");
+        _history = history;
+    }
+
+    /**
+     * @return The most recently evaluated generation, with the most fit members first (null if none has been evaluated)
+     */
+    public Distribution getLastGeneration() {
+        return _lastGeneration;
     }
 
     /**
@@ -258,17 +537,124 @@ public final class Reproduction {
         return new ArrayList<Double>(_meanFits);
     }
 
+    /**
+     * @return Number of generations that have been reproduced
+     */
+    public int getCurrentGeneration() {
+        return _currentGeneration;
+    }
+
+    /**
+     * A {@link SpillingHistory} saves where its generations are on disk, rather than the generations themselves
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        out.writeInt(_currentGeneration);
+        out.writeInt(_bestFits.size());
+        for (final List<Double> best : _bestFits) {
+            CheckpointUtils.writeDoubles(out, best);
+        }
+        CheckpointUtils.writeDoubles(out, _meanFits);
+        out.writeBoolean(_history instanceof SpillingHistory);
+        if (_history instanceof SpillingHistory) {
+            ((SpillingHistory<Distribution>) _history).writeState(out);
+            return;
+        }
+        out.writeInt(_history.size());
+        for (final Distribution d : _history) {
+            CheckpointUtils.writeDistribution(out, d);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        _currentGeneration = in.readInt();
+        _bestFits.clear();
+        final int numBest = CheckpointUtils.readSize(in);
+        for (int i = 0; i < numBest; ++i) {
+            _bestFits.add(CheckpointUtils.readDoubles(in));
+        }
+        _meanFits.clear();
+        _meanFits.addAll(CheckpointUtils.readDoubles(in));
+        if (in.readBoolean() != (_history instanceof SpillingHistory))
+            throw new IOException("Checkpoint was saved with a different kind of history");
+        if (_history instanceof SpillingHistory) {
+            ((SpillingHistory<Distribution>) _history).readState(in);
+            return;
+        }
+        _history.clear();
+        final int numHist = CheckpointUtils.readSize(in);
+        for (int i = 0; i < numHist; ++i) {
+            _history.add(CheckpointUtils.readDistribution(in));
+        }
+    }
+
+    /**
+     * Records the current generation in the working directory of NeuroJet fitness functions
+     * @param fitFn {@link Fitness} function that has been evaluated
+     */
+    private void recordGeneration(final Fitness fitFn) {
+        Fitness workingFitFn = fitFn;
+        while (workingFitFn instanceof WrappedFitness) {
+            workingFitFn = ((WrappedFitness) workingFitFn).getFitness();
+        }
+        if (workingFitFn instanceof NeuroJetTraceFitness) {
+            try {
+                final File workingDir = ((NeuroJetTraceFitness) workingFitFn).getWorkingDir();
+                final File generationFile = new File(workingDir, "generations.dat");
+                final StringBuilder priorGenerations = new StringBuilder();
+                boolean alreadyAccountedFor = false;
+                if (generationFile.exists()) {
+                    final BufferedReader reader = new BufferedReader(new FileReader(generationFile));
+                    final String line = reader.readLine();
+                    priorGenerations.append(line);
+                    final String[] generations = priorGenerations.toString().split(" ");
+                    alreadyAccountedFor = Arrays.asList(generations).contains(String.valueOf(_currentGeneration));
+                    if (!alreadyAccountedFor) {
+                        priorGenerations.append(" ");
+                    }
+                    reader.close();
+                }
+                if (!alreadyAccountedFor) {
+                    priorGenerations.append(String.valueOf(_currentGeneration));
+                    PrintStream out = null;
+                    try {
+                        out = new PrintStream(new FileOutputStream(generationFile));
+                        out.println(priorGenerations.toString());
+                    }
+                    finally {
+                        out.close();
+                    }
+                }
+            }
+            catch (final Exception e) {
+                throw new RuntimeException("Runtime exception", e);
+            }
+        }
+    }
+
     public void setEndPrepareAction(File PrepareAction) {
         _endPrepareAction = PrepareAction;
     }
 
     private void endPrepare() {
-        if (_endPrepareAction != null) {
+        runEndPrepareAction(_endPrepareAction);
+    }
+
+    /**
+     * @param endPrepareAction Executable to run once a batch of fitnesses have been prepared (null to skip)
+     */
+    static void runEndPrepareAction(final File endPrepareAction) {
+        if (endPrepareAction != null) {
             try {
                 final List<String> command = new ArrayList<String>();
-                command.add(_endPrepareAction.getCanonicalPath());
+                command.add(endPrepareAction.getCanonicalPath());
                 final ProcessBuilder builder = new ProcessBuilder(command);
-                builder.directory(_endPrepareAction.getParentFile());
+                builder.directory(endPrepareAction.getParentFile());
                 Process process = builder.start();
                 final BufferedReader out = new BufferedReader(new InputStreamReader(process.getInputStream()));
                 String line;
@@ -0,0 +1,354 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.reproduction;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import edu.virginia.cs.common.utils.UnorderedPair;
+import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluation;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.SerialFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.WorkStealingFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.select.Select;
+import edu.virginia.cs.geneticalgorithm.select.SelectionSession;
+import edu.virginia.cs.geneticalgorithm.select.SessionSelect;
+
+/**
+ * Asynchronous, steady-state alternative to the generational {@link Reproduction}. Rather than waiting for a whole
+ * generation to be evaluated (and so for its slowest member), each evaluation that finishes is inserted into the
+ * population straight away, and a child bred from the population as it stands is submitted in its place, so that every
+ * worker of the {@link FitnessEvaluator} stays busy. Once the population is full, a newly evaluated individual replaces
+ * the least fit member of a randomly chosen tournament, if it is fitter than that member.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SteadyStateReproduction {
+
+    private static final int MAX_BREEDING_ATTEMPTS = 10; // To find a child that isn't a duplicate
+    private static final double MS_PER_HOUR = 60 * 60 * 1000;
+
+    private final Random _rng;
+    private final boolean _allowDuplicates;
+    private int _tournamentSize = 2;
+    private int _numSlots = 0; // 0 to use as many as the fitness evaluator has workers
+    private FitnessEvaluator _fitnessEvaluator = null;
+    private Distribution _population = new Distribution(); // Fitness values are never normalized
+    private Distribution _parents = null; // Sorted copy of the population (null once membership changes)
+    private SelectionSession _session = null; // Selecting from _parents, if the Select function supports sessions
+    private File _endPrepareAction = null;
+    private Runnable _generationAction = null;
+    private int _numEvaluations = 0;
+    private int _numReplacements = 0;
+    private long _elapsedTime = 0; // Of previous calls to evolve
+    private long _beginTime = -1; // Of the current call to evolve (-1 if not evolving)
+
+    /**
+     * @param rng Random number generator used to choose tournaments
+     * @param allowDuplicates Whether to allow duplicate individuals in the population
+     */
+    public SteadyStateReproduction(final Random rng, final boolean allowDuplicates) {
+        _rng = rng;
+        _allowDuplicates = allowDuplicates;
+    }
+
+    /**
+     * @param tournamentSize Number of members of the population (chosen at random) that a newly evaluated individual
+     *            competes against, replacing the least fit of them if it is fitter. A size at least as large as the
+     *            population always competes against the least fit member of the population.
+     */
+    public void setTournamentSize(final int tournamentSize) {
+        if (tournamentSize < 1) throw new IllegalArgumentException("Tournament size must be positive");
+        _tournamentSize = tournamentSize;
+    }
+
+    /**
+     * @return Number of members of the population that a newly evaluated individual competes against
+     */
+    public int getTournamentSize() {
+        return _tournamentSize;
+    }
+
+    /**
+     * @param numSlots Number of evaluations to keep in progress at the same time, or 0 to use as many as the
+     *            {@link FitnessEvaluator} has workers
+     */
+    public void setNumSlots(final int numSlots) {
+        if (numSlots < 0) throw new IllegalArgumentException("Number of slots cannot be negative");
+        _numSlots = numSlots;
+    }
+
+    /**
+     * @return Number of evaluations kept in progress at the same time
+     */
+    public int getNumSlots() {
+        if (_numSlots > 0) return _numSlots;
+        final FitnessEvaluator evaluator = getFitnessEvaluator();
+        if (evaluator instanceof ConcurrentFitnessEvaluator) return ((ConcurrentFitnessEvaluator) evaluator).getNumWorkers();
+        if (evaluator instanceof WorkStealingFitnessEvaluator)
+            return ((WorkStealingFitnessEvaluator) evaluator).getNumWorkers();
+        return 1;
+    }
+
+    /**
+     * @param fitnessEvaluator How {@link Fitness} functions are evaluated (e.g., the same one a {@link Reproduction} uses)
+     */
+    public void setFitnessEvaluator(final FitnessEvaluator fitnessEvaluator) {
+        _fitnessEvaluator = fitnessEvaluator;
+    }
+
+    /**
+     * @return How {@link Fitness} functions are evaluated
+     */
+    public FitnessEvaluator getFitnessEvaluator() {
+        if (_fitnessEvaluator == null) {
+            _fitnessEvaluator = new SerialFitnessEvaluator();
+        }
+        return _fitnessEvaluator;
+    }
+
+    /**
+     * @param endPrepareAction Executable to run after each batch of fitnesses is prepared, before they are evaluated
+     *            (null to skip)
+     * @see Reproduction#setEndPrepareAction(File)
+     */
+    public void setEndPrepareAction(final File endPrepareAction) {
+        _endPrepareAction = endPrepareAction;
+    }
+
+    /**
+     * @param generationAction Action to run (on the thread calling {@link #evolve}) each time another population's worth
+     *            of evaluations has completed, the steady-state equivalent of a generation (null to skip)
+     */
+    public void setGenerationAction(final Runnable generationAction) {
+        _generationAction = generationAction;
+    }
+
+    /**
+     * Evaluates an initial population, and then keeps breeding and evaluating replacements until a set number of
+     * evaluations have completed.
+     * @param population Initial population ({@link java.util.List List} of {@link Genotype Genotypes}), whose size is
+     *            kept constant
+     * @param numEvaluations Total number of evaluations to perform (including those of the initial population)
+     * @param fitFactory {@link FitnessFactory} factory used to determine which members reproduce and how well
+     * @param selFn {@link Select} function used for selecting individuals to reproduce
+     * @param xFn {@link Crossover} function used for creating children from parent {@link Genotype Genotypes}
+     * @return The final population
+     */
+    public List<Genotype> evolve(final List<Genotype> population, final int numEvaluations,
+                                 final FitnessFactory fitFactory, final Select selFn, final Crossover xFn) {
+        if (population.isEmpty()) throw new IllegalArgumentException("Population cannot be empty");
+        _beginTime = System.currentTimeMillis();
+        final int popSize = population.size();
+        final int numSlots = getNumSlots();
+        final LinkedList<Genotype> toEvaluate = new LinkedList<Genotype>(population);
+        final Set<Genotype> present = new HashSet<Genotype>(population); // In the population or being evaluated
+        final Map<Future<FitnessEvaluation>, Genotype> inProgress = new HashMap<Future<FitnessEvaluation>, Genotype>();
+        final BlockingQueue<Future<FitnessEvaluation>> finished = new LinkedBlockingQueue<Future<FitnessEvaluation>>();
+        final List<Genotype> batch = new ArrayList<Genotype>(numSlots);
+        final List<Fitness> batchFitnesses = new ArrayList<Fitness>(numSlots);
+        _population = new Distribution();
+        _parents = null;
+        _session = null;
+        int numSubmitted = 0;
+        while (true) {
+            while (inProgress.size() + batch.size() < numSlots && numSubmitted < numEvaluations) {
+                if (toEvaluate.isEmpty()) {
+                    if (_population.isEmpty()) break; // Nothing to breed from until something has been evaluated
+                    breed(selFn, xFn, present, toEvaluate);
+                }
+                final Genotype individual = toEvaluate.removeFirst();
+                final Fitness fitFn = fitFactory.createFitness(individual);
+                fitFn.prepare();
+                batch.add(individual);
+                batchFitnesses.add(fitFn);
+                ++numSubmitted;
+            }
+            if (!batch.isEmpty()) {
+                Reproduction.runEndPrepareAction(_endPrepareAction);
+                for (int i = 0; i < batch.size(); ++i) {
+                    inProgress.put(getFitnessEvaluator().submit(batchFitnesses.get(i), finished), batch.get(i));
+                }
+                batch.clear();
+                batchFitnesses.clear();
+            }
+            if (inProgress.isEmpty()) break;
+            final Future<FitnessEvaluation> done;
+            try {
+                done = finished.take();
+            }
+            catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+            final Genotype individual = inProgress.remove(done);
+            final FitnessEvaluation evaluation = AbstractFitnessEvaluator.getResult(done);
+            insert(new DistributionMember(evaluation.getTotalFitness(),
+                                          new ArrayList<Double>(evaluation.getFitnessValues()),
+                                          individual), popSize, present);
+            ++_numEvaluations;
+            if (_numEvaluations % popSize == 0) {
+                if (Reproduction.DEBUG_LEVEL > 0) {
+                    System.out.println("Evaluations: " + _numEvaluations + ", best = " + getBestFit().get(0)
+                                       + ", mean = " + getMeanFit() + ", evaluations/hour = " + getEvaluationsPerHour());
+                }
+                if (_generationAction != null) {
+                    _generationAction.run();
+                }
+            }
+        }
+        _elapsedTime += System.currentTimeMillis() - _beginTime;
+        _beginTime = -1;
+        final List<Genotype> retval = new ArrayList<Genotype>(_population.size());
+        for (int i = 0; i < _population.size(); ++i) {
+            retval.add(_population.getGenotype(i));
+        }
+        return retval;
+    }
+
+    /**
+     * Breeds a pair of children from the population as it currently stands
+     */
+    private void breed(final Select selFn, final Crossover xFn, final Set<Genotype> present,
+                       final List<Genotype> toEvaluate) {
+        // Selection may reorder what it selects from, so it gets a sorted copy, which is only made again (and a
+        // selection session only created again) once the membership of the population changes
+        if (_parents == null) {
+            _parents = new Distribution(_population);
+            _parents.sort();
+            _session = (selFn instanceof SessionSelect) ? ((SessionSelect) selFn).createSession(_parents) : null;
+        }
+        for (int attempt = 1; attempt <= MAX_BREEDING_ATTEMPTS; ++attempt) {
+            final Genotype mom = (_session != null) ? _session.select() : selFn.select(_parents);
+            final Genotype dad = (_session != null) ? _session.select() : selFn.select(_parents);
+            final UnorderedPair<Genotype> kids = xFn.crossover(mom, dad);
+            final boolean last = attempt == MAX_BREEDING_ATTEMPTS && toEvaluate.isEmpty();
+            for (final Genotype kid : new Genotype[] { kids.getFirst(), kids.getLast() }) {
+                if (_allowDuplicates || present.add(kid) || last) {
+                    toEvaluate.add(kid);
+                }
+            }
+            if (!toEvaluate.isEmpty()) return;
+        }
+    }
+
+    /**
+     * Inserts a newly evaluated individual into the population, by tournament once the population is full
+     */
+    private void insert(final DistributionMember member, final int popSize, final Set<Genotype> present) {
+        if (_population.size() < popSize) {
+            _population.add(member);
+            _parents = null;
+            return;
+        }
+        int worst = -1;
+        if (_tournamentSize >= _population.size()) {
+            for (int i = 0; i < _population.size(); ++i) {
+                if (worst < 0 || _population.getValue(i) < _population.getValue(worst)) {
+                    worst = i;
+                }
+            }
+        }
+        else {
+            for (int i = 0; i < _tournamentSize; ++i) {
+                final int candidate = _rng.nextInt(_population.size());
+                if (worst < 0 || _population.getValue(candidate) < _population.getValue(worst)) {
+                    worst = candidate;
+                }
+            }
+        }
+        if (member.getValue() > _population.getValue(worst)) {
+            present.remove(_population.getGenotype(worst));
+            _population.set(worst, member);
+            _parents = null;
+            ++_numReplacements;
+        }
+        else {
+            present.remove(member.getGenotype());
+        }
+    }
+
+    /**
+     * @return Current population, with their (unnormalized) fitness values
+     */
+    public Distribution getPopulation() {
+        return new Distribution(_population);
+    }
+
+    /**
+     * @return Number of evaluations that have completed
+     */
+    public int getNumEvaluations() {
+        return _numEvaluations;
+    }
+
+    /**
+     * @return Number of times a newly evaluated individual replaced a member of the full population
+     */
+    public int getNumReplacements() {
+        return _numReplacements;
+    }
+
+    /**
+     * @return Time (in milliseconds) spent evolving
+     */
+    public long getElapsedTime() {
+        return _beginTime < 0 ? _elapsedTime : _elapsedTime + System.currentTimeMillis() - _beginTime;
+    }
+
+    /**
+     * @return Throughput, in evaluations completed per hour spent evolving (NaN if no time has been spent)
+     */
+    public double getEvaluationsPerHour() {
+        final long elapsedTime = getElapsedTime();
+        return elapsedTime == 0 ? Double.NaN : _numEvaluations * MS_PER_HOUR / elapsedTime;
+    }
+
+    /**
+     * @return Best fitness in the current population, followed by its multi-objective fitness values
+     */
+    public List<Double> getBestFit() {
+        final List<Double> retval = new ArrayList<Double>();
+        int best = -1;
+        for (int i = 0; i < _population.size(); ++i) {
+            if (best < 0 || _population.getValue(i) > _population.getValue(best)) {
+                best = i;
+            }
+        }
+        if (best >= 0) {
+            retval.add(_population.getValue(best));
+            retval.addAll(_population.get(best).getFitnessValues());
+        }
+        return retval;
+    }
+
+    /**
+     * @return Mean fitness of the current population
+     */
+    public double getMeanFit() {
+        double total = 0.0;
+        for (int i = 0; i < _population.size(); ++i) {
+            total += _population.getValue(i);
+        }
+        return total / _population.size();
+    }
+}
@@ -3,30 +3,35 @@
  */
 package edu.virginia.cs.geneticalgorithm.select;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import edu.virginia.cs.common.utils.ArrayNumberUtils;
-import edu.virginia.cs.common.utils.ListComparator;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 
 /**
  * Bonus {@link Select} is a technique somewhat between {@link ParetoRankedSelect} and {@link StandardSelect}, where the algorithm
  * for StandardSelect is used, with bonus fitness values assigned in a manner similar to how ParetoRankedSelect prefers items that
- * are ranked higher.
+ * are ranked higher. The bonus fitness values are calculated once for each {@link Distribution} (typically once per
+ * generation), and are only recalculated when the {@link Distribution} changes.
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Sep 11, 2011
  */
-public final class BonusSelect implements Select {
+public final class BonusSelect implements SessionSelect, Checkpointable {
 
     final List<Double> _placeMultiplier = new ArrayList<Double>();
     final List<Double> _rankPercents;
 
     private final Random _rng;
+    private SelectionSession _session = null;
 
     /**
      * Constructor taking a {@link Random Random Number Generator}
@@ -64,28 +69,58 @@ public final class BonusSelect implements Select {
      */
     @Override
     public Genotype select(final Distribution distribution) {
-        final int numFitnessValues = distribution.get(0).getFitnessValues().size();
+        // Sessions are created normalized, and any change to the distribution makes them out of date
+        if (_session == null || _session.getDistribution() != distribution || !_session.isCurrent()) {
+            _session = createSession(distribution);
+        }
+        return _session.select();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SessionSelect#createSession(edu.virginia.cs.geneticalgorithm.distribution.Distribution)
+     */
+    @Override
+    public SelectionSession createSession(final Distribution distribution) {
+        final int numFitnessValues = distribution.getNumFitnessValues();
         distribution.normalize();
         if (_placeMultiplier.isEmpty()) {
             for (int i = 0; i < numFitnessValues; ++i) {
                 _placeMultiplier.add(Double.valueOf(1.0));
             }
         }
-        final List<List<Double>> enumeratedFitnessValues = SelectUtils.enumerateFitnessValues(distribution);
+        // Bonuses go by place in the (sorted) distribution
         final int numIndividuals = distribution.size();
-        final List<Double> bonusFitnessValues = new ArrayList<Double>();
+        final List<Double> bonusFitnessValues = new ArrayList<Double>(numIndividuals);
         for (int j = 0; j < numIndividuals; ++j) {
-            bonusFitnessValues.add(distribution.get(j).getValue());
+            bonusFitnessValues.add(distribution.getValue(j));
         }
         for (int i = 0; i < numFitnessValues; ++i) {
-            final ListComparator<Double> lc = new ListComparator<Double>(i + 1);
-            Collections.sort(enumeratedFitnessValues, lc);
             for (int j = 0; j < Math.min(numIndividuals, _rankPercents.size()); ++j) {
-                if (Math.abs(distribution.get(j).getFitnessValues().get(i)) < 1E-10) break;
+                if (Math.abs(distribution.getFitnessValue(j, i)) < 1E-10) break;
                 final double rankValue = _placeMultiplier.get(i) * _rankPercents.get(j);
                 bonusFitnessValues.set(j, bonusFitnessValues.get(j) + rankValue);
             }
         }
-        return SelectUtils.substituteSelect(_rng, distribution, ArrayNumberUtils.normalize(bonusFitnessValues));
+        return SelectUtils.createSubstituteSession(_rng, distribution, ArrayNumberUtils.normalize(bonusFitnessValues));
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+        CheckpointUtils.writeDoubles(out, _placeMultiplier);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        _placeMultiplier.clear();
+        _placeMultiplier.addAll(CheckpointUtils.readDoubles(in));
+        _session = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Random;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Multi-objective {@link Select} class (as in NSGA-II) that sorts the population into Pareto fronts using the
+ * multi-objective {@link Fitness} values, and then chooses the winner of a tournament between randomly chosen members.
+ * A member in a better front wins, with ties going to the member in the less crowded part of the front. Unlike the
+ * other {@link Select} classes, the overall {@link Fitness} value is only used if there are no multi-objective values,
+ * so no weighting of the objectives is necessary. The sorting is done once for each {@link Distribution} (typically once
+ * per generation), and is only redone when the {@link Distribution} changes.
+ * @see NonDominatedSorter
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NonDominatedSelect implements SessionSelect, Checkpointable {
+
+    private final Random _rng;
+    private final int _tournamentSize;
+    private final NonDominatedSorter _sorter = new NonDominatedSorter();
+    private SelectionSession _session = null;
+
+    /**
+     * Constructor taking a {@link Random Random Number Generator}, using binary tournaments
+     * @param rng {@link Random Random Number Generator} used by {@link #select}
+     */
+    public NonDominatedSelect(final Random rng) {
+        this(rng, 2);
+    }
+
+    /**
+     * Constructor taking a {@link Random Random Number Generator} and the tournament size
+     * @param rng {@link Random Random Number Generator} used by {@link #select}
+     * @param tournamentSize Number of members (chosen with replacement) competing for each selection
+     */
+    public NonDominatedSelect(final Random rng, final int tournamentSize) {
+        if (tournamentSize < 1) throw new IllegalArgumentException("Tournament size must be positive");
+        _rng = rng;
+        _tournamentSize = tournamentSize;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.Select#select(edu.virginia.cs.geneticalgorithm.distribution.Distribution)
+     */
+    @Override
+    public Genotype select(final Distribution distribution) {
+        if (_session == null || _session.getDistribution() != distribution || !_session.isCurrent()) {
+            _session = createSession(distribution);
+        }
+        return _session.select();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SessionSelect#createSession(edu.virginia.cs.geneticalgorithm.distribution.Distribution)
+     */
+    @Override
+    public SelectionSession createSession(final Distribution distribution) {
+        final int numIndividuals = distribution.size();
+        final int numFitnessValues = distribution.getNumFitnessValues();
+        final int numObjectives = Math.max(numFitnessValues, 1);
+        final double[] objectives = new double[numIndividuals * numObjectives];
+        for (int i = 0; i < numIndividuals; ++i) {
+            if (numFitnessValues == 0) {
+                objectives[i] = distribution.getValue(i);
+            }
+            else {
+                for (int j = 0; j < numFitnessValues; ++j) {
+                    objectives[i * numObjectives + j] = distribution.getFitnessValue(i, j);
+                }
+            }
+        }
+        final int[] ranks = new int[numIndividuals];
+        final double[] crowding = new double[numIndividuals];
+        final int numFronts = _sorter.sort(objectives, numIndividuals, numObjectives, ranks);
+        _sorter.crowdingDistances(objectives, numIndividuals, numObjectives, ranks, numFronts, crowding);
+        return new TournamentSession(distribution, ranks, crowding);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        _session = null;
+    }
+
+    /**
+     * Crowded tournament selection from one sorted {@link Distribution}
+     */
+    private final class TournamentSession implements SelectionSession {
+
+        private final Distribution _distribution;
+        private final int _version;
+        private final int[] _ranks;
+        private final double[] _crowding;
+
+        TournamentSession(final Distribution distribution, final int[] ranks, final double[] crowding) {
+            _distribution = distribution;
+            _version = distribution.getVersion();
+            _ranks = ranks;
+            _crowding = crowding;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#getDistribution()
+         */
+        @Override
+        public Distribution getDistribution() {
+            return _distribution;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#isCurrent()
+         */
+        @Override
+        public boolean isCurrent() {
+            return _distribution.getVersion() == _version;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#selectIndex()
+         */
+        @Override
+        public int selectIndex() {
+            final int size = _ranks.length;
+            if (size == 0) throw new IllegalStateException("Cannot select from an empty distribution");
+            int winner = _rng.nextInt(size);
+            for (int i = 1; i < _tournamentSize; ++i) {
+                final int challenger = _rng.nextInt(size);
+                if (beats(challenger, winner)) {
+                    winner = challenger;
+                }
+            }
+            return winner;
+        }
+
+        /**
+         * Crowded comparison: lower front first, then larger crowding distance, then earlier position
+         */
+        private boolean beats(final int challenger, final int winner) {
+            if (_ranks[challenger] != _ranks[winner]) return _ranks[challenger] < _ranks[winner];
+            if (_crowding[challenger] != _crowding[winner]) return _crowding[challenger] > _crowding[winner];
+            return challenger < winner;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#select()
+         */
+        @Override
+        public Genotype select() {
+            return _distribution.getGenotype(selectIndex());
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#selectMany(int[])
+         */
+        @Override
+        public void selectMany(final int[] indices) {
+            for (int i = 0; i < indices.length; ++i) {
+                indices[i] = selectIndex();
+            }
+        }
+    }
+}
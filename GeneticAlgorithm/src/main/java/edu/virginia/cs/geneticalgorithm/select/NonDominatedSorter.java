@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+/**
+ * Fast non-dominated sorting (Deb et al., NSGA-II) of individuals into Pareto fronts, along with crowding distances
+ * within each front. Objectives are maximized. The objective values are given as a row-major matrix (one row per
+ * individual), and NaN values are treated as being worse than any other value. Working storage is kept between calls,
+ * so a sorter should be reused (but not shared between threads).
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NonDominatedSorter {
+
+    private int[] _dominationCount = new int[0];
+    private int[][] _dominated = new int[0][];
+    private int[] _numDominated = new int[0];
+    private int[] _front = new int[0];
+    private int[] _nextFront = new int[0];
+    private int[] _scratch = new int[0];
+
+    /**
+     * Assigns each individual to a Pareto front, with front 0 being the individuals not dominated by any other, front 1
+     * being those only dominated by individuals in front 0, and so on. This takes O(k N<sup>2</sup>) time for N
+     * individuals and k objectives.
+     * @param objectives Row-major matrix of objective values
+     * @param numIndividuals Number of rows in the matrix
+     * @param numObjectives Number of columns in the matrix
+     * @param ranks Array (of at least numIndividuals) to fill with the front of each individual
+     * @return Number of fronts
+     */
+    public int sort(final double[] objectives, final int numIndividuals, final int numObjectives, final int[] ranks) {
+        checkSizes(objectives, numIndividuals, numObjectives);
+        ensureCapacity(numIndividuals);
+        for (int i = 0; i < numIndividuals; ++i) {
+            _dominationCount[i] = 0;
+            _numDominated[i] = 0;
+        }
+        for (int i = 0; i < numIndividuals; ++i) {
+            for (int j = i + 1; j < numIndividuals; ++j) {
+                final int comparison = compareDominance(objectives, i * numObjectives, j * numObjectives, numObjectives);
+                if (comparison > 0) {
+                    addDominated(i, j);
+                    ++_dominationCount[j];
+                }
+                else if (comparison < 0) {
+                    addDominated(j, i);
+                    ++_dominationCount[i];
+                }
+            }
+        }
+        int frontSize = 0;
+        for (int i = 0; i < numIndividuals; ++i) {
+            if (_dominationCount[i] == 0) {
+                ranks[i] = 0;
+                _front[frontSize++] = i;
+            }
+        }
+        int numFronts = 0;
+        while (frontSize > 0) {
+            ++numFronts;
+            int nextFrontSize = 0;
+            for (int f = 0; f < frontSize; ++f) {
+                final int p = _front[f];
+                final int[] dominated = _dominated[p];
+                for (int d = 0; d < _numDominated[p]; ++d) {
+                    final int q = dominated[d];
+                    if (--_dominationCount[q] == 0) {
+                        ranks[q] = numFronts;
+                        _nextFront[nextFrontSize++] = q;
+                    }
+                }
+            }
+            final int[] front = _front;
+            _front = _nextFront;
+            _nextFront = front;
+            frontSize = nextFrontSize;
+        }
+        return numFronts;
+    }
+
+    /**
+     * Calculates the crowding distance of each individual within its front: the sum over objectives of the (normalized)
+     * distance between its neighbors. Individuals at either end of a front for any objective get an infinite distance.
+     * @param objectives Row-major matrix of objective values
+     * @param numIndividuals Number of rows in the matrix
+     * @param numObjectives Number of columns in the matrix
+     * @param ranks Front of each individual, as calculated by {@link #sort(double[], int, int, int[])}
+     * @param numFronts Number of fronts, as returned by {@link #sort(double[], int, int, int[])}
+     * @param distances Array (of at least numIndividuals) to fill with the crowding distance of each individual
+     */
+    public void crowdingDistances(final double[] objectives, final int numIndividuals, final int numObjectives,
+                                  final int[] ranks, final int numFronts, final double[] distances) {
+        checkSizes(objectives, numIndividuals, numObjectives);
+        ensureCapacity(numIndividuals);
+        // Group the individuals by front (counting sort), using _front for the grouped order
+        final int[] frontStart = new int[numFronts + 1];
+        for (int i = 0; i < numIndividuals; ++i) {
+            ++frontStart[ranks[i] + 1];
+            distances[i] = 0;
+        }
+        for (int f = 0; f < numFronts; ++f) {
+            frontStart[f + 1] += frontStart[f];
+        }
+        final int[] position = frontStart.clone();
+        for (int i = 0; i < numIndividuals; ++i) {
+            _front[position[ranks[i]]++] = i;
+        }
+        for (int f = 0; f < numFronts; ++f) {
+            final int from = frontStart[f];
+            final int to = frontStart[f + 1];
+            for (int obj = 0; obj < numObjectives; ++obj) {
+                mergeSort(objectives, numObjectives, obj, from, to);
+                final double min = value(objectives, _front[from] * numObjectives + obj);
+                final double max = value(objectives, _front[to - 1] * numObjectives + obj);
+                distances[_front[from]] = Double.POSITIVE_INFINITY;
+                distances[_front[to - 1]] = Double.POSITIVE_INFINITY;
+                final double range = max - min;
+                if (!(range > 0) || Double.isInfinite(range)) continue;
+                for (int i = from + 1; i < to - 1; ++i) {
+                    final double prev = value(objectives, _front[i - 1] * numObjectives + obj);
+                    final double next = value(objectives, _front[i + 1] * numObjectives + obj);
+                    distances[_front[i]] += (next - prev) / range;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Positive if row1 dominates row2, negative if row2 dominates row1, and zero if neither does
+     */
+    private static int compareDominance(final double[] objectives, final int offset1, final int offset2,
+                                        final int numObjectives) {
+        boolean better = false;
+        boolean worse = false;
+        for (int k = 0; k < numObjectives; ++k) {
+            final double v1 = value(objectives, offset1 + k);
+            final double v2 = value(objectives, offset2 + k);
+            if (v1 > v2) {
+                better = true;
+            }
+            else if (v1 < v2) {
+                worse = true;
+            }
+            if (better && worse) return 0;
+        }
+        if (better) return 1;
+        return worse ? -1 : 0;
+    }
+
+    private static double value(final double[] objectives, final int index) {
+        final double v = objectives[index];
+        return Double.isNaN(v) ? Double.NEGATIVE_INFINITY : v;
+    }
+
+    private void addDominated(final int dominator, final int dominated) {
+        int[] list = _dominated[dominator];
+        if (list == null || _numDominated[dominator] == list.length) {
+            final int[] newList = new int[list == null ? 8 : list.length * 2];
+            if (list != null) {
+                System.arraycopy(list, 0, newList, 0, list.length);
+            }
+            list = newList;
+            _dominated[dominator] = list;
+        }
+        list[_numDominated[dominator]++] = dominated;
+    }
+
+    /**
+     * Stable merge sort of _front[from, to) by ascending value of one objective
+     */
+    private void mergeSort(final double[] objectives, final int numObjectives, final int obj, final int from,
+                           final int to) {
+        if (to - from < 2) return;
+        final int mid = (from + to) >>> 1;
+        mergeSort(objectives, numObjectives, obj, from, mid);
+        mergeSort(objectives, numObjectives, obj, mid, to);
+        if (value(objectives, _front[mid - 1] * numObjectives + obj) <= value(objectives, _front[mid] * numObjectives + obj))
+            return; // Already in order
+        System.arraycopy(_front, from, _scratch, from, to - from);
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; ++i) {
+            final boolean takeLeft;
+            if (right >= to) {
+                takeLeft = true;
+            }
+            else if (left >= mid) {
+                takeLeft = false;
+            }
+            else {
+                final double leftValue = value(objectives, _scratch[left] * numObjectives + obj);
+                takeLeft = leftValue <= value(objectives, _scratch[right] * numObjectives + obj);
+            }
+            _front[i] = takeLeft ? _scratch[left++] : _scratch[right++];
+        }
+    }
+
+    private void ensureCapacity(final int numIndividuals) {
+        if (_dominationCount.length >= numIndividuals) return;
+        _dominationCount = new int[numIndividuals];
+        _numDominated = new int[numIndividuals];
+        final int[][] dominated = new int[numIndividuals][];
+        System.arraycopy(_dominated, 0, dominated, 0, _dominated.length);
+        _dominated = dominated;
+        _front = new int[numIndividuals];
+        _nextFront = new int[numIndividuals];
+        _scratch = new int[numIndividuals];
+    }
+
+    private static void checkSizes(final double[] objectives, final int numIndividuals, final int numObjectives) {
+        if (numIndividuals < 0 || numObjectives < 0 || objectives.length < numIndividuals * numObjectives)
+            throw new IllegalArgumentException("Objective matrix of length " + objectives.length + " is too small for "
+                                               + numIndividuals + " individuals with " + numObjectives + " objectives");
+    }
+}
@@ -3,28 +3,34 @@
  */
 package edu.virginia.cs.geneticalgorithm.select;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
 import edu.virginia.cs.common.utils.ArrayNumberUtils;
-import edu.virginia.cs.common.utils.ListComparator;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 
 /**
  * Pareto Ranked {@link Select} class that selects a member similarly to the {@link StandardSelect} class, but after first
  * rank-ordering each fitness component and generating a temporary fitness function based off this rank-ordering, combined with an
- * optional weighted component
+ * optional weighted component. The temporary fitness values are calculated once for each {@link Distribution} (typically
+ * once per generation), and are only recalculated when the {@link Distribution} changes.
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 25, 2010
  */
-public final class ParetoRankedSelect implements Select {
+public final class ParetoRankedSelect implements SessionSelect, Checkpointable {
 
     final List<Double> _rankWeighting = new ArrayList<Double>();
 
     private final Random _rng;
+    private SelectionSession _session = null;
 
     /**
      * Constructor taking a {@link Random Random Number Generator}
@@ -51,23 +57,52 @@ public final class ParetoRankedSelect implements Select {
      */
     @Override
     public Genotype select(final Distribution distribution) {
-        final int numFitnessValues = distribution.get(0).getFitnessValues().size();
+        if (_session == null || _session.getDistribution() != distribution || !_session.isCurrent()) {
+            _session = createSession(distribution);
+        }
+        return _session.select();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SessionSelect#createSession(edu.virginia.cs.geneticalgorithm.distribution.Distribution)
+     */
+    @Override
+    public SelectionSession createSession(final Distribution distribution) {
+        final int numFitnessValues = distribution.getNumFitnessValues();
         if (_rankWeighting.isEmpty()) {
             for (int i = 0; i < numFitnessValues; ++i) {
                 _rankWeighting.add(Double.valueOf(1.0));
             }
         }
-        final List<List<Double>> enumeratedFitnessValues = SelectUtils.enumerateFitnessValues(distribution);
+        // Ranks go by place in the (sorted) distribution
         final int numIndividuals = distribution.size();
         final List<Double> paretoFitnessValues = new ArrayList<Double>(Collections.nCopies(numIndividuals, Double.valueOf(0.0)));
         for (int i = 0; i < numFitnessValues; ++i) {
-            final ListComparator<Double> lc = new ListComparator<Double>(i);
-            Collections.sort(enumeratedFitnessValues, lc);
             for (int j = 0; j < numIndividuals; ++j) {
                 final double rankValue = _rankWeighting.get(i) * (numIndividuals - j);
                 paretoFitnessValues.set(j, paretoFitnessValues.get(j) + rankValue);
             }
         }
-        return SelectUtils.substituteSelect(_rng, distribution, ArrayNumberUtils.normalize(paretoFitnessValues));
+        return SelectUtils.createSubstituteSession(_rng, distribution, ArrayNumberUtils.normalize(paretoFitnessValues));
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+        CheckpointUtils.writeDoubles(out, _rankWeighting);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        _rankWeighting.clear();
+        _rankWeighting.addAll(CheckpointUtils.readDoubles(in));
+        _session = null;
     }
 }
\ No newline at end of file
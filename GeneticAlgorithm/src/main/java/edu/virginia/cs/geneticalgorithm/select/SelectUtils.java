@@ -26,7 +26,9 @@ public class SelectUtils {
         for (int i = 0; i < distribution.size(); ++i) {
             final List<Double> toAdd = new ArrayList<Double>();
             toAdd.add(Double.valueOf(i));
-            toAdd.addAll(distribution.get(i).getFitnessValues());
+            for (int j = 0; j < distribution.getNumFitnessValues(); ++j) {
+                toAdd.add(distribution.getFitnessValue(i, j));
+            }
             enumeratedFitnessValues.add(toAdd);
         }
         return enumeratedFitnessValues;
@@ -43,10 +45,26 @@ public class SelectUtils {
         double totalProb = 0;
         for (int i = 0; i < distribution.size(); ++i) {
             totalProb += fitnessValues.get(i);
-            if (totalProb > selector) return distribution.get(i).getLast();
+            if (totalProb > selector) return distribution.getGenotype(i);
         }
         // Default to last one in case of rounding error
-        return distribution.getLast().getGenotype();
+        return distribution.getGenotype(distribution.size() - 1);
+    }
+
+    /**
+     * @param rng Random number generator
+     * @param distribution Distribution to choose individuals from
+     * @param fitnessValues Substituted fitness values to use for selection
+     * @return Session choosing individuals exactly as {@link #substituteSelect(Random, Distribution, List)} would, but
+     *         without rescanning the fitness values for each selection
+     */
+    public static SelectionSession createSubstituteSession(final Random rng, final Distribution distribution,
+                                                           final List<Double> fitnessValues) {
+        final double[] weights = new double[fitnessValues.size()];
+        for (int i = 0; i < weights.length; ++i) {
+            weights[i] = fitnessValues.get(i);
+        }
+        return new WeightedSelectionSession(distribution, weights, rng, false);
     }
 
 }
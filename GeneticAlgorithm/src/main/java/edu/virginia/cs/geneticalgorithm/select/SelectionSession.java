@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Repeated selection from a single {@link Distribution} (typically one generation), with any work that depends only on
+ * the {@link Distribution} done once when the session is created
+ * @see SessionSelect#createSession(Distribution)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface SelectionSession {
+
+    /**
+     * @return {@link Distribution} being selected from
+     */
+    public Distribution getDistribution();
+
+    /**
+     * @return Whether the {@link Distribution} is unchanged since the session was created (if not, a new session should
+     *         be created)
+     */
+    public boolean isCurrent();
+
+    /**
+     * @return Position in the {@link Distribution} of the selected individual
+     */
+    public int selectIndex();
+
+    /**
+     * @return Selected {@link Genotype} individual
+     */
+    public Genotype select();
+
+    /**
+     * Selects many individuals at once, exactly as repeated calls to {@link #selectIndex()} would
+     * @param indices Array to fill with positions in the {@link Distribution} of the selected individuals
+     */
+    public void selectMany(int[] indices);
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+
+/**
+ * {@link Select} functor that can prepare a {@link Distribution} once for many selections
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface SessionSelect extends Select {
+
+    /**
+     * @param distribution {@link Distribution} to select from
+     * @return Session selecting from the {@link Distribution} exactly as {@link #select(Distribution)} would
+     */
+    public SelectionSession createSession(Distribution distribution);
+}
@@ -3,29 +3,48 @@
  */
 package edu.virginia.cs.geneticalgorithm.select;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.Random;
 
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
-import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 
 /**
  * Standard {@link Select} class that selects a member by chance proportionately to its {@link Fitness} relative to the total
- * {@link Fitness} of the population.
+ * {@link Fitness} of the population. The running totals of the normalized {@link Fitness} values are calculated once
+ * for each {@link Distribution} (rather than for every selection), and are only recalculated when the
+ * {@link Distribution} changes.
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 25, 2010
  */
-public final class StandardSelect implements Select {
+public final class StandardSelect implements SessionSelect, Checkpointable {
 
     private final Random _rng;
+    private final boolean _useAliasTable;
+    private SelectionSession _session = null;
 
     /**
      * Constructor taking a {@link Random Random Number Generator}
      * @param rng {@link Random Random Number Generator} used by {@link #select}
      */
     public StandardSelect(final Random rng) {
+        this(rng, false);
+    }
+
+    /**
+     * Constructor taking a {@link Random Random Number Generator} and whether to use an alias table
+     * @param rng {@link Random Random Number Generator} used by {@link #select}
+     * @param useAliasTable Whether to select using a Walker alias table (constant time per selection) rather than a
+     *            binary search of the running totals (which selects exactly as a linear scan would)
+     */
+    public StandardSelect(final Random rng, final boolean useAliasTable) {
         _rng = rng;
+        _useAliasTable = useAliasTable;
     }
 
     /**
@@ -33,14 +52,39 @@ public final class StandardSelect implements Select {
      */
     @Override
     public Genotype select(final Distribution distribution) {
+        // Sessions are created normalized, and any change to the distribution makes them out of date
+        if (_session == null || _session.getDistribution() != distribution || !_session.isCurrent()) {
+            _session = createSession(distribution);
+        }
+        return _session.select();
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SessionSelect#createSession(edu.virginia.cs.geneticalgorithm.distribution.Distribution)
+     */
+    @Override
+    public SelectionSession createSession(final Distribution distribution) {
         distribution.normalize();
-        final double selector = _rng.nextDouble();
-        double totalProb = 0;
-        for (final DistributionMember m : distribution) {
-            totalProb += m.getValue();
-            if (totalProb > selector) return m.getLast();
+        final double[] weights = new double[distribution.size()];
+        for (int i = 0; i < weights.length; ++i) {
+            weights[i] = distribution.getValue(i);
         }
-        // Default to last one in case of rounding error
-        return distribution.getLast().getGenotype();
+        return new WeightedSelectionSession(distribution, weights, _rng, _useAliasTable);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
     }
 }
\ No newline at end of file
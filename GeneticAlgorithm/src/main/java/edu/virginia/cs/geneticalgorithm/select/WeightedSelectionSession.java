@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+import java.util.Random;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * {@link SelectionSession} choosing individuals with probability proportional to a weight for each. By default the
+ * weights are turned into a cumulative array that is binary searched, which gives exactly the same selections (for the
+ * same random numbers) as a linear scan of the weights, in O(log N) time per selection. Alternatively, a Walker alias
+ * table gives O(1) selection, but selects differently than a linear scan would.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class WeightedSelectionSession implements SelectionSession {
+
+    private final Distribution _distribution;
+    private final int _version;
+    private final Random _rng;
+    private final int _size;
+    // Cumulative weights (for binary or linear search)
+    private final double[] _cumulative;
+    private final boolean _searchable;
+    // Alias table
+    private final double[] _prob;
+    private final int[] _alias;
+
+    /**
+     * @param distribution {@link Distribution} to select from
+     * @param weights Weight of each individual in the {@link Distribution} (need not sum to one)
+     * @param rng Random number generator (one number is used for each selection)
+     * @param useAliasTable Whether to use a Walker alias table rather than a cumulative array. Ignored if any weight is
+     *            negative or the weights don't sum to a positive value.
+     */
+    public WeightedSelectionSession(final Distribution distribution, final double[] weights, final Random rng,
+                                    final boolean useAliasTable) {
+        if (weights.length != distribution.size())
+            throw new IllegalArgumentException("Number of weights (" + weights.length
+                                               + ") must match size of distribution (" + distribution.size() + ")");
+        _distribution = distribution;
+        _version = distribution.getVersion();
+        _rng = rng;
+        _size = weights.length;
+        boolean nonNegative = true;
+        double total = 0;
+        for (final double w : weights) {
+            if (!(w >= 0)) nonNegative = false; // Also catches NaN
+            total += w;
+        }
+        if (useAliasTable && nonNegative && total > 0) {
+            _cumulative = null;
+            _searchable = false;
+            _prob = new double[_size];
+            _alias = new int[_size];
+            buildAliasTable(weights, total);
+        }
+        else {
+            _prob = null;
+            _alias = null;
+            _cumulative = new double[_size];
+            double sum = 0;
+            for (int i = 0; i < _size; ++i) {
+                sum += weights[i];
+                _cumulative[i] = sum;
+            }
+            // Negative (or NaN) weights mean the cumulative array isn't sorted
+            _searchable = nonNegative;
+        }
+    }
+
+    /**
+     * Vose's method for building an alias table
+     */
+    private void buildAliasTable(final double[] weights, final double total) {
+        final double[] scaled = new double[_size];
+        final int[] small = new int[_size];
+        final int[] large = new int[_size];
+        int numSmall = 0;
+        int numLarge = 0;
+        for (int i = 0; i < _size; ++i) {
+            scaled[i] = weights[i] * _size / total;
+            if (scaled[i] < 1) {
+                small[numSmall++] = i;
+            }
+            else {
+                large[numLarge++] = i;
+            }
+        }
+        while (numSmall > 0 && numLarge > 0) {
+            final int less = small[--numSmall];
+            final int more = large[--numLarge];
+            _prob[less] = scaled[less];
+            _alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) {
+                small[numSmall++] = more;
+            }
+            else {
+                large[numLarge++] = more;
+            }
+        }
+        // Anything left over is (to within rounding error) certain to be chosen
+        while (numLarge > 0) {
+            final int i = large[--numLarge];
+            _prob[i] = 1;
+            _alias[i] = i;
+        }
+        while (numSmall > 0) {
+            final int i = small[--numSmall];
+            _prob[i] = 1;
+            _alias[i] = i;
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#getDistribution()
+     */
+    @Override
+    public Distribution getDistribution() {
+        return _distribution;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#isCurrent()
+     */
+    @Override
+    public boolean isCurrent() {
+        return _distribution.getVersion() == _version;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#selectIndex()
+     */
+    @Override
+    public int selectIndex() {
+        if (_size == 0) throw new IllegalStateException("Cannot select from an empty distribution");
+        if (_alias != null) {
+            final double u = _rng.nextDouble() * _size;
+            final int i = Math.min((int) u, _size - 1);
+            return (u - i < _prob[i]) ? i : _alias[i];
+        }
+        return findIndex(_rng.nextDouble());
+    }
+
+    /**
+     * @param selector Value in [0, 1)
+     * @return First position whose cumulative weight exceeds the selector (or the last position if none does)
+     */
+    private int findIndex(final double selector) {
+        if (!_searchable) {
+            for (int i = 0; i < _size; ++i) {
+                if (_cumulative[i] > selector) return i;
+            }
+            return _size - 1;
+        }
+        // Default to last one in case of rounding error
+        if (!(_cumulative[_size - 1] > selector)) return _size - 1;
+        int lo = 0;
+        int hi = _size - 1;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (_cumulative[mid] > selector) {
+                hi = mid;
+            }
+            else {
+                lo = mid + 1;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#select()
+     */
+    @Override
+    public Genotype select() {
+        return _distribution.getGenotype(selectIndex());
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.select.SelectionSession#selectMany(int[])
+     */
+    @Override
+    public void selectMany(final int[] indices) {
+        for (int i = 0; i < indices.length; ++i) {
+            indices[i] = selectIndex();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+
+/**
+ * {@link SurrogateModel} predicting the inverse-distance weighted mean of the outputs of the k nearest samples
+ * (Euclidean distance). Only the most recent samples are kept, so that adding a sample takes constant time and predicting
+ * takes time proportional to the capacity.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NearestNeighborModel implements SurrogateModel, Checkpointable {
+
+    private final int _k;
+    private final double[][] _features;
+    private final double[][] _targets;
+    private int _numSamples = 0;
+
+    /**
+     * @param k Number of neighbors to average
+     * @param capacity Maximum number of samples kept (the oldest are forgotten first)
+     */
+    public NearestNeighborModel(final int k, final int capacity) {
+        if (k < 1) throw new IllegalArgumentException("Number of neighbors must be positive");
+        if (capacity < 1) throw new IllegalArgumentException("Capacity must be positive");
+        _k = k;
+        _features = new double[capacity][];
+        _targets = new double[capacity][];
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#add(double[], double[])
+     */
+    @Override
+    public void add(final double[] features, final double[] targets) {
+        if (_numSamples > 0 && targets.length != _targets[0].length)
+            throw new IllegalArgumentException("Expected " + _targets[0].length + " targets, found " + targets.length);
+        final int slot = _numSamples % _features.length;
+        _features[slot] = features.clone();
+        _targets[slot] = targets.clone();
+        ++_numSamples;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#predict(double[])
+     */
+    @Override
+    public double[] predict(final double[] features) {
+        final int size = Math.min(_numSamples, _features.length);
+        if (size == 0) return null;
+        final int k = Math.min(_k, size);
+        // Insertion into a short sorted list is cheaper than sorting every sample for the small k that's typical
+        final int[] nearest = new int[k];
+        final double[] distances = new double[k];
+        int found = 0;
+        for (int i = 0; i < size; ++i) {
+            final double d = squaredDistance(features, _features[i]);
+            if (found == k && d >= distances[k - 1]) continue;
+            int j = found == k ? k - 1 : found++;
+            while (j > 0 && distances[j - 1] > d) {
+                distances[j] = distances[j - 1];
+                nearest[j] = nearest[j - 1];
+                --j;
+            }
+            distances[j] = d;
+            nearest[j] = i;
+        }
+        if (distances[0] == 0) return _targets[nearest[0]].clone(); // Already evaluated
+        final double[] retval = new double[_targets[0].length];
+        double totalWeight = 0.0;
+        for (int n = 0; n < k; ++n) {
+            final double weight = 1 / Math.sqrt(distances[n]);
+            final double[] targets = _targets[nearest[n]];
+            for (int t = 0; t < retval.length; ++t) {
+                retval[t] += weight * targets[t];
+            }
+            totalWeight += weight;
+        }
+        for (int t = 0; t < retval.length; ++t) {
+            retval[t] /= totalWeight;
+        }
+        return retval;
+    }
+
+    private static double squaredDistance(final double[] a, final double[] b) {
+        if (a.length != b.length) throw new IllegalArgumentException("Expected " + b.length + " features, found " + a.length);
+        double retval = 0.0;
+        for (int i = 0; i < a.length; ++i) {
+            final double diff = a[i] - b[i];
+            retval += diff * diff;
+        }
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#getNumSamples()
+     */
+    @Override
+    public int getNumSamples() {
+        return _numSamples;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        out.writeInt(_features.length);
+        out.writeInt(_numSamples);
+        for (int i = 0; i < Math.min(_numSamples, _features.length); ++i) {
+            CheckpointUtils.writeDoubleArray(out, _features[i]);
+            CheckpointUtils.writeDoubleArray(out, _targets[i]);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        final int capacity = in.readInt();
+        if (capacity != _features.length)
+            throw new IOException("Checkpoint has a capacity of " + capacity + ", but " + _features.length
+                                  + " was expected");
+        _numSamples = CheckpointUtils.readSize(in);
+        for (int i = 0; i < _features.length; ++i) {
+            final boolean filled = i < _numSamples;
+            _features[i] = filled ? CheckpointUtils.readDoubleArray(in) : null;
+            _targets[i] = filled ? CheckpointUtils.readDoubleArray(in) : null;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "{k = " + _k + ", capacity = " + _features.length + ", samples = " + _numSamples + "}";
+    }
+}
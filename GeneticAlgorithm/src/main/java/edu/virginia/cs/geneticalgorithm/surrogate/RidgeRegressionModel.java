@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+
+/**
+ * {@link SurrogateModel} predicting each output as a linear function of the inputs (plus a constant), fitted by ridge
+ * regression. The fit is updated by recursive least squares, so each sample takes time and memory proportional to the
+ * square of the number of inputs, however many samples there have been. A forgetting factor below one discounts older
+ * samples, so that the fit follows the population as it evolves.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class RidgeRegressionModel implements SurrogateModel, Checkpointable {
+
+    private final double _ridge;
+    private final double _forgetting;
+    private double[][] _inverse = null; // Inverse of the (regularized) covariance of the inputs
+    private double[][] _weights = null; // One row (ending with the constant) per output
+    private int _numSamples = 0;
+
+    /**
+     * @param ridge Regularization strength (positive)
+     * @param forgetting Weight each sample loses (relative to the next) in (0, 1], with 1 never forgetting
+     */
+    public RidgeRegressionModel(final double ridge, final double forgetting) {
+        if (ridge <= 0) throw new IllegalArgumentException("Ridge must be positive");
+        if (forgetting <= 0 || forgetting > 1) throw new IllegalArgumentException("Forgetting factor must be in (0, 1]");
+        _ridge = ridge;
+        _forgetting = forgetting;
+    }
+
+    private double[] withConstant(final double[] features) {
+        if (_inverse != null && features.length + 1 != _inverse.length)
+            throw new IllegalArgumentException("Expected " + (_inverse.length - 1) + " features, found "
+                                               + features.length);
+        final double[] retval = new double[features.length + 1];
+        System.arraycopy(features, 0, retval, 0, features.length);
+        retval[features.length] = 1;
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#add(double[], double[])
+     */
+    @Override
+    public void add(final double[] features, final double[] targets) {
+        final double[] x = withConstant(features);
+        final int n = x.length;
+        if (_inverse == null) {
+            _inverse = new double[n][n];
+            for (int i = 0; i < n; ++i) {
+                _inverse[i][i] = 1 / _ridge;
+            }
+            _weights = new double[targets.length][n];
+        }
+        else if (targets.length != _weights.length)
+            throw new IllegalArgumentException("Expected " + _weights.length + " targets, found " + targets.length);
+        final double[] px = new double[n];
+        double denominator = _forgetting;
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                px[i] += _inverse[i][j] * x[j];
+            }
+            denominator += x[i] * px[i];
+        }
+        for (int t = 0; t < targets.length; ++t) {
+            final double error = targets[t] - dot(_weights[t], x);
+            for (int i = 0; i < n; ++i) {
+                _weights[t][i] += px[i] * error / denominator;
+            }
+        }
+        // Sherman-Morrison update (the inverse stays symmetric)
+        for (int i = 0; i < n; ++i) {
+            for (int j = 0; j < n; ++j) {
+                _inverse[i][j] = (_inverse[i][j] - px[i] * px[j] / denominator) / _forgetting;
+            }
+        }
+        ++_numSamples;
+    }
+
+    private static double dot(final double[] a, final double[] b) {
+        double retval = 0.0;
+        for (int i = 0; i < a.length; ++i) {
+            retval += a[i] * b[i];
+        }
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#predict(double[])
+     */
+    @Override
+    public double[] predict(final double[] features) {
+        if (_weights == null) return null;
+        final double[] x = withConstant(features);
+        final double[] retval = new double[_weights.length];
+        for (int t = 0; t < retval.length; ++t) {
+            retval[t] = dot(_weights[t], x);
+        }
+        return retval;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel#getNumSamples()
+     */
+    @Override
+    public int getNumSamples() {
+        return _numSamples;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        out.writeInt(_numSamples);
+        out.writeBoolean(_inverse != null);
+        if (_inverse != null) {
+            writeMatrix(out, _inverse);
+            writeMatrix(out, _weights);
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        _numSamples = CheckpointUtils.readSize(in);
+        if (in.readBoolean()) {
+            _inverse = readMatrix(in);
+            _weights = readMatrix(in);
+        }
+        else {
+            _inverse = null;
+            _weights = null;
+        }
+    }
+
+    private static void writeMatrix(final DataOutput out, final double[][] matrix) throws IOException {
+        out.writeInt(matrix.length);
+        for (final double[] row : matrix) {
+            CheckpointUtils.writeDoubleArray(out, row);
+        }
+    }
+
+    private static double[][] readMatrix(final DataInput in) throws IOException {
+        final double[][] retval = new double[CheckpointUtils.readSize(in)][];
+        for (int i = 0; i < retval.length; ++i) {
+            retval[i] = CheckpointUtils.readDoubleArray(in);
+        }
+        return retval;
+    }
+
+    @Override
+    public String toString() {
+        return "{ridge = " + _ridge + ", forgetting = " + _forgetting + ", samples = " + _numSamples + "}";
+    }
+}
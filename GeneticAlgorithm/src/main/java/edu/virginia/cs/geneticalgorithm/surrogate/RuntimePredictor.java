@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+
+/**
+ * Predicts how long evaluating an individual will take from how long evaluating individuals with similar genes took.
+ * The {@link SurrogateModel} learns the logarithm of the duration, so that a few very long evaluations don't swamp the
+ * rest. Thread-safe.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class RuntimePredictor {
+
+    private final SurrogateModel _model;
+
+    /**
+     * @param model Model of the duration (e.g., a {@link NearestNeighborModel}, so that each region of the genotype space
+     *            has its own duration)
+     */
+    public RuntimePredictor(final SurrogateModel model) {
+        _model = model;
+    }
+
+    /**
+     * @param individual Individual made up of {@link edu.virginia.cs.geneticalgorithm.gene.IntervalGene IntervalGenes}
+     * @param elapsedTime How long (in milliseconds) evaluating the individual took
+     */
+    public synchronized void record(final Genotype individual, final long elapsedTime) {
+        _model.add(SurrogateFitnessFactory.getFeatures(individual), new double[] { Math.log1p(elapsedTime) });
+    }
+
+    /**
+     * @param individual Individual made up of {@link edu.virginia.cs.geneticalgorithm.gene.IntervalGene IntervalGenes}
+     * @return Predicted duration (in milliseconds) of evaluating the individual (NaN before anything has been recorded)
+     */
+    public synchronized double predict(final Genotype individual) {
+        final double[] prediction = _model.predict(SurrogateFitnessFactory.getFeatures(individual));
+        return prediction == null ? Double.NaN : Math.expm1(prediction[0]);
+    }
+
+    /**
+     * @return Number of durations that have been recorded
+     */
+    public synchronized int getNumSamples() {
+        return _model.getNumSamples();
+    }
+
+    @Override
+    public String toString() {
+        return "{model = " + _model + "}";
+    }
+}
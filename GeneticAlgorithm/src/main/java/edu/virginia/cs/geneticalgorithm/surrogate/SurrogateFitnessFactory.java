@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.CachedFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness;
+import edu.virginia.cs.geneticalgorithm.gene.Gene;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+
+/**
+ * Screens individuals with a {@link SurrogateModel} before they reach another {@link FitnessFactory}. An individual whose
+ * predicted total fitness is below the given fraction of recently evaluated individuals is not evaluated at all, and is
+ * given its predicted fitness instead, unless it is chosen (at the exploration rate) to be evaluated anyway, so that the
+ * model keeps learning about the regions it predicts poorly. Every individual that is evaluated trains the model, with
+ * its {@link IntervalGene} values as the inputs and its total fitness followed by its fitness values as the outputs.
+ * Individuals the model has already been trained on, and fitnesses the other {@link FitnessFactory} found in a cache
+ * (see {@link CachedFitness}), don't train it again, and provisional results (see {@link ProvisionalFitness}) don't
+ * train it at all. Predictions are never below the lowest values it was trained on.
+ * Checkpoints include the model, if it is {@link Checkpointable}, and the random number generator, which must be a
+ * {@link edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointableRandom CheckpointableRandom}.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class SurrogateFitnessFactory implements FitnessFactory, Checkpointable {
+
+    private static final int NUM_RECENT = 100; // Evaluations the threshold is based on
+    private final FitnessFactory _factory;
+    private final SurrogateModel _model;
+    private final Random _rng;
+    private double _screenFraction = 0.25;
+    private double _explorationRate = 0.1;
+    private int _minSamples = 20;
+    private final LinkedList<Double> _recentTotals = new LinkedList<Double>();
+    private final Set<Genotype> _trained = new HashSet<Genotype>();
+    private double[] _minTargets = null; // Lowest total fitness and fitness values trained on
+    private int _numEvaluated = 0;
+    private int _numScreened = 0;
+    private int _numExplored = 0;
+    private int _numPredicted = 0; // Evaluated individuals whose fitness was also predicted
+    private double _totalError = 0.0; // Of the predicted total fitness of those individuals
+
+    /**
+     * @param factory {@link FitnessFactory} that evaluates the individuals that aren't screened out
+     * @param model Model predicting the total fitness and fitness values of an individual
+     * @param rng Random number generator choosing which screened individuals are evaluated anyway
+     */
+    public SurrogateFitnessFactory(final FitnessFactory factory, final SurrogateModel model, final Random rng) {
+        _factory = factory;
+        _model = model;
+        _rng = rng;
+    }
+
+    /**
+     * @param screenFraction Fraction of recently evaluated individuals whose total fitness a prediction must reach for
+     *            the individual to be evaluated (0 never screens anything out)
+     */
+    public synchronized void setScreenFraction(final double screenFraction) {
+        if (screenFraction < 0 || screenFraction >= 1) throw new IllegalArgumentException("Fraction must be in [0, 1)");
+        _screenFraction = screenFraction;
+    }
+
+    /**
+     * @param explorationRate Probability that an individual that would be screened out is evaluated anyway
+     */
+    public synchronized void setExplorationRate(final double explorationRate) {
+        if (explorationRate < 0 || explorationRate > 1) throw new IllegalArgumentException("Rate must be in [0, 1]");
+        _explorationRate = explorationRate;
+    }
+
+    /**
+     * @param minSamples Number of samples the model needs before any individual is screened out
+     */
+    public synchronized void setMinSamples(final int minSamples) {
+        _minSamples = minSamples;
+    }
+
+    /**
+     * @param individual Individual made up of {@link IntervalGene IntervalGenes}
+     * @return Normalized values of the individual's genes
+     */
+    public static double[] getFeatures(final Genotype individual) {
+        final double[] retval = new double[individual.getNumGenes()];
+        for (int i = 0; i < retval.length; ++i) {
+            final Gene gene = individual.getGene(i);
+            if (!(gene instanceof IntervalGene))
+                throw new IllegalArgumentException("Surrogate models need interval genes, found " + gene);
+            retval[i] = ((IntervalGene) gene).getValue();
+        }
+        return retval;
+    }
+
+    private synchronized void train(final Genotype individual, final List<Double> fitnessValues,
+                                    final double totalFitness) {
+        if (!_trained.add(individual.clone())) return;
+        final double[] targets = new double[fitnessValues.size() + 1];
+        targets[0] = totalFitness;
+        for (int i = 0; i < fitnessValues.size(); ++i) {
+            targets[i + 1] = fitnessValues.get(i);
+        }
+        if (_minTargets == null) {
+            _minTargets = targets.clone();
+        }
+        for (int i = 0; i < targets.length; ++i) {
+            _minTargets[i] = Math.min(_minTargets[i], targets[i]);
+        }
+        _model.add(getFeatures(individual), targets);
+        _recentTotals.add(totalFitness);
+        if (_recentTotals.size() > NUM_RECENT) {
+            _recentTotals.removeFirst();
+        }
+    }
+
+    /**
+     * @return Total fitness a prediction must reach for the individual to be evaluated (-infinity while nothing is being
+     *         screened out)
+     */
+    public synchronized double getThreshold() {
+        if (_screenFraction == 0 || _model.getNumSamples() < _minSamples || _recentTotals.isEmpty())
+            return Double.NEGATIVE_INFINITY;
+        final Double[] sorted = _recentTotals.toArray(new Double[_recentTotals.size()]);
+        Arrays.sort(sorted);
+        return sorted[(int) (_screenFraction * sorted.length)];
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#createFitness(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+     */
+    @Override
+    public Fitness createFitness(final Genotype individual) {
+        final double[] prediction;
+        synchronized (this) {
+            prediction = _model.predict(getFeatures(individual));
+            if (prediction != null && _minTargets != null) {
+                // Extrapolating models can predict values that no individual could score (e.g., negative fitness)
+                for (int i = 0; i < Math.min(prediction.length, _minTargets.length); ++i) {
+                    prediction[i] = Math.max(prediction[i], _minTargets[i]);
+                }
+            }
+            if (prediction != null && prediction[0] < getThreshold()) {
+                if (_rng.nextDouble() >= _explorationRate) {
+                    ++_numScreened;
+                    final List<Double> fitnessValues = new ArrayList<Double>(prediction.length - 1);
+                    for (int i = 1; i < prediction.length; ++i) {
+                        fitnessValues.add(prediction[i]);
+                    }
+                    return new CachedFitness(fitnessValues, prediction[0]);
+                }
+                ++_numExplored;
+            }
+        }
+        final Fitness fitness = _factory.createFitness(individual);
+        // A cached result was already evaluated (and may not even have been evaluated by this run)
+        if (fitness instanceof CachedFitness) return fitness;
+        return new TrainingFitness(fitness, individual, prediction == null ? Double.NaN : prediction[0]);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#ready()
+     */
+    @Override
+    public void ready() {
+        _factory.ready();
+    }
+
+    /**
+     * @return Model predicting the fitness of individuals
+     */
+    public SurrogateModel getModel() {
+        return _model;
+    }
+
+    /**
+     * @return Number of individuals that were evaluated
+     */
+    public synchronized int getNumEvaluated() {
+        return _numEvaluated;
+    }
+
+    /**
+     * @return Number of individuals given their predicted fitness instead of being evaluated
+     */
+    public synchronized int getNumScreened() {
+        return _numScreened;
+    }
+
+    /**
+     * @return Number of individuals that were evaluated even though their predicted fitness was below the threshold
+     */
+    public synchronized int getNumExplored() {
+        return _numExplored;
+    }
+
+    /**
+     * @return Mean absolute difference between the predicted and actual total fitness of evaluated individuals (NaN if
+     *         none have been predicted)
+     */
+    public synchronized double getMeanAbsoluteError() {
+        return _numPredicted == 0 ? Double.NaN : _totalError / _numPredicted;
+    }
+
+    private synchronized void evaluated(final Genotype individual, final List<Double> fitnessValues,
+                                        final double totalFitness, final double predicted, final boolean provisional) {
+        ++_numEvaluated;
+        // A failed evaluation might succeed next time, and a partial average will be improved on
+        if (provisional) return;
+        if (!Double.isNaN(predicted)) {
+            ++_numPredicted;
+            _totalError += Math.abs(predicted - totalFitness);
+        }
+        train(individual, fitnessValues, totalFitness);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public synchronized void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeRandom(out, _rng);
+        CheckpointUtils.writeOptionalState(out, _model);
+        CheckpointUtils.writeDoubles(out, _recentTotals);
+        CheckpointUtils.writeGenotypes(out, new ArrayList<Genotype>(_trained));
+        out.writeBoolean(_minTargets != null);
+        if (_minTargets != null) {
+            CheckpointUtils.writeDoubleArray(out, _minTargets);
+        }
+        out.writeInt(_numEvaluated);
+        out.writeInt(_numScreened);
+        out.writeInt(_numExplored);
+        out.writeInt(_numPredicted);
+        out.writeDouble(_totalError);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public synchronized void readState(final DataInput in) throws IOException {
+        CheckpointUtils.readRandom(in, _rng);
+        CheckpointUtils.readOptionalState(in, _model);
+        _recentTotals.clear();
+        _recentTotals.addAll(CheckpointUtils.readDoubles(in));
+        _trained.clear();
+        _trained.addAll(CheckpointUtils.readGenotypes(in));
+        _minTargets = in.readBoolean() ? CheckpointUtils.readDoubleArray(in) : null;
+        _numEvaluated = in.readInt();
+        _numScreened = in.readInt();
+        _numExplored = in.readInt();
+        _numPredicted = in.readInt();
+        _totalError = in.readDouble();
+    }
+
+    @Override
+    public String toString() {
+        return "{model = " + _model + ", evaluated = " + getNumEvaluated() + ", screened = " + getNumScreened()
+               + ", explored = " + getNumExplored() + "}";
+    }
+
+    /**
+     * Fitness that trains the model the first time it is evaluated, unless its results are provisional
+     */
+    public final class TrainingFitness implements PrecomputedFitness, ProvisionalFitness, WrappedFitness {
+
+        private final Fitness _fitness;
+        private final Genotype _individual;
+        private final double _predicted;
+        private boolean _trained = false;
+
+        TrainingFitness(final Fitness fitness, final Genotype individual, final double predicted) {
+            _fitness = fitness;
+            _individual = individual;
+            _predicted = predicted;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.WrappedFitness#getFitness()
+         */
+        @Override
+        public Fitness getFitness() {
+            return _fitness;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#prepare()
+         */
+        @Override
+        public void prepare() {
+            _fitness.prepare();
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#fitnessValues()
+         */
+        @Override
+        public List<Double> fitnessValues() {
+            final List<Double> retval = _fitness.fitnessValues();
+            train(retval, _fitness.totalFitness());
+            return retval;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#totalFitness()
+         */
+        @Override
+        public double totalFitness() {
+            final double retval = _fitness.totalFitness();
+            train(_fitness.fitnessValues(), retval);
+            return retval;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#numFitnessValues()
+         */
+        @Override
+        public int numFitnessValues() {
+            return _fitness.numFitnessValues();
+        }
+
+        private synchronized void train(final List<Double> fitnessValues, final double totalFitness) {
+            if (!_trained) {
+                final boolean provisional = AbstractFitness.isProvisional(_fitness);
+                evaluated(_individual, fitnessValues, totalFitness, _predicted, provisional);
+                _trained = true;
+            }
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+         */
+        @Override
+        public boolean isPrecomputed() {
+            return AbstractFitness.isPrecomputed(_fitness);
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness#isProvisional()
+         */
+        @Override
+        public boolean isProvisional() {
+            return AbstractFitness.isProvisional(_fitness);
+        }
+
+        @Override
+        public String toString() {
+            return _fitness.toString();
+        }
+    }
+}
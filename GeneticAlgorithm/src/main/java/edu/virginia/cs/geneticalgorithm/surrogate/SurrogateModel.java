@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+/**
+ * Regression model, trained incrementally, that predicts the fitness of an individual from its (normalized) genes
+ * without evaluating it. Implementations need not be thread-safe.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public interface SurrogateModel {
+
+    /**
+     * Adds a training sample
+     * @param features Inputs (e.g., gene values)
+     * @param targets Outputs (e.g., fitness values). Every sample must have the same number of them.
+     */
+    public void add(final double[] features, final double[] targets);
+
+    /**
+     * @param features Inputs (e.g., gene values)
+     * @return Predicted outputs (null if there are no samples to predict from)
+     */
+    public double[] predict(final double[] features);
+
+    /**
+     * @return Number of samples that have been added (including any the model no longer remembers)
+     */
+    public int getNumSamples();
+}
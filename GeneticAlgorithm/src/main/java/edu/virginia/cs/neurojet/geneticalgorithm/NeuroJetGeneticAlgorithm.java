@@ -3,53 +3,123 @@
  */
 package edu.virginia.cs.neurojet.geneticalgorithm;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
-import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 // import edu.tufts.cs.geometry.PCA;
 // import edu.tufts.cs.geometry.PCA.PrincipalComponent;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.MetricsLogger;
+import edu.virginia.cs.common.metrics.MetricsSnapshot;
 import edu.virginia.cs.data.FileLoader;
+import edu.virginia.cs.data.SpillingHistory;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointWriter;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointableRandom;
+import edu.virginia.cs.geneticalgorithm.checkpoint.DistributionSerializer;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.fitness.CachingFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.CascadeFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.CascadeStage;
 import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.PersistentFitnessCache;
 import edu.virginia.cs.geneticalgorithm.fitness.ShortCircuitFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.WorkStealingFitnessEvaluator;
 import edu.virginia.cs.geneticalgorithm.gene.GeneticFactory;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 import edu.virginia.cs.geneticalgorithm.gene.IntervalGeneticFactory;
+import edu.virginia.cs.geneticalgorithm.island.FileTransport;
+import edu.virginia.cs.geneticalgorithm.island.FullyConnectedTopology;
+import edu.virginia.cs.geneticalgorithm.island.Island;
+import edu.virginia.cs.geneticalgorithm.island.IslandModel;
+import edu.virginia.cs.geneticalgorithm.island.MigrationTopology;
+import edu.virginia.cs.geneticalgorithm.island.MigrationTransport;
+import edu.virginia.cs.geneticalgorithm.island.QueueTransport;
+import edu.virginia.cs.geneticalgorithm.island.RandomTopology;
+import edu.virginia.cs.geneticalgorithm.island.RingTopology;
 import edu.virginia.cs.geneticalgorithm.mutator.DecayingIntervalMutator;
 import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
 import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+import edu.virginia.cs.geneticalgorithm.reproduction.SteadyStateReproduction;
 import edu.virginia.cs.geneticalgorithm.select.BonusSelect;
+import edu.virginia.cs.geneticalgorithm.select.NonDominatedSelect;
 import edu.virginia.cs.geneticalgorithm.select.Select;
+import edu.virginia.cs.geneticalgorithm.surrogate.NearestNeighborModel;
+import edu.virginia.cs.geneticalgorithm.surrogate.RidgeRegressionModel;
+import edu.virginia.cs.geneticalgorithm.surrogate.RuntimePredictor;
+import edu.virginia.cs.geneticalgorithm.surrogate.SurrogateFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.surrogate.SurrogateModel;
+import edu.virginia.cs.neurojet.simulator.NeuroJetSimulator;
 
 /**
  * Driver for genetic algorithm exploring NeuroJet space
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since May 16, 2010
  */
-public final class NeuroJetGeneticAlgorithm {
+public final class NeuroJetGeneticAlgorithm implements Checkpointable {
 
     // TODO: Generalize the location of these File objects
     static File NJ = new File("/Users/bhocking/Documents/workspace/NeuroJet/build/src/main/c++/NeuroJet");
     static File WORKING_DIR = new File("/Users/bhocking/Documents/workspace/ShortCircuitGA/scripts");
     static File SCRIPT_FILE = null;
     static File PREPARE_FILE = null;
+    static File FITNESS_CACHE = null;
+    static File CHECKPOINT_FILE = null;
+    static boolean NON_DOMINATED_SELECT = false;
+    static double PASS_FRACTION = 1.0; // Fraction of each generation passing the proxy (1 for a fixed threshold)
+    static boolean STEADY_STATE = false; // Whether to evolve asynchronously rather than generation by generation
+    static int TOURNAMENT_SIZE = 2; // Members a new individual competes against to join a steady-state population
+    static int NUM_ISLANDS = 1; // Number of populations evolving separately, apart from exchanging migrants
+    static int ISLAND_ID = -1; // Which island this process runs (-1 to run all of them, each on its own thread)
+    static int MIGRATION_INTERVAL = 5; // Generations between migrations
+    static int NUM_MIGRANTS = 2; // Fittest individuals sent to each destination island
+    static String TOPOLOGY = "RING"; // Which islands migrants go to: RING, FULL or RANDOM
+    static File MIGRATION_DIR = null; // Where islands in different processes exchange migrants
+    static String SURROGATE = "NONE"; // Model screening individuals before they are simulated: NONE, KNN or RIDGE
+    static double SURROGATE_SCREEN_FRACTION = 0.25; // Fraction of recent fitnesses a prediction must reach
+    static double SURROGATE_EXPLORATION = 0.1; // Probability of simulating an individual that was screened out anyway
+    static boolean COST_AWARE = false; // Whether to start the simulations predicted to take longest first
+    static int HISTORY_IN_MEMORY = -1; // Generations of history kept in memory, older ones on disk (-1 to keep all)
+    static double MAX_DUPLICATE_RATE = 0.5; // Fraction of offspring that may be duplicates before immigrants are added
+    static final String SIMULATOR = "SIMULATOR"; // Value of NJ that runs the stand-in NeuroJetSimulator instead
     final static int GENOTYPE_SIZE = 21; // 0 - 20
     private final static double PRE_THRESHOLD = 1e5;
     private final static double POST_SCALE_FACTOR = 0.5 * PRE_THRESHOLD;
+    private final NeuroJetTraceFitnessFactory _traceFitnessFactory;
+    private final CascadeFitnessFactory _cascadeFitnessFactory;
+    private final SurrogateFitnessFactory _surrogateFitnessFactory;
     private final FitnessFactory _fitnessFactory;
     private final GeneticFactory _factory;
     private final Reproduction _reproduction;
+    private final SteadyStateReproduction _steadyState;
     private final Select _select;
 
     private List<Genotype> _population;
 
+    /**
+     * @param useProxy Whether NeuroJetQuickFitnessFactory is used as a proxy
+     * @return Name distinguishing cached fitness values of differently configured fitness factories
+     */
+    private static String getCacheContext(final boolean useProxy) {
+        if (!useProxy) return "trace";
+        // Total fitness also depends on how the proxy and trace fitnesses are combined
+        final String scoring = ",threshold=" + PRE_THRESHOLD + ",scale=" + POST_SCALE_FACTOR;
+        return (PASS_FRACTION < 1 ? "cascade" + PASS_FRACTION : "proxy") + scoring;
+    }
+
     /**
      * Creates a genetic factory that determines how NeuroJet scripts are generated and how they evolve
      * @param seed Random seed to use
@@ -66,7 +136,7 @@ public final class NeuroJetGeneticAlgorithm {
         // final double sigmaDecay = 0.00005; // Sigma decays by about 5% (0.9995^100) every generation
         final double sigmaDecay = 0;
         final Mutator mutator =
-                new DecayingIntervalMutator(mutateProb, probDecay, mutateSigma, sigmaDecay, new Random(seed));
+                new DecayingIntervalMutator(mutateProb, probDecay, mutateSigma, sigmaDecay, new CheckpointableRandom(seed));
         return new IntervalGeneticFactory(seed, xOverProb, geneXOverProb, mutator);
     }
 
@@ -96,23 +166,152 @@ public final class NeuroJetGeneticAlgorithm {
                 new NeuroJetTraceFitnessFactory(traceScriptFiles,
                                                 buildScriptUpdater(), NJ,
                                                 WORKING_DIR, PREPARE_FILE);
-        _fitnessFactory =
-                useProxy ? new ShortCircuitFitnessFactory(new NeuroJetQuickFitnessFactory(traceFitnessFactory),
-                                                          Collections.singletonList(PRE_THRESHOLD),
-                                                          NeuroJetTraceFitness.NUM_FIT_VALS) : traceFitnessFactory;
-        ((ShortCircuitFitnessFactory) _fitnessFactory).setPostScale(POST_SCALE_FACTOR);
+        _traceFitnessFactory = traceFitnessFactory;
+        FitnessFactory fitnessFactory = traceFitnessFactory;
+        if (useProxy && PASS_FRACTION < 1) {
+            final CascadeStage proxyStage =
+                    new CascadeStage(new NeuroJetQuickFitnessFactory(traceFitnessFactory), NeuroJetQuickFitness.NUM_FIT_VALS);
+            proxyStage.setThreshold(PRE_THRESHOLD).setLimit(PRE_THRESHOLD).setPassFraction(PASS_FRACTION);
+            final CascadeStage traceStage = new CascadeStage(null, NeuroJetTraceFitness.NUM_FIT_VALS);
+            traceStage.setScale(POST_SCALE_FACTOR);
+            final CascadeFitnessFactory cascadeFactory = new CascadeFitnessFactory(Arrays.asList(proxyStage, traceStage));
+            // Evaluations overlap in steady-state mode, so generations have to be counted out
+            cascadeFactory.setGenerationSize(popSize);
+            _cascadeFitnessFactory = cascadeFactory;
+            fitnessFactory = cascadeFactory;
+        }
+        else if (useProxy) {
+            final ShortCircuitFitnessFactory shortCircuitFactory =
+                    new ShortCircuitFitnessFactory(new NeuroJetQuickFitnessFactory(traceFitnessFactory),
+                                                   Collections.singletonList(PRE_THRESHOLD),
+                                                   NeuroJetTraceFitness.NUM_FIT_VALS);
+            shortCircuitFactory.setPostScale(POST_SCALE_FACTOR);
+            _cascadeFitnessFactory = null;
+            fitnessFactory = shortCircuitFactory;
+        }
+        else {
+            _cascadeFitnessFactory = null;
+        }
+        if (FITNESS_CACHE != null) {
+            try {
+                fitnessFactory = new CachingFitnessFactory(fitnessFactory, new PersistentFitnessCache(FITNESS_CACHE),
+                                                           traceFitnessFactory, getCacheContext(useProxy));
+            }
+            catch (final IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        final SurrogateModel surrogateModel = createSurrogateModel(SURROGATE);
+        if (surrogateModel != null) {
+            _surrogateFitnessFactory =
+                    new SurrogateFitnessFactory(fitnessFactory, surrogateModel, new CheckpointableRandom(seed));
+            _surrogateFitnessFactory.setScreenFraction(SURROGATE_SCREEN_FRACTION);
+            _surrogateFitnessFactory.setExplorationRate(SURROGATE_EXPLORATION);
+            fitnessFactory = _surrogateFitnessFactory;
+        }
+        else {
+            _surrogateFitnessFactory = null;
+        }
+        _fitnessFactory = fitnessFactory;
         // _fitnessFactory = traceFitnessFactory;
         _factory = createGeneticFactory(seed);
         _population = createPopulation(_factory, seed, popSize);
         final boolean allowDuplicates = false;
         final boolean keepHistory = true;
         _reproduction = new Reproduction(allowDuplicates, keepHistory);
+        if (HISTORY_IN_MEMORY >= 0) {
+            // Named after the seed, so that each island has its own, and a resumed run finds the one it checkpointed
+            _reproduction.setHistory(new SpillingHistory<Distribution>(new File(WORKING_DIR, "history-" + seed),
+                                                                       HISTORY_IN_MEMORY, new DistributionSerializer()));
+        }
+        // Random immigrants replace the offspring once too many of them are duplicates
+        _reproduction.setImmigrantFactory(_factory);
+        _reproduction.setMaxDuplicateRate(MAX_DUPLICATE_RATE);
         _reproduction.setEndPrepareAction(PREPARE_FILE);
         _reproduction.setNumElites(Math.round(popSize * 0.1f));
+        if (COST_AWARE) {
+            // How long a simulation takes depends on the genes (e.g., the trace duration), so similar individuals take
+            // similar times
+            _reproduction.setRuntimePredictor(new RuntimePredictor(new NearestNeighborModel(5, 500)));
+            if (Reproduction.GetNumProcesses() > 1) {
+                _reproduction.setFitnessEvaluator(new WorkStealingFitnessEvaluator(Reproduction.GetNumProcesses()));
+            }
+        }
+        _steadyState = new SteadyStateReproduction(new CheckpointableRandom(seed), allowDuplicates);
+        _steadyState.setFitnessEvaluator(_reproduction.getFitnessEvaluator());
+        _steadyState.setTournamentSize(TOURNAMENT_SIZE);
+        _steadyState.setEndPrepareAction(PREPARE_FILE);
         final List<Double> ranking =
                 Arrays.asList(0.0, 0.05, 0.05, 0.05, 0.05, 0.05, 0.05, 0.2, 0.2, 0.6, 0.6, 1.4, 1.4, 3.0);
         // final List<Double> ranking = Arrays.asList(1.0, 0.5);
-        _select = new BonusSelect(new Random(seed), ranking);
+        if (NON_DOMINATED_SELECT) {
+            // Pareto fronts don't depend on the weighting of the fitness values
+            _select = new NonDominatedSelect(new CheckpointableRandom(seed));
+        }
+        else {
+            _select = new BonusSelect(new CheckpointableRandom(seed), ranking);
+        }
+    }
+
+    /**
+     * @param name NONE, KNN or RIDGE (ignoring case)
+     * @return Model with that name, or null for NONE
+     */
+    static SurrogateModel createSurrogateModel(final String name) {
+        if ("NONE".equalsIgnoreCase(name)) return null;
+        // Remembering a few generations' worth of samples keeps predictions cheap compared to a simulation
+        if ("KNN".equalsIgnoreCase(name)) return new NearestNeighborModel(5, 500);
+        if ("RIDGE".equalsIgnoreCase(name)) return new RidgeRegressionModel(1.0, 0.995);
+        throw new IllegalArgumentException("Unknown surrogate model '" + name + "'");
+    }
+
+    /**
+     * Enables the default {@link Metrics} and logs them to METRICS_LOG (until the JVM exits) if it is specified
+     * @param configFile Configuration properties
+     * @return Logger (null if METRICS_LOG isn't specified)
+     */
+    private static MetricsLogger createMetricsLogger(final Properties configFile) {
+        final String metricsLogName = configFile.getProperty("METRICS_LOG");
+        if (metricsLogName == null || metricsLogName.isEmpty()) return null;
+        final long interval = Long.valueOf(configFile.getProperty("METRICS_INTERVAL", "60")) * 1000;
+        final MetricsLogger retval =
+                new MetricsLogger(Metrics.getDefault().setEnabled(true), new File(metricsLogName)).start(interval);
+        Runtime.getRuntime().addShutdownHook(new Thread() {
+            @Override
+            public void run() {
+                try {
+                    retval.stop();
+                }
+                catch (final IOException e) {
+                    Logger.getLogger(NeuroJetGeneticAlgorithm.class.getName()).log(Level.WARNING, null, e);
+                }
+            }
+        });
+        return retval;
+    }
+
+    /**
+     * @param metricsLogger Logger of the default {@link Metrics} (may be null)
+     * @return Action that logs (and prints the time by phase of) each generation since the last, for evolving steady
+     *         state or by islands, where generations don't end in the main loop (null if there is no logger)
+     */
+    private static Runnable createGenerationAction(final MetricsLogger metricsLogger) {
+        if (metricsLogger == null) return null;
+        return new Runnable() {
+            private int _generation = 0;
+
+            @Override
+            public void run() {
+                try {
+                    final MetricsSnapshot generation = metricsLogger.logInterval("generation " + ++_generation);
+                    System.out.println("Generation #" + _generation + " time by phase = "
+                                       + generation.describeTimers());
+                }
+                catch (final IOException e) {
+                    Logger.getLogger(NeuroJetGeneticAlgorithm.class.getName()).log(Level.WARNING, null, e);
+                }
+            }
+        };
     }
 
     /**
@@ -122,6 +321,105 @@ public final class NeuroJetGeneticAlgorithm {
         _population = _reproduction.reproduce(_population, _fitnessFactory, _select, _factory.getCrossoverFunction());
     }
 
+    /**
+     * @return Factory for the NeuroJet simulations (e.g., for how much simulation time halting them early saved)
+     */
+    public NeuroJetTraceFitnessFactory getTraceFitnessFactory() {
+        return _traceFitnessFactory;
+    }
+
+    /**
+     * @return Factory screening individuals before they are simulated (null if no surrogate model is used)
+     */
+    public SurrogateFitnessFactory getSurrogateFitnessFactory() {
+        return _surrogateFitnessFactory;
+    }
+
+    /**
+     * Evolves the population asynchronously, replacing members one at a time as evaluations finish, instead of
+     * generation by generation
+     * @param numEvaluations Total number of evaluations to perform (including those of the current population)
+     */
+    public void evolveSteadyState(final int numEvaluations) {
+        _population = _steadyState.evolve(_population, numEvaluations, _fitnessFactory, _select,
+                                          _factory.getCrossoverFunction());
+    }
+
+    /**
+     * @return Steady-state alternative to this genetic algorithm's
+     *         {@link edu.virginia.cs.geneticalgorithm.reproduction.Reproduction Reproduction} object
+     */
+    public SteadyStateReproduction getSteadyStateReproduction() {
+        return _steadyState;
+    }
+
+    /**
+     * Releases the threads evaluating fitness functions (shared by generational and steady-state reproduction), once
+     * this genetic algorithm is finished with
+     */
+    public void shutdown() {
+        _reproduction.getFitnessEvaluator().shutdown();
+    }
+
+    /**
+     * @param id Which island this is (0-based)
+     * @return {@link edu.virginia.cs.geneticalgorithm.island.Island Island} evolving this genetic algorithm's population
+     */
+    public Island toIsland(final int id) {
+        return new Island(id, _population, _reproduction, _fitnessFactory, _select, _factory.getCrossoverFunction());
+    }
+
+    /**
+     * @param name RING, FULL or RANDOM (ignoring case)
+     * @return Topology with that name
+     */
+    static MigrationTopology createTopology(final String name) {
+        if ("RING".equalsIgnoreCase(name)) return new RingTopology();
+        if ("FULL".equalsIgnoreCase(name)) return new FullyConnectedTopology();
+        if ("RANDOM".equalsIgnoreCase(name)) return new RandomTopology(1);
+        throw new IllegalArgumentException("Unknown topology '" + name + "'");
+    }
+
+    /**
+     * Evolves NUM_ISLANDS populations, exchanging migrants between them, and prints the fittest member of each. The
+     * islands run in this process share NUM_PROCESSES between them (each evaluating at least one individual at a time).
+     * @param seed Random seed (each island adds its ID to it)
+     * @param popSize Number of individuals in each island's population
+     * @param numGenerations Number of generations each island runs
+     * @param useProxy Whether to use NeuroJetQuickFitnessFactory as a proxy when appropriate
+     * @param metricsLogger Logger of the default {@link Metrics}, which logs each generation once every island in this
+     *            process has finished it (null if metrics aren't logged)
+     */
+    private static void runIslands(final int seed, final int popSize, final int numGenerations, final boolean useProxy,
+                                   final MetricsLogger metricsLogger) {
+        final MigrationTransport transport =
+                MIGRATION_DIR == null ? new QueueTransport(NUM_ISLANDS) : new FileTransport(MIGRATION_DIR);
+        final IslandModel model = new IslandModel(NUM_ISLANDS, createTopology(TOPOLOGY), transport, seed);
+        model.setMigrationInterval(MIGRATION_INTERVAL);
+        model.setNumMigrants(NUM_MIGRANTS);
+        model.setGenerationAction(createGenerationAction(metricsLogger));
+        final int numLocalIslands = ISLAND_ID < 0 ? NUM_ISLANDS : 1;
+        Reproduction.SetNumProcesses(Math.max(1, Reproduction.GetNumProcesses() / numLocalIslands));
+        final List<NeuroJetGeneticAlgorithm> ngas = new ArrayList<NeuroJetGeneticAlgorithm>();
+        final List<Island> islands = new ArrayList<Island>();
+        for (int id = 0; id < NUM_ISLANDS; ++id) {
+            if (ISLAND_ID < 0 || id == ISLAND_ID) {
+                final NeuroJetGeneticAlgorithm nga = new NeuroJetGeneticAlgorithm(seed + id, popSize, useProxy);
+                ngas.add(nga);
+                islands.add(nga.toIsland(id));
+            }
+        }
+        model.run(islands, numGenerations);
+        for (final Island island : islands) {
+            System.out.println("Island #" + island.getId() + " " + island);
+            System.out.println("\tBest fit = " + island.getReproduction().getBestFit());
+            System.out.println("\tMean fit = " + island.getReproduction().getMeanFit());
+        }
+        for (final NeuroJetGeneticAlgorithm nga : ngas) {
+            nga.shutdown();
+        }
+    }
+
     /**
      * For access to historical information
      * @return Reference to this genetic algorithms {@link edu.virginia.cs.geneticalgorithm.reproduction.Reproduction
@@ -131,6 +429,37 @@ public final class NeuroJetGeneticAlgorithm {
         return _reproduction;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeGenotypes(out, _population);
+        _reproduction.writeState(out);
+        CheckpointUtils.writeOptionalState(out, _select);
+        // The mutator's state is saved along with the crossover function that uses it
+        CheckpointUtils.writeOptionalState(out, _factory.getCrossoverFunction());
+        out.writeInt(NeuroJetTraceFitnessIntermediary.getCounter());
+        _traceFitnessFactory.writeState(out);
+        CheckpointUtils.writeOptionalState(out, _cascadeFitnessFactory);
+        CheckpointUtils.writeOptionalState(out, _surrogateFitnessFactory);
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        _population = CheckpointUtils.readGenotypes(in);
+        _reproduction.readState(in);
+        CheckpointUtils.readOptionalState(in, _select);
+        CheckpointUtils.readOptionalState(in, _factory.getCrossoverFunction());
+        NeuroJetTraceFitnessIntermediary.setCounter(in.readInt());
+        _traceFitnessFactory.readState(in);
+        CheckpointUtils.readOptionalState(in, _cascadeFitnessFactory);
+        CheckpointUtils.readOptionalState(in, _surrogateFitnessFactory);
+    }
+
     /**
      * @return ScriptUpdater that replaces wild cards with parameter values
      */
@@ -209,14 +538,26 @@ public final class NeuroJetGeneticAlgorithm {
         final int pop_size = Integer.valueOf(configFile.getProperty("POP_SIZE", "100"));
         final int num_generations = Integer.valueOf(configFile.getProperty("NUM_GENERATIONS", "150"));
         final int seed = Integer.valueOf(configFile.getProperty("SEED", "101"));
-        NJ = new File(configFile.getProperty("NJ", NJ.getPath()));
-        if (!NJ.canExecute())
-            throw new IllegalArgumentException("Property NJ ('" + NJ.getAbsolutePath()
-                                               + "') must refer to an executable");
+        final String njName = configFile.getProperty("NJ", NJ.getPath());
         WORKING_DIR = FileLoader.getFileFromProperty(configFile, "WORKING_DIR", WORKING_DIR.getPath());
         if (!WORKING_DIR.exists()) {
             WORKING_DIR.mkdir();
         }
+        if (SIMULATOR.equalsIgnoreCase(njName)) {
+            final NeuroJetSimulator simulator = new NeuroJetSimulator();
+            simulator.setDuration(Long.valueOf(configFile.getProperty("SIM_DURATION", "1000")));
+            simulator.setBurnCpu(Boolean.valueOf(configFile.getProperty("SIM_BURN_CPU", "false")));
+            simulator.setNoise(Double.valueOf(configFile.getProperty("SIM_NOISE", "0.05")));
+            simulator.setCrashRate(Double.valueOf(configFile.getProperty("SIM_CRASH_RATE", "0")));
+            simulator.setHangRate(Double.valueOf(configFile.getProperty("SIM_HANG_RATE", "0")));
+            NJ = simulator.createLauncher(new File(WORKING_DIR, "NeuroJetSimulator.sh"));
+        }
+        else {
+            NJ = new File(njName);
+        }
+        if (!NJ.canExecute())
+            throw new IllegalArgumentException("Property NJ ('" + NJ.getAbsolutePath()
+                                               + "') must refer to an executable");
         SCRIPT_FILE = FileLoader.getFileFromProperty(configFile, "SCRIPT_FILE",
                                                      new File(WORKING_DIR, "trace_full.nj").getPath());
         if (!SCRIPT_FILE.exists()) {
@@ -230,13 +571,75 @@ public final class NeuroJetGeneticAlgorithm {
                 throw new IllegalArgumentException("Property PREPARE_FILE ('" + NJ.getAbsolutePath()
                                                    + "') must refer to an executable if it is not blank");
         }
+        final String fitnessCacheName = configFile.getProperty("FITNESS_CACHE");
+        if (fitnessCacheName != null && !fitnessCacheName.isEmpty()) {
+            FITNESS_CACHE = new File(fitnessCacheName);
+        }
+        final String checkpointFileName = configFile.getProperty("CHECKPOINT_FILE");
+        if (checkpointFileName != null && !checkpointFileName.isEmpty()) {
+            CHECKPOINT_FILE = new File(checkpointFileName);
+        }
+        final boolean resume = Boolean.valueOf(configFile.getProperty("RESUME", "false"));
+        NON_DOMINATED_SELECT = "NON_DOMINATED".equalsIgnoreCase(configFile.getProperty("SELECT", "BONUS"));
+        PASS_FRACTION = Double.valueOf(configFile.getProperty("PASS_FRACTION", "1"));
+        STEADY_STATE = Boolean.valueOf(configFile.getProperty("STEADY_STATE", "false"));
+        TOURNAMENT_SIZE = Integer.valueOf(configFile.getProperty("TOURNAMENT_SIZE", "2"));
+        NUM_ISLANDS = Integer.valueOf(configFile.getProperty("NUM_ISLANDS", "1"));
+        ISLAND_ID = Integer.valueOf(configFile.getProperty("ISLAND_ID", "-1"));
+        MIGRATION_INTERVAL = Integer.valueOf(configFile.getProperty("MIGRATION_INTERVAL", "5"));
+        NUM_MIGRANTS = Integer.valueOf(configFile.getProperty("NUM_MIGRANTS", "2"));
+        TOPOLOGY = configFile.getProperty("TOPOLOGY", "RING");
+        SURROGATE = configFile.getProperty("SURROGATE", "NONE");
+        COST_AWARE = Boolean.valueOf(configFile.getProperty("COST_AWARE", "false"));
+        HISTORY_IN_MEMORY = Integer.valueOf(configFile.getProperty("HISTORY_IN_MEMORY", "-1"));
+        MAX_DUPLICATE_RATE = Double.valueOf(configFile.getProperty("MAX_DUPLICATE_RATE", "0.5"));
+        SURROGATE_SCREEN_FRACTION = Double.valueOf(configFile.getProperty("SURROGATE_SCREEN_FRACTION", "0.25"));
+        SURROGATE_EXPLORATION = Double.valueOf(configFile.getProperty("SURROGATE_EXPLORATION", "0.1"));
+        final String migrationDirName = configFile.getProperty("MIGRATION_DIR");
+        if (migrationDirName != null && !migrationDirName.isEmpty()) {
+            MIGRATION_DIR = new File(migrationDirName);
+        }
+        if (ISLAND_ID >= 0) {
+            // Islands in other processes would otherwise number their simulations' directories the same way
+            WORKING_DIR = new File(WORKING_DIR, "island_" + ISLAND_ID);
+            WORKING_DIR.mkdir();
+        }
         // The WAIT_TIME parameter is in minutes, but we need to convert it to milliseconds
         final int WAIT_TIME = Integer.valueOf(configFile.getProperty("WAIT_TIME", "5")) * 60000;
         NeuroJetTraceFitness.WAIT_TIME = WAIT_TIME;
         final boolean useProxy = Boolean.valueOf(configFile.getProperty("USE_PROXY", "true"));
+        Reproduction.SetNumProcesses(Integer.valueOf(configFile.getProperty("NUM_PROCESSES", "1")));
+        final MetricsLogger metricsLogger = createMetricsLogger(configFile);
+        if (NUM_ISLANDS > 1) {
+            runIslands(seed, pop_size, num_generations, useProxy, metricsLogger);
+            return;
+        }
         final NeuroJetGeneticAlgorithm nga = new NeuroJetGeneticAlgorithm(seed, pop_size, useProxy);
-        for (int i = 0; i < num_generations; ++i) {
+        if (STEADY_STATE) {
+            // Checkpoints are per generation, so they don't apply here
+            final SteadyStateReproduction steadyState = nga.getSteadyStateReproduction();
+            steadyState.setGenerationAction(createGenerationAction(metricsLogger));
+            nga.evolveSteadyState(pop_size * num_generations);
+            System.out.println("Evaluations = " + steadyState.getNumEvaluations() + " ("
+                               + steadyState.getEvaluationsPerHour() + " per hour)");
+            System.out.println("\tBest fit = " + steadyState.getBestFit());
+            System.out.println("\tMean fit = " + steadyState.getMeanFit());
+            nga.shutdown();
+            return;
+        }
+        CheckpointWriter checkpointWriter = null;
+        if (CHECKPOINT_FILE != null) {
+            if (resume && CHECKPOINT_FILE.exists()) {
+                CheckpointWriter.restore(CHECKPOINT_FILE, nga);
+                System.out.println("Resuming after generation #" + nga.getReproduction().getCurrentGeneration());
+            }
+            checkpointWriter = new CheckpointWriter(CHECKPOINT_FILE);
+        }
+        for (int i = nga.getReproduction().getCurrentGeneration(); i < num_generations; ++i) {
             nga.reproduce();
+            if (checkpointWriter != null) {
+                checkpointWriter.checkpoint(nga);
+            }
             System.out.println("Generation #" + (i + 1));
             System.out.print("\tBest fit = [");
             final List<Double> bestFitList = nga.getReproduction().getBestFit();
@@ -246,7 +649,30 @@ public final class NeuroJetGeneticAlgorithm {
             }
             System.out.println("] => " + bestFitList.get(0));
             System.out.println("\tMean fit = " + nga.getReproduction().getMeanFit());
+            System.out.println("\tDuplicates = " + nga.getReproduction().getLastDuplicateRate() * 100 + "% of offspring ("
+                               + nga.getReproduction().getLastNumImmigrants() + " immigrants)");
+            if (metricsLogger != null) {
+                final MetricsSnapshot generation = metricsLogger.logInterval("generation " + (i + 1));
+                System.out.println("\tTime by phase = " + generation.describeTimers());
+            }
+            System.out.println("\tMakespan = " + nga.getReproduction().getLastMakespan() / 1000.0 + " s for "
+                               + nga.getReproduction().getLastTotalWork() / 1000.0 + " s of evaluations");
+            final NeuroJetTraceFitnessFactory traceFitnessFactory = nga.getTraceFitnessFactory();
+            System.out.println("\tEstimated simulation wall time saved = " + traceFitnessFactory.getSavedTime() / 1000.0
+                               + " s (" + traceFitnessFactory.getNumHalted() + " simulations halted early)");
+            traceFitnessFactory.resetSavedTime();
+            final SurrogateFitnessFactory surrogateFitnessFactory = nga.getSurrogateFitnessFactory();
+            if (surrogateFitnessFactory != null) {
+                System.out.println("\tSurrogate screened out " + surrogateFitnessFactory.getNumScreened() + " of "
+                                   + (surrogateFitnessFactory.getNumScreened() + surrogateFitnessFactory.getNumEvaluated())
+                                   + " individuals (mean absolute error = "
+                                   + surrogateFitnessFactory.getMeanAbsoluteError() + ")");
+            }
+        }
+        if (checkpointWriter != null) {
+            checkpointWriter.shutdown();
         }
+        nga.shutdown();
         // nga.doPCA();
     }
 }
@@ -7,12 +7,16 @@ import static edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness.*;
 import static edu.virginia.cs.neurojet.geneticalgorithm.ActivitySummaryFitnessGenerator.*;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
 import edu.virginia.cs.geneticalgorithm.fitness.FitnessGenerator;
+import edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness;
 import edu.virginia.cs.geneticalgorithm.fitness.ProxyFitness;
 import edu.virginia.cs.neurojet.model.FileData;
 
@@ -21,13 +25,18 @@ import edu.virginia.cs.neurojet.model.FileData;
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 27, 2010
  */
-public final class NeuroJetQuickFitness implements ProxyFitness {
+public final class NeuroJetQuickFitness implements ProxyFitness, PrecomputedFitness {
 
+    private static final Timer QUICK_TIMER = Metrics.getDefault().timer("neurojet.quickFitness");
     private final NeuroJetTraceFitness _traceFitness;
     private FitnessGenerator _trnGenerator = null;
     private FitnessGenerator _tstGenerator = null;
     private final List<Double> _fitnessValues = new ArrayList<Double>();
 
+    /**
+     * Number of fitness values (elapsed time, plus two each for training and testing activity)
+     */
+    static final int NUM_FIT_VALS = 5;
     // Made package just to avoid warnings about dead code
     static final boolean DELETE_WORKING_FILES = true;
     static final boolean DEBUG = false;
@@ -48,14 +57,19 @@ public final class NeuroJetQuickFitness implements ProxyFitness {
     @Override
     public List<Double> fitnessValues() {
         final long beginTime = System.currentTimeMillis();
-        _traceFitness.runSimulationIfNeeded(); // starts the real fitness function running
-        // Remove any existing files
         if (_fitnessValues.isEmpty()) {
+            final long start = QUICK_TIMER.start();
+            // Starts the real fitness function running in the background, so that its intermediate results can be read
+            // as soon as they are signaled, and the rest of the simulation halted if they aren't good enough
+            _traceFitness.startSimulation();
             // Read the resulting activity files
             final double desiredAct = _traceFitness.getDesiredAct();
             final File tempDir = _traceFitness.getWorkingDir();
             final int waitTime = 60000 * 5; // Wait up to five minutes for tstWithinAct.dat to be ready
             final File signalFile = new File(tempDir, SIGNAL_FILE);
+            if (!_traceFitness.awaitSignal(signalFile, waitTime)) {
+                throw new RuntimeException(new IOException("Couldn't find file '" + signalFile.getPath() + "'"));
+            }
             FileData activityFile = new FileData(tempDir, MEAN_TRAIN_ACTIVITY_DATA_FILE, waitTime, signalFile);
             FileData ssdFile = new FileData(tempDir, SSD_TRAIN_ACTIVITY_DATA_FILE, waitTime, signalFile);
             _trnGenerator = new ActivitySummaryFitnessGenerator(activityFile, ssdFile, desiredAct);
@@ -65,6 +79,7 @@ public final class NeuroJetQuickFitness implements ProxyFitness {
             ssdFile = new FileData(tempDir, SSD_TEST_ACTIVITY_DATA_FILE, waitTime, signalFile);
             _tstGenerator = new ActivitySummaryFitnessGenerator(activityFile, ssdFile, desiredAct);
             _fitnessValues.addAll(_tstGenerator.fitnessValues());
+            QUICK_TIMER.stop(start);
         }
         checkFitnessSize(this, _fitnessValues);
         return Collections.unmodifiableList(_fitnessValues);
@@ -95,6 +110,14 @@ public final class NeuroJetQuickFitness implements ProxyFitness {
         return _traceFitness;
     }
 
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+     */
+    @Override
+    public boolean isPrecomputed() {
+        return !_fitnessValues.isEmpty() || _traceFitness.isFinished();
+    }
+
     @Override
     public String toString() {
         final double fitness = totalFitness();
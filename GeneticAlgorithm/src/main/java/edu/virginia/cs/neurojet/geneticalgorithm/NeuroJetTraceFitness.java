@@ -11,19 +11,35 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
-
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import edu.virginia.cs.common.concurrent.FileReadiness;
+import edu.virginia.cs.common.concurrent.FileReadinessService;
+import edu.virginia.cs.common.concurrent.ProcessHandle;
+import edu.virginia.cs.common.concurrent.ProcessSupervisor;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
 import edu.virginia.cs.common.utils.ArrayNumberUtils;
-import edu.virginia.cs.common.utils.Condition;
 import edu.virginia.cs.common.utils.IntegerRange;
 import edu.virginia.cs.common.utils.OrderedPair;
 import edu.virginia.cs.common.utils.Pair;
-import edu.virginia.cs.common.utils.Pause;
 import edu.virginia.cs.common.utils.ProcessBuilderUtils;
 import edu.virginia.cs.common.utils.ShapeMatcher;
 import edu.virginia.cs.geneticalgorithm.fitness.FitnessGenerator;
 import edu.virginia.cs.geneticalgorithm.fitness.HaltableFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness;
+import edu.virginia.cs.neurojet.model.DataDirectory;
 import edu.virginia.cs.neurojet.model.FileData;
+import edu.virginia.cs.neurojet.model.NumericData;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -34,7 +50,7 @@ import org.apache.commons.io.FileUtils;
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Apr 27, 2010
  */
-public class NeuroJetTraceFitness implements HaltableFitness {
+public class NeuroJetTraceFitness implements HaltableFitness, ProvisionalFitness, PrecomputedFitness {
 
     /**
      * 2 activity measures + 2 trend measures + 2 shape measures + 2 performance measures + target measure
@@ -45,29 +61,58 @@ public class NeuroJetTraceFitness implements HaltableFitness {
      */
     // private static final int WAIT_TIME = 5 /* minutes */* 60 /* seconds per minute */* 1000 /* ms per sec */;
     public static int WAIT_TIME = 720 /* minutes */* 60 /* seconds per minute */* 1000 /* ms per sec */;
+    /**
+     * How much CPU time (in milliseconds) a simulation may use before it is killed ({@link ProcessSupervisor#NO_LIMIT}
+     * for no limit)
+     */
+    public static long CPU_TIME_LIMIT = ProcessSupervisor.NO_LIMIT;
+    /**
+     * How long (in milliseconds) a halted simulation has to stop before it is killed forcibly, and then how much longer
+     * to wait before giving up on it
+     */
+    private static final long HALT_WAIT = 5000;
     private static final double ACTIVITY_MULTIPLIER = 1E-5;
     private static int NUM_TRIALS = 150;
+    private static final Timer SCRIPT_TIMER = Metrics.getDefault().timer("neurojet.script");
+    private static final Timer PREPARE_TIMER = Metrics.getDefault().timer("neurojet.prepare");
+    private static final Timer FITNESS_TIMER = Metrics.getDefault().timer("neurojet.fitness");
     private final NeuroJetTraceFitnessIntermediary _parent;
     private final File _tempDir;
+    private final DataDirectory _dataDirectory;
     private final int _dirID;
-    private final Process _process = null;
-    private boolean _halted = false;
-    private boolean _finished = false;
+    private volatile ProcessHandle _process = null;
+    private volatile boolean _halted = false;
+    private volatile boolean _finished = false;
+    private volatile boolean _failed = false; // Whether the simulation crashed or timed out, and so scored zero
     // private NeuroJetNeuronBuffer _tstBuff = null;
     private final Object _lock = new Object();
     private final Object _lock2 = new Object();
     private final StringBuffer _out = new StringBuffer(1000);
     private final StringBuffer _err = new StringBuffer(1000);
     private final List<Double> _fitnessValues = new ArrayList<Double>();
-    private final static List<Double> _desiredShape = new ArrayList<Double>();
+    private final static List<Double> _desiredShape;
     private FitnessGenerator _tstGenerator = null;
     private boolean _isPrepared = false;
     private File _scriptFile = null;
+    private final Set<String> _existingFiles = new HashSet<String>(); // In the working directory before launching
+
+    static {
+        final List<Double> desiredShape = new ArrayList<Double>();
+        for (int i = 0; i < 11; ++i) { // Flat for the first 550 ms
+            desiredShape.add(Double.valueOf(0.0));
+        }
+        desiredShape.add(1.0); // Then blink 100 ms before puff
+        desiredShape.add(1.0);
+        desiredShape.add(0.5); // Reduced activity during puff
+        desiredShape.add(0.5);
+        _desiredShape = Collections.unmodifiableList(desiredShape);
+    }
 
     NeuroJetTraceFitness(final NeuroJetTraceFitnessIntermediary parent, final int dirID) {
         _parent = parent;
         _dirID = dirID;
         _tempDir = new File(_parent.getParent().getWorkingDir(), "trace_" + String.valueOf(dirID));
+        _dataDirectory = new DataDirectory(_tempDir);
         // deleteExistingFiles(); // TODO reconsider this
     }
 
@@ -75,6 +120,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         _parent = null;
         _dirID = dirID;
         _tempDir = new File(workingDir, "trace_" + String.valueOf(dirID));
+        _dataDirectory = new DataDirectory(_tempDir);
         // deleteExistingFiles(); // TODO reconsider this
     }
 
@@ -88,6 +134,10 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         return _tstGenerator;
     }
 
+    NeuroJetTraceFitnessIntermediary getParent() {
+        return _parent;
+    }
+
     NeuroJetTraceFitnessFactory getGrandparent() {
         return _parent.getParent();
     }
@@ -143,6 +193,27 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         return _tempDir;
     }
 
+    /**
+     * @return Number of this fitness's working directory, which also seeds its simulation
+     */
+    int getDirID() {
+        return _dirID;
+    }
+
+    /**
+     * Restores the result of a simulation that finished before a checkpoint was written, so that it isn't run again
+     * @param fitnessValues Fitness values the simulation scored
+     * @param failed Whether the simulation failed
+     */
+    void restoreSample(final List<Double> fitnessValues, final boolean failed) {
+        synchronized (_lock) {
+            _fitnessValues.clear();
+            _fitnessValues.addAll(fitnessValues);
+            _failed = failed;
+            _finished = true;
+        }
+    }
+
     boolean isFinished() {
         return _finished;
     }
@@ -160,16 +231,20 @@ public class NeuroJetTraceFitness implements HaltableFitness {
     }
 
     private List<Double> getFracFired(final int whichTrial) {
+        return getFracFiredData(whichTrial).asList();
+    }
+
+    private NumericData getFracFiredData(final int whichTrial) {
         // _tstBuff = new NeuroJetNeuronBuffer(_tempDir, "tstBuff.dat", WAIT_TIME);
-        final FileData summaryBuffData = new FileData(_tempDir, "fit2_" + whichTrial + ".dat", WAIT_TIME,
-                                                      new File(_tempDir, "fit2_150.dat.ready"));
-        return summaryBuffData.getData();
+        // Each fit2_*.dat file is read by several fitness measures, so they're cached
+        return _dataDirectory.getData("fit2_" + whichTrial + ".dat", 1.0, WAIT_TIME,
+                                      new File(_tempDir, "fit2_150.dat.ready"));
     }
 
     private void addTrendMeasures(final List<Double> fitnessValues) {
         double bestValue = 0.0;
         for (int trialNum = 50; trialNum <= NUM_TRIALS; trialNum += 50) {
-            final double curValue = slopeContribution(slope(getFracFired(trialNum)));
+            final double curValue = slopeContribution(getFracFiredData(trialNum).slope());
             if (curValue > bestValue) {
                 bestValue = curValue;
             }
@@ -177,7 +252,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         double averageValue = 0.0;
         int count = 0;
         for (int trialNum = 100; trialNum <= Math.min(NUM_TRIALS, 200); trialNum += 50) {
-            final double curValue = slopeContribution(slope(getFracFired(trialNum)));
+            final double curValue = slopeContribution(getFracFiredData(trialNum).slope());
             averageValue += curValue;
             ++count;
         }
@@ -194,15 +269,6 @@ public class NeuroJetTraceFitness implements HaltableFitness {
     }
 
     private List<Double> getDesiredShape() {
-        if (_desiredShape.isEmpty()) {
-            for (int i = 0; i < 11; ++i) { // Flat for the first 550 ms
-                _desiredShape.add(Double.valueOf(0.0));
-            }
-            _desiredShape.add(1.0); // Then blink 100 ms before puff
-            _desiredShape.add(1.0);
-            _desiredShape.add(0.5); // Reduced activity during puff
-            _desiredShape.add(0.5);
-        }
         return _desiredShape;
     }
 
@@ -243,12 +309,16 @@ public class NeuroJetTraceFitness implements HaltableFitness {
                     if (f.equals(getGrandparent().getMainFile())) {
                         scriptFile = script;
                     }
+                    final long start = SCRIPT_TIMER.start();
                     try {
                         updater.createScriptFromTemplate(script, f, _parent.getGenotype(), _dirID);
                     }
                     catch (final IOException e) {
                         throw new RuntimeException(e);
                     }
+                    finally {
+                        SCRIPT_TIMER.stop(start);
+                    }
                 }
                 final File lastReadyFile = new File(_tempDir, "fit2_300.dat.ready");
                 // if (!(filesMatch(scriptFile, cfFile) && lastReadyFile.exists())) {
@@ -263,6 +333,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
                     deleteExistingFiles(getGrandparent().getScriptFiles());
                     final File prepareScript = getGrandparent().getPrepareScript();
                     if (prepareScript != null) {
+                        final long start = PREPARE_TIMER.start();
                         ProcessBuilderUtils.invoke(_out,
                                                    _err,
                                                    _tempDir,
@@ -271,6 +342,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
                                                    scriptFile.getParentFile()
                                                              .getCanonicalPath(),
                                                    String.valueOf(_dirID));
+                        PREPARE_TIMER.stop(start);
                     }
                 }
                 _scriptFile = scriptFile;
@@ -291,7 +363,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
     @Override
     public List<Double> fitnessValues() {
         runSimulationIfNeeded();
-        return _parent != null ? _parent.getMeanFitnessValues() : _fitnessValues;
+        return _parent != null ? _parent.getMeanFitnessValues(this) : _fitnessValues;
     }
 
     /**
@@ -300,7 +372,26 @@ public class NeuroJetTraceFitness implements HaltableFitness {
     @Override
     public double totalFitness() {
         runSimulationIfNeeded();
-        return _parent != null ? _parent.getMeanTotalFitness() : calcTotalFitness(_fitnessValues);
+        return _parent != null ? _parent.getMeanTotalFitness(this) : calcTotalFitness(_fitnessValues);
+    }
+
+    /**
+     * Results are provisional if the simulation failed, or if they average fewer samples than will eventually be taken
+     * @see edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness#isProvisional()
+     */
+    @Override
+    public boolean isProvisional() {
+        runSimulationIfNeeded();
+        return _parent != null ? _parent.isProvisional(this) : _failed;
+    }
+
+    /**
+     * A sample handed out again (e.g., to an elite) reuses the finished simulation in its working directory
+     * @see edu.virginia.cs.geneticalgorithm.fitness.PrecomputedFitness#isPrecomputed()
+     */
+    @Override
+    public boolean isPrecomputed() {
+        return isFinished();
     }
 
     /**
@@ -319,13 +410,14 @@ public class NeuroJetTraceFitness implements HaltableFitness {
                     invoke();
                 }
                 double totalFitness = 0;
+                _failed = _halted;
                 if (_halted) {
                     for (int i = 0; i < NUM_FIT_VALS; ++i) {
                         _fitnessValues.add(0.0);
                     }
                 }
                 else {
-                    Pause.untilConditionMet(new FitnessFinished(this), WAIT_TIME);
+                    final long start = FITNESS_TIMER.start();
                     addActivityMeasures(_fitnessValues);
                     addTrendMeasures(_fitnessValues);
                     addShapeMeasures(_fitnessValues);
@@ -338,11 +430,12 @@ public class NeuroJetTraceFitness implements HaltableFitness {
                     final double pareto = calcParetoFitness(blink, collapse);
                     _fitnessValues.add(1E3 * pareto);
                     _fitnessValues.add(1E5 * hasTargetBehavior());
+                    FITNESS_TIMER.stop(start);
                     totalFitness = calcTotalFitness(_fitnessValues);
                 }
                 checkFitnessSize(this, _fitnessValues);
                 if (_parent != null) {
-                    _parent.addToSummedFitnessValues(_fitnessValues, totalFitness);
+                    _parent.addSample(this, _fitnessValues, totalFitness, _failed);
                 }
             }
         }
@@ -385,6 +478,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
 
     private void deleteExistingFiles(final List<File> list) {
         // Remove any existing files
+        _dataDirectory.clear();
         final File[] prevFiles = _tempDir.listFiles();
         if (prevFiles != null) {
             for (final File f : prevFiles) {
@@ -402,27 +496,128 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         }
     }
 
-    private void runSimulation() {
+    /**
+     * Launches NeuroJet in the background, unless it is already running or has finished. This lets a proxy read the
+     * intermediate results (signaled by {@link ActivitySummaryFitnessGenerator#SIGNAL_FILE}) while the simulation
+     * continues, and halt it if the proxy says it isn't worth finishing.
+     */
+    void startSimulation() {
         synchronized (_lock2) {
+            if (_process != null || _finished) return;
+            _halted = false;
+            final String[] existingFiles = _tempDir.list();
+            _existingFiles.clear();
+            if (existingFiles != null) {
+                _existingFiles.addAll(Arrays.asList(existingFiles));
+            }
             try {
-                // Launch NeuroJet
-                try {
-                    ProcessBuilderUtils.invoke(_out,
-                                               _err,
-                                               _tempDir,
-                                               getGrandparent().getNeuroJet(),
-                                               null,
-                                               _scriptFile.getCanonicalPath());
-                }
-                catch (final IOException e) {
-                    if (!_halted) {
-                        Logger.getLogger(NeuroJetTraceFitness.class.getName()).log(Level.SEVERE, null, e);
-                        throw new RuntimeException(e);
+                final ProcessHandle process = ProcessSupervisor.getDefault().launch(WAIT_TIME,
+                                                                                    CPU_TIME_LIMIT,
+                                                                                    _tempDir,
+                                                                                    getGrandparent().getNeuroJet(),
+                                                                                    _scriptFile.getCanonicalPath());
+                process.addCompletionListener(new Runnable() {
+                    @Override
+                    public void run() {
+                        // Anything the simulation was going to write is there now
+                        FileReadinessService.getDefault().directoryChanged(_tempDir);
+                        if (!process.isKilled()) {
+                            getGrandparent().simulationCompleted(process.getDuration());
+                        }
                     }
+                });
+                _process = process;
+            }
+            catch (final IOException e) {
+                Logger.getLogger(NeuroJetTraceFitness.class.getName()).log(Level.SEVERE, null, e);
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Waits for the simulation to signal that some of its results are ready, but only for as long as it is running
+     * @param signal File that signals the results are ready
+     * @param maxWait Maximum number of milliseconds to wait for
+     * @return Whether the results are ready
+     */
+    boolean awaitSignal(final File signal, final long maxWait) {
+        final FileReadiness readiness = FileReadinessService.getDefault().whenReady(signal);
+        final ProcessHandle process = _process;
+        if (process != null) {
+            // A simulation that has exited (or crashed) won't be writing any more results
+            process.addCompletionListener(new Runnable() {
+                @Override
+                public void run() {
+                    readiness.cancel(false);
+                }
+            });
+        }
+        try {
+            readiness.get(maxWait, TimeUnit.MILLISECONDS);
+            return true;
+        }
+        catch (final CancellationException e) {
+            return signal.exists();
+        }
+        catch (final TimeoutException e) {
+            readiness.cancel(false);
+            return signal.exists();
+        }
+        catch (final InterruptedException e) {
+            readiness.cancel(false);
+            Thread.currentThread().interrupt();
+            return signal.exists();
+        }
+    }
+
+    private void awaitSimulation() {
+        final ProcessHandle process = _process;
+        try {
+            if (process != null) {
+                final int exitCode = process.get();
+                if (exitCode != 0) {
+                    // Crashed, so it won't have written its results
+                    Logger.getLogger(NeuroJetTraceFitness.class.getName())
+                          .log(Level.WARNING, process + " exited with code " + exitCode);
+                    _halted = true;
                 }
             }
-            finally {
-                _finished = true;
+        }
+        catch (final CancellationException e) {
+            // Halted, so results are not needed
+        }
+        catch (final ExecutionException e) {
+            // Exceeded its time limits, so treat it as though it had been halted
+            Logger.getLogger(NeuroJetTraceFitness.class.getName()).log(Level.WARNING, e.getCause().getMessage());
+            _halted = true;
+        }
+        catch (final InterruptedException e) {
+            process.kill();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        finally {
+            if (process != null) {
+                _out.append(process.getOutput());
+                _err.append(process.getErrors());
+            }
+            _finished = true;
+        }
+    }
+
+    /**
+     * Deletes the files a halted simulation created (keeping those that were there before it was launched, such as the
+     * scripts), so that its partial results are neither mistaken for complete ones nor left taking up space
+     */
+    private void reclaimWorkingDir() {
+        _dataDirectory.clear();
+        final File[] files = _tempDir.listFiles();
+        if (files != null) {
+            for (final File f : files) {
+                if (!_existingFiles.contains(f.getName())) {
+                    f.delete();
+                }
             }
         }
     }
@@ -522,12 +717,42 @@ public class NeuroJetTraceFitness implements HaltableFitness {
         return new OrderedPair<Double, Double>(blink, collapse);
     }
 
+    /**
+     * Stops the simulation immediately if it is running, and reclaims its working directory. The simulation starts over
+     * if this fitness is evaluated after all.
+     * @see edu.virginia.cs.geneticalgorithm.fitness.HaltableFitness#halt()
+     */
     @Override
     public void halt() {
         if (!_halted) {
             _halted = true;
-            if (_process != null) {
-                _process.destroy();
+            final ProcessHandle process = _process;
+            if (process != null && !process.isDone()) {
+                final long duration = process.getDuration();
+                try {
+                    process.kill();
+                    if (!process.waitForTermination(HALT_WAIT, TimeUnit.MILLISECONDS)) {
+                        process.killForcibly();
+                        if (!process.waitForTermination(HALT_WAIT, TimeUnit.MILLISECONDS)) {
+                            // Leave the working directory alone, since something may still be writing to it
+                            Logger.getLogger(NeuroJetTraceFitness.class.getName())
+                                  .log(Level.WARNING, "Gave up waiting for halted " + process + " to stop");
+                            return;
+                        }
+                    }
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                synchronized (_lock2) {
+                    if (_process == process && process.isKilled()) {
+                        reclaimWorkingDir();
+                        getGrandparent().simulationHalted(duration);
+                        _process = null;
+                        _finished = false;
+                    }
+                }
             }
         }
     }
@@ -542,24 +767,7 @@ public class NeuroJetTraceFitness implements HaltableFitness {
      * @param individual {@link Genotype} to return the multi-objective fitness values for.
      */
     private void invoke() {
-        // No longer does threading
-        runSimulation();
-    }
-
-    private static class FitnessFinished implements Condition {
-
-        private final NeuroJetTraceFitness _fitness;
-
-        FitnessFinished(final NeuroJetTraceFitness f) {
-            _fitness = f;
-        }
-
-        /**
-         * @see edu.virginia.cs.common.utils.Condition#met()
-         */
-        @Override
-        public boolean met() {
-            return _fitness.isFinished();
-        }
+        startSimulation(); // Unless a proxy has already started it
+        awaitSimulation();
     }
 }
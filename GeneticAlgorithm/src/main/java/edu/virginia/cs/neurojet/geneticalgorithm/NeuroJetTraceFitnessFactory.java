@@ -4,12 +4,23 @@
 package edu.virginia.cs.neurojet.geneticalgorithm;
 
 import edu.virginia.cs.common.utils.ProcessBuilderUtils;
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
 import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable;
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
 import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.GenotypeKeyGenerator;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
 import java.util.logging.Level;
@@ -21,7 +32,13 @@ import java.util.logging.Logger;
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Nov 20, 2010
  */
-public class NeuroJetTraceFitnessFactory implements FitnessFactory {
+public class NeuroJetTraceFitnessFactory implements FitnessFactory, GenotypeKeyGenerator, Checkpointable {
+
+    /**
+     * Number of the most recently used individuals whose samples are remembered, so that an individual seen again
+     * (e.g., an elite) reuses them rather than running new simulations
+     */
+    private static final int MAX_REMEMBERED = 4096;
 
     private final File _mainFile;
     private final File _workingDir;
@@ -29,6 +46,22 @@ public class NeuroJetTraceFitnessFactory implements FitnessFactory {
     private final ScriptUpdater _updater;
     private final File _neuroJet;
     private final File _prepareScript;
+    private String _templateDigest = null;
+    private final Object _timeLock = new Object();
+    private long _completedTime = 0; // Total wall time of simulations that ran to completion
+    private int _numCompleted = 0;
+    private long _savedTime = 0; // Estimated wall time, since the last call to resetSavedTime()
+    private int _numHalted = 0; // Since the last call to resetSavedTime()
+    // Keyed on the normalized genotype, least recently used first
+    private final Map<Genotype, NeuroJetTraceFitnessIntermediary> _intermediaries =
+            new LinkedHashMap<Genotype, NeuroJetTraceFitnessIntermediary>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<Genotype, NeuroJetTraceFitnessIntermediary> eldest) {
+                    return size() > MAX_REMEMBERED;
+                }
+            };
 
     /**
      * Constructor
@@ -105,6 +138,49 @@ public class NeuroJetTraceFitnessFactory implements FitnessFactory {
                                                               1);
     }
 
+    /**
+     * Keys on the script templates' contents and the values the individual substitutes into them, so an individual's
+     * key only changes if the simulation it would run changes.
+     * @see edu.virginia.cs.geneticalgorithm.fitness.GenotypeKeyGenerator#generateKey(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+     */
+    @Override
+    public String generateKey(final Genotype individual) {
+        if (!(individual instanceof StandardGenotype))
+            throw new IllegalArgumentException("individual must be of type StandardGenotype");
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(getTemplateDigest().getBytes("UTF-8"));
+            digest.update(_updater.canonicalForm((StandardGenotype) individual).getBytes("UTF-8"));
+            return toHex(digest.digest());
+        }
+        catch (final NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private synchronized String getTemplateDigest() throws NoSuchAlgorithmException, IOException {
+        if (_templateDigest == null) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            for (final File f : _scriptFiles) {
+                digest.update(f.getName().getBytes("UTF-8"));
+                digest.update(FileUtils.readFileToByteArray(f));
+            }
+            _templateDigest = toHex(digest.digest());
+        }
+        return _templateDigest;
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder retval = new StringBuilder(2 * bytes.length);
+        for (final byte b : bytes) {
+            retval.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return retval.toString();
+    }
+
     File getMainFile() {
         return _mainFile;
     }
@@ -129,6 +205,110 @@ public class NeuroJetTraceFitnessFactory implements FitnessFactory {
         return _prepareScript;
     }
 
+    /**
+     * @return Intermediaries holding the samples of the individuals remembered by this factory (guarded by
+     *         {@link NeuroJetTraceFitnessIntermediary}'s class lock)
+     */
+    Map<Genotype, NeuroJetTraceFitnessIntermediary> getIntermediaries() {
+        return _intermediaries;
+    }
+
+    /**
+     * Saves the samples of the remembered individuals, so that a resumed run reuses them (and the seeds and working
+     * directories of any unfinished ones) exactly as an uninterrupted run would
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#writeState(java.io.DataOutput)
+     */
+    @Override
+    public void writeState(final DataOutput out) throws IOException {
+        synchronized (NeuroJetTraceFitnessIntermediary.class) {
+            out.writeInt(_intermediaries.size());
+            // Least recently used first, so that reading them back in order restores the order of use
+            for (final NeuroJetTraceFitnessIntermediary intermediary : _intermediaries.values()) {
+                intermediary.writeState(out);
+            }
+        }
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.checkpoint.Checkpointable#readState(java.io.DataInput)
+     */
+    @Override
+    public void readState(final DataInput in) throws IOException {
+        synchronized (NeuroJetTraceFitnessIntermediary.class) {
+            _intermediaries.clear();
+            final int size = CheckpointUtils.readSize(in);
+            for (int i = 0; i < size; ++i) {
+                final NeuroJetTraceFitnessIntermediary intermediary = NeuroJetTraceFitnessIntermediary.readState(in, this);
+                _intermediaries.put(_updater.normalizeGenotype(intermediary.getGenotype()), intermediary);
+            }
+        }
+    }
+
+    /**
+     * Records a simulation that ran to completion, so that the wall time saved by halting others can be estimated
+     * @param duration How long (in milliseconds of wall time) the simulation ran
+     */
+    void simulationCompleted(final long duration) {
+        synchronized (_timeLock) {
+            _completedTime += duration;
+            ++_numCompleted;
+        }
+    }
+
+    /**
+     * Records a simulation that was halted before it finished. The wall time saved is estimated as how much longer it
+     * would have run had it taken the mean time of the simulations that ran to completion (so nothing is saved until at
+     * least one simulation has completed).
+     * @param duration How long (in milliseconds of wall time) the simulation ran before it was halted
+     */
+    void simulationHalted(final long duration) {
+        synchronized (_timeLock) {
+            if (_numCompleted > 0) {
+                _savedTime += Math.max(0, _completedTime / _numCompleted - duration);
+            }
+            ++_numHalted;
+        }
+    }
+
+    /**
+     * @return Mean wall time (in milliseconds) of the simulations that ran to completion (NaN if none have)
+     */
+    public double getMeanSimulationTime() {
+        synchronized (_timeLock) {
+            return _numCompleted == 0 ? Double.NaN : _completedTime / (double) _numCompleted;
+        }
+    }
+
+    /**
+     * @return Estimated wall time (in milliseconds) that simulations halted early would otherwise have gone on to run,
+     *         since the last call to {@link #resetSavedTime()}. This is not the CPU time saved, which also depends on
+     *         how many simulations were running at once.
+     */
+    public long getSavedTime() {
+        synchronized (_timeLock) {
+            return _savedTime;
+        }
+    }
+
+    /**
+     * @return Number of simulations halted before they finished, since the last call to {@link #resetSavedTime()}
+     */
+    public int getNumHalted() {
+        synchronized (_timeLock) {
+            return _numHalted;
+        }
+    }
+
+    /**
+     * Starts counting saved wall time and halted simulations afresh (e.g., at the start of each generation)
+     */
+    public void resetSavedTime() {
+        synchronized (_timeLock) {
+            _savedTime = 0;
+            _numHalted = 0;
+        }
+    }
+
     @Override
     public void ready() {
         if (_prepareScript != null) {
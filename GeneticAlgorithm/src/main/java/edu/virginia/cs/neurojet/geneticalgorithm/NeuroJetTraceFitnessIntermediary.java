@@ -3,18 +3,22 @@
  */
 package edu.virginia.cs.neurojet.geneticalgorithm;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import edu.virginia.cs.common.utils.ArrayNumberUtils;
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointUtils;
 import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness;
 import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
 import edu.virginia.cs.geneticalgorithm.gene.Genotype;
 import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
-import java.util.WeakHashMap;
 
 /**
  * Calculates a short-circuit fitness to determine whether this is a reasonable choice of parameter settings
@@ -39,35 +43,134 @@ public final class NeuroJetTraceFitnessIntermediary {
     final File _neuroJet;
     private final int _maxSamples;
     private final List<NeuroJetTraceFitness> _instances;
-    private List<Double> _summedFitnessValues;
-    private double _summedTotalFitness;
-    private int _numSums;
+    // Results of each sample (null until the sample finishes)
+    private final List<List<Double>> _sampleValues;
+    private final List<Double> _sampleTotals;
+    // Samples averaged into the fitness of each sample: those that had finished when it was handed out, and itself
+    private final List<BitSet> _averagedSamples;
+    // Samples whose simulations failed (scoring zero)
+    private final BitSet _failedSamples;
     private final NeuroJetTraceFitnessFactory _parent;
     private final StandardGenotype _genotype;
-    private static final Map<Genotype, NeuroJetTraceFitnessIntermediary> _fitMap =
-            new WeakHashMap<Genotype, NeuroJetTraceFitnessIntermediary>();
 
-    static Fitness createFitness(final NeuroJetTraceFitnessFactory factory, final StandardGenotype individual,
-                                 final List<File> scriptFiles, final ScriptUpdater updater, final File neuroJet,
-                                 final File workingDir, final int maxSamples) {
+    /**
+     * Which individuals are remembered depends only on the order in which fitnesses are created (not on garbage
+     * collection), so that runs, and runs resumed from a checkpoint, are repeatable
+     */
+    static synchronized Fitness createFitness(final NeuroJetTraceFitnessFactory factory, final StandardGenotype individual,
+                                              final List<File> scriptFiles, final ScriptUpdater updater, final File neuroJet,
+                                              final File workingDir, final int maxSamples) {
+        final Map<Genotype, NeuroJetTraceFitnessIntermediary> intermediaries = factory.getIntermediaries();
         final Genotype normalizedGenotype = updater.normalizeGenotype(individual);
-        NeuroJetTraceFitnessIntermediary intermediary = _fitMap.get(normalizedGenotype);
+        NeuroJetTraceFitnessIntermediary intermediary = intermediaries.get(normalizedGenotype);
         if (intermediary == null) {
-            _fitMap.put(normalizedGenotype, new NeuroJetTraceFitnessIntermediary(factory,
-                                                                                 individual,
-                                                                                 scriptFiles,
-                                                                                 updater,
-                                                                                 neuroJet,
-                                                                                 workingDir,
-                                                                                 maxSamples));
-            intermediary = _fitMap.get(normalizedGenotype);
+            intermediary = new NeuroJetTraceFitnessIntermediary(factory,
+                                                                individual,
+                                                                scriptFiles,
+                                                                updater,
+                                                                neuroJet,
+                                                                workingDir,
+                                                                maxSamples);
+            intermediaries.put(normalizedGenotype, intermediary);
         }
         return intermediary.createFitness();
     }
 
-    Fitness createFitness() {
+    /**
+     * @param out Destination of the individual and its samples (including which samples each averages over)
+     * @throws IOException If they cannot be written
+     */
+    synchronized void writeState(final DataOutput out) throws IOException {
+        CheckpointUtils.writeGenotype(out, _genotype);
+        out.writeInt(_maxSamples);
+        out.writeInt(_instances.size());
+        for (int i = 0; i < _instances.size(); ++i) {
+            out.writeInt(_instances.get(i).getDirID());
+            out.writeBoolean(_sampleValues.get(i) != null);
+            if (_sampleValues.get(i) != null) {
+                CheckpointUtils.writeDoubles(out, _sampleValues.get(i));
+                out.writeDouble(_sampleTotals.get(i));
+                out.writeBoolean(_failedSamples.get(i));
+            }
+            final BitSet averaged = _averagedSamples.get(i);
+            out.writeInt(averaged.cardinality());
+            for (int j = averaged.nextSetBit(0); j >= 0; j = averaged.nextSetBit(j + 1)) {
+                out.writeInt(j);
+            }
+        }
+    }
+
+    /**
+     * @param in Source of an individual and its samples saved by {@link #writeState(DataOutput)}
+     * @param factory Factory (constructed as the one that saved them) that the samples belong to
+     * @return Intermediary holding the samples, which reuse the working directories (and seeds) of the saved ones
+     * @throws IOException If they cannot be read
+     */
+    static NeuroJetTraceFitnessIntermediary readState(final DataInput in, final NeuroJetTraceFitnessFactory factory)
+            throws IOException {
+        final Genotype individual = CheckpointUtils.readGenotype(in);
+        if (!(individual instanceof StandardGenotype)) throw new IOException("Expected a StandardGenotype");
+        final int maxSamples = in.readInt();
+        final NeuroJetTraceFitnessIntermediary retval =
+                new NeuroJetTraceFitnessIntermediary(factory, (StandardGenotype) individual, factory.getScriptFiles(),
+                                                     factory.getUpdater(), factory.getNeuroJet(),
+                                                     factory.getWorkingDir(), maxSamples);
+        final int numInstances = CheckpointUtils.readSize(in);
+        for (int i = 0; i < numInstances; ++i) {
+            final NeuroJetTraceFitness sample = new NeuroJetTraceFitness(retval, in.readInt());
+            retval._instances.add(sample);
+            if (in.readBoolean()) {
+                final List<Double> values = CheckpointUtils.readDoubles(in);
+                retval._sampleValues.add(values);
+                retval._sampleTotals.add(in.readDouble());
+                retval._failedSamples.set(i, in.readBoolean());
+                sample.restoreSample(values, retval._failedSamples.get(i));
+            }
+            else {
+                retval._sampleValues.add(null);
+                retval._sampleTotals.add(null);
+            }
+            final BitSet averaged = new BitSet();
+            final int cardinality = CheckpointUtils.readSize(in);
+            for (int j = 0; j < cardinality; ++j) {
+                averaged.set(in.readInt());
+            }
+            retval._averagedSamples.add(averaged);
+        }
+        return retval;
+    }
+
+    /**
+     * @return Number of {@link NeuroJetTraceFitness} instances created so far (used to name their working directories)
+     */
+    static synchronized int getCounter() {
+        return _counter;
+    }
+
+    /**
+     * @param counter Number of {@link NeuroJetTraceFitness} instances created so far (e.g., when resuming a checkpoint,
+     *            so that working directories of the interrupted run are not reused)
+     */
+    static synchronized void setCounter(final int counter) {
+        _counter = counter;
+    }
+
+    /**
+     * Every fitness of a generation is created before any is evaluated, so fixing which finished samples a fitness
+     * averages over when it is handed out makes its mean independent of the order in which evaluations finish
+     */
+    synchronized Fitness createFitness() {
         if (_instances.size() < _maxSamples) {
             _instances.add(new NeuroJetTraceFitness(this, ++_counter));
+            _sampleValues.add(null);
+            _sampleTotals.add(null);
+            _averagedSamples.add(new BitSet());
+        }
+        final BitSet averaged = _averagedSamples.get(_instances.size() - 1);
+        for (int i = 0; i < _sampleValues.size(); ++i) {
+            if (_sampleValues.get(i) != null) {
+                averaged.set(i);
+            }
         }
         return lastFitness();
     }
@@ -87,8 +190,7 @@ public final class NeuroJetTraceFitnessIntermediary {
      *            file in the scriptFiles {@link java.util.List List}).
      */
     private NeuroJetTraceFitnessIntermediary(final NeuroJetTraceFitnessFactory parent,
-                                             final StandardGenotype individual,
-                                             final List<File> scriptFiles, final ScriptUpdater updater,
+                                             final StandardGenotype individual, final List<File> scriptFiles, final ScriptUpdater updater,
                                              final File neuroJet,
                                              final File workingDir, final int maxSamples) {
         if (scriptFiles == null || scriptFiles.isEmpty())
@@ -106,12 +208,10 @@ public final class NeuroJetTraceFitnessIntermediary {
         _neuroJet = neuroJet;
         _maxSamples = maxSamples;
         _instances = new ArrayList<NeuroJetTraceFitness>();
-        _summedFitnessValues = new ArrayList<Double>();
-        for (int i = 0; i < NeuroJetTraceFitness.NUM_FIT_VALS; ++i) {
-            _summedFitnessValues.add(0.0);
-        }
-        _summedTotalFitness = 0;
-        _numSums = 0;
+        _sampleValues = new ArrayList<List<Double>>();
+        _sampleTotals = new ArrayList<Double>();
+        _averagedSamples = new ArrayList<BitSet>();
+        _failedSamples = new BitSet();
         _workingDir = workingDir != null ? workingDir : _mainFile.getParentFile();
     }
 
@@ -119,20 +219,50 @@ public final class NeuroJetTraceFitnessIntermediary {
         return _parent;
     }
 
-    void addToSummedFitnessValues(final List<Double> listToAdd, final double totalToAdd) {
-        AbstractFitness.checkFitnessSize(lastFitness(), listToAdd);
-        AbstractFitness.checkFitnessSize(lastFitness(), _summedFitnessValues);
-        _summedFitnessValues = ArrayNumberUtils.add(_summedFitnessValues, listToAdd);
-        _summedTotalFitness += totalToAdd;
-        ++_numSums;
+    synchronized void addSample(final NeuroJetTraceFitness sample, final List<Double> fitnessValues,
+                                final double totalFitness, final boolean failed) {
+        AbstractFitness.checkFitnessSize(sample, fitnessValues);
+        final int i = _instances.indexOf(sample);
+        _sampleValues.set(i, new ArrayList<Double>(fitnessValues));
+        _sampleTotals.set(i, totalFitness);
+        _failedSamples.set(i, failed);
+        _averagedSamples.get(i).set(i);
     }
 
-    List<Double> getMeanFitnessValues() {
-        return Collections.unmodifiableList(ArrayNumberUtils.divide(_summedFitnessValues, _numSums));
+    /**
+     * @param sample Sample whose fitness is wanted
+     * @return Whether the sample's fitness averages fewer than the maximum number of samples, or includes a failed one
+     */
+    synchronized boolean isProvisional(final NeuroJetTraceFitness sample) {
+        final BitSet averaged = _averagedSamples.get(_instances.indexOf(sample));
+        return averaged.cardinality() < _maxSamples || averaged.intersects(_failedSamples);
     }
 
-    double getMeanTotalFitness() {
-        return _summedTotalFitness / _numSums;
+    /**
+     * @param sample Sample whose fitness is wanted
+     * @return Mean fitness values of the samples averaged into the sample's fitness, summed in sample order so that the
+     *         result doesn't depend on which finished first
+     */
+    synchronized List<Double> getMeanFitnessValues(final NeuroJetTraceFitness sample) {
+        final BitSet averaged = _averagedSamples.get(_instances.indexOf(sample));
+        List<Double> sum = new ArrayList<Double>(Collections.nCopies(NeuroJetTraceFitness.NUM_FIT_VALS, 0.0));
+        for (int i = averaged.nextSetBit(0); i >= 0; i = averaged.nextSetBit(i + 1)) {
+            sum = ArrayNumberUtils.add(sum, _sampleValues.get(i));
+        }
+        return Collections.unmodifiableList(ArrayNumberUtils.divide(sum, averaged.cardinality()));
+    }
+
+    /**
+     * @param sample Sample whose fitness is wanted
+     * @return Mean total fitness of the samples averaged into the sample's fitness, summed in sample order
+     */
+    synchronized double getMeanTotalFitness(final NeuroJetTraceFitness sample) {
+        final BitSet averaged = _averagedSamples.get(_instances.indexOf(sample));
+        double sum = 0;
+        for (int i = averaged.nextSetBit(0); i >= 0; i = averaged.nextSetBit(i + 1)) {
+            sum += _sampleTotals.get(i);
+        }
+        return sum / averaged.cardinality();
     }
 
     /**
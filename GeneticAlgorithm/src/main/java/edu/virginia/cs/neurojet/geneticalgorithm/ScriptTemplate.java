@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.geneticalgorithm;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * NeuroJet script template that has been split into literal text and the markers (such as insertAhere, where "A" is the
+ * variable name) to be replaced by values, so that a script can be written in a single pass. Line endings are converted
+ * to the platform's line separator, and the last line always ends with one. Markers are recognized regardless of case.
+ * @see ScriptUpdater#createScriptFromTemplate(File, File, edu.virginia.cs.geneticalgorithm.gene.StandardGenotype,
+ *      Integer)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+final class ScriptTemplate {
+
+    private static final String MARKER_START = "insert";
+    private static final String MARKER_END = "here";
+    private static final ThreadLocal<RenderBuffer> BUFFER = new ThreadLocal<RenderBuffer>() {
+
+        @Override
+        protected RenderBuffer initialValue() {
+            return new RenderBuffer();
+        }
+    };
+
+    private final long _lastModified;
+    private final long _length;
+    private final String[] _literals; // One more literal than there are slots
+    private final int[] _slots; // Which variable each marker refers to
+    private final String[] _markers; // Original text of each marker
+
+    private ScriptTemplate(final long lastModified, final long length, final List<String> literals,
+                           final List<Integer> slots, final List<String> markers) {
+        _lastModified = lastModified;
+        _length = length;
+        _literals = literals.toArray(new String[literals.size()]);
+        _slots = new int[slots.size()];
+        for (int i = 0; i < _slots.length; ++i) {
+            _slots[i] = slots.get(i);
+        }
+        _markers = markers.toArray(new String[markers.size()]);
+    }
+
+    /**
+     * @param template {@link File} containing the markers to be replaced with values
+     * @param varNames Names of the variables that can be replaced (the position of a name is used to find its value when
+     *            rendering)
+     * @return Compiled template
+     * @throws IOException If the template cannot be read
+     */
+    static ScriptTemplate compile(final File template, final List<String> varNames) throws IOException {
+        // Record these first, so that a change while reading causes a recompile next time
+        final long lastModified = template.lastModified();
+        final long length = template.length();
+        final String text = normalizeLines(read(template));
+        final List<String> literals = new ArrayList<String>();
+        final List<Integer> slots = new ArrayList<Integer>();
+        final List<String> markers = new ArrayList<String>();
+        int literalStart = 0;
+        int pos = 0;
+        while (pos < text.length()) {
+            final int markerLength = MARKER_START.length();
+            if (!text.regionMatches(true, pos, MARKER_START, 0, markerLength)) {
+                ++pos;
+                continue;
+            }
+            int matched = -1;
+            int markerEnd = pos;
+            for (int v = 0; v < varNames.size() && matched < 0; ++v) {
+                final String name = varNames.get(v);
+                final int nameStart = pos + markerLength;
+                if (text.regionMatches(true, nameStart, name, 0, name.length())
+                    && text.regionMatches(true, nameStart + name.length(), MARKER_END, 0, MARKER_END.length())) {
+                    matched = v;
+                    markerEnd = nameStart + name.length() + MARKER_END.length();
+                }
+            }
+            if (matched < 0) {
+                ++pos;
+                continue;
+            }
+            literals.add(text.substring(literalStart, pos));
+            slots.add(matched);
+            markers.add(text.substring(pos, markerEnd));
+            pos = markerEnd;
+            literalStart = pos;
+        }
+        literals.add(text.substring(literalStart));
+        return new ScriptTemplate(lastModified, length, literals, slots, markers);
+    }
+
+    /**
+     * @param template {@link File} this template was compiled from
+     * @return Whether the {@link File} appears unchanged since it was compiled
+     */
+    boolean isCurrent(final File template) {
+        return template.lastModified() == _lastModified && template.length() == _length;
+    }
+
+    /**
+     * @return Number of markers in the template
+     */
+    int getNumMarkers() {
+        return _slots.length;
+    }
+
+    /**
+     * Writes the template with its markers replaced
+     * @param script {@link File} to write
+     * @param values Value of each variable (in the order given when compiling), with null meaning that its markers are
+     *            left as they are
+     * @throws IOException If the script cannot be written
+     */
+    void write(final File script, final String[] values) throws IOException {
+        final RenderBuffer buffer = BUFFER.get();
+        final StringBuilder text = buffer._text;
+        text.setLength(0);
+        render(values, text);
+        final ByteBuffer bytes = buffer.encode(text);
+        final FileOutputStream out = new FileOutputStream(script);
+        try {
+            final FileChannel channel = out.getChannel();
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * @param values Value of each variable (in the order given when compiling), with null meaning that its markers are
+     *            left as they are
+     * @param out Where to append the template with its markers replaced
+     */
+    void render(final String[] values, final StringBuilder out) {
+        for (int i = 0; i < _slots.length; ++i) {
+            out.append(_literals[i]);
+            final String value = values[_slots[i]];
+            out.append(value == null ? _markers[i] : value);
+        }
+        out.append(_literals[_slots.length]);
+    }
+
+    private static String read(final File template) throws IOException {
+        final FileInputStream in = new FileInputStream(template);
+        try {
+            final FileChannel channel = in.getChannel();
+            final ByteBuffer bytes = ByteBuffer.allocate((int) channel.size());
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // Keep reading
+            }
+            bytes.flip();
+            return Charset.defaultCharset().decode(bytes).toString();
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Splits the text into lines the way {@link java.io.BufferedReader#readLine()} does, and ends each line with the
+     * platform's line separator
+     */
+    private static String normalizeLines(final String text) {
+        final String separator = System.getProperty("line.separator");
+        final StringBuilder retval = new StringBuilder(text.length() + 64);
+        int lineStart = 0;
+        int pos = 0;
+        while (pos < text.length()) {
+            final char c = text.charAt(pos);
+            if (c == '\n' || c == '\r') {
+                retval.append(text, lineStart, pos).append(separator);
+                if (c == '\r' && pos + 1 < text.length() && text.charAt(pos + 1) == '\n') {
+                    ++pos;
+                }
+                lineStart = pos + 1;
+            }
+            ++pos;
+        }
+        if (lineStart < text.length()) {
+            retval.append(text, lineStart, text.length()).append(separator);
+        }
+        return retval.toString();
+    }
+
+    /**
+     * Per-thread storage reused for writing scripts
+     */
+    private static final class RenderBuffer {
+        final StringBuilder _text = new StringBuilder();
+        private final CharsetEncoder _encoder =
+                Charset.defaultCharset().newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                       .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        private ByteBuffer _bytes = ByteBuffer.allocate(0);
+
+        ByteBuffer encode(final CharSequence text) {
+            final int maxLength = (int) Math.ceil(text.length() * (double) _encoder.maxBytesPerChar());
+            if (_bytes.capacity() < maxLength) {
+                _bytes = ByteBuffer.allocate(maxLength);
+            }
+            _bytes.clear();
+            _encoder.reset();
+            _encoder.encode(CharBuffer.wrap(text), _bytes, true);
+            _encoder.flush(_bytes);
+            _bytes.flip();
+            return _bytes;
+        }
+    }
+}
@@ -3,15 +3,15 @@
  */
 package edu.virginia.cs.neurojet.geneticalgorithm;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 import edu.virginia.cs.common.utils.DoubleValueGenerator;
@@ -28,7 +28,8 @@ import edu.virginia.cs.geneticalgorithm.gene.interpreter.SimpleGeneInterpreter;
 
 /**
  * Updates a script or set of scripts containing markers such as insertAhere (where "A" is the variable name) with values that can
- * vary depending on a {@link edu.virginia.cs.geneticalgorithm.gene.Genotype Genotype}
+ * vary depending on a {@link edu.virginia.cs.geneticalgorithm.gene.Genotype Genotype}. Each template is read and split into
+ * text and markers only once (or again if it changes), after which scripts are written in a single pass.
  * @author <a href="mailto:benjamin.hocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since May 2, 2010
  */
@@ -36,6 +37,10 @@ public final class ScriptUpdater {
 
     private final GeneInterpreterMap<Pattern> _mapping = new GeneInterpreterMap<Pattern>();
     private final Map<String, Pattern> _supportingMap = new HashMap<String, Pattern>();
+    // Variable names (and their keys in _mapping) in the order they were added, for compiling templates
+    private final List<String> _varNames = new ArrayList<String>();
+    private final List<Pattern> _varPatterns = new ArrayList<Pattern>();
+    private final ConcurrentMap<File, ScriptTemplate> _templates = new ConcurrentHashMap<File, ScriptTemplate>();
     private ValueGenerator _desiredActGenerator = null; // So we'll know if this somehow never got set
     private int _desiredActPos = -1;
     private ValueGenerator _mePctGenerator = null; // So we'll know if this somehow never got set
@@ -47,6 +52,15 @@ public final class ScriptUpdater {
         return Pattern.compile("insert" + varName + "here", Pattern.CANON_EQ | Pattern.CASE_INSENSITIVE);
     }
 
+    private Pattern addMapping(final String varName, final GeneInterpreter interpreter) {
+        final Pattern p = generatePattern(varName);
+        _mapping.put(p, interpreter);
+        _varNames.add(varName);
+        _varPatterns.add(p);
+        _templates.clear(); // Templates need to know about the new variable
+        return p;
+    }
+
     /**
      * @param genotype Genotype to normalize
      * @return Canonical genotype that would result in the same phenotype as the provided genotype
@@ -61,6 +75,24 @@ public final class ScriptUpdater {
         return normalized;
     }
 
+    /**
+     * @param genotype Genotype to describe
+     * @return Description of the script values the genotype produces, independent of the order mappings were added in.
+     *         Two genotypes have the same canonical form if and only if they have the same normalized genotype.
+     * @see #normalizeGenotype(StandardGenotype)
+     */
+    public String canonicalForm(final StandardGenotype genotype) {
+        final Map<String, String> values = new TreeMap<String, String>();
+        for (final Pattern p : _mapping.keySet()) {
+            values.put(p.pattern(), _mapping.generateValue(p, genotype));
+        }
+        final StringBuilder retval = new StringBuilder();
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            retval.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        return retval.toString();
+    }
+
     /**
      * Maps a variable to a constant {@link java.lang.String String} value
      * @param genePosition Not used
@@ -68,7 +100,7 @@ public final class ScriptUpdater {
      * @param value {@link java.lang.String String} to replace the variable with
      */
     public void addConstantMapping(final int genePosition, final String varName, final String value) {
-        _mapping.put(generatePattern(varName), new ConstantGeneInterpreter(value));
+        addMapping(varName, new ConstantGeneInterpreter(value));
     }
 
     /**
@@ -78,7 +110,7 @@ public final class ScriptUpdater {
      * @param value {@link java.lang.Number Number} to replace the variable with
      */
     public void addConstantMapping(final int _, final String varName, final Number value) {
-        _mapping.put(generatePattern(varName), new ConstantGeneInterpreter(value));
+        addMapping(varName, new ConstantGeneInterpreter(value));
     }
 
     /**
@@ -92,9 +124,8 @@ public final class ScriptUpdater {
      */
     public void addDoubleMapping(final int genePosition, final String varName, final double lowerBound, final double upperBound) {
         final ValueGenerator generator = new DoubleValueGenerator(lowerBound, upperBound);
-        final Pattern p = generatePattern(varName);
+        final Pattern p = addMapping(varName, new SimpleGeneInterpreter(genePosition, generator));
         _supportingMap.put(varName, p);
-        _mapping.put(p, new SimpleGeneInterpreter(genePosition, generator));
         if (genePosition == _desiredActPos) {
             _desiredActGenerator = generator;
         }
@@ -161,9 +192,9 @@ public final class ScriptUpdater {
      * @param upperBound Greatest possible value the variable can attain
      */
     public void addIntegerMapping(final int genePosition, final String varName, final int lowerBound, final int upperBound) {
-        final Pattern p = generatePattern(varName);
+        final Pattern p =
+                addMapping(varName, new SimpleGeneInterpreter(genePosition, new IntegerValueGenerator(lowerBound, upperBound)));
         _supportingMap.put(varName, p);
-        _mapping.put(p, new SimpleGeneInterpreter(genePosition, new IntegerValueGenerator(lowerBound, upperBound)));
     }
 
     /**
@@ -178,7 +209,7 @@ public final class ScriptUpdater {
         final Pattern lP = _supportingMap.get(lowerBound);
         final GeneInterpreter lower = _mapping.get(lP);
         final GeneInterpreter upper = new ConstantGeneInterpreter(Integer.toString(upperBound));
-        _mapping.put(generatePattern(varName), new CompositeGeneInterpreter(genePosition, lower, upper, true));
+        addMapping(varName, new CompositeGeneInterpreter(genePosition, lower, upper, true));
     }
 
     /**
@@ -235,33 +266,34 @@ public final class ScriptUpdater {
      */
     public void createScriptFromTemplate(final File script, final File template, final StandardGenotype genotype, final Integer seed)
             throws IOException {
-        BufferedReader in = null;
-        PrintStream out = null;
-        try {
-            in = new BufferedReader(new FileReader(template));
-
-            final File parentDir = script.getParentFile();
-            if (!parentDir.exists()) {
-                parentDir.mkdirs();
-            }
-            out = new PrintStream(new FileOutputStream(script));
-            String line;
-            while ((line = in.readLine()) != null) {
-                for (final Pattern p : _mapping.keySet()) {
-                    final Matcher m = p.matcher(line);
-                    line = m.replaceAll(_mapping.generateValue(p, genotype));
-                }
-                if (seed != null) {
-                    final Pattern p = generatePattern("Seed");
-                    final Matcher m = p.matcher(line);
-                    line = m.replaceAll(seed.toString());
-                }
-                out.println(line);
-            }
+        final ScriptTemplate compiled = getTemplate(template);
+        final int numVars = _varNames.size();
+        final String[] values = new String[numVars + 1];
+        for (int i = 0; i < numVars; ++i) {
+            values[i] = _mapping.generateValue(_varPatterns.get(i), genotype);
         }
-        finally {
-            if (out != null) out.close();
-            if (in != null) in.close();
+        values[numVars] = (seed == null) ? null : seed.toString();
+        final File parentDir = script.getParentFile();
+        if (!parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        compiled.write(script, values);
+    }
+
+    /**
+     * @param template {@link java.io.File File} containing the variables to be replaced with their mapped values.
+     * @return Compiled template, reusing a previous compilation if the template hasn't changed
+     * @throws IOException If the template cannot be read
+     */
+    ScriptTemplate getTemplate(final File template) throws IOException {
+        final File key = template.getAbsoluteFile();
+        ScriptTemplate compiled = _templates.get(key);
+        if (compiled == null || !compiled.isCurrent(template)) {
+            final List<String> varNames = new ArrayList<String>(_varNames);
+            varNames.add("Seed");
+            compiled = ScriptTemplate.compile(template, varNames);
+            _templates.put(key, compiled);
         }
+        return compiled;
     }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Command line tool that converts the text data files (*.dat) in existing result directories to their binary form, so
+ * that archived runs can be analyzed again without parsing text. Archives (such as those created by runAndZip.sh) need
+ * to be extracted first.
+ *
+ * <pre>
+ * java edu.virginia.cs.neurojet.model.BinaryDataConverter [-compress] [-deleteText] &lt;file or directory&gt;...
+ * </pre>
+ *
+ * Directories are searched recursively. Files that don't contain only numbers are skipped.
+ * @see BinaryDataFile
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class BinaryDataConverter {
+
+    private static final String TEXT_EXTENSION = ".dat";
+
+    private final boolean _compress;
+    private final boolean _deleteText;
+    private int _numConverted = 0;
+    private int _numSkipped = 0;
+    private long _textBytes = 0;
+    private long _binaryBytes = 0;
+
+    /**
+     * @param compress Whether to compress the binary files
+     * @param deleteText Whether to delete each text file once its binary form has been written and checked
+     */
+    public BinaryDataConverter(final boolean compress, final boolean deleteText) {
+        _compress = compress;
+        _deleteText = deleteText;
+    }
+
+    /**
+     * @param fileOrDirectory Text data file, or directory to search (recursively) for text data files
+     * @throws IOException If a binary file cannot be written
+     */
+    public void convert(final File fileOrDirectory) throws IOException {
+        if (fileOrDirectory.isDirectory()) {
+            final File[] children = fileOrDirectory.listFiles();
+            if (children != null) {
+                for (final File child : children) {
+                    if (child.isDirectory() || child.getName().endsWith(TEXT_EXTENSION)) {
+                        convert(child);
+                    }
+                }
+            }
+        }
+        else {
+            convertFile(fileOrDirectory);
+        }
+    }
+
+    private void convertFile(final File textFile) throws IOException {
+        final NumericData data;
+        try {
+            data = NumericFileParser.parseText(textFile, 1.0);
+        }
+        catch (final NumberFormatException e) {
+            Logger.getLogger(BinaryDataConverter.class.getName()).log(Level.WARNING,
+                                                                      "Skipping '" + textFile.getPath() + "'", e);
+            ++_numSkipped;
+            return;
+        }
+        final File binary = BinaryDataFile.binaryFor(textFile);
+        BinaryDataFile.write(data, binary, _compress);
+        _textBytes += textFile.length();
+        _binaryBytes += binary.length();
+        ++_numConverted;
+        if (_deleteText) {
+            final NumericData check = BinaryDataFile.read(binary, 1.0);
+            if (check.numRows() != data.numRows() || check.size() != data.size())
+                throw new IOException("Binary form of '" + textFile.getPath() + "' doesn't match");
+            for (int row = 0; row < data.numRows(); ++row) {
+                if (check.rowLength(row) != data.rowLength(row))
+                    throw new IOException("Binary form of '" + textFile.getPath() + "' doesn't match");
+            }
+            for (int i = 0; i < data.size(); ++i) {
+                if (Double.doubleToLongBits(check.get(i)) != Double.doubleToLongBits(data.get(i)))
+                    throw new IOException("Binary form of '" + textFile.getPath() + "' doesn't match");
+            }
+            if (!textFile.delete()) throw new IOException("Couldn't delete '" + textFile.getPath() + "'");
+        }
+    }
+
+    /**
+     * @return Number of files converted
+     */
+    public int getNumConverted() {
+        return _numConverted;
+    }
+
+    /**
+     * @return Number of files skipped because they didn't contain only numbers
+     */
+    public int getNumSkipped() {
+        return _numSkipped;
+    }
+
+    /**
+     * @return Total size of the text files converted
+     */
+    public long getTextBytes() {
+        return _textBytes;
+    }
+
+    /**
+     * @return Total size of the binary files written
+     */
+    public long getBinaryBytes() {
+        return _binaryBytes;
+    }
+
+    /**
+     * @param args [-compress] [-deleteText] followed by the files or directories to convert
+     * @throws IOException If a binary file cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        boolean compress = false;
+        boolean deleteText = false;
+        final List<File> targets = new ArrayList<File>();
+        for (final String arg : args) {
+            if (arg.equals("-compress")) {
+                compress = true;
+            }
+            else if (arg.equals("-deleteText")) {
+                deleteText = true;
+            }
+            else if (arg.startsWith("-")) {
+                throw new IllegalArgumentException("Unknown option '" + arg + "'");
+            }
+            else {
+                targets.add(new File(arg));
+            }
+        }
+        if (targets.isEmpty()) {
+            System.err.println("Usage: java " + BinaryDataConverter.class.getName()
+                               + " [-compress] [-deleteText] <file or directory>...");
+            return;
+        }
+        final BinaryDataConverter converter = new BinaryDataConverter(compress, deleteText);
+        for (final File target : targets) {
+            if (!target.exists()) throw new IllegalArgumentException("'" + target.getPath() + "' does not exist");
+            converter.convert(target);
+        }
+        System.out.println("Converted " + converter.getNumConverted() + " files (" + converter.getTextBytes()
+                           + " bytes of text to " + converter.getBinaryBytes() + " bytes), skipped "
+                           + converter.getNumSkipped());
+    }
+}
@@ -0,0 +1,418 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.commons.io.input.BoundedInputStream;
+
+/**
+ * Compact binary form of a NeuroJet numeric data file, stored alongside the text file with {@link #EXTENSION} appended
+ * to its name (e.g., fit2_150.dat.njb). The layout (big-endian) is:
+ * <ul>
+ * <li>Header: the magic number "NJBD", the format version (1 byte), the data type of the values ({@link #INT32} or
+ * {@link #FLOAT64}, 1 byte), 2 reserved bytes, the number of rows (4 bytes) and the number of values (4 bytes)</li>
+ * <li>Two columns, the length of each row (as 4-byte integers) followed by the values, each stored as its encoding
+ * ({@link #RAW} or {@link #DEFLATE}, 1 byte), the number of bytes stored (4 bytes) and then those bytes</li>
+ * <li>The CRC-32 checksum of the uncompressed bytes of both columns (4 bytes)</li>
+ * </ul>
+ * Values that are all integers are stored as 4-byte integers. Values are stored before any scaling.
+ * @see BinaryDataConverter
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class BinaryDataFile {
+
+    /**
+     * Added to the name of a text data file to give the name of its binary form
+     */
+    public static final String EXTENSION = ".njb";
+    /**
+     * Data type of values stored as 4-byte integers
+     */
+    public static final byte INT32 = 1;
+    /**
+     * Data type of values stored as 8-byte floating point numbers
+     */
+    public static final byte FLOAT64 = 2;
+    /**
+     * Encoding of a column stored as it is
+     */
+    public static final byte RAW = 0;
+    /**
+     * Encoding of a column compressed with {@link Deflater}
+     */
+    public static final byte DEFLATE = 1;
+    private static final int MAGIC = ('N' << 24) | ('J' << 16) | ('B' << 8) | 'D';
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 16;
+
+    private BinaryDataFile() {
+        // Utility class
+    }
+
+    /**
+     * @param textFile Text data file
+     * @return Where the binary form of the text file is (or would be) stored
+     */
+    public static File binaryFor(final File textFile) {
+        return new File(textFile.getPath() + EXTENSION);
+    }
+
+    /**
+     * @param textFile Text data file
+     * @return Binary form of the file if there is one that isn't older than the text file, otherwise the text file
+     */
+    public static File findSource(final File textFile) {
+        final File binary = binaryFor(textFile);
+        if (binary.isFile() && (!textFile.exists() || binary.lastModified() >= textFile.lastModified())) return binary;
+        return textFile;
+    }
+
+    /**
+     * @param data Data to store
+     * @param file Where to store it
+     * @param compress Whether to compress the columns (each column is only compressed if that makes it smaller)
+     * @throws IOException If the file cannot be written
+     */
+    public static void write(final NumericData data, final File file, final boolean compress) throws IOException {
+        final int numRows = data.numRows();
+        final int numValues = data.size();
+        boolean allIntegers = true;
+        for (int i = 0; i < numValues && allIntegers; ++i) {
+            final double value = data.get(i);
+            allIntegers = (value == (int) value) && !(value == 0 && 1 / value < 0); // -0.0 must stay a double
+        }
+        final ByteBuffer rowLengths = ByteBuffer.allocate(4 * numRows);
+        for (int row = 0; row < numRows; ++row) {
+            rowLengths.putInt(data.rowLength(row));
+        }
+        final ByteBuffer values = ByteBuffer.allocate((allIntegers ? 4 : 8) * numValues);
+        for (int i = 0; i < numValues; ++i) {
+            if (allIntegers) {
+                values.putInt((int) data.get(i));
+            }
+            else {
+                values.putDouble(data.get(i));
+            }
+        }
+        final CRC32 checksum = new CRC32();
+        checksum.update(rowLengths.array());
+        checksum.update(values.array());
+        final byte[] storedRowLengths = encode(rowLengths.array(), compress);
+        final byte[] storedValues = encode(values.array(), compress);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put(VERSION).put(allIntegers ? INT32 : FLOAT64).putShort((short) 0);
+        header.putInt(numRows).putInt(numValues);
+        final ByteBuffer trailer = ByteBuffer.allocate(4);
+        trailer.putInt((int) checksum.getValue());
+        header.flip();
+        trailer.flip();
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            final FileChannel channel = out.getChannel();
+            writeFully(channel, header);
+            writeColumn(channel, storedRowLengths, rowLengths.capacity());
+            writeColumn(channel, storedValues, values.capacity());
+            writeFully(channel, trailer);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * @param file Binary data file
+     * @param scale Amount to multiply each value by
+     * @return Values in the file (multiplied by the scale)
+     * @throws IOException If the file cannot be read, or is not a valid binary data file
+     */
+    public static NumericData read(final File file, final double scale) throws IOException {
+        final ByteBuffer bytes = readFully(file);
+        if (bytes.remaining() < HEADER_SIZE)
+            throw new IOException("'" + file.getPath() + "' is not a binary data file");
+        final byte dataType = readHeader(bytes, file);
+        final int numRows = bytes.getInt();
+        final int numValues = bytes.getInt();
+        if (numRows < 0 || numValues < 0) throw new IOException("Corrupt header in '" + file.getPath() + "'");
+        try {
+            final ByteBuffer rowLengths = readColumn(bytes, 4L * numRows);
+            final ByteBuffer values = readColumn(bytes, (dataType == INT32 ? 4L : 8L) * numValues);
+            final CRC32 checksum = new CRC32();
+            checksum.update(rowLengths.array());
+            checksum.update(values.array());
+            if (bytes.getInt() != (int) checksum.getValue())
+                throw new IOException("Checksum mismatch in '" + file.getPath() + "'");
+            final int[] rowStarts = toRowStarts(rowLengths, numValues, file);
+            final double[] parsed = new double[numValues];
+            for (int i = 0; i < numValues; ++i) {
+                parsed[i] = (dataType == INT32 ? values.getInt() : values.getDouble()) * scale;
+            }
+            return NumericData.create(parsed, rowStarts);
+        }
+        catch (final BufferUnderflowException e) {
+            throw new IOException("'" + file.getPath() + "' is truncated", e);
+        }
+    }
+
+    /**
+     * @param file Binary data file
+     * @param scale Amount to multiply each value by
+     * @return Reader of the rows of the file, which only reads (and decompresses) as far as the rows asked for
+     * @throws IOException If the file cannot be opened, or doesn't start like a valid binary data file
+     */
+    public static RowReader openRows(final File file, final double scale) throws IOException {
+        return new RowReader(file, scale);
+    }
+
+    /**
+     * Checks the magic number and version, leaving the buffer at the number of rows
+     * @return Data type of the values
+     */
+    private static byte readHeader(final ByteBuffer bytes, final File file) throws IOException {
+        if (bytes.getInt() != MAGIC) throw new IOException("'" + file.getPath() + "' is not a binary data file");
+        final byte version = bytes.get();
+        if (version != VERSION)
+            throw new IOException("Unsupported version " + version + " of binary data file '" + file.getPath() + "'");
+        final byte dataType = bytes.get();
+        if (dataType != INT32 && dataType != FLOAT64)
+            throw new IOException("Unknown data type " + dataType + " in '" + file.getPath() + "'");
+        bytes.getShort();
+        return dataType;
+    }
+
+    private static int[] toRowStarts(final ByteBuffer rowLengths, final int numValues, final File file)
+            throws IOException {
+        final int numRows = rowLengths.remaining() / 4;
+        final int[] rowStarts = new int[numRows + 1];
+        for (int row = 0; row < numRows; ++row) {
+            final int length = rowLengths.getInt();
+            if (length < 0 || rowStarts[row] + length > numValues)
+                throw new IOException("Corrupt row lengths in '" + file.getPath() + "'");
+            rowStarts[row + 1] = rowStarts[row] + length;
+        }
+        if (rowStarts[numRows] != numValues) throw new IOException("Corrupt row lengths in '" + file.getPath() + "'");
+        return rowStarts;
+    }
+
+    private static byte[] encode(final byte[] column, final boolean compress) {
+        if (!compress || column.length == 0) return column;
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(column);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(column.length / 2 + 64);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.size() < column.length ? out.toByteArray() : column;
+        }
+        finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeColumn(final FileChannel channel, final byte[] stored, final int rawLength)
+            throws IOException {
+        final ByteBuffer prefix = ByteBuffer.allocate(5);
+        prefix.put(stored.length < rawLength ? DEFLATE : RAW).putInt(stored.length);
+        prefix.flip();
+        writeFully(channel, prefix);
+        writeFully(channel, ByteBuffer.wrap(stored));
+    }
+
+    private static ByteBuffer readColumn(final ByteBuffer bytes, final long rawLength) throws IOException {
+        if (rawLength > Integer.MAX_VALUE) throw new IOException("Column too large");
+        final byte encoding = bytes.get();
+        final int storedLength = bytes.getInt();
+        if (storedLength < 0 || storedLength > bytes.remaining()) throw new IOException("Corrupt column length");
+        final byte[] stored = new byte[storedLength];
+        bytes.get(stored);
+        return decode(encoding, stored, rawLength);
+    }
+
+    private static ByteBuffer decode(final byte encoding, final byte[] stored, final long rawLength)
+            throws IOException {
+        final int storedLength = stored.length;
+        if (encoding == RAW) {
+            if (storedLength != rawLength) throw new IOException("Corrupt column length");
+            return ByteBuffer.wrap(stored);
+        }
+        if (encoding != DEFLATE) throw new IOException("Unknown column encoding " + encoding);
+        final byte[] raw = new byte[(int) rawLength];
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored);
+            int numInflated = 0;
+            while (numInflated < raw.length && !inflater.finished()) {
+                final int n = inflater.inflate(raw, numInflated, raw.length - numInflated);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                numInflated += n;
+            }
+            if (numInflated != raw.length) throw new IOException("Corrupt compressed column");
+        }
+        catch (final DataFormatException e) {
+            throw new IOException("Corrupt compressed column", e);
+        }
+        finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    private static ByteBuffer readFully(final File file) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("File '" + file.getPath() + "' is too large");
+            final ByteBuffer bytes = ByteBuffer.allocate((int) size);
+            while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                // Keep reading
+            }
+            bytes.flip();
+            return bytes;
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+
+    /**
+     * Reads the rows of a binary data file in order, reading (and decompressing) the values only as far as the rows
+     * asked for, so that a caller that only needs the first rows doesn't pay for the rest. The checksum can only be
+     * checked once every row has been read, so corruption of rows that are never read goes unnoticed.
+     * @see BinaryDataFile#openRows(File, double)
+     */
+    public static final class RowReader implements Closeable {
+        private final File _file;
+        private final double _scale;
+        private final DataInputStream _in;
+        private final boolean _isInt;
+        private final int[] _rowStarts;
+        private final CRC32 _checksum = new CRC32();
+        private final BoundedInputStream _storedValues;
+        private final DataInputStream _values;
+        private int _row = 0;
+
+        private RowReader(final File file, final double scale) throws IOException {
+            _file = file;
+            _scale = scale;
+            _in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+            try {
+                final byte[] header = new byte[HEADER_SIZE];
+                _in.readFully(header);
+                final ByteBuffer bytes = ByteBuffer.wrap(header);
+                _isInt = (readHeader(bytes, file) == INT32);
+                final int numRows = bytes.getInt();
+                final int numValues = bytes.getInt();
+                if (numRows < 0 || numValues < 0) throw new IOException("Corrupt header in '" + file.getPath() + "'");
+                final ByteBuffer rowLengths = decode(_in.readByte(), readStored(), 4L * numRows);
+                _checksum.update(rowLengths.array());
+                _rowStarts = toRowStarts(rowLengths, numValues, file);
+                final byte encoding = _in.readByte();
+                if (encoding != RAW && encoding != DEFLATE) throw new IOException("Unknown column encoding " + encoding);
+                final int storedLength = _in.readInt();
+                if (storedLength < 0) throw new IOException("Corrupt column length");
+                final long rawLength = (_isInt ? 4L : 8L) * numValues;
+                if (encoding == RAW && storedLength != rawLength) throw new IOException("Corrupt column length");
+                _storedValues = new BoundedInputStream(_in, storedLength);
+                _storedValues.setPropagateClose(false);
+                final InputStream raw = (encoding == DEFLATE) ? new InflaterInputStream(_storedValues) : _storedValues;
+                _values = new DataInputStream(new CheckedInputStream(raw, _checksum));
+            }
+            catch (final EOFException e) {
+                _in.close();
+                throw new IOException("'" + file.getPath() + "' is truncated", e);
+            }
+            catch (final IOException e) {
+                _in.close();
+                throw e;
+            }
+        }
+
+        private byte[] readStored() throws IOException {
+            final int storedLength = _in.readInt();
+            if (storedLength < 0 || storedLength > _file.length()) throw new IOException("Corrupt column length");
+            final byte[] stored = new byte[storedLength];
+            _in.readFully(stored);
+            return stored;
+        }
+
+        /**
+         * @return Number of rows in the file
+         */
+        public int numRows() {
+            return _rowStarts.length - 1;
+        }
+
+        /**
+         * @param values Array to fill with the (scaled) leading values of the next row
+         * @return Length of the next row (which may be more or less than the length of values), or -1 if every row has
+         *         been read
+         * @throws IOException If the file cannot be read, or every row has been read and the checksum doesn't match
+         */
+        public int nextRow(final double[] values) throws IOException {
+            if (_row == numRows()) return -1;
+            final int length = _rowStarts[_row + 1] - _rowStarts[_row];
+            try {
+                for (int i = 0; i < length; ++i) {
+                    final double value = (_isInt ? _values.readInt() : _values.readDouble()) * _scale;
+                    if (i < values.length) {
+                        values[i] = value;
+                    }
+                }
+                if (++_row == numRows()) {
+                    // Skip anything left of the stored column (e.g., the end of the compressed stream)
+                    while (_values.read() >= 0) {
+                        // Nothing more should be there
+                    }
+                    while (_storedValues.skip(Long.MAX_VALUE) > 0) {
+                        // Reach the checksum
+                    }
+                    if (_in.readInt() != (int) _checksum.getValue())
+                        throw new IOException("Checksum mismatch in '" + _file.getPath() + "'");
+                }
+            }
+            catch (final EOFException e) {
+                throw new IOException("'" + _file.getPath() + "' is truncated", e);
+            }
+            return length;
+        }
+
+        /**
+         * @see java.io.Closeable#close()
+         */
+        @Override
+        public void close() throws IOException {
+            _values.close();
+            _in.close();
+        }
+    }
+}
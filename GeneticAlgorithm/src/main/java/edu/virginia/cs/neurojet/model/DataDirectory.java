@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.virginia.cs.common.concurrent.FileReadinessService;
+
+/**
+ * Cache of the numeric data files in a directory, so that files that are read more than once (such as the fit2_*.dat
+ * files, which are all read for several fitness measures) are only parsed once. A cached file is parsed again if its
+ * modification time or length changes (or if its binary form is created or removed).
+ * @see NumericFileParser
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DataDirectory {
+
+    private final File _directory;
+    private final Map<String, Entry> _cache = new HashMap<String, Entry>();
+
+    /**
+     * @param directory Directory containing the data files
+     */
+    public DataDirectory(final File directory) {
+        _directory = directory;
+    }
+
+    /**
+     * @return Directory containing the data files
+     */
+    public File getDirectory() {
+        return _directory;
+    }
+
+    /**
+     * @param name Name of the data file (within the directory)
+     * @param scale Amount to multiply each value by
+     * @param waitTime How long to wait (in milliseconds) for the file to be ready
+     * @param signal File used to signal that the data is ready (null for the data file name followed by ".ready")
+     * @return Values in the file (multiplied by the scale)
+     */
+    public NumericData getData(final String name, final double scale, final int waitTime, final File signal) {
+        final File file = new File(_directory, name);
+        try {
+            final File trueSignal = signal != null ? signal : new File(_directory, name + ".ready");
+            final boolean fileFound = FileReadinessService.getDefault().awaitReady(trueSignal, waitTime);
+            if (!fileFound) {
+                throw new IOException("Couldn't find file '" + trueSignal.getPath() + "'");
+            }
+            return getData(file, scale);
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @param file Data file
+     * @param scale Amount to multiply each value by
+     * @return Values in the file (multiplied by the scale)
+     * @throws IOException If the file cannot be read
+     */
+    NumericData getData(final File file, final double scale) throws IOException {
+        final String key = file.getPath();
+        final File source = BinaryDataFile.findSource(file);
+        synchronized (_cache) {
+            final Entry cached = _cache.get(key);
+            if (cached != null && cached.isCurrent(source, scale)) return cached._data;
+        }
+        // Record these first, so that a change while reading causes a re-read next time
+        final long lastModified = source.lastModified();
+        final long length = source.length();
+        final NumericData data = (source != file) ? BinaryDataFile.read(source, scale)
+                                                  : NumericFileParser.parseText(file, scale);
+        synchronized (_cache) {
+            _cache.put(key, new Entry(source, lastModified, length, scale, data));
+        }
+        return data;
+    }
+
+    /**
+     * Forgets all of the cached data (for example, because the files are about to be deleted)
+     */
+    public void clear() {
+        synchronized (_cache) {
+            _cache.clear();
+        }
+    }
+
+    private static final class Entry {
+        private final File _source;
+        private final long _lastModified;
+        private final long _length;
+        private final double _scale;
+        final NumericData _data;
+
+        Entry(final File source, final long lastModified, final long length, final double scale,
+              final NumericData data) {
+            _source = source;
+            _lastModified = lastModified;
+            _length = length;
+            _scale = scale;
+            _data = data;
+        }
+
+        boolean isCurrent(final File source, final double scale) {
+            return scale == _scale && source.equals(_source) && source.lastModified() == _lastModified
+                   && source.length() == _length;
+        }
+    }
+}
@@ -3,14 +3,12 @@
  */
 package edu.virginia.cs.neurojet.model;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
-import edu.virginia.cs.common.utils.Pause;
+import edu.virginia.cs.common.concurrent.FileReadiness;
+import edu.virginia.cs.common.concurrent.FileReadinessService;
 
 /**
  * Standard class for reading a list of numbers (with a signal file indicating readiness)
@@ -21,7 +19,7 @@ public class FileData extends File {
 
     private final int _waitTime;
     private final File _signal;
-    private List<Double> _data = null;
+    private NumericData _data = null;
     private final Object _lock = new Object();
 
     /**
@@ -47,28 +45,32 @@ public class FileData extends File {
         _signal = signal != null ? signal : new File(parent, child + ".ready");
     }
 
+    /**
+     * @return Future that completes once the signal file indicates the data is ready (does not time out)
+     */
+    public FileReadiness whenReady() {
+        return FileReadinessService.getDefault().whenReady(_signal);
+    }
+
     /**
      * @return List of double values contained in the specified file
      */
     public List<Double> getData() {
+        return getNumericData().asList();
+    }
+
+    /**
+     * @return Values contained in the specified file (along with their statistics)
+     */
+    public NumericData getNumericData() {
         synchronized (_lock) {
             if (_data == null) {
                 try {
-                    final boolean fileFound = Pause.untilExists(_signal, _waitTime);
+                    final boolean fileFound = FileReadinessService.getDefault().awaitReady(_signal, _waitTime);
                     if (!fileFound) {
                         throw new IOException("Couldn't find file '" + _signal.getPath() + "'");
                     }
-                    final BufferedReader reader = new BufferedReader(new FileReader(this));
-                    try {
-                        _data = new ArrayList<Double>();
-                        String line;
-                        while ((line = reader.readLine()) != null) {
-                            _data.add(Double.valueOf(line));
-                        }
-                    }
-                    finally {
-                        reader.close();
-                    }
+                    _data = NumericFileParser.parse(this, 1.0);
                 }
                 catch (final IOException e) {
                     throw new RuntimeException(e);
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Compact record of which neurons fired at each time step, stored as one bitset (of longs) per time step, so that
+ * counting firing neurons is a matter of counting bits.
+ * @see NeuroJetNeuronBuffer#getFiringMatrix()
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class FiringMatrix {
+
+    private final int _numTimeSteps;
+    private final int _wordsPerStep;
+    private final long[] _bits; // Row-major: _wordsPerStep words for each time step
+
+    /**
+     * @param numTimeSteps Number of time steps
+     * @param maxNeuron Highest neuron number that can fire
+     * @param times Time step (0-based) of each firing
+     * @param neurons Neuron number of each firing
+     * @param numFirings Number of firings in times and neurons
+     */
+    FiringMatrix(final int numTimeSteps, final int maxNeuron, final int[] times, final int[] neurons,
+                 final int numFirings) {
+        _numTimeSteps = numTimeSteps;
+        _wordsPerStep = (maxNeuron >> 6) + 1;
+        _bits = new long[numTimeSteps * _wordsPerStep];
+        for (int i = 0; i < numFirings; ++i) {
+            final int neuron = neurons[i];
+            _bits[times[i] * _wordsPerStep + (neuron >> 6)] |= 1L << neuron;
+        }
+    }
+
+    /**
+     * @return Number of time steps
+     */
+    public int numTimeSteps() {
+        return _numTimeSteps;
+    }
+
+    /**
+     * @param timeStep Time step (0-based)
+     * @param neuron Neuron number
+     * @return Whether the neuron fired at that time step
+     */
+    public boolean isFiring(final int timeStep, final int neuron) {
+        checkTimeStep(timeStep);
+        if (neuron < 0 || (neuron >> 6) >= _wordsPerStep) return false;
+        return (_bits[timeStep * _wordsPerStep + (neuron >> 6)] & (1L << neuron)) != 0;
+    }
+
+    /**
+     * @param timeStep Time step (0-based)
+     * @return Number of neurons that fired at that time step
+     */
+    public int numFired(final int timeStep) {
+        checkTimeStep(timeStep);
+        final int offset = timeStep * _wordsPerStep;
+        int retval = 0;
+        for (int w = 0; w < _wordsPerStep; ++w) {
+            retval += Long.bitCount(_bits[offset + w]);
+        }
+        return retval;
+    }
+
+    /**
+     * @param timeStep Time step (0-based)
+     * @param mask Neurons to count, as created by {@link #createMask(Collection)}
+     * @return Number of those neurons that fired at that time step
+     */
+    public int numFired(final int timeStep, final long[] mask) {
+        checkTimeStep(timeStep);
+        final int offset = timeStep * _wordsPerStep;
+        int retval = 0;
+        for (int w = 0; w < _wordsPerStep; ++w) {
+            retval += Long.bitCount(_bits[offset + w] & mask[w]);
+        }
+        return retval;
+    }
+
+    /**
+     * @param neurons Neuron numbers (ones that can never fire are ignored)
+     * @return Mask for use with {@link #numFired(int, long[])}
+     */
+    public long[] createMask(final Collection<Integer> neurons) {
+        final long[] retval = new long[_wordsPerStep];
+        for (final Integer neuron : neurons) {
+            if (neuron >= 0 && (neuron >> 6) < _wordsPerStep) {
+                retval[neuron >> 6] |= 1L << neuron;
+            }
+        }
+        return retval;
+    }
+
+    /**
+     * @param timeStep Time step (0-based)
+     * @return Neurons that fired at that time step
+     */
+    public Set<Integer> firingNeurons(final int timeStep) {
+        checkTimeStep(timeStep);
+        final Set<Integer> retval = new HashSet<Integer>();
+        final int offset = timeStep * _wordsPerStep;
+        for (int w = 0; w < _wordsPerStep; ++w) {
+            long word = _bits[offset + w];
+            while (word != 0) {
+                retval.add((w << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return retval;
+    }
+
+    private void checkTimeStep(final int timeStep) {
+        if (timeStep < 0 || timeStep >= _numTimeSteps)
+            throw new IndexOutOfBoundsException("Time step: " + timeStep + ", Number of time steps: " + _numTimeSteps);
+    }
+}
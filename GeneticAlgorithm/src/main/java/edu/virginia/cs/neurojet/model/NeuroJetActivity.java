@@ -3,15 +3,13 @@
  */
 package edu.virginia.cs.neurojet.model;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import static edu.virginia.cs.common.utils.ArrayNumberUtils.*;
-import edu.virginia.cs.common.utils.Pause;
+import edu.virginia.cs.common.concurrent.FileReadinessService;
 
 /**
  * Class for reading and interpreting NeuroJet activity files
@@ -20,6 +18,7 @@ import edu.virginia.cs.common.utils.Pause;
  */
 public class NeuroJetActivity extends File {
 
+    private NumericData _activityData = null;
     private List<List<Double>> _activityList = null;
     private final double _timeStep;
     private final File _signal;
@@ -50,10 +49,10 @@ public class NeuroJetActivity extends File {
      * simulation
      */
     public List<Double> acrossTrialActivity() {
-        final List<List<Double>> activity = getActivity();
-        final List<Double> retval = new ArrayList<Double>();
-        for (final List<Double> dblList : activity) {
-            retval.add(mean(dblList));
+        final NumericData activity = getActivityData();
+        final List<Double> retval = new ArrayList<Double>(activity.numRows());
+        for (int trial = 0; trial < activity.numRows(); ++trial) {
+            retval.add(activity.rowMean(trial, 0, Integer.MAX_VALUE - 1));
         }
         return retval;
     }
@@ -95,35 +94,48 @@ public class NeuroJetActivity extends File {
      * @return Activity for every trial in the simulation
      */
     public List<List<Double>> getActivity(final boolean reRead) {
+        final NumericData activity = getActivityData(reRead);
+        if (_activityList == null) {
+            final List<List<Double>> activityList = new ArrayList<List<Double>>(activity.numRows());
+            for (int trial = 0; trial < activity.numRows(); ++trial) {
+                activityList.add(activity.rowAsList(trial));
+            }
+            _activityList = activityList;
+        }
+        return _activityList;
+    }
+
+    /**
+     * @return Activity for every trial in the simulation, one row per trial
+     */
+    public NumericData getActivityData() {
+        return getActivityData(false);
+    }
+
+    /**
+     * @param reRead Whether to read the activity file again, even if it's already been read
+     * @return Activity for every trial in the simulation, one row per trial
+     */
+    public NumericData getActivityData(final boolean reRead) {
         if (reRead) {
-            _activityList = null;
+            _activityData = null;
         }
-        if (_activityList == null) {
+        if (_activityData == null) {
             // timeStep is in ms. This should be equivalent to 1 / (_timestep measured in seconds), or 1 / (_timestep / 1000)
             final double hzConvFactor = 1000.0 / _timeStep;
             try {
-                final boolean fileFound = Pause.untilExists(_signal, _waitTime);
+                final boolean fileFound = FileReadinessService.getDefault().awaitReady(_signal, _waitTime);
                 if (!fileFound) {
                     throw new IOException("Couldn't find file '" + _signal.getPath() + "'");
                 }
-                final BufferedReader actReader = new BufferedReader(new FileReader(this));
-                try {
-                    _activityList = new ArrayList<List<Double>>();
-                    String line;
-                    while ((line = actReader.readLine()) != null) {
-                        final String[] activities = line.split("\\s");
-                        _activityList.add(multiply(toDoubleList(activities), hzConvFactor));
-                    }
-                }
-                finally {
-                    actReader.close();
-                }
+                _activityList = null;
+                _activityData = NumericFileParser.parse(this, hzConvFactor);
             }
             catch (final IOException e) {
                 throw new RuntimeException(e);
             }
         }
-        return _activityList;
+        return _activityData;
     }
 
     /**
@@ -133,15 +145,15 @@ public class NeuroJetActivity extends File {
      * @return Activity averaged over a specific interval
      */
     public double averageActivity(final int intervalBegin, final int intervalEnd) {
-        final List<List<Double>> activity = getActivity();
+        final NumericData activity = getActivityData();
         double retval = 0.0;
-        for (final List<Double> withinTrial : activity) {
-            final int lastElement = withinTrial.size(); // 1-based
+        for (int trial = 0; trial < activity.numRows(); ++trial) {
+            final int lastElement = activity.rowLength(trial); // 1-based
             // Array is 0-based, but time steps are 1-based
             final int curLast = Math.min(intervalEnd /* + 1 - 1 */, lastElement); // Not inclusive
-            retval += mean(withinTrial, intervalBegin - 1, curLast);
+            retval += activity.rowMean(trial, intervalBegin - 1, curLast);
         }
-        return retval / activity.size();
+        return retval / activity.numRows();
     }
 
     /**
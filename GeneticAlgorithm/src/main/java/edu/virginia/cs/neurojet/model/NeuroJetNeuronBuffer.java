@@ -3,27 +3,29 @@
  */
 package edu.virginia.cs.neurojet.model;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import edu.virginia.cs.common.utils.IntegerRange;
-import edu.virginia.cs.common.utils.Pause;
-import edu.virginia.cs.common.utils.SetUtils;
+import edu.virginia.cs.common.concurrent.FileReadinessService;
 
 /**
- * File containing NeuroJet Buffer data
+ * File containing NeuroJet Buffer data. The firing data is kept as a {@link FiringMatrix}, and is read only as far as
+ * needed (NeuroJet writes it in time order). If there is an up-to-date binary form of the file (see
+ * {@link BinaryDataFile}), it is read instead.
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
  * @since Dec 5, 2010
  */
 public class NeuroJetNeuronBuffer extends File {
 
-    private final List<Set<Integer>> _firingBuffer = new ArrayList<Set<Integer>>();
+    private FiringMatrix _firingMatrix = null;
+    private int _loadedThrough = 0; // Number of time steps read (if not all of them)
+    private boolean _fullyLoaded = false;
     private final File _signal;
     private final int _waitTime;
 
@@ -58,6 +60,7 @@ public class NeuroJetNeuronBuffer extends File {
 
     /**
      * @return Firing buffer for a particular trial (training or testing) in the simulation
+     * @see #getFiringMatrix()
      */
     public List<Set<Integer>> getFiringBuffer() {
         return getFiringBuffer(false);
@@ -65,44 +68,104 @@ public class NeuroJetNeuronBuffer extends File {
 
     /**
      * @param reRead Whether to read the activity file again, even if it's already been read
-     * @return Firing buffer for a particular trial (training or testing) in the simulation
+     * @return Firing buffer for a particular trial (training or testing) in the simulation (a copy of the firing matrix
+     *         data, so modifying it has no effect)
+     * @see #getFiringMatrix(boolean)
      */
     public List<Set<Integer>> getFiringBuffer(final boolean reRead) {
+        final FiringMatrix matrix = getFiringMatrix(reRead);
+        final List<Set<Integer>> retval = new ArrayList<Set<Integer>>(matrix.numTimeSteps());
+        for (int i = 0; i < matrix.numTimeSteps(); ++i) {
+            retval.add(matrix.firingNeurons(i));
+        }
+        return retval;
+    }
+
+    /**
+     * @return Firing matrix for a particular trial (training or testing) in the simulation
+     */
+    public FiringMatrix getFiringMatrix() {
+        return getFiringMatrix(false);
+    }
+
+    /**
+     * @param reRead Whether to read the activity file again, even if it's already been read
+     * @return Firing matrix for a particular trial (training or testing) in the simulation
+     */
+    public FiringMatrix getFiringMatrix(final boolean reRead) {
         if (reRead) {
-            _firingBuffer.clear();
+            _firingMatrix = null;
+            _fullyLoaded = false;
         }
-        if (_firingBuffer.isEmpty()) {
+        return getFiringMatrix(Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param numTimeSteps Number of time steps needed
+     * @return Firing matrix containing (at least) the requested number of time steps, if the simulation had that many
+     */
+    private FiringMatrix getFiringMatrix(final int numTimeSteps) {
+        if (_firingMatrix == null || (!_fullyLoaded && _loadedThrough < numTimeSteps)) {
             try {
-                final boolean fileFound = Pause.untilExists(_signal, _waitTime);
+                final boolean fileFound = FileReadinessService.getDefault().awaitReady(_signal, _waitTime);
                 if (!fileFound) {
                     throw new IOException("Couldn't find file '" + _signal.getPath() + "'");
                 }
-                final BufferedReader reader = new BufferedReader(new FileReader(this));
-                try {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        final String[] lineData = line.split("\\s");
-                        final boolean isOn = (Integer.parseInt(lineData[2]) != 0);
-                        if (isOn) {
-                            final Integer neuron = Integer.parseInt(lineData[1]);
-                            final int timePos = Integer.parseInt(lineData[0]);
-                            while (_firingBuffer.size() < timePos) {
-                                _firingBuffer.add(new HashSet<Integer>());
-                            }
-                            final Set<Integer> firingSet = _firingBuffer.get(timePos - 1);
-                            firingSet.add(neuron);
-                        }
-                    }
-                }
-                finally {
-                    reader.close();
-                }
+                load(numTimeSteps);
             }
             catch (final IOException e) {
                 throw new RuntimeException(e);
             }
         }
-        return _firingBuffer;
+        return _firingMatrix;
+    }
+
+    private void load(final int throughTime) throws IOException {
+        int[] times = new int[1024];
+        int[] neurons = new int[1024];
+        int numFirings = 0;
+        int numTimeSteps = 0;
+        int maxNeuron = 0;
+        boolean fullyLoaded = true;
+        final File source = BinaryDataFile.findSource(this);
+        final FiringSource tokenizer = (source != this) ? new BinaryFiringSource(BinaryDataFile.openRows(source, 1.0))
+                                                        : new FiringTokenizer(new FileReader(this));
+        try {
+            final int[] lineData = new int[3];
+            while (tokenizer.readLine(lineData)) {
+                final int timePos = lineData[0];
+                if (timePos > throughTime) {
+                    fullyLoaded = false;
+                    break;
+                }
+                final boolean isOn = (lineData[2] != 0);
+                if (isOn) {
+                    final int neuron = lineData[1];
+                    if (timePos < 1 || neuron < 0)
+                        throw new IOException("Invalid firing data (" + timePos + ", " + neuron + ") in '" + getPath()
+                                              + "'");
+                    if (numFirings == times.length) {
+                        final int[] newTimes = new int[numFirings * 2];
+                        System.arraycopy(times, 0, newTimes, 0, numFirings);
+                        times = newTimes;
+                        final int[] newNeurons = new int[numFirings * 2];
+                        System.arraycopy(neurons, 0, newNeurons, 0, numFirings);
+                        neurons = newNeurons;
+                    }
+                    times[numFirings] = timePos - 1;
+                    neurons[numFirings] = neuron;
+                    ++numFirings;
+                    numTimeSteps = Math.max(numTimeSteps, timePos);
+                    maxNeuron = Math.max(maxNeuron, neuron);
+                }
+            }
+        }
+        finally {
+            tokenizer.close();
+        }
+        _firingMatrix = new FiringMatrix(numTimeSteps, maxNeuron, times, neurons, numFirings);
+        _loadedThrough = throughTime;
+        _fullyLoaded = fullyLoaded;
     }
 
     /**
@@ -111,17 +174,18 @@ public class NeuroJetNeuronBuffer extends File {
      * @return Fraction of the desired neurons firing out of the total number of firings for the range
      */
     public double fractionFired(final IntegerRange neuronRange, final IntegerRange timeRange) {
-        final List<Set<Integer>> neuronBuff = getFiringBuffer();
+        int lastTime = -1;
+        for (final Integer i : timeRange) {
+            lastTime = Math.max(lastTime, i);
+        }
+        final FiringMatrix matrix = getFiringMatrix(lastTime + 1);
+        final long[] mask = matrix.createMask(neuronRange);
         int totalNumFired = 0;
         double totalPuffFired = 0;
         for (final Integer i : timeRange) {
-            if (i < neuronBuff.size()) {
-                final Set<Integer> firingNeurons = neuronBuff.get(i);
-                if (!firingNeurons.isEmpty()) {
-                    totalNumFired += firingNeurons.size();
-                    final Set<Integer> firingPuff = SetUtils.intersection(firingNeurons, neuronRange.asSet());
-                    totalPuffFired += firingPuff.size();
-                }
+            if (i < matrix.numTimeSteps()) {
+                totalNumFired += matrix.numFired(i);
+                totalPuffFired += matrix.numFired(i, mask);
             }
         }
         return totalNumFired > 0 ? totalPuffFired / totalNumFired : 0.0;
@@ -131,6 +195,111 @@ public class NeuroJetNeuronBuffer extends File {
      * @return Number of time steps in the firing buffer
      */
     public int numTimeSteps() {
-        return getFiringBuffer().size();
+        return getFiringMatrix().numTimeSteps();
+    }
+
+    /**
+     * Source of lines of firing data (time step, neuron, whether it fired)
+     */
+    private interface FiringSource {
+
+        /**
+         * @param fields Array to fill with the leading integers of the next (non-blank) line
+         * @return Whether there was another line
+         */
+        boolean readLine(int[] fields) throws IOException;
+
+        void close() throws IOException;
+    }
+
+    /**
+     * Reads the rows of the binary form of the buffer file, only as far as they're needed
+     * @see BinaryDataFile.RowReader
+     */
+    private final class BinaryFiringSource implements FiringSource {
+        private final BinaryDataFile.RowReader _rows;
+        private final double[] _values = new double[3];
+
+        BinaryFiringSource(final BinaryDataFile.RowReader rows) {
+            _rows = rows;
+        }
+
+        @Override
+        public boolean readLine(final int[] fields) throws IOException {
+            final int length = _rows.nextRow(_values);
+            if (length < 0) return false;
+            if (length < fields.length)
+                throw new IOException("Malformed firing data in '" + getPath() + BinaryDataFile.EXTENSION + "'");
+            for (int f = 0; f < fields.length; ++f) {
+                fields[f] = (int) _values[f];
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            _rows.close();
+        }
+    }
+
+    /**
+     * Reads lines of whitespace-separated integers without creating Strings
+     */
+    private final class FiringTokenizer implements FiringSource {
+        private final Reader _in;
+        private final char[] _buffer = new char[8192];
+        private int _pos = 0;
+        private int _limit = 0;
+
+        FiringTokenizer(final Reader in) {
+            _in = in;
+        }
+
+        private int read() throws IOException {
+            if (_pos == _limit) {
+                _limit = _in.read(_buffer);
+                _pos = 0;
+                if (_limit <= 0) {
+                    _limit = 0;
+                    return -1;
+                }
+            }
+            return _buffer[_pos++];
+        }
+
+        @Override
+        public boolean readLine(final int[] fields) throws IOException {
+            int c = read();
+            while (c == '\n' || c == '\r') {
+                c = read();
+            }
+            if (c < 0) return false;
+            for (int f = 0; f < fields.length; ++f) {
+                while (c == ' ' || c == '\t') {
+                    c = read();
+                }
+                final boolean negative = (c == '-');
+                if (negative) {
+                    c = read();
+                }
+                if (c < '0' || c > '9') throw new IOException("Malformed firing data in '" + getPath() + "'");
+                int value = 0;
+                while (c >= '0' && c <= '9') {
+                    value = value * 10 + (c - '0');
+                    c = read();
+                }
+                fields[f] = negative ? -value : value;
+            }
+            // Ignore anything else on the line
+            while (c >= 0 && c != '\n' && c != '\r') {
+                c = read();
+            }
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            _in.close();
+        }
     }
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import edu.virginia.cs.common.utils.ArrayNumberUtils;
+
+/**
+ * Numbers read from a NeuroJet data file, stored as a flat array with the start of each line (row) recorded, along with
+ * statistics calculated while the file was being read. The statistics are calculated in the same order (and so give the
+ * same results) as the corresponding {@link ArrayNumberUtils} methods applied to {@link #asList()}.
+ * @see NumericFileParser
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NumericData {
+
+    private final double[] _values;
+    private final int[] _rowStarts; // One more than the number of rows
+    private final double _sum;
+    private final double _sumOfSquares;
+    private final double _sumXY; // Sum of index times value, for the slope
+
+    NumericData(final double[] values, final int[] rowStarts, final double sum, final double sumOfSquares,
+                final double sumXY) {
+        _values = values;
+        _rowStarts = rowStarts;
+        _sum = sum;
+        _sumOfSquares = sumOfSquares;
+        _sumXY = sumXY;
+    }
+
+    /**
+     * Calculates the statistics in the same order as {@link NumericFileParser} does
+     * @param values Values (not copied)
+     * @param rowStarts Position in values of the start of each row, followed by the number of values (not copied)
+     * @return Data containing the values
+     */
+    static NumericData create(final double[] values, final int[] rowStarts) {
+        double sum = 0;
+        double sumOfSquares = 0;
+        double sumXY = 0;
+        for (int i = 0; i < values.length; ++i) {
+            final double value = values[i];
+            sum += value;
+            sumOfSquares += value * value;
+            sumXY += i * value;
+        }
+        return new NumericData(values, rowStarts, sum, sumOfSquares, sumXY);
+    }
+
+    /**
+     * @return Total number of values
+     */
+    public int size() {
+        return _values.length;
+    }
+
+    /**
+     * @param index Position of the value (counting across all rows)
+     * @return Value at that position
+     */
+    public double get(final int index) {
+        return _values[index];
+    }
+
+    /**
+     * @return Number of (non-blank) lines in the file
+     */
+    public int numRows() {
+        return _rowStarts.length - 1;
+    }
+
+    /**
+     * @param row Which line (0-based)
+     * @return Number of values in that line
+     */
+    public int rowLength(final int row) {
+        return _rowStarts[row + 1] - _rowStarts[row];
+    }
+
+    /**
+     * @param row Which line (0-based)
+     * @param column Which value in the line (0-based)
+     * @return Value in that line
+     */
+    public double get(final int row, final int column) {
+        if (column < 0 || column >= rowLength(row))
+            throw new IndexOutOfBoundsException("Column: " + column + ", Row length: " + rowLength(row));
+        return _values[_rowStarts[row] + column];
+    }
+
+    /**
+     * @param row Which line (0-based)
+     * @param first First value in the line to include
+     * @param last Last value (inclusive) in the line to include (limited to the length of the line)
+     * @return Mean of the values, calculated as {@link ArrayNumberUtils#mean(List, int, int)} would
+     */
+    public double rowMean(final int row, final int first, final int last) {
+        final int trueLast = Math.min(last + 1, rowLength(row));
+        if (trueLast <= first) return Double.NaN;
+        final int offset = _rowStarts[row];
+        double sum = 0.0;
+        for (int i = first; i < trueLast; ++i) {
+            sum += _values[offset + i];
+        }
+        return sum / (trueLast - first);
+    }
+
+    /**
+     * @return Copy of all of the values
+     */
+    public double[] toArray() {
+        return _values.clone();
+    }
+
+    /**
+     * @return Unmodifiable view of all of the values
+     */
+    public List<Double> asList() {
+        return new ValueList(0, _values.length);
+    }
+
+    /**
+     * @param row Which line (0-based)
+     * @return Unmodifiable view of the values in that line
+     */
+    public List<Double> rowAsList(final int row) {
+        return new ValueList(_rowStarts[row], _rowStarts[row + 1]);
+    }
+
+    /**
+     * @return Sum of all of the values
+     */
+    public double sum() {
+        return _sum;
+    }
+
+    /**
+     * @return Sum of the squares of all of the values
+     */
+    public double sumOfSquares() {
+        return _sumOfSquares;
+    }
+
+    /**
+     * @return Mean of all of the values (NaN if there aren't any)
+     */
+    public double mean() {
+        return _values.length == 0 ? Double.NaN : _sum / _values.length;
+    }
+
+    /**
+     * @return Slope of the least-squares line through all of the values, using their positions as the x values
+     * @see ArrayNumberUtils#slope(List)
+     */
+    public double slope() {
+        final int size = _values.length;
+        if (size < 2) return Double.NaN;
+        final double sumx = (size - 1) * size / 2;
+        final double sumxx = (size - 1) * size * (2 * size - 1) / 6;
+        return (size * _sumXY - sumx * _sum) / (size * sumxx - sumx * sumx);
+    }
+
+    private final class ValueList extends AbstractList<Double> implements RandomAccess {
+        private final int _from;
+        private final int _to;
+
+        ValueList(final int from, final int to) {
+            _from = from;
+            _to = to;
+        }
+
+        @Override
+        public Double get(final int index) {
+            if (index < 0 || index >= size())
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            return _values[_from + index];
+        }
+
+        @Override
+        public int size() {
+            return _to - _from;
+        }
+    }
+}
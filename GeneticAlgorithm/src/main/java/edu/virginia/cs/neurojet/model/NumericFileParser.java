@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import edu.virginia.cs.common.metrics.Histogram;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.common.metrics.Timer;
+
+/**
+ * Reads whitespace-separated numbers from a file in a single pass, without creating a String for each number. Numbers
+ * are parsed to exactly the same values as {@link Double#valueOf(String)} would give: simple decimals are converted
+ * directly, and anything else (such as very long numbers or "NaN") falls back to {@link Double#parseDouble(String)}.
+ * Blank lines are ignored.
+ * @see BinaryDataFile
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NumericFileParser {
+
+    /**
+     * Files at least this large are memory-mapped rather than read
+     */
+    private static final int MAP_THRESHOLD = 64 * 1024;
+    private static final Timer PARSE_TIMER = Metrics.getDefault().timer("file.parse");
+    private static final Histogram PARSE_BYTES = Metrics.getDefault().histogram("file.parse.bytes");
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = new double[23]; // All exactly representable
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private NumericFileParser() {
+        // Utility class
+    }
+
+    /**
+     * @param file File to read (its binary form is read instead, if there is an up-to-date one)
+     * @param scale Amount to multiply each value by
+     * @return Values in the file (multiplied by the scale)
+     * @throws IOException If the file cannot be read
+     * @throws NumberFormatException If the file contains something other than numbers
+     * @see BinaryDataFile#findSource(File)
+     */
+    public static NumericData parse(final File file, final double scale) throws IOException {
+        final long start = PARSE_TIMER.start();
+        try {
+            final File source = BinaryDataFile.findSource(file);
+            if (Metrics.getDefault().isEnabled()) {
+                PARSE_BYTES.record(source.length());
+            }
+            if (source != file) return BinaryDataFile.read(source, scale);
+            return parseText(file, scale);
+        }
+        finally {
+            PARSE_TIMER.stop(start);
+        }
+    }
+
+    /**
+     * @param file Text file to read
+     * @param scale Amount to multiply each value by
+     * @return Values in the file (multiplied by the scale)
+     * @throws IOException If the file cannot be read
+     * @throws NumberFormatException If the file contains something other than numbers
+     */
+    public static NumericData parseText(final File file, final double scale) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new IOException("File '" + file.getPath() + "' is too large");
+            final ByteBuffer bytes;
+            if (size >= MAP_THRESHOLD) {
+                bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            else {
+                bytes = ByteBuffer.allocate((int) size);
+                while (bytes.hasRemaining() && channel.read(bytes) >= 0) {
+                    // Keep reading
+                }
+                bytes.flip();
+            }
+            return parse(bytes, scale);
+        }
+        finally {
+            in.close();
+        }
+    }
+
+    /**
+     * @param bytes Text to read (from its position to its limit)
+     * @param scale Amount to multiply each value by
+     * @return Values in the text (multiplied by the scale)
+     * @throws NumberFormatException If the text contains something other than numbers
+     */
+    static NumericData parse(final ByteBuffer bytes, final double scale) {
+        double[] values = new double[64];
+        int numValues = 0;
+        int[] rowStarts = new int[16];
+        int numRows = 0;
+        double sum = 0;
+        double sumOfSquares = 0;
+        double sumXY = 0;
+        boolean rowHasValues = false;
+        final int limit = bytes.limit();
+        int pos = bytes.position();
+        while (pos < limit) {
+            final int b = bytes.get(pos) & 0xFF;
+            if (b == '\n' || b == '\r') {
+                rowHasValues = false;
+                ++pos;
+            }
+            else if (b <= ' ') {
+                ++pos;
+            }
+            else {
+                int end = pos + 1;
+                while (end < limit && (bytes.get(end) & 0xFF) > ' ') {
+                    ++end;
+                }
+                final double value = parseNumber(bytes, pos, end) * scale;
+                if (!rowHasValues) {
+                    if (numRows + 1 == rowStarts.length) {
+                        final int[] newRowStarts = new int[rowStarts.length * 2];
+                        System.arraycopy(rowStarts, 0, newRowStarts, 0, numRows + 1);
+                        rowStarts = newRowStarts;
+                    }
+                    rowStarts[numRows++] = numValues;
+                    rowHasValues = true;
+                }
+                if (numValues == values.length) {
+                    final double[] newValues = new double[values.length * 2];
+                    System.arraycopy(values, 0, newValues, 0, numValues);
+                    values = newValues;
+                }
+                sum += value;
+                sumOfSquares += value * value;
+                sumXY += numValues * value;
+                values[numValues++] = value;
+                pos = end;
+            }
+        }
+        rowStarts[numRows] = numValues;
+        final double[] trimmedValues = new double[numValues];
+        System.arraycopy(values, 0, trimmedValues, 0, numValues);
+        final int[] trimmedRowStarts = new int[numRows + 1];
+        System.arraycopy(rowStarts, 0, trimmedRowStarts, 0, numRows + 1);
+        return new NumericData(trimmedValues, trimmedRowStarts, sum, sumOfSquares, sumXY);
+    }
+
+    /**
+     * Parses [start, end) as a number. Decimals with at most 15 significant digits (and a power of ten that is exactly
+     * representable) are converted with a single, correctly rounded, multiplication or division.
+     */
+    private static double parseNumber(final ByteBuffer bytes, final int start, final int end) {
+        int pos = start;
+        boolean negative = false;
+        byte b = bytes.get(pos);
+        if (b == '-' || b == '+') {
+            negative = (b == '-');
+            ++pos;
+        }
+        long mantissa = 0;
+        int numDigits = 0;
+        int exponent = 0;
+        boolean sawDigit = false;
+        boolean sawPoint = false;
+        boolean simple = true;
+        while (pos < end && simple) {
+            b = bytes.get(pos);
+            if (b >= '0' && b <= '9') {
+                sawDigit = true;
+                if (mantissa != 0 || b != '0') {
+                    if (numDigits == 15) {
+                        simple = false;
+                    }
+                    mantissa = mantissa * 10 + (b - '0');
+                    ++numDigits;
+                }
+                if (sawPoint) {
+                    --exponent;
+                }
+                ++pos;
+            }
+            else if (b == '.' && !sawPoint) {
+                sawPoint = true;
+                ++pos;
+            }
+            else if ((b == 'e' || b == 'E') && sawDigit) {
+                ++pos;
+                boolean negativeExponent = false;
+                if (pos < end && (bytes.get(pos) == '-' || bytes.get(pos) == '+')) {
+                    negativeExponent = (bytes.get(pos) == '-');
+                    ++pos;
+                }
+                if (pos == end || end - pos > 4) {
+                    simple = false;
+                }
+                int explicitExponent = 0;
+                while (pos < end && simple) {
+                    b = bytes.get(pos++);
+                    if (b < '0' || b > '9') {
+                        simple = false;
+                    }
+                    explicitExponent = explicitExponent * 10 + (b - '0');
+                }
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+            else {
+                simple = false;
+            }
+        }
+        if (simple && sawDigit) {
+            if (mantissa == 0) return negative ? -0.0 : 0.0;
+            if (mantissa < MAX_EXACT_MANTISSA && exponent > -POWERS_OF_TEN.length && exponent < POWERS_OF_TEN.length) {
+                final double value =
+                        exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+                return negative ? -value : value;
+            }
+        }
+        final StringBuilder text = new StringBuilder(end - start);
+        for (int i = start; i < end; ++i) {
+            text.append((char) (bytes.get(i) & 0xFF));
+        }
+        return Double.parseDouble(text.toString());
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.simulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Stand-in for the NeuroJet executable, so that the genetic algorithm can be run (and its file handling, scheduling and
+ * short-circuiting load tested) without NeuroJet. It reads the variables that a generated trace conditioning script
+ * creates, takes a configurable time that depends on them, and writes the same fitness files (and the .ready files
+ * signaling them) at the same points as the trace conditioning script would. The values written are made up, but vary
+ * smoothly with the variables, so that evolution has something to improve. The same script always produces the same
+ * files; scripts differing only in their random seed produce different noise. A fraction of simulations can be made to
+ * crash or hang.
+ * <p>
+ * Run with options (-duration ms, -cpu, -noise sd, -crash fraction, -hang fraction) followed by the script, from the
+ * directory where the files are to be written. {@link #createLauncher(File)} creates an executable that does so.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NeuroJetSimulator {
+
+    /**
+     * Exit code of a simulation that crashed (or was interrupted while hanging)
+     */
+    public static final int FAILED = 1;
+    private static final int NUM_BINS = 15; // 50 ms bins from 1 to 750 ms
+    private static final int TRIALS_PER_TEST = 50;
+    private static final double DEFAULT_TRIALS = 150;
+    private static final double DEFAULT_ACTIVITY = 3.1; // Hz
+    private static final double DEFAULT_ME_PCT = 0.275;
+    private static final double BASELINE_FIRING = 0.005; // Fraction of puff neurons firing outside the blink
+    // Variables that the made-up fitness depends on, with their best values and how far from those they can be
+    private static final String[] TUNED_VARIABLES = { "KFBBase", "KFFBase", "K0Base", "setMu", "setLambda", "OffRate",
+                                                      "OnRate" };
+    private static final double[] OPTIMUM = { 0.1, 0.04, 0.05, 0.012, 1.0, 130, 8 };
+    private static final double[] TOLERANCE = { 0.05, 0.045, 0.05, 0.006, 0.5, 35, 5.5 };
+    // Desired fraction of puff neurons firing in each bin (see NeuroJetTraceFitness)
+    private static final double[] DESIRED_SHAPE = { 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 1, 1, 0.5, 0.5 };
+    private static volatile double _sink; // Keeps busy work from being optimized away
+
+    private long _duration = 1000;
+    private boolean _burnCpu = false;
+    private double _noise = 0.05;
+    private double _crashRate = 0;
+    private double _hangRate = 0;
+
+    /**
+     * @param duration How long (in milliseconds) a simulation of the default trace conditioning experiment takes. This
+     *            is scaled by the number of training trials and the desired activity.
+     * @return This simulator
+     */
+    public NeuroJetSimulator setDuration(final long duration) {
+        if (duration < 0) throw new IllegalArgumentException("Duration cannot be negative");
+        _duration = duration;
+        return this;
+    }
+
+    /**
+     * @param burnCpu Whether to keep a processor busy for the duration of a simulation, rather than sleeping
+     * @return This simulator
+     */
+    public NeuroJetSimulator setBurnCpu(final boolean burnCpu) {
+        _burnCpu = burnCpu;
+        return this;
+    }
+
+    /**
+     * @param noise Standard deviation of the relative noise added to each value written
+     * @return This simulator
+     */
+    public NeuroJetSimulator setNoise(final double noise) {
+        if (noise < 0) throw new IllegalArgumentException("Noise cannot be negative");
+        _noise = noise;
+        return this;
+    }
+
+    /**
+     * @param crashRate Fraction of simulations that exit with an error part way through
+     * @return This simulator
+     */
+    public NeuroJetSimulator setCrashRate(final double crashRate) {
+        if (crashRate < 0 || crashRate > 1) throw new IllegalArgumentException("Crash rate must be in [0, 1]");
+        _crashRate = crashRate;
+        return this;
+    }
+
+    /**
+     * @param hangRate Fraction of simulations that stop making progress part way through, until they are killed
+     * @return This simulator
+     */
+    public NeuroJetSimulator setHangRate(final double hangRate) {
+        if (hangRate < 0 || hangRate > 1) throw new IllegalArgumentException("Hang rate must be in [0, 1]");
+        _hangRate = hangRate;
+        return this;
+    }
+
+    /**
+     * @param script NeuroJet script
+     * @return Numeric variables created by the script's @CreateVar commands (which are what the
+     *         {@link edu.virginia.cs.neurojet.geneticalgorithm.ScriptUpdater ScriptUpdater} fills in), by name
+     * @throws IOException If the script cannot be read
+     */
+    public static Map<String, Double> readVariables(final File script) throws IOException {
+        final Map<String, Double> retval = new TreeMap<String, Double>();
+        final BufferedReader in = new BufferedReader(new FileReader(script));
+        try {
+            boolean inBlock = false;
+            String line;
+            while ((line = in.readLine()) != null) {
+                final int comment = line.indexOf('#');
+                String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+                if (!inBlock) {
+                    if (!content.startsWith("@CreateVar(")) continue;
+                    content = content.substring("@CreateVar(".length());
+                    inBlock = true;
+                }
+                final int end = content.indexOf(')');
+                if (end >= 0) {
+                    content = content.substring(0, end);
+                    inBlock = false;
+                }
+                final String[] tokens = content.trim().split("\\s+");
+                for (int i = 0; i + 1 < tokens.length; i += 2) {
+                    try {
+                        retval.put(tokens[i], Double.valueOf(tokens[i + 1]));
+                    }
+                    catch (final NumberFormatException e) {
+                        // Not filled in, or not a number
+                    }
+                }
+            }
+        }
+        finally {
+            in.close();
+        }
+        return retval;
+    }
+
+    private static double getVariable(final Map<String, Double> variables, final String name, final double defaultValue) {
+        final Double retval = variables.get(name);
+        return retval != null ? retval : defaultValue;
+    }
+
+    /**
+     * @param variables Variables created by a script
+     * @return How close (from 0 to 1) the variables are to the ones that produce the best made-up fitness
+     */
+    static double quality(final Map<String, Double> variables) {
+        double sumSq = 0;
+        int count = 0;
+        for (int i = 0; i < TUNED_VARIABLES.length; ++i) {
+            final Double value = variables.get(TUNED_VARIABLES[i]);
+            if (value != null) {
+                final double deviation = (value - OPTIMUM[i]) / TOLERANCE[i];
+                sumSq += deviation * deviation;
+                ++count;
+            }
+        }
+        return count > 0 ? Math.exp(-sumSq / count) : 0.5;
+    }
+
+    /**
+     * @param variables Variables created by a script
+     * @return How long (in milliseconds) simulating the script takes
+     */
+    public long getDuration(final Map<String, Double> variables) {
+        final double trials = getVariable(variables, "numTrainTrials", DEFAULT_TRIALS);
+        final double activity = getVariable(variables, "ActivityHz", DEFAULT_ACTIVITY);
+        return Math.round(_duration * (trials / DEFAULT_TRIALS) * (activity / DEFAULT_ACTIVITY));
+    }
+
+    /**
+     * Simulates the script, writing its fitness files as it goes
+     * @param script NeuroJet script
+     * @param outputDir Directory to write the fitness files to
+     * @return Exit code (0 if the simulation completed, {@link #FAILED} otherwise)
+     * @throws IOException If the script cannot be read or a file cannot be written
+     */
+    public int run(final File script, final File outputDir) throws IOException {
+        final Map<String, Double> variables = readVariables(script);
+        final Random rng = new Random(variables.toString().hashCode());
+        final double quality = quality(variables);
+        final double activity = getVariable(variables, "ActivityHz", DEFAULT_ACTIVITY);
+        final double mePct = getVariable(variables, "mePct", DEFAULT_ME_PCT);
+        final int numTrials = (int) getVariable(variables, "numTrainTrials", DEFAULT_TRIALS);
+        final long duration = getDuration(variables);
+        final double failure = rng.nextDouble();
+        final int failedTrial = failure < _crashRate + _hangRate ? 1 + rng.nextInt(numTrials) : numTrials + 1;
+        final long startTime = System.currentTimeMillis();
+        for (int i = 1; i <= numTrials; ++i) {
+            if (i == failedTrial) {
+                if (failure < _crashRate) {
+                    System.err.println("Simulated crash during trial " + i);
+                    return FAILED;
+                }
+                System.out.println("Simulated hang during trial " + i);
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return FAILED;
+                }
+            }
+            waitUntil(startTime + duration * i / numTrials);
+            if (i == 1) {
+                // Activity should be close to the desired activity, and vary a little
+                final double level = activity * (1 + 2 * (1 - quality));
+                final double ssd = activity * (0.05 + 0.3 * (1 - quality));
+                writeData(new File(outputDir, "fit_trn_mean_act.dat"), noisy(level, NUM_BINS, rng));
+                writeData(new File(outputDir, "fit_trn_ssd_act.dat"), noisy(ssd, 1, rng));
+                writeData(new File(outputDir, "fit_tst_mean_act.dat"), noisy(level, NUM_BINS, rng));
+                writeData(new File(outputDir, "fit_tst_ssd_act.dat"), noisy(ssd, 1, rng));
+                writeData(new File(outputDir, "fit_quick.ready"), new double[] { 1 });
+                System.out.println("AveTestAct = " + level);
+            }
+            if (i % TRIALS_PER_TEST == 0) {
+                // The blink is learned over the first 150 trials, as far as the variables allow
+                final double amplitude = 0.3 * mePct * quality * Math.min(1.0, i / DEFAULT_TRIALS);
+                final double[] fracFired = new double[NUM_BINS];
+                for (int bin = 0; bin < NUM_BINS; ++bin) {
+                    fracFired[bin] = Math.max(0, (BASELINE_FIRING + amplitude * DESIRED_SHAPE[bin])
+                                                 * (1 + _noise * rng.nextGaussian()));
+                }
+                writeData(new File(outputDir, "fit2_" + i + ".dat"), fracFired);
+                writeData(new File(outputDir, "fit2_" + i + ".dat.ready"), new double[] { 1 });
+            }
+        }
+        return 0;
+    }
+
+    private double[] noisy(final double value, final int count, final Random rng) {
+        final double[] retval = new double[count];
+        for (int i = 0; i < count; ++i) {
+            retval[i] = Math.max(0, value * (1 + _noise * rng.nextGaussian()));
+        }
+        return retval;
+    }
+
+    /**
+     * Sleeps (or keeps the processor busy) until the given time
+     * @param time Time (in milliseconds since the epoch) to wait until
+     */
+    private void waitUntil(final long time) {
+        long remaining;
+        while ((remaining = time - System.currentTimeMillis()) > 0) {
+            if (_burnCpu) {
+                double x = _sink;
+                for (int i = 0; i < 100000; ++i) {
+                    x = Math.sqrt(x + i);
+                }
+                _sink = x;
+            }
+            else {
+                try {
+                    Thread.sleep(remaining);
+                }
+                catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes values one per line, as NeuroJet's @SaveData does
+     */
+    private static void writeData(final File file, final double[] values) throws IOException {
+        final PrintWriter out = new PrintWriter(new FileWriter(file));
+        try {
+            for (final double value : values) {
+                out.println(value);
+            }
+        }
+        finally {
+            out.close();
+        }
+        if (out.checkError()) throw new IOException("Couldn't write file '" + file.getPath() + "'");
+    }
+
+    /**
+     * @return Arguments that make {@link #main(String[])} simulate the way this simulator is configured
+     */
+    private String getOptions() {
+        return "-duration " + _duration + (_burnCpu ? " -cpu" : "") + " -noise " + _noise + " -crash " + _crashRate
+               + " -hang " + _hangRate;
+    }
+
+    /**
+     * Creates a shell script that runs this simulator (as configured) with the Java that is running now, so that it can
+     * be launched in place of the NeuroJet executable
+     * @param launcher File to write the shell script to
+     * @return Launcher, made executable
+     * @throws IOException If the launcher cannot be written
+     */
+    public File createLauncher(final File launcher) throws IOException {
+        final File java = new File(new File(System.getProperty("java.home"), "bin"), "java");
+        final String classPath;
+        try {
+            // The class path of the running process may be a jar that only refers to others (as when testing)
+            classPath = new File(NeuroJetSimulator.class.getProtectionDomain().getCodeSource().getLocation().toURI())
+                    .getPath();
+        }
+        catch (final URISyntaxException e) {
+            throw new IOException(e);
+        }
+        final PrintWriter out = new PrintWriter(new FileWriter(launcher));
+        try {
+            out.println("#!/bin/sh");
+            out.println("exec " + quote(java.getPath()) + " -cp " + quote(classPath) + " "
+                        + NeuroJetSimulator.class.getName() + " " + getOptions() + " \"$@\"");
+        }
+        finally {
+            out.close();
+        }
+        if (out.checkError()) throw new IOException("Couldn't write file '" + launcher.getPath() + "'");
+        if (!launcher.setExecutable(true)) throw new IOException("Couldn't make '" + launcher.getPath() + "' executable");
+        return launcher;
+    }
+
+    private static String quote(final String s) {
+        return "'" + s.replace("'", "'\\''") + "'";
+    }
+
+    /**
+     * @param args Options (-duration ms, -cpu, -noise sd, -crash fraction, -hang fraction) followed by the script to
+     *            simulate. Files are written to the current directory.
+     * @throws IOException If the script cannot be read or a file cannot be written
+     */
+    public static void main(final String[] args) throws IOException {
+        final NeuroJetSimulator simulator = new NeuroJetSimulator();
+        int i = 0;
+        for (; i < args.length - 1; ++i) {
+            if ("-duration".equals(args[i])) {
+                simulator.setDuration(Long.valueOf(args[++i]));
+            }
+            else if ("-cpu".equals(args[i])) {
+                simulator.setBurnCpu(true);
+            }
+            else if ("-noise".equals(args[i])) {
+                simulator.setNoise(Double.valueOf(args[++i]));
+            }
+            else if ("-crash".equals(args[i])) {
+                simulator.setCrashRate(Double.valueOf(args[++i]));
+            }
+            else if ("-hang".equals(args[i])) {
+                simulator.setHangRate(Double.valueOf(args[++i]));
+            }
+            else {
+                throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        if (i != args.length - 1) throw new IllegalArgumentException("Usage: NeuroJetSimulator [options] script");
+        System.exit(simulator.run(new File(args[i]), new File(System.getProperty("user.dir"))));
+    }
+}
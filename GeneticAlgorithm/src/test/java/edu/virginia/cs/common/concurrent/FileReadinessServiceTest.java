@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Test harness for FileReadinessService
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class FileReadinessServiceTest {
+
+    private static File createTempDir() throws Exception {
+        final File retval = File.createTempFile("readiness", "");
+        retval.delete();
+        retval.mkdir();
+        retval.deleteOnExit();
+        return retval;
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.FileReadinessService#whenReady(java.io.File)}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testWhenReady() throws Exception {
+        final FileReadinessService service = new FileReadinessService(10);
+        final File dir = createTempDir();
+        final int numFiles = 100;
+        final FileReadiness[] readiness = new FileReadiness[numFiles];
+        final AtomicInteger numNotified = new AtomicInteger();
+        for (int i = 0; i < numFiles; ++i) {
+            readiness[i] = service.whenReady(new File(dir, "fit" + i + ".ready"));
+            readiness[i].addCompletionListener(new Runnable() {
+                @Override
+                public void run() {
+                    numNotified.incrementAndGet();
+                }
+            });
+        }
+        assertEquals(numFiles, service.getNumPending());
+        assertFalse(readiness[0].isDone());
+        for (int i = 0; i < numFiles; ++i) {
+            final File f = new File(dir, "fit" + i + ".ready");
+            f.createNewFile();
+            f.deleteOnExit();
+        }
+        for (int i = 0; i < numFiles; ++i) {
+            assertEquals("fit" + i + ".ready", readiness[i].get(5, TimeUnit.SECONDS).getName());
+        }
+        assertEquals(numFiles, numNotified.get());
+        assertEquals(0, service.getNumPending());
+        // Already existing files are ready immediately
+        assertTrue(service.whenReady(new File(dir, "fit0.ready")).isDone());
+        service.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.FileReadinessService#awaitReady(java.io.File, long)}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testAwaitReady() throws Exception {
+        final FileReadinessService service = new FileReadinessService(10);
+        final File dir = createTempDir();
+        final File signal = new File(dir, "late.ready");
+        assertFalse(service.awaitReady(signal, 50));
+        assertEquals(0, service.getNumPending());
+        new Thread() {
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(50);
+                    signal.createNewFile();
+                    signal.deleteOnExit();
+                }
+                catch (final Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        }.start();
+        assertTrue(service.awaitReady(signal, 5000));
+        service.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.FileReadinessService#directoryChanged(java.io.File)}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testDirectoryChanged() throws Exception {
+        // Long enough that the file can only be found by the scan that directoryChanged asks for
+        final FileReadinessService service = new FileReadinessService(60000);
+        final File dir = createTempDir();
+        final File signal = new File(dir, "exited.ready");
+        final FileReadiness readiness = service.whenReady(signal);
+        signal.createNewFile();
+        signal.deleteOnExit();
+        assertFalse(readiness.isDone());
+        service.directoryChanged(dir);
+        assertEquals(signal, readiness.get(5, TimeUnit.SECONDS).getAbsoluteFile());
+        assertEquals(0, service.getNumPending());
+        service.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.FileReadiness#cancel(boolean)}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testCancel() throws Exception {
+        final FileReadinessService service = new FileReadinessService(10);
+        final FileReadiness readiness = service.whenReady(new File(createTempDir(), "never.ready"));
+        assertTrue(readiness.cancel(false));
+        assertTrue(readiness.isCancelled());
+        assertTrue(readiness.isDone());
+        assertEquals(0, service.getNumPending());
+        try {
+            readiness.get();
+            fail("Cancelled readiness should not return a file");
+        }
+        catch (final CancellationException e) {
+            // expected
+        }
+        service.shutdown();
+    }
+}
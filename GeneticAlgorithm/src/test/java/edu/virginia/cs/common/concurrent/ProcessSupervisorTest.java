@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+/**
+ * Test harness for ProcessSupervisor
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class ProcessSupervisorTest {
+
+    private static final File SH = new File("/bin/sh");
+    private static final File WORKING_DIR = new File(System.getProperty("java.io.tmpdir"));
+
+    /**
+     * Test method for
+     * {@link edu.virginia.cs.common.concurrent.ProcessSupervisor#launch(java.io.File, java.io.File, java.lang.String[])}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testLaunch() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(WORKING_DIR, SH, "-c", "echo Hello!; echo Oops 1>&2; exit 3");
+        final AtomicBoolean notified = new AtomicBoolean(false);
+        handle.addCompletionListener(new Runnable() {
+            @Override
+            public void run() {
+                notified.set(true);
+            }
+        });
+        assertEquals(Integer.valueOf(3), handle.get());
+        assertTrue(handle.isDone());
+        assertTrue(notified.get());
+        assertFalse(handle.isKilled());
+        assertFalse(handle.isTimedOut());
+        assertEquals("Hello!\n", handle.getOutput());
+        assertEquals("Oops\n", handle.getErrors());
+        supervisor.shutdown();
+    }
+
+    /**
+     * Verifies that a process writing far more to standard error than a pipe holds still completes
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testChattyProcess() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(100);
+        final String script = "i=0; while [ $i -lt 5000 ]; do echo 'error line of moderate length' 1>&2; i=$((i+1)); done;"
+                              + " echo done";
+        final ProcessHandle handle = supervisor.launch(10000, ProcessSupervisor.NO_LIMIT, WORKING_DIR, SH, "-c", script);
+        assertEquals(Integer.valueOf(0), handle.get());
+        assertEquals("done\n", handle.getOutput());
+        assertEquals(100, handle.getErrors().length());
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.ProcessHandle#kill()}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testKill() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(WORKING_DIR, SH, "-c", "exec sleep 30");
+        assertFalse(handle.isDone());
+        handle.kill();
+        try {
+            handle.get();
+            fail("Killed process should be cancelled");
+        }
+        catch (final CancellationException e) {
+            // expected
+        }
+        assertTrue(handle.isCancelled());
+        assertTrue(handle.getDuration() < 30000);
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.ProcessHandle#kill()}, making sure that a process run by a
+     * wrapper script (which holds the output streams open) is killed along with the wrapper
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testKillWrapped() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(WORKING_DIR, SH, "-c", "sleep 30 & wait");
+        Thread.sleep(200); // Give the wrapper time to start its child
+        handle.kill();
+        assertTrue(handle.waitForTermination(5, TimeUnit.SECONDS));
+        assertTrue(handle.isCancelled());
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.ProcessHandle#killForcibly()}, with a process (and
+     * child) that ignore being asked to stop
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testKillForcibly() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(WORKING_DIR, SH, "-c", "trap '' TERM; sleep 30 & wait");
+        Thread.sleep(200);
+        handle.kill();
+        assertFalse(handle.waitForTermination(500, TimeUnit.MILLISECONDS));
+        handle.killForcibly();
+        assertTrue(handle.waitForTermination(5, TimeUnit.SECONDS));
+        assertTrue(handle.isKilled());
+        assertTrue(handle.getDuration() < 30000);
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.ProcessHandle#get()}, making sure that the handle
+     * completes when the process exits even though a process it left behind still holds its output stream open
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testOrphanHoldsOutput() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(WORKING_DIR, SH, "-c", "echo started; sleep 5 & exit 2");
+        assertEquals(Integer.valueOf(2), handle.get(10, TimeUnit.SECONDS));
+        assertEquals("started\n", handle.getOutput());
+        assertTrue(handle.getDuration() < 4000);
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for
+     * {@link edu.virginia.cs.common.concurrent.ProcessSupervisor#launch(long, long, java.io.File, java.io.File, java.lang.String[])}
+     * with a wall-clock limit.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testWallTimeLimit() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(200, ProcessSupervisor.NO_LIMIT, WORKING_DIR, SH, "-c",
+                                                       "exec sleep 30");
+        try {
+            handle.get();
+            fail("Process should have timed out");
+        }
+        catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(handle.isTimedOut());
+        assertFalse(handle.isCancelled());
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for
+     * {@link edu.virginia.cs.common.concurrent.ProcessSupervisor#launch(long, long, java.io.File, java.io.File, java.lang.String[])}
+     * with a CPU limit.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testCpuTimeLimit() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        final ProcessHandle handle = supervisor.launch(20000, 100, WORKING_DIR, SH, "-c", "while true; do :; done");
+        if (handle.getCpuTime() < 0) {
+            // Platform does not report CPU time, so only the wall-clock limit applies
+            handle.kill();
+            return;
+        }
+        try {
+            handle.get();
+            fail("Process should have exceeded its CPU limit");
+        }
+        catch (final ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("CPU"));
+        }
+        assertTrue(handle.getDuration() < 20000);
+        supervisor.shutdown();
+    }
+
+    /**
+     * Test method for
+     * {@link edu.virginia.cs.common.concurrent.ProcessSupervisor#launch(long, long, java.io.File, java.io.File, java.lang.String[])}
+     * with a CPU limit, making sure that the CPU time of a program run by a wrapper script is counted.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testWrappedCpuTimeLimit() throws Exception {
+        final ProcessSupervisor supervisor = new ProcessSupervisor(1000);
+        // The wrapper itself uses next to no CPU time while it waits
+        final ProcessHandle handle = supervisor.launch(20000, 200, WORKING_DIR, SH, "-c",
+                                                       "sh -c 'i=0; while [ $i -lt 1000000 ]; do i=$((i+1)); done' & wait");
+        if (handle.getCpuTime() < 0) {
+            handle.kill();
+            return;
+        }
+        try {
+            handle.get();
+            fail("Process should have exceeded its CPU limit");
+        }
+        catch (final ExecutionException e) {
+            assertTrue(e.getCause().getMessage().contains("CPU"));
+        }
+        supervisor.shutdown();
+    }
+}
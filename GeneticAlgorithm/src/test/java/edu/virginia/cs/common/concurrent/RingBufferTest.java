@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.concurrent;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+/**
+ * Test harness for RingBuffer
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class RingBufferTest {
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.RingBuffer#append(char[], int, int)}.
+     */
+    @Test
+    public final void testAppend() {
+        final RingBuffer buff = new RingBuffer(5);
+        assertEquals("", buff.toString());
+        buff.append("abc");
+        assertEquals("abc", buff.toString());
+        assertFalse(buff.isTruncated());
+        buff.append("de");
+        assertEquals("abcde", buff.toString());
+        assertFalse(buff.isTruncated());
+        buff.append("fg");
+        assertEquals("cdefg", buff.toString());
+        assertTrue(buff.isTruncated());
+        buff.append("0123456789");
+        assertEquals("56789", buff.toString());
+        buff.append("xyz0123".toCharArray(), 1, 3);
+        assertEquals("89yz0", buff.toString());
+        assertEquals(20, buff.getTotalWritten());
+        assertEquals(5, buff.getCapacity());
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.common.concurrent.RingBuffer#RingBuffer(int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testRingBuffer() {
+        new RingBuffer(0);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.common.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * Test harness for {@link Metrics} and the metrics it creates
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class MetricsTest {
+
+    /**
+     * Test method for {@link Metrics#setEnabled(boolean)}, making sure that nothing is recorded while disabled
+     */
+    @Test
+    public final void testDisabled() {
+        final Metrics metrics = new Metrics();
+        final Counter counter = metrics.counter("a");
+        final Timer timer = metrics.timer("b");
+        counter.increment();
+        metrics.histogram("c").record(5);
+        assertEquals(Timer.NOT_STARTED, timer.start());
+        timer.stop(timer.start());
+        final MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.getCount("a"));
+        assertEquals(0, snapshot.getHistograms().get("c").getCount());
+        assertEquals(0, snapshot.getTimers().get("b").getCount());
+        metrics.setEnabled(true);
+        counter.add(2);
+        timer.stop(timer.start());
+        assertEquals(2, metrics.snapshot().getCount("a"));
+        assertEquals(1, metrics.snapshot().getTimers().get("b").getCount());
+        assertSame(counter, metrics.counter("a"));
+    }
+
+    /**
+     * Test method for {@link Histogram#getSnapshot()}, making sure that statistics are exact and percentiles are within
+     * a factor of two
+     */
+    @Test
+    public final void testHistogram() {
+        final Histogram histogram = new Metrics().setEnabled(true).histogram("h");
+        for (int i = 1; i <= 100; ++i) {
+            histogram.record(i);
+        }
+        final Histogram.Snapshot snapshot = histogram.getSnapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050, snapshot.getSum());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100, snapshot.getMax());
+        assertEquals(50.5, snapshot.getMean(), 1E-9);
+        final long median = snapshot.getPercentile(0.5);
+        assertTrue(median >= 50 && median < 100);
+        assertEquals(100, snapshot.getPercentile(1));
+        assertEquals(1, snapshot.getPercentile(0));
+        histogram.record(1000);
+        final Histogram.Snapshot since = histogram.getSnapshot().since(snapshot);
+        assertEquals(1, since.getCount());
+        assertEquals(1000, since.getSum());
+        assertEquals(1000, since.getMax());
+        assertTrue(since.getMin() >= 512);
+    }
+
+    /**
+     * Test method for {@link MetricsLogger#logInterval(String)}, making sure that each line is JSON holding what was
+     * recorded since the previous one
+     * @throws IOException If the log cannot be written
+     */
+    @Test
+    public final void testLogInterval() throws IOException {
+        final Metrics metrics = new Metrics().setEnabled(true);
+        final File file = File.createTempFile("metrics", ".json");
+        file.delete();
+        try {
+            final MetricsLogger logger = new MetricsLogger(metrics, file);
+            metrics.counter("cache.hits").add(3);
+            metrics.timer("file.parse").record(2000000);
+            assertEquals(3, logger.logInterval("generation 1").getCount("cache.hits"));
+            metrics.counter("cache.hits").increment();
+            final MetricsSnapshot second = logger.logInterval("generation \"2\"");
+            assertEquals(1, second.getCount("cache.hits"));
+            assertEquals(0, second.getTimers().get("file.parse").getCount());
+            logger.stop();
+            final List<String> lines = FileUtils.readLines(file);
+            assertEquals(3, lines.size());
+            assertTrue(lines.get(0).startsWith("{\"time\":"));
+            assertTrue(lines.get(0).contains("\"label\":\"generation 1\""));
+            assertTrue(lines.get(0).contains("\"counters\":{\"cache.hits\":3}"));
+            assertTrue(lines.get(0).contains("\"file.parse\":{\"count\":1,\"sum\":2.0,"));
+            assertTrue(lines.get(1).contains("\"label\":\"generation \\\"2\\\"\""));
+            assertTrue(lines.get(2).contains("\"counters\":{\"cache.hits\":4}"));
+            assertEquals("file.parse=0.002 s", logger.log(null).describeTimers());
+        }
+        finally {
+            file.delete();
+        }
+    }
+}
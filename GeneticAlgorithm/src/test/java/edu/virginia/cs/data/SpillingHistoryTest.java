@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.DistributionSerializer;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactoryTest;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+
+/**
+ * Test harness for {@link SpillingHistory}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SpillingHistoryTest {
+
+    private static final HistorySerializer<String> STRING_SERIALIZER = new HistorySerializer<String>() {
+        @Override
+        public void write(final DataOutput out, final String item) throws IOException {
+            out.writeUTF(item);
+        }
+
+        @Override
+        public String read(final DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+    private File _dir;
+
+    /**
+     * Creates a directory for the segment files
+     * @throws IOException If the directory cannot be created
+     */
+    @Before
+    public void setUp() throws IOException {
+        _dir = File.createTempFile("history", "");
+        _dir.delete();
+    }
+
+    /**
+     * Deletes the directory
+     * @throws IOException If the directory cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(_dir);
+    }
+
+    /**
+     * Test method for {@link SpillingHistory#add(Object)}, {@link SpillingHistory#get(int)} and
+     * {@link SpillingHistory#iterator()}, making sure that items come back the same whether they are in memory or on
+     * disk, including after the history has been closed and added to again
+     * @throws IOException If the segment files cannot be closed
+     */
+    @Test
+    public final void testAddAndGet() throws IOException {
+        final SpillingHistory<String> history = new SpillingHistory<String>(_dir, 3, 4, STRING_SERIALIZER);
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 13; ++i) {
+            expected.add("item " + i);
+            assertTrue(history.add(expected.get(i)));
+            if (i == 6) {
+                history.close();
+            }
+        }
+        assertEquals(13, history.size());
+        assertEquals(10, history.getNumSpilled());
+        assertEquals(3, _dir.list().length); // 10 spilled items in segments of 4
+        for (int i = expected.size() - 1; i >= 0; --i) {
+            assertEquals(expected.get(i), history.get(i));
+        }
+        final List<String> iterated = new ArrayList<String>();
+        for (final String s : history) {
+            iterated.add(s);
+        }
+        assertEquals(expected, iterated);
+        history.clear();
+        assertEquals(0, history.size());
+        assertEquals(0, _dir.list().length);
+        assertFalse(history.iterator().hasNext());
+    }
+
+    /**
+     * Test method for {@link SpillingHistory#iterator()}, making sure that the history cannot be added to while it is
+     * being iterated through
+     */
+    @Test(expected = java.util.ConcurrentModificationException.class)
+    public final void testConcurrentModification() {
+        final SpillingHistory<String> history = new SpillingHistory<String>(_dir, 1, STRING_SERIALIZER);
+        history.add("a");
+        history.add("b");
+        final Iterator<String> it = history.iterator();
+        it.next();
+        history.add("c");
+        it.next();
+    }
+
+    /**
+     * Test method for {@link SpillingHistory#writeState(java.io.DataOutput)} and
+     * {@link SpillingHistory#readState(java.io.DataInput)}, making sure that the state doesn't hold the spilled items, and
+     * that a restored history drops whatever was spilled after its state was saved
+     * @throws IOException Shouldn't happen
+     */
+    @Test
+    public final void testWriteState() throws IOException {
+        final SpillingHistory<String> history = new SpillingHistory<String>(_dir, 2, 3, STRING_SERIALIZER);
+        for (int i = 0; i < 8; ++i) {
+            history.add("item " + i);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        history.writeState(new DataOutputStream(bytes));
+        // Count, offsets and length of the last segment, plus the two items in memory
+        assertEquals(4 + 6 * 8 + 8 + 4 + 2 * ("item 0".length() + 2), bytes.size());
+        for (int i = 8; i < 14; ++i) {
+            history.add("later " + i);
+        }
+        history.close();
+        final SpillingHistory<String> restored = new SpillingHistory<String>(_dir, 2, 3, STRING_SERIALIZER);
+        restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertEquals(8, restored.size());
+        assertEquals(6, restored.getNumSpilled());
+        for (int i = 8; i < 12; ++i) {
+            restored.add("item " + i);
+        }
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 12; ++i) {
+            expected.add("item " + i);
+            assertEquals("item " + i, restored.get(i));
+        }
+        final List<String> actual = new ArrayList<String>();
+        for (final String item : restored) {
+            actual.add(item);
+        }
+        assertEquals(expected, actual);
+        restored.close();
+    }
+
+    /**
+     * Test method for {@link Reproduction#setHistory(History)}, making sure that a population history kept mostly on
+     * disk matches one kept in memory
+     */
+    @Test
+    public final void testReproduction() {
+        final int oldDebugLevel = Reproduction.DEBUG_LEVEL;
+        Reproduction.DEBUG_LEVEL = 0;
+        try {
+            final List<List<Distribution>> histories = new ArrayList<List<Distribution>>();
+            for (int run = 0; run < 2; ++run) {
+                final StandardGeneticFactory factory = new StandardGeneticFactory(5, 0.05, 0.6);
+                final Reproduction reproduction = new Reproduction(false, true);
+                if (run == 1) {
+                    reproduction.setHistory(new SpillingHistory<Distribution>(_dir, 2, 3, new DistributionSerializer()));
+                }
+                List<Genotype> population = factory.createPopulation(20, 8);
+                for (int i = 0; i < 10; ++i) {
+                    population = reproduction.reproduce(population,
+                                                        new StandardGeneticFactoryTest.TrivialStandardFitnessFactory(),
+                                                        factory.getSelectFunction(), factory.getCrossoverFunction());
+                }
+                histories.add(reproduction.getHistory());
+            }
+            assertEquals(10, histories.get(1).size());
+            assertEquals(histories.get(0), histories.get(1));
+            assertEquals(histories.get(0).get(4), histories.get(1).get(4));
+        }
+        finally {
+            Reproduction.DEBUG_LEVEL = oldDebugLevel;
+        }
+    }
+
+    /**
+     * Test method for {@link Reproduction#writeState(java.io.DataOutput)} and
+     * {@link Reproduction#readState(java.io.DataInput)} with a {@link SpillingHistory}, making sure that the restored
+     * population history is the one kept when the state was saved
+     * @throws IOException Shouldn't happen
+     */
+    @Test
+    public final void testReproductionWriteState() throws IOException {
+        final int oldDebugLevel = Reproduction.DEBUG_LEVEL;
+        Reproduction.DEBUG_LEVEL = 0;
+        try {
+            final StandardGeneticFactory factory = new StandardGeneticFactory(5, 0.05, 0.6);
+            final Reproduction reproduction = new Reproduction(false, true);
+            reproduction.setHistory(new SpillingHistory<Distribution>(_dir, 2, 3, new DistributionSerializer()));
+            List<Genotype> population = factory.createPopulation(20, 8);
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            List<Distribution> expected = null;
+            for (int i = 0; i < 10; ++i) {
+                population = reproduction.reproduce(population,
+                                                    new StandardGeneticFactoryTest.TrivialStandardFitnessFactory(),
+                                                    factory.getSelectFunction(), factory.getCrossoverFunction());
+                if (i == 6) {
+                    reproduction.writeState(new DataOutputStream(bytes));
+                    expected = new ArrayList<Distribution>(reproduction.getHistory());
+                }
+            }
+            final Reproduction restored = new Reproduction(false, true);
+            restored.setHistory(new SpillingHistory<Distribution>(_dir, 2, 3, new DistributionSerializer()));
+            restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            assertEquals(7, restored.getCurrentGeneration());
+            assertEquals(expected, new ArrayList<Distribution>(restored.getHistory()));
+        }
+        finally {
+            Reproduction.DEBUG_LEVEL = oldDebugLevel;
+        }
+    }
+}
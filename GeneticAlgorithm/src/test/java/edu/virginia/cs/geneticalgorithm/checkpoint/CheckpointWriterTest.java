@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.checkpoint;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.fitness.CascadeFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.CascadeStage;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactoryTest;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+
+/**
+ * Test harness for the {@link CheckpointWriter} (and {@link CheckpointableRandom})
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CheckpointWriterTest {
+
+    private static final int POP_SIZE = 20;
+    private static final int GENOTYPE_SIZE = 8;
+    private static final int NUM_GENERATIONS = 10;
+
+    /**
+     * Minimal genetic algorithm run whose state can be checkpointed
+     */
+    private static final class Run implements Checkpointable {
+
+        private final StandardGeneticFactory _factory = new StandardGeneticFactory(5, 0.05, 0.6);
+        private final Reproduction _reproduction = new Reproduction(false, true);
+        private final FitnessFactory _fitnessFactory;
+        private List<Genotype> _population = _factory.createPopulation(POP_SIZE, GENOTYPE_SIZE);
+
+        Run() {
+            this(new StandardGeneticFactoryTest.TrivialStandardFitnessFactory());
+        }
+
+        Run(final FitnessFactory fitnessFactory) {
+            _fitnessFactory = fitnessFactory;
+            _reproduction.setNumElites(2);
+        }
+
+        void reproduce() {
+            _population = _reproduction.reproduce(_population, _fitnessFactory, _factory.getSelectFunction(),
+                                                  _factory.getCrossoverFunction());
+        }
+
+        @Override
+        public void writeState(final DataOutput out) throws IOException {
+            CheckpointUtils.writeGenotypes(out, _population);
+            _reproduction.writeState(out);
+            CheckpointUtils.writeOptionalState(out, _factory.getSelectFunction());
+            CheckpointUtils.writeOptionalState(out, _factory.getCrossoverFunction());
+            CheckpointUtils.writeOptionalState(out, _fitnessFactory);
+        }
+
+        @Override
+        public void readState(final DataInput in) throws IOException {
+            _population = CheckpointUtils.readGenotypes(in);
+            _reproduction.readState(in);
+            CheckpointUtils.readOptionalState(in, _factory.getSelectFunction());
+            CheckpointUtils.readOptionalState(in, _factory.getCrossoverFunction());
+            CheckpointUtils.readOptionalState(in, _fitnessFactory);
+        }
+    }
+
+    /**
+     * @return Two-stage cascade whose first stage's threshold adapts each generation, and whose generations don't line
+     *         up with those of the genetic algorithm (so that checkpoints fall partway through them)
+     */
+    private static CascadeFitnessFactory createCascade() {
+        final FitnessFactory stageFactory = new StandardGeneticFactoryTest.TrivialStandardFitnessFactory();
+        final CascadeStage proxyStage = new CascadeStage(stageFactory, 1).setPassFraction(0.5);
+        final CascadeStage postStage = new CascadeStage(stageFactory, 1).setScale(10);
+        final CascadeFitnessFactory retval = new CascadeFitnessFactory(Arrays.asList(proxyStage, postStage));
+        retval.setGenerationSize(POP_SIZE * 2 / 3);
+        return retval;
+    }
+
+    /**
+     * Test method for {@link CheckpointableRandom#writeState(DataOutput)} and
+     * {@link CheckpointableRandom#readState(DataInput)}.
+     * @throws IOException If state cannot be saved or restored
+     */
+    @Test
+    public final void testCheckpointableRandom() throws IOException {
+        final Random expected = new Random(42);
+        final CheckpointableRandom actual = new CheckpointableRandom(42);
+        for (int i = 0; i < 100; ++i) {
+            assertEquals(expected.nextInt(), actual.nextInt());
+            assertEquals(expected.nextDouble(), actual.nextDouble(), 0);
+            assertEquals(expected.nextGaussian(), actual.nextGaussian(), 0);
+            assertEquals(expected.nextBoolean(), actual.nextBoolean());
+        }
+        // Save in the middle of a pair of Gaussian values
+        actual.nextGaussian();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        actual.writeState(new DataOutputStream(bytes));
+        final double[] original = new double[10];
+        for (int i = 0; i < original.length; ++i) {
+            original[i] = actual.nextGaussian();
+        }
+        final CheckpointableRandom restored = new CheckpointableRandom();
+        restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        for (final double d : original) {
+            assertEquals(d, restored.nextGaussian(), 0);
+        }
+    }
+
+    /**
+     * Test method for {@link CheckpointWriter#checkpoint(Checkpointable...)} and
+     * {@link CheckpointWriter#restore(File, Checkpointable...)}, making sure that a resumed run is identical to an
+     * uninterrupted one.
+     * @throws IOException If checkpoint cannot be written or read
+     */
+    @Test
+    public final void testResume() throws IOException {
+        checkResume(false);
+    }
+
+    /**
+     * Test method for {@link CheckpointWriter#restore(File, Checkpointable...)}, making sure that a resumed run that
+     * uses a {@link CascadeFitnessFactory} is identical to an uninterrupted one (i.e., that the cascade's thresholds
+     * and its progress through the current generation are restored).
+     * @throws IOException If checkpoint cannot be written or read
+     */
+    @Test
+    public final void testResumeCascade() throws IOException {
+        checkResume(true);
+    }
+
+    private static void checkResume(final boolean useCascade) throws IOException {
+        final int oldDebugLevel = Reproduction.DEBUG_LEVEL;
+        Reproduction.DEBUG_LEVEL = 0;
+        final File checkpointFile = File.createTempFile("checkpoint", ".dat");
+        try {
+            final Run uninterrupted = useCascade ? new Run(createCascade()) : new Run();
+            for (int i = 0; i < NUM_GENERATIONS; ++i) {
+                uninterrupted.reproduce();
+            }
+            final Run interrupted = useCascade ? new Run(createCascade()) : new Run();
+            final CheckpointWriter writer = new CheckpointWriter(checkpointFile);
+            for (int i = 0; i < NUM_GENERATIONS / 2; ++i) {
+                interrupted.reproduce();
+                writer.checkpoint(interrupted);
+            }
+            writer.shutdown();
+            final Run resumed = useCascade ? new Run(createCascade()) : new Run();
+            CheckpointWriter.restore(checkpointFile, resumed);
+            assertEquals(NUM_GENERATIONS / 2, resumed._reproduction.getCurrentGeneration());
+            while (resumed._reproduction.getCurrentGeneration() < NUM_GENERATIONS) {
+                resumed.reproduce();
+            }
+            assertEquals(uninterrupted._population, resumed._population);
+            assertEquals(uninterrupted._reproduction.getBestFits(), resumed._reproduction.getBestFits());
+            assertEquals(uninterrupted._reproduction.getMeanFits(), resumed._reproduction.getMeanFits());
+            assertEquals(uninterrupted._reproduction.getHistory(), resumed._reproduction.getHistory());
+        }
+        finally {
+            Reproduction.DEBUG_LEVEL = oldDebugLevel;
+            checkpointFile.delete();
+        }
+    }
+
+    /**
+     * Test method for {@link CheckpointWriter#restore(File, Checkpointable...)} with a damaged checkpoint.
+     * @throws IOException If checkpoint cannot be written
+     */
+    @Test
+    public final void testCorruptCheckpoint() throws IOException {
+        final File checkpointFile = File.createTempFile("checkpoint", ".dat");
+        try {
+            final CheckpointWriter writer = new CheckpointWriter(checkpointFile);
+            writer.checkpoint(new Run());
+            writer.shutdown();
+            final RandomAccessFile raf = new RandomAccessFile(checkpointFile, "rw");
+            try {
+                raf.seek(raf.length() / 2);
+                final int b = raf.read();
+                raf.seek(raf.length() / 2);
+                raf.write(b ^ 0xFF);
+            }
+            finally {
+                raf.close();
+            }
+            try {
+                CheckpointWriter.restore(checkpointFile, new Run());
+                fail("Corrupt checkpoint was restored");
+            }
+            catch (final IOException e) {
+                // Expected
+            }
+        }
+        finally {
+            checkpointFile.delete();
+        }
+    }
+}
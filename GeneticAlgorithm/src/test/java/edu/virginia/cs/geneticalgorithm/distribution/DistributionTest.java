@@ -5,8 +5,16 @@ package edu.virginia.cs.geneticalgorithm.distribution;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Test;
 
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest;
+
 /**
  * Test harness for Distribution
  * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie Benjamin Hocking</a>
@@ -101,4 +109,57 @@ public class DistributionTest {
         assertEquals(0.25, d.getLast().getValue(), 0.0);
     }
 
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.distribution.Distribution#sort()}, making sure it orders
+     * individuals the same way sorting the {@link DistributionMember DistributionMembers} does.
+     */
+    @Test
+    public final void testSort() {
+        final Random rng = new Random(17);
+        final Distribution d = new Distribution();
+        for (int i = 0; i < 100; ++i) {
+            // Few distinct values, so that ties are broken by fitness values and then genotypes
+            final double value = rng.nextInt(5);
+            d.add(new DistributionMember(value, Arrays.asList(value, (double) rng.nextInt(3)),
+                                         StandardGenotypeTest.createStandardIntervalGenotype(5, rng.nextInt(4) / 4.0)));
+        }
+        final List<DistributionMember> expected = new ArrayList<DistributionMember>(d);
+        Collections.sort(expected);
+        d.sort();
+        assertEquals(expected, d);
+        d.sort();
+        assertEquals(expected, d);
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.distribution.Distribution#getValue(int)},
+     * {@link edu.virginia.cs.geneticalgorithm.distribution.Distribution#getFitnessValue(int, int)} and
+     * {@link edu.virginia.cs.geneticalgorithm.distribution.Distribution#getGenotype(int)}.
+     */
+    @Test
+    public final void testColumnAccessors() {
+        final Distribution d = new Distribution();
+        final DistributionMember dm = new DistributionMember(2.0, Arrays.asList(3.0, 4.0),
+                                                             StandardGenotypeTest.createStandardIntervalGenotype(5, 0.5));
+        d.add(dm);
+        d.add(0, new DistributionMember(6.0, Arrays.asList(7.0, 8.0), dm.getGenotype()));
+        assertEquals(2, d.getNumFitnessValues());
+        assertEquals(6.0, d.getValue(0), 0.0);
+        assertEquals(2.0, d.getValue(1), 0.0);
+        assertEquals(4.0, d.getFitnessValue(1, 1), 0.0);
+        assertSame(dm.getGenotype(), d.getGenotype(1));
+        d.normalize();
+        assertEquals(0.75, d.getValue(0), 0.0);
+        assertEquals(Arrays.asList(7.0, 8.0), d.get(0).getFitnessValues());
+        d.remove(0);
+        assertEquals(1, d.size());
+        assertEquals(3.0, d.getFitnessValue(0, 0), 0.0);
+        try {
+            d.add(DistributionMemberTest.createDistributionMember(0.5));
+            fail("Member with different number of fitness values was added");
+        }
+        catch (final IllegalArgumentException e) {
+            // Expected
+        }
+    }
 }
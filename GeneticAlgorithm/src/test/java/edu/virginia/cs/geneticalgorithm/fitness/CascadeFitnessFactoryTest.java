@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import static edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest.createStandardIntervalGenotype;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.virginia.cs.common.metrics.Counter;
+import edu.virginia.cs.common.metrics.Metrics;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+
+/**
+ * Test harness for the {@link CascadeFitnessFactory}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class CascadeFitnessFactoryTest {
+
+    /**
+     * Fitness equal to a multiple of the value of the only gene, remembering whether it was evaluated or halted
+     */
+    private static final class GeneFitness extends AbstractFitness implements HaltableFitness {
+        private final double _value;
+        boolean _evaluated = false;
+        boolean _halted = false;
+
+        GeneFitness(final double value) {
+            _value = value;
+        }
+
+        @Override
+        public void prepare() {
+            // No preparation required
+        }
+
+        @Override
+        public List<Double> fitnessValues() {
+            _evaluated = true;
+            return Collections.singletonList(_value);
+        }
+
+        @Override
+        public int numFitnessValues() {
+            return 1;
+        }
+
+        @Override
+        public void halt() {
+            _halted = true;
+        }
+    }
+
+    private static final class GeneFitnessFactory implements FitnessFactory {
+        private final double _multiplier;
+        final List<GeneFitness> _created = new ArrayList<GeneFitness>();
+
+        GeneFitnessFactory(final double multiplier) {
+            _multiplier = multiplier;
+        }
+
+        @Override
+        public Fitness createFitness(final Genotype individual) {
+            final GeneFitness retval =
+                    new GeneFitness(_multiplier * ((IntervalGene) individual.getGene(0)).getRawValue());
+            _created.add(retval);
+            return retval;
+        }
+
+        @Override
+        public void ready() {
+            // Nothing to do
+        }
+    }
+
+    private static List<Fitness> createGeneration(final FitnessFactory factory, final int size) {
+        final List<Fitness> retval = new ArrayList<Fitness>();
+        for (int i = 1; i <= size; ++i) {
+            retval.add(factory.createFitness(createStandardIntervalGenotype(1, i)));
+        }
+        return retval;
+    }
+
+    /**
+     * Test method for {@link CascadeFitnessFactory#createFitness(Genotype)}, making sure that a fixed threshold gives the
+     * same total fitness as a {@link ShortCircuitFitness} with the same settings, and that stages that aren't reached
+     * are halted.
+     */
+    @Test
+    public final void testFixedThreshold() {
+        final GeneFitnessFactory proxy = new GeneFitnessFactory(1);
+        final GeneFitnessFactory post = new GeneFitnessFactory(2);
+        final double threshold = 5.5;
+        final double postScale = 10;
+        final CascadeStage proxyStage = new CascadeStage(proxy, 1).setThreshold(threshold).setLimit(threshold);
+        final CascadeStage postStage = new CascadeStage(post, 1).setScale(postScale);
+        final CascadeFitnessFactory factory = new CascadeFitnessFactory(Arrays.asList(proxyStage, postStage));
+        final List<Fitness> fitnesses = createGeneration(factory, 10);
+        for (int i = 0; i < fitnesses.size(); ++i) {
+            final Fitness fitness = fitnesses.get(i);
+            fitness.prepare();
+            final double proxyValue = i + 1;
+            final boolean passed = proxyValue > threshold;
+            final double expected = passed ? threshold + postScale * 2 * (i + 1) : proxyValue;
+            assertEquals(expected, fitness.totalFitness(), 0.0);
+            assertEquals(passed ? Arrays.asList(proxyValue, 2.0 * (i + 1)) : Arrays.asList(proxyValue, 0.0),
+                         fitness.fitnessValues());
+            assertEquals(passed, post._created.get(i)._evaluated);
+            assertEquals(!passed, post._created.get(i)._halted);
+        }
+        assertEquals(10, proxyStage.getNumEvaluated());
+        assertEquals(5, proxyStage.getNumPassed());
+        assertEquals(0.5, proxyStage.getPassRate(), 0.0);
+        assertEquals(5, postStage.getNumEvaluated());
+        assertEquals(threshold, proxyStage.getThreshold(), 0.0);
+        assertEquals(1, factory.getNumGenerations());
+    }
+
+    /**
+     * Test method for {@link CascadeFitnessFactory#createFitness(Genotype)}, making sure that how often each stage
+     * (except the last) is passed and failed is counted by the default {@link Metrics}
+     */
+    @Test
+    public final void testStageCounters() {
+        final Metrics metrics = Metrics.getDefault();
+        final boolean wasEnabled = metrics.isEnabled();
+        final Counter passed = metrics.counter("cascade.stage1.passed");
+        final Counter failed = metrics.counter("cascade.stage1.failed");
+        final long numPassed = passed.getCount();
+        final long numFailed = failed.getCount();
+        metrics.setEnabled(true);
+        try {
+            final CascadeStage proxyStage = new CascadeStage(new GeneFitnessFactory(1), 1).setThreshold(3.5);
+            final CascadeStage postStage = new CascadeStage(new GeneFitnessFactory(2), 1);
+            final CascadeFitnessFactory factory = new CascadeFitnessFactory(Arrays.asList(proxyStage, postStage));
+            for (final Fitness fitness : createGeneration(factory, 10)) {
+                fitness.totalFitness();
+            }
+        }
+        finally {
+            metrics.setEnabled(wasEnabled);
+        }
+        assertEquals(7, passed.getCount() - numPassed);
+        assertEquals(3, failed.getCount() - numFailed);
+    }
+
+    /**
+     * Test method for {@link CascadeStage#setPassFraction(double)}, making sure that the threshold adapts each
+     * generation so that only the target fraction of a generation reaches the next stage.
+     */
+    @Test
+    public final void testAdaptiveThreshold() {
+        final GeneFitnessFactory stage0 = new GeneFitnessFactory(1);
+        final GeneFitnessFactory stage1 = new GeneFitnessFactory(10);
+        final GeneFitnessFactory stage2 = new GeneFitnessFactory(1);
+        final CascadeStage first = new CascadeStage(stage0, 1).setPassFraction(0.3);
+        final CascadeStage second = new CascadeStage(stage1, 1).setPassFraction(0.5);
+        final CascadeStage third = new CascadeStage(stage2, 1);
+        final CascadeFitnessFactory factory = new CascadeFitnessFactory(Arrays.asList(first, second, third));
+        // Everything passes in the first generation, since the thresholds start out as -infinity
+        for (final Fitness fitness : createGeneration(factory, 10)) {
+            fitness.totalFitness();
+        }
+        assertEquals(1, factory.getNumGenerations());
+        assertEquals(10, third.getNumEvaluated());
+        assertEquals(7.0, first.getThreshold(), 0.0); // Only 8, 9 and 10 exceed it
+        assertEquals(50.0, second.getThreshold(), 0.0); // Only 60 to 100 exceed it
+        // The second generation is evaluated in reverse order, which makes no difference
+        final List<Fitness> generation = createGeneration(factory, 10);
+        Collections.reverse(generation);
+        for (final Fitness fitness : generation) {
+            fitness.totalFitness();
+        }
+        assertEquals(2, factory.getNumGenerations());
+        assertEquals(13, second.getNumEvaluated());
+        assertEquals(13, third.getNumEvaluated()); // 80, 90 and 100 all exceed 50
+        assertEquals(3, ((CascadeFitness) generation.get(0)).getNumStagesEvaluated());
+        assertEquals(1, ((CascadeFitness) generation.get(9)).getNumStagesEvaluated());
+        assertEquals(80.0, second.getThreshold(), 0.0); // Half (rounded up) of 80, 90 and 100 exceed it
+        for (int i = 10; i < 20; ++i) {
+            assertEquals(i >= 17, stage1._created.get(i)._evaluated);
+            assertEquals(i < 17, stage1._created.get(i)._halted);
+        }
+        assertTrue(first.getMeanTime() >= 0);
+    }
+
+    /**
+     * Test method for {@link CascadeFitness#halt()}, making sure that halting before evaluation stops every stage and
+     * still ends the generation.
+     */
+    @Test
+    public final void testHalt() {
+        final GeneFitnessFactory stage0 = new GeneFitnessFactory(1);
+        final GeneFitnessFactory stage1 = new GeneFitnessFactory(1);
+        final CascadeFitnessFactory factory =
+                new CascadeFitnessFactory(Arrays.asList(new CascadeStage(stage0, 1), new CascadeStage(stage1, 2)));
+        final List<Fitness> generation = createGeneration(factory, 2);
+        ((HaltableFitness) generation.get(0)).halt();
+        assertEquals(0, factory.getNumGenerations());
+        assertEquals(Arrays.asList(0.0, 0.0, 0.0), generation.get(0).fitnessValues());
+        assertFalse(stage0._created.get(0)._evaluated);
+        assertTrue(stage1._created.get(0)._halted);
+        generation.get(1).totalFitness();
+        assertEquals(1, factory.getNumGenerations());
+        assertEquals(3, generation.get(1).numFitnessValues());
+    }
+}
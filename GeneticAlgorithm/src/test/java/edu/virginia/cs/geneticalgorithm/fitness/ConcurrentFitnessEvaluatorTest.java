@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.gene.GeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactoryTest.TrivialStandardFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+
+/**
+ * Test harness for ConcurrentFitnessEvaluator
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class ConcurrentFitnessEvaluatorTest {
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator#evaluate(java.util.List)}.
+     */
+    @Test
+    public final void testEvaluate() {
+        final int numFitnesses = 8;
+        final List<Fitness> fitnesses = new ArrayList<Fitness>();
+        for (int i = 0; i < numFitnesses; ++i) {
+            fitnesses.add(new DelayedFitness(i, 10 * (numFitnesses - i)));
+        }
+        final FitnessEvaluator evaluator = new ConcurrentFitnessEvaluator(4);
+        final List<FitnessEvaluation> results = evaluator.evaluate(fitnesses);
+        evaluator.shutdown();
+        assertEquals(numFitnesses, results.size());
+        for (int i = 0; i < numFitnesses; ++i) {
+            assertSame(fitnesses.get(i), results.get(i).getFitness());
+            assertEquals(i, results.get(i).getTotalFitness(), 0.0);
+            assertEquals(Double.valueOf(i), results.get(i).getFitnessValues().get(0));
+        }
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator#evaluate(java.util.List)}
+     * when a {@link Fitness} function throws an exception.
+     */
+    @Test
+    public final void testEvaluateException() {
+        final List<Fitness> fitnesses = new ArrayList<Fitness>();
+        fitnesses.add(new DelayedFitness(1, 0));
+        fitnesses.add(new DelayedFitness(-1, 0));
+        final FitnessEvaluator evaluator = new ConcurrentFitnessEvaluator(2);
+        try {
+            evaluator.evaluate(fitnesses);
+            fail("Exception from fitness function should propagate");
+        }
+        catch (final IllegalStateException e) {
+            assertEquals("Negative value", e.getMessage());
+        }
+        finally {
+            evaluator.shutdown();
+        }
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator#ConcurrentFitnessEvaluator(int)}.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public final void testConstructor() {
+        new ConcurrentFitnessEvaluator(0);
+    }
+
+    /**
+     * Verifies that concurrent evaluation leaves the genetic algorithm's results identical to serial evaluation
+     */
+    @Test
+    public final void testMatchesSerial() {
+        final int popSize = 20;
+        final int genotypeSize = 5;
+        final int numGenerations = 10;
+        Reproduction.DEBUG_LEVEL = 0;
+        final List<List<List<Double>>> bestFits = new ArrayList<List<List<Double>>>();
+        final List<List<Double>> meanFits = new ArrayList<List<Double>>();
+        final FitnessEvaluator[] evaluators = { new SerialFitnessEvaluator(), new ConcurrentFitnessEvaluator(4) };
+        for (final FitnessEvaluator evaluator : evaluators) {
+            final GeneticFactory factory = new StandardGeneticFactory(1);
+            final FitnessFactory fitFactory = new TrivialStandardFitnessFactory();
+            List<Genotype> population = factory.createPopulation(popSize, genotypeSize);
+            final Reproduction reproduction = new Reproduction(true, false);
+            reproduction.setFitnessEvaluator(evaluator);
+            for (int i = 0; i < numGenerations; ++i) {
+                population = reproduction.reproduce(population, fitFactory, factory.getSelectFunction(),
+                                                    factory.getCrossoverFunction());
+            }
+            evaluator.shutdown();
+            bestFits.add(reproduction.getBestFits());
+            meanFits.add(reproduction.getMeanFits());
+        }
+        assertEquals(bestFits.get(0), bestFits.get(1));
+        assertEquals(meanFits.get(0), meanFits.get(1));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test fixture whose fitness is a given value, but which takes a given time to evaluate (and fails to evaluate if the
+ * value is negative), optionally recording the delay of each evaluation as it starts
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DelayedFitness extends AbstractFitness {
+    private final double _value;
+    private final long _delay;
+    private final List<Long> _started;
+    private List<Double> _values = null;
+
+    /**
+     * @param value Fitness value (negative values cause evaluation to throw an {@link IllegalStateException})
+     * @param delay How long (in milliseconds) evaluation takes
+     */
+    public DelayedFitness(final double value, final long delay) {
+        this(value, delay, null);
+    }
+
+    /**
+     * @param value Fitness value (negative values cause evaluation to throw an {@link IllegalStateException})
+     * @param delay How long (in milliseconds) evaluation takes
+     * @param started Where to record the delay as evaluation starts (may be null)
+     */
+    public DelayedFitness(final double value, final long delay, final List<Long> started) {
+        _value = value;
+        _delay = delay;
+        _started = started;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#prepare()
+     */
+    @Override
+    public void prepare() {
+        // No preparation required
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#fitnessValues()
+     */
+    @Override
+    public synchronized List<Double> fitnessValues() {
+        if (_values != null) return _values;
+        if (_started != null) {
+            _started.add(_delay);
+        }
+        try {
+            Thread.sleep(_delay);
+        }
+        catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        if (_value < 0) throw new IllegalStateException("Negative value");
+        _values = Collections.singletonList(Double.valueOf(_value));
+        return _values;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.Fitness#numFitnessValues()
+     */
+    @Override
+    public int numFitnessValues() {
+        return 1;
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.gene.GeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactory;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGeneticFactoryTest.TrivialStandardFitnessFactory;
+
+/**
+ * Test harness for PersistentFitnessCache
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public class PersistentFitnessCacheTest {
+
+    /**
+     * Fitness of an evaluation that failed
+     */
+    private static final class FailedFitness extends AbstractFitness implements ProvisionalFitness {
+
+        @Override
+        public void prepare() {
+            // Nothing to prepare
+        }
+
+        @Override
+        public List<Double> fitnessValues() {
+            return Collections.singletonList(0.0);
+        }
+
+        @Override
+        public int numFitnessValues() {
+            return 1;
+        }
+
+        @Override
+        public boolean isProvisional() {
+            return true;
+        }
+    }
+
+    private static File createLogFile() throws Exception {
+        final File retval = File.createTempFile("fitness", ".log");
+        retval.delete();
+        retval.deleteOnExit();
+        return retval;
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.PersistentFitnessCache#put(String, List, double)}
+     * and {@link edu.virginia.cs.geneticalgorithm.fitness.PersistentFitnessCache#get(String)}, including reopening.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testPutGet() throws Exception {
+        final File logFile = createLogFile();
+        PersistentFitnessCache cache = new PersistentFitnessCache(logFile);
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a"));
+        cache.put("a", Arrays.asList(1.0, 2.0), 3.0);
+        cache.put("b", Arrays.asList(4.0), 4.0);
+        cache.put("a", Arrays.asList(5.0, 6.0), 11.0);
+        assertEquals(2, cache.size());
+        assertEquals(Arrays.asList(5.0, 6.0), cache.get("a").fitnessValues());
+        cache.close();
+        try {
+            cache.put("c", Arrays.asList(1.0), 1.0);
+            fail("Closed cache should not accept values");
+        }
+        catch (final IllegalStateException e) {
+            // expected
+        }
+        cache = new PersistentFitnessCache(logFile);
+        assertEquals(2, cache.size());
+        assertEquals(11.0, cache.get("a").totalFitness(), 0.0);
+        assertEquals(Arrays.asList(4.0), cache.get("b").fitnessValues());
+        cache.close();
+    }
+
+    /**
+     * Verifies that a partially written record at the end of the log is discarded
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testTruncatedLog() throws Exception {
+        final File logFile = createLogFile();
+        PersistentFitnessCache cache = new PersistentFitnessCache(logFile);
+        cache.put("a", Arrays.asList(1.0, 2.0), 3.0);
+        cache.put("b", Arrays.asList(4.0), 4.0);
+        cache.close();
+        final long fullLength = logFile.length();
+        final RandomAccessFile raf = new RandomAccessFile(logFile, "rw");
+        raf.setLength(fullLength - 3);
+        raf.close();
+        cache = new PersistentFitnessCache(logFile);
+        assertEquals(1, cache.size());
+        assertNull(cache.get("b"));
+        cache.put("c", Arrays.asList(7.0), 7.0);
+        cache.close();
+        cache = new PersistentFitnessCache(logFile);
+        assertEquals(2, cache.size());
+        assertEquals(7.0, cache.get("c").totalFitness(), 0.0);
+        cache.close();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.CachingFitnessFactory#createFitness(Genotype)}.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testCachingFitnessFactory() throws Exception {
+        final File logFile = createLogFile();
+        final GenotypeKeyGenerator keyGenerator = new GenotypeKeyGenerator() {
+            @Override
+            public String generateKey(final Genotype individual) {
+                return individual.toString();
+            }
+        };
+        final GeneticFactory factory = new StandardGeneticFactory(1);
+        final List<Genotype> population = factory.createPopulation(10, 5);
+        PersistentFitnessCache cache = new PersistentFitnessCache(logFile);
+        CachingFitnessFactory fitFactory =
+                new CachingFitnessFactory(new TrivialStandardFitnessFactory(), cache, keyGenerator, "test");
+        final Fitness first = fitFactory.createFitness(population.get(0));
+        assertTrue(first instanceof CachingFitnessFactory.RecordingFitness);
+        final double expected = first.totalFitness();
+        assertEquals(1, fitFactory.getNumMisses());
+        cache.close();
+        cache = new PersistentFitnessCache(logFile);
+        fitFactory = new CachingFitnessFactory(new TrivialStandardFitnessFactory(), cache, keyGenerator, "test");
+        final Fitness again = fitFactory.createFitness(population.get(0));
+        assertTrue(again instanceof CachedFitness);
+        assertEquals(expected, again.totalFitness(), 0.0);
+        assertEquals(first.fitnessValues(), again.fitnessValues());
+        assertEquals(1, fitFactory.getNumHits());
+        assertEquals(0, fitFactory.getNumMisses());
+        // Same individual in a different context is a miss
+        fitFactory = new CachingFitnessFactory(new TrivialStandardFitnessFactory(), cache, keyGenerator, "other");
+        assertTrue(fitFactory.createFitness(population.get(0)) instanceof CachingFitnessFactory.RecordingFitness);
+        cache.close();
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.geneticalgorithm.fitness.CachingFitnessFactory#createFitness(Genotype)},
+     * making sure that provisional results (such as those of failed evaluations) are not cached.
+     * @throws Exception if one occurs
+     */
+    @Test
+    public final void testProvisionalNotCached() throws Exception {
+        final PersistentFitnessCache cache = new PersistentFitnessCache(createLogFile());
+        final FitnessFactory failing = new FitnessFactory() {
+            @Override
+            public Fitness createFitness(final Genotype individual) {
+                return new FailedFitness();
+            }
+
+            @Override
+            public void ready() {
+                // Nothing to do
+            }
+        };
+        final GenotypeKeyGenerator keyGenerator = new GenotypeKeyGenerator() {
+            @Override
+            public String generateKey(final Genotype individual) {
+                return individual.toString();
+            }
+        };
+        final Genotype individual = new StandardGeneticFactory(1).createPopulation(1, 5).get(0);
+        final CachingFitnessFactory fitFactory = new CachingFitnessFactory(failing, cache, keyGenerator, "test");
+        assertEquals(0.0, fitFactory.createFitness(individual).totalFitness(), 0.0);
+        assertEquals(0, cache.size());
+        assertTrue(fitFactory.createFitness(individual) instanceof CachingFitnessFactory.RecordingFitness);
+        assertEquals(2, fitFactory.getNumMisses());
+        cache.close();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+
+/**
+ * Test fixture whose fitnesses equal the sum of the genes' values (of {@link IntervalGene IntervalGenes}), optionally
+ * taking a while to evaluate, and which keeps track of how many are evaluated at once
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SumFitnessFactory implements FitnessFactory {
+    private final AtomicInteger _numRunning = new AtomicInteger(0);
+    private final AtomicInteger _maxRunning = new AtomicInteger(0);
+    private final AtomicInteger _numFinished = new AtomicInteger(0);
+    private final List<Integer> _finishOrder = Collections.synchronizedList(new ArrayList<Integer>());
+    private int _numCreated = 0;
+    private final long _stragglerDelay;
+
+    /**
+     * Fitnesses are evaluated without delay
+     */
+    public SumFitnessFactory() {
+        this(-1);
+    }
+
+    /**
+     * @param stragglerDelay How long (in milliseconds) evaluating the first individual takes (evaluating the others
+     *            takes a millisecond)
+     */
+    public SumFitnessFactory(final long stragglerDelay) {
+        _stragglerDelay = stragglerDelay;
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#createFitness(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+     */
+    @Override
+    public Fitness createFitness(final Genotype individual) {
+        final int which = _numCreated++;
+        return new AbstractFitness() {
+            private List<Double> _values = null;
+
+            @Override
+            public void prepare() {
+                // No preparation required
+            }
+
+            @Override
+            public List<Double> fitnessValues() {
+                if (_values != null) return _values;
+                final int numRunning = _numRunning.incrementAndGet();
+                while (_maxRunning.get() < numRunning) {
+                    _maxRunning.compareAndSet(_maxRunning.get(), numRunning);
+                }
+                if (_stragglerDelay >= 0) {
+                    try {
+                        Thread.sleep(which == 0 ? _stragglerDelay : 1);
+                    }
+                    catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                double sum = 0.01;
+                for (int i = 0; i < individual.getNumGenes(); ++i) {
+                    sum += ((IntervalGene) individual.getGene(i)).getRawValue();
+                }
+                _numRunning.decrementAndGet();
+                _finishOrder.add(which);
+                _numFinished.incrementAndGet();
+                _values = Collections.singletonList(sum);
+                return _values;
+            }
+
+            @Override
+            public int numFitnessValues() {
+                return 1;
+            }
+        };
+    }
+
+    /**
+     * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#ready()
+     */
+    @Override
+    public void ready() {
+        // Nothing to do
+    }
+
+    /**
+     * @return Most fitnesses evaluated at the same time
+     */
+    public int getMaxRunning() {
+        return _maxRunning.get();
+    }
+
+    /**
+     * @return Number of fitnesses evaluated
+     */
+    public int getNumFinished() {
+        return _numFinished.get();
+    }
+
+    /**
+     * @return Order (of creation) of the fitnesses in the order they finished
+     */
+    public List<Integer> getFinishOrder() {
+        return _finishOrder;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.fitness;
+
+import static edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest.createStandardIntervalGenotype;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+import edu.virginia.cs.geneticalgorithm.select.StandardSelect;
+import edu.virginia.cs.geneticalgorithm.surrogate.NearestNeighborModel;
+import edu.virginia.cs.geneticalgorithm.surrogate.RuntimePredictor;
+
+/**
+ * Test harness for the {@link WorkStealingFitnessEvaluator}, and for submitting the longest evaluations first
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class WorkStealingFitnessEvaluatorTest {
+
+    private static long makespan(final List<Long> delays, final int numWorkers) {
+        final List<Fitness> fitnesses = new ArrayList<Fitness>();
+        final List<Long> started = Collections.synchronizedList(new ArrayList<Long>());
+        for (final Long delay : delays) {
+            fitnesses.add(new DelayedFitness(delay, delay, started));
+        }
+        final WorkStealingFitnessEvaluator evaluator = new WorkStealingFitnessEvaluator(numWorkers);
+        final long beginTime = System.currentTimeMillis();
+        final List<FitnessEvaluation> results = evaluator.evaluate(fitnesses);
+        final long retval = System.currentTimeMillis() - beginTime;
+        evaluator.shutdown();
+        for (int i = 0; i < delays.size(); ++i) {
+            assertSame(fitnesses.get(i), results.get(i).getFitness());
+            assertEquals(delays.get(i), results.get(i).getTotalFitness(), 0.0);
+        }
+        return retval;
+    }
+
+    /**
+     * Test method for {@link WorkStealingFitnessEvaluator#evaluate(List)}, making sure that results come back in
+     * submission order, and that submitting the longest evaluation first (instead of last) shortens the makespan to close
+     * to the total work divided by the number of workers
+     */
+    @Test
+    public final void testEvaluate() {
+        final List<Long> delays = new ArrayList<Long>(Collections.nCopies(7, 50L));
+        delays.add(200L);
+        // The long evaluation starts after three short ones, so 350 ms
+        final long longestLast = makespan(delays, 2);
+        Collections.reverse(delays);
+        // Total work is 550 ms, and the best two workers can do is 300 ms
+        final long longestFirst = makespan(delays, 2);
+        assertTrue(longestLast >= 350);
+        assertTrue(longestFirst < 340);
+    }
+
+    /**
+     * Test method for {@link WorkStealingFitnessEvaluator#getNumSteals()}, making sure that idle workers take evaluations
+     * queued for a busy worker
+     */
+    @Test
+    public final void testSteal() {
+        final List<Fitness> fitnesses = new ArrayList<Fitness>();
+        final List<Long> started = Collections.synchronizedList(new ArrayList<Long>());
+        fitnesses.add(new DelayedFitness(200, 200, started));
+        for (int i = 0; i < 5; ++i) {
+            fitnesses.add(new DelayedFitness(1, 1, started));
+        }
+        final WorkStealingFitnessEvaluator evaluator = new WorkStealingFitnessEvaluator(3);
+        evaluator.evaluate(fitnesses);
+        evaluator.shutdown();
+        // The first worker's second evaluation was taken by another worker while the first was busy
+        assertTrue(evaluator.getNumSteals() > 0);
+        assertEquals(3, evaluator.getNumWorkers());
+    }
+
+    /**
+     * Test method for {@link Reproduction#setRuntimePredictor(RuntimePredictor)}, making sure that once the predictor has
+     * learned how long evaluations take, the ones predicted to take longest are submitted first
+     */
+    @Test
+    public final void testRuntimePredictor() {
+        final List<Long> started = Collections.synchronizedList(new ArrayList<Long>());
+        final FitnessFactory factory = new FitnessFactory() {
+            @Override
+            public Fitness createFitness(final Genotype individual) {
+                final long delay = Math.round(20 * ((IntervalGene) individual.getGene(0)).getValue());
+                return new DelayedFitness(delay, delay, started);
+            }
+
+            @Override
+            public void ready() {
+                // Nothing to do
+            }
+        };
+        final Random rng = new Random(23);
+        final RuntimePredictor predictor = new RuntimePredictor(new NearestNeighborModel(2, 100));
+        final Reproduction reproduction = new Reproduction(false, false);
+        reproduction.setRuntimePredictor(predictor);
+        reproduction.setFitnessEvaluator(new SerialFitnessEvaluator());
+        List<Genotype> population = new ArrayList<Genotype>();
+        for (int i = 0; i < 8; ++i) {
+            population.add(createStandardIntervalGenotype(2, (i + 1) / 8.0));
+        }
+        final UniformCrossover crossover = new UniformCrossover(new IntervalMutator(0.3, 0.2, rng), 0.6, 0.5, rng);
+        population = reproduction.reproduce(population, factory, new StandardSelect(rng), crossover);
+        assertEquals(8, predictor.getNumSamples());
+        assertTrue(reproduction.getLastTotalWork() >= 80);
+        assertTrue(reproduction.getLastMakespan() >= reproduction.getLastTotalWork());
+        final List<Double> predicted = new ArrayList<Double>();
+        for (final Genotype g : population) {
+            predicted.add(predictor.predict(g));
+        }
+        final List<Long> expected = new ArrayList<Long>();
+        final List<Double> sorted = new ArrayList<Double>(predicted);
+        Collections.sort(sorted, Collections.reverseOrder());
+        for (final Double p : sorted) {
+            final Genotype g = population.get(predicted.indexOf(p));
+            expected.add(Math.round(20 * ((IntervalGene) g.getGene(0)).getValue()));
+        }
+        started.clear();
+        reproduction.reproduce(population, factory, new StandardSelect(rng), crossover);
+        assertEquals(expected, started);
+        assertEquals(16, predictor.getNumSamples());
+    }
+
+    /**
+     * Test method for {@link Reproduction#setRuntimePredictor(RuntimePredictor)}, making sure that the predictor only
+     * learns from evaluations that actually ran, and not from results that were already available
+     */
+    @Test
+    public final void testRuntimePredictorSkipsPrecomputed() {
+        final FitnessFactory factory = new FitnessFactory() {
+            private int _numCreated = 0;
+
+            @Override
+            public Fitness createFitness(final Genotype individual) {
+                if (_numCreated++ % 2 == 0) return new CachedFitness(Collections.singletonList(1.0), 1.0);
+                return new DelayedFitness(1, 1);
+            }
+
+            @Override
+            public void ready() {
+                // Nothing to do
+            }
+        };
+        final Random rng = new Random(23);
+        final RuntimePredictor predictor = new RuntimePredictor(new NearestNeighborModel(2, 100));
+        final Reproduction reproduction = new Reproduction(false, false);
+        reproduction.setRuntimePredictor(predictor);
+        reproduction.setFitnessEvaluator(new SerialFitnessEvaluator());
+        final List<Genotype> population = new ArrayList<Genotype>();
+        for (int i = 0; i < 8; ++i) {
+            population.add(createStandardIntervalGenotype(2, (i + 1) / 8.0));
+        }
+        final UniformCrossover crossover = new UniformCrossover(new IntervalMutator(0.3, 0.2, rng), 0.6, 0.5, rng);
+        reproduction.reproduce(population, factory, new StandardSelect(rng), crossover);
+        assertEquals(4, predictor.getNumSamples());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.gene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.common.utils.UnorderedPair;
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.mutator.DecayingIntervalMutator;
+
+/**
+ * Test harness for the {@link DoubleArrayGenotype}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class DoubleArrayGenotypeTest {
+
+    private static final int GENOTYPE_SIZE = 12;
+
+    private static void assertSameGenes(final Genotype expected, final Genotype actual) {
+        assertEquals(expected.getNumGenes(), actual.getNumGenes());
+        for (int i = 0; i < expected.getNumGenes(); ++i) {
+            assertEquals(((IntervalGene) expected.getGene(i)).getRawValue(),
+                         ((IntervalGene) actual.getGene(i)).getRawValue(), 0);
+        }
+    }
+
+    /**
+     * Test method for {@link DoubleArrayGenotype#clone()}, {@link DoubleArrayGenotype#equals(Object)} and
+     * {@link DoubleArrayGenotype#hashCode()}.
+     */
+    @Test
+    public final void testCloneEqualsHashCode() {
+        final DoubleArrayGenotype g = new DoubleArrayGenotype(new double[] { 0.1, 0.2, 0.3 }, new double[3]);
+        final DoubleArrayGenotype copy = g.clone();
+        assertEquals(g, copy);
+        assertEquals(g.hashCode(), copy.hashCode());
+        assertEquals(0, g.compareTo(copy));
+        copy.setRawValue(1, 0.25);
+        assertFalse(g.equals(copy));
+        assertEquals(0.2, g.getRawValue(1), 0);
+        assertTrue(g.compareTo(copy) < 0);
+        copy.setGene(1, new IntervalGene(0.2));
+        assertEquals(g, copy);
+        assertEquals(g.hashCode(), copy.hashCode());
+        copy.setRawValue(2, 1.5);
+        assertEquals(1.0, copy.getValue(2), 0);
+        assertEquals(1.0, ((IntervalGene) copy.getGene(2)).getValue(), 0);
+    }
+
+    /**
+     * Test method for {@link IntervalGeneticFactory#createArrayPopulation(int, int, double)}, making sure that it
+     * creates the same individuals as {@link IntervalGeneticFactory#createPopulation(int, int, double)}.
+     */
+    @Test
+    public final void testCreateArrayPopulation() {
+        final List<Genotype> expected = new IntervalGeneticFactory(7).createPopulation(10, GENOTYPE_SIZE, 0.2);
+        final List<Genotype> actual = new IntervalGeneticFactory(7).createArrayPopulation(10, GENOTYPE_SIZE, 0.2);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); ++i) {
+            assertSameGenes(expected.get(i), actual.get(i));
+            assertEquals(0.2, ((DoubleArrayGenotype) actual.get(i)).getSigma(0), 0);
+        }
+    }
+
+    /**
+     * Test method for {@link UniformCrossover#crossover(Genotype, Genotype)} with {@link DoubleArrayGenotype
+     * DoubleArrayGenotypes}, making sure that the results are identical to those for {@link StandardGenotype
+     * StandardGenotypes} of {@link IntervalGene IntervalGenes}.
+     */
+    @Test
+    public final void testCrossoverMatchesStandardGenotype() {
+        final Random rng = new Random(3);
+        final StandardGenotype mother = new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), rng);
+        final StandardGenotype father = new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), rng);
+        final double[] motherValues = new double[GENOTYPE_SIZE];
+        final double[] fatherValues = new double[GENOTYPE_SIZE];
+        for (int i = 0; i < GENOTYPE_SIZE; ++i) {
+            motherValues[i] = ((IntervalGene) mother.getGene(i)).getRawValue();
+            fatherValues[i] = ((IntervalGene) father.getGene(i)).getRawValue();
+        }
+        final double[] sigmas = new double[GENOTYPE_SIZE];
+        final DoubleArrayGenotype arrayMother = new DoubleArrayGenotype(motherValues, sigmas);
+        final DoubleArrayGenotype arrayFather = new DoubleArrayGenotype(fatherValues, sigmas);
+        final UniformCrossover standardX =
+                new UniformCrossover(new DecayingIntervalMutator(0.3, 0.01, 0.2, 0.01, new Random(11)), 0.8, 0.5,
+                                     new Random(13));
+        final UniformCrossover arrayX =
+                new UniformCrossover(new DecayingIntervalMutator(0.3, 0.01, 0.2, 0.01, new Random(11)), 0.8, 0.5,
+                                     new Random(13));
+        for (int i = 0; i < 50; ++i) {
+            final UnorderedPair<Genotype> expected = standardX.crossover(mother, father);
+            final UnorderedPair<Genotype> actual = arrayX.crossover(arrayMother, arrayFather);
+            assertSame(DoubleArrayGenotype.class, actual.getFirst().getClass());
+            assertSameGenes(expected.getFirst(), actual.getFirst());
+            assertSameGenes(expected.getLast(), actual.getLast());
+        }
+        // Parents must be untouched
+        for (int i = 0; i < GENOTYPE_SIZE; ++i) {
+            assertEquals(motherValues[i], arrayMother.getRawValue(i), 0);
+            assertEquals(fatherValues[i], arrayFather.getRawValue(i), 0);
+        }
+    }
+}
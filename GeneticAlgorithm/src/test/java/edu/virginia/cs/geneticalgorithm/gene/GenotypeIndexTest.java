@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.gene;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+
+/**
+ * Test harness for the {@link GenotypeIndex}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class GenotypeIndexTest {
+
+    private static final int POP_SIZE = 20;
+    private static final int GENOTYPE_SIZE = 8;
+
+    /**
+     * Test method for {@link GenotypeIndex#add(Genotype)} and {@link GenotypeIndex#contains(Genotype)}, making sure that
+     * equal genotypes are rejected (whatever their representation) while distinct ones are kept, as the index grows
+     */
+    @Test
+    public final void testAdd() {
+        final Random rng = new Random(3);
+        final GenotypeIndex index = new GenotypeIndex(4);
+        final double[] sigmas = new double[GENOTYPE_SIZE];
+        Arrays.fill(sigmas, 0.2);
+        final List<Genotype> added = new ArrayList<Genotype>();
+        for (int i = 0; i < 1000; ++i) {
+            final Genotype g = (i % 2 == 0) ? new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), rng)
+                                            : new DoubleArrayGenotype(sigmas, rng);
+            assertTrue(index.add(g));
+            added.add(g);
+        }
+        assertEquals(1000, index.size());
+        for (final Genotype g : added) {
+            assertTrue(index.contains(g.clone()));
+            assertFalse(index.add(g.clone()));
+        }
+        assertEquals(1000, index.size());
+        final StandardGenotype zero = new StandardGenotype();
+        zero.add(new IntervalGene(0.0));
+        final StandardGenotype negativeZero = new StandardGenotype();
+        negativeZero.add(new IntervalGene(-0.0));
+        assertEquals(zero, negativeZero);
+        assertEquals(GenotypeIndex.fingerprint(zero), GenotypeIndex.fingerprint(negativeZero));
+        final StandardGenotype bits = new StandardGenotype(GENOTYPE_SIZE, StandardGene.ONE, rng);
+        assertEquals(GenotypeIndex.fingerprint(bits), GenotypeIndex.fingerprint(bits.clone()));
+    }
+
+    /**
+     * Test method for {@link Reproduction#setImmigrantFactory(GeneticFactory)}, making sure that a population that has
+     * converged to a single genotype is refilled with distinct immigrants, and that without immigrants breeding still
+     * stops
+     */
+    @Test
+    public final void testImmigrants() {
+        final int oldDebugLevel = Reproduction.DEBUG_LEVEL;
+        Reproduction.DEBUG_LEVEL = 0;
+        try {
+            // Without mutation or crossover, every child is a copy of a parent
+            final StandardGeneticFactory factory = new StandardGeneticFactory(7, 0, 0);
+            final Genotype converged = factory.createPopulation(1, GENOTYPE_SIZE).get(0);
+            final List<Genotype> population = new ArrayList<Genotype>();
+            for (int i = 0; i < POP_SIZE; ++i) {
+                population.add(converged.clone());
+            }
+            final Reproduction reproduction = new Reproduction(false, false);
+            reproduction.setImmigrantFactory(factory);
+            final List<Genotype> next = reproduction.reproduce(population,
+                                                               new StandardGeneticFactoryTest.TrivialStandardFitnessFactory(),
+                                                               factory.getSelectFunction(), factory.getCrossoverFunction());
+            assertEquals(POP_SIZE, next.size());
+            final GenotypeIndex index = new GenotypeIndex(POP_SIZE);
+            for (final Genotype g : next) {
+                assertTrue(index.add(g));
+            }
+            assertEquals(POP_SIZE - 1, reproduction.getLastNumImmigrants());
+            assertEquals(19.0 / 20.0, reproduction.getLastDuplicateRate(), 1E-9);
+            final Reproduction withoutImmigrants = new Reproduction(false, false);
+            final List<Genotype> duplicates =
+                    withoutImmigrants.reproduce(population, new StandardGeneticFactoryTest.TrivialStandardFitnessFactory(),
+                                                factory.getSelectFunction(), factory.getCrossoverFunction());
+            assertEquals(POP_SIZE, duplicates.size());
+            assertEquals(0, withoutImmigrants.getLastNumImmigrants());
+            assertTrue(withoutImmigrants.getLastDuplicateRate() > 0.99);
+        }
+        finally {
+            Reproduction.DEBUG_LEVEL = oldDebugLevel;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.island;
+
+import static edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest.createStandardIntervalGenotype;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.fitness.SumFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+import edu.virginia.cs.geneticalgorithm.select.StandardSelect;
+
+/**
+ * Test harness for the {@link IslandModel}, its topologies and its transports
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class IslandModelTest {
+
+    private static Island createIsland(final int id, final int popSize) {
+        return createIsland(id, popSize, new Reproduction(false, false));
+    }
+
+    private static Island createIsland(final int id, final int popSize, final Reproduction reproduction) {
+        final Random rng = new Random(id);
+        final List<Genotype> population = new ArrayList<Genotype>();
+        for (int i = 0; i < popSize; ++i) {
+            population.add(createStandardIntervalGenotype(3, (id * popSize + i + 1) / (4.0 * popSize)));
+        }
+        return new Island(id, population, reproduction, new SumFitnessFactory(),
+                          new StandardSelect(rng), new UniformCrossover(new IntervalMutator(0.2, 0.1, rng), 0.6, 0.5,
+                                                                        rng));
+    }
+
+    private static double value(final Genotype g) {
+        return ((IntervalGene) g.getGene(0)).getRawValue();
+    }
+
+    /**
+     * Test method for {@link MigrationTopology#getDestinations(int, int, Random)}, for each of the topologies
+     */
+    @Test
+    public final void testTopologies() {
+        final Random rng = new Random(3);
+        assertEquals(Arrays.asList(3), new RingTopology().getDestinations(2, 4, rng));
+        assertEquals(Arrays.asList(0), new RingTopology().getDestinations(3, 4, rng));
+        assertTrue(new RingTopology().getDestinations(0, 1, rng).isEmpty());
+        assertEquals(Arrays.asList(0, 1, 3), new FullyConnectedTopology().getDestinations(2, 4, rng));
+        for (int i = 0; i < 20; ++i) {
+            final List<Integer> destinations = new RandomTopology(2).getDestinations(1, 5, rng);
+            assertEquals(2, destinations.size());
+            assertEquals(2, new HashSet<Integer>(destinations).size());
+            assertFalse(destinations.contains(1));
+        }
+        assertEquals(Arrays.asList(0), new RandomTopology(3).getDestinations(1, 2, rng));
+    }
+
+    /**
+     * Test method for {@link QueueTransport#send(int, List)} and {@link QueueTransport#receive(int)}
+     */
+    @Test
+    public final void testQueueTransport() {
+        final QueueTransport transport = new QueueTransport(2);
+        final Genotype migrant = createStandardIntervalGenotype(3, 0.25);
+        transport.send(1, Arrays.asList(migrant));
+        assertTrue(transport.receive(0).isEmpty());
+        final List<Genotype> received = transport.receive(1);
+        assertEquals(Arrays.asList(migrant), received);
+        assertFalse(migrant == received.get(0));
+        assertTrue(transport.receive(1).isEmpty());
+    }
+
+    /**
+     * Test method for {@link FileTransport#send(int, List)} and {@link FileTransport#receive(int)}, making sure that
+     * migrants arrive in the order they were sent and are only received once
+     * @throws IOException If the mailboxes can't be cleaned up
+     */
+    @Test
+    public final void testFileTransport() throws IOException {
+        final File directory = new File(System.getProperty("java.io.tmpdir"), "IslandModelTest_" + System.nanoTime());
+        try {
+            final FileTransport sender = new FileTransport(directory);
+            final FileTransport receiver = new FileTransport(directory); // As if in another process
+            final List<Genotype> migrants = new ArrayList<Genotype>();
+            migrants.add(createStandardIntervalGenotype(3, 0.25));
+            migrants.add(createStandardIntervalGenotype(3, 0.5));
+            sender.send(0, migrants);
+            assertTrue(receiver.receive(1).isEmpty());
+            final List<Genotype> received = receiver.receive(0);
+            assertEquals(2, received.size());
+            assertEquals(0.25, value(received.get(0)), 1E-9);
+            assertEquals(0.5, value(received.get(1)), 1E-9);
+            assertTrue(receiver.receive(0).isEmpty());
+            assertEquals(0, receiver.getMailbox(0).list().length);
+        }
+        finally {
+            FileUtils.deleteDirectory(directory);
+        }
+    }
+
+    /**
+     * Test method for {@link Island#immigrate(List)}, making sure that immigrants replace the bred children but not the
+     * elites, which the new generation starts with
+     */
+    @Test
+    public final void testImmigrate() {
+        final Reproduction reproduction = new Reproduction(false, false);
+        reproduction.setNumElites(2);
+        final Island island = createIsland(0, 6, reproduction);
+        island.reproduce();
+        assertEquals(2, reproduction.getLastNumElites());
+        final List<Genotype> elites = new ArrayList<Genotype>(island.getPopulation().subList(0, 2));
+        assertEquals(reproduction.getLastGeneration().getGenotype(0), elites.get(0));
+        assertEquals(reproduction.getLastGeneration().getGenotype(1), elites.get(1));
+        final List<Genotype> immigrants = new ArrayList<Genotype>();
+        for (int i = 0; i < 10; ++i) {
+            immigrants.add(createStandardIntervalGenotype(3, 0.9 + i / 100.0));
+        }
+        island.immigrate(immigrants);
+        assertEquals(4, island.getNumImmigrants());
+        assertEquals(elites, island.getPopulation().subList(0, 2));
+        assertEquals(immigrants.subList(0, 4), Arrays.asList(island.getPopulation().get(5), island.getPopulation().get(4),
+                                                             island.getPopulation().get(3), island.getPopulation().get(2)));
+    }
+
+    /**
+     * Test method for {@link IslandModel#run(List, int)}, making sure that islands running on their own threads exchange
+     * migrants around a ring every so many generations, and (see {@link IslandModel#setGenerationAction(Runnable)})
+     * that each generation is reported once every island has finished it
+     */
+    @Test
+    public final void testRun() {
+        final int numIslands = 3;
+        final int popSize = 6;
+        final QueueTransport transport = new QueueTransport(numIslands);
+        final IslandModel model = new IslandModel(numIslands, new RingTopology(), transport, 7);
+        model.setMigrationInterval(2);
+        model.setNumMigrants(2);
+        final List<Island> islands = new ArrayList<Island>();
+        for (int id = 0; id < numIslands; ++id) {
+            islands.add(createIsland(id, popSize));
+        }
+        final List<Integer> finished = new ArrayList<Integer>(); // Generation every island had finished, when reported
+        model.setGenerationAction(new Runnable() {
+            @Override
+            public void run() {
+                int generation = Integer.MAX_VALUE;
+                for (final Island island : islands) {
+                    generation = Math.min(generation, island.getReproduction().getCurrentGeneration());
+                }
+                finished.add(generation);
+            }
+        });
+        model.run(islands, 6);
+        assertEquals(6, finished.size());
+        for (int i = 0; i < finished.size(); ++i) {
+            assertTrue(finished.get(i) >= i + 1);
+        }
+        for (final Island island : islands) {
+            assertEquals(popSize, island.getPopulation().size());
+            assertEquals(6, island.getReproduction().getCurrentGeneration());
+            assertEquals(6, island.getNumEmigrants()); // Two migrants, three times
+            // Islands don't wait for each other, so migrants may still be waiting for an island that has finished
+            assertTrue(island.getNumImmigrants() + transport.receive(island.getId()).size() > 0);
+        }
+    }
+}
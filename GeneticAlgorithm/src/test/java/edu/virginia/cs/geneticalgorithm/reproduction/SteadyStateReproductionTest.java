@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.reproduction;
+
+import static edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest.createStandardIntervalGenotype;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.fitness.ConcurrentFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.SumFitnessFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+import edu.virginia.cs.geneticalgorithm.select.Select;
+import edu.virginia.cs.geneticalgorithm.select.StandardSelect;
+
+/**
+ * Test harness for the {@link SteadyStateReproduction}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SteadyStateReproductionTest {
+
+    private static List<Genotype> createPopulation(final int size) {
+        final List<Genotype> retval = new ArrayList<Genotype>();
+        for (int i = 0; i < size; ++i) {
+            retval.add(createStandardIntervalGenotype(3, (i + 1) / (2.0 * size)));
+        }
+        return retval;
+    }
+
+    private static Crossover createCrossover(final Random rng) {
+        return new UniformCrossover(new IntervalMutator(0.2, 0.1, rng), 0.6, 0.5, rng);
+    }
+
+    private static double minValue(final Distribution distribution) {
+        double retval = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < distribution.size(); ++i) {
+            retval = Math.min(retval, distribution.getValue(i));
+        }
+        return retval;
+    }
+
+    /**
+     * Test method for {@link SteadyStateReproduction#evolve(List, int, FitnessFactory, Select, Crossover)}, making sure
+     * that the population keeps its size, that replacing the least fit member never makes the population worse, and
+     * that evolution improves it.
+     */
+    @Test
+    public final void testEvolve() {
+        final Random rng = new Random(17);
+        final SteadyStateReproduction reproduction = new SteadyStateReproduction(rng, false);
+        final int popSize = 10;
+        reproduction.setTournamentSize(popSize);
+        final SumFitnessFactory factory = new SumFitnessFactory(1);
+        List<Genotype> population = reproduction.evolve(createPopulation(popSize), popSize, factory,
+                                                        new StandardSelect(rng), createCrossover(rng));
+        assertEquals(popSize, population.size());
+        assertEquals(0, reproduction.getNumReplacements());
+        final double initialMean = reproduction.getMeanFit();
+        double lastMin = minValue(reproduction.getPopulation());
+        for (int i = 0; i < 10; ++i) {
+            population = reproduction.evolve(population, 2 * popSize, factory, new StandardSelect(rng),
+                                             createCrossover(rng));
+            assertEquals(popSize, population.size());
+            final double min = minValue(reproduction.getPopulation());
+            // Re-evaluating the population doesn't change its fitness, so only better individuals get in
+            assertTrue(min >= lastMin);
+            lastMin = min;
+        }
+        assertEquals(popSize * 21, reproduction.getNumEvaluations());
+        assertEquals(popSize * 21, factory.getNumFinished());
+        assertTrue(reproduction.getNumReplacements() > 0);
+        assertTrue(reproduction.getMeanFit() > initialMean);
+        assertEquals(reproduction.getBestFit().get(0), reproduction.getBestFit().get(1), 0.0);
+        assertTrue(reproduction.getEvaluationsPerHour() > 0);
+    }
+
+    /**
+     * Test method for {@link SteadyStateReproduction#setGenerationAction(Runnable)}, making sure that it runs after each
+     * population's worth of evaluations
+     */
+    @Test
+    public final void testGenerationAction() {
+        final Random rng = new Random(11);
+        final SteadyStateReproduction reproduction = new SteadyStateReproduction(rng, false);
+        final AtomicInteger numGenerations = new AtomicInteger(0);
+        reproduction.setGenerationAction(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(5 * numGenerations.incrementAndGet(), reproduction.getNumEvaluations());
+            }
+        });
+        reproduction.evolve(createPopulation(5), 22, new SumFitnessFactory(), new StandardSelect(rng),
+                            createCrossover(rng));
+        assertEquals(4, numGenerations.get());
+    }
+
+    /**
+     * Test method for {@link SteadyStateReproduction#setNumSlots(int)}, making sure that a slow evaluation doesn't hold
+     * up the others, and that no more than the allowed number of evaluations are in progress at once.
+     */
+    @Test
+    public final void testStraggler() {
+        final Random rng = new Random(5);
+        final SteadyStateReproduction reproduction = new SteadyStateReproduction(rng, true);
+        final ConcurrentFitnessEvaluator evaluator = new ConcurrentFitnessEvaluator(3);
+        reproduction.setFitnessEvaluator(evaluator);
+        assertEquals(3, reproduction.getNumSlots());
+        final SumFitnessFactory factory = new SumFitnessFactory(500);
+        reproduction.evolve(createPopulation(5), 40, factory, new StandardSelect(rng), createCrossover(rng));
+        evaluator.shutdown();
+        assertEquals(40, factory.getNumFinished());
+        assertEquals(3, factory.getMaxRunning());
+        // The straggler was the first to start, but the others kept going while it ran
+        assertTrue(factory.getFinishOrder().indexOf(0) > 20);
+    }
+
+    /**
+     * Test method for {@link SteadyStateReproduction#setEndPrepareAction(File)}, making sure that the action runs after
+     * each batch of fitnesses is prepared.
+     * @throws IOException If there's a problem with the temporary files
+     */
+    @Test
+    public final void testEndPrepareAction() throws IOException {
+        final File directory = File.createTempFile("prepare", "");
+        directory.delete();
+        directory.mkdir();
+        final File action = new File(directory, "endPrepare.sh");
+        FileUtils.writeStringToFile(action, "#!/bin/sh\necho ran >> ran.txt\n");
+        action.setExecutable(true);
+        final Random rng = new Random(11);
+        final SteadyStateReproduction reproduction = new SteadyStateReproduction(rng, true);
+        reproduction.setEndPrepareAction(action);
+        // The serial evaluator has one slot, so each batch is a single fitness
+        reproduction.evolve(createPopulation(5), 20, new SumFitnessFactory(1), new StandardSelect(rng),
+                            createCrossover(rng));
+        assertEquals(20, FileUtils.readLines(new File(directory, "ran.txt")).size());
+        FileUtils.deleteDirectory(directory);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.select;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest;
+
+/**
+ * Test harness for the {@link NonDominatedSelect} and {@link NonDominatedSorter}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NonDominatedSelectTest {
+
+    /**
+     * Test method for {@link NonDominatedSorter#sort(double[], int, int, int[])} and
+     * {@link NonDominatedSorter#crowdingDistances(double[], int, int, int[], int, double[])} on a small example.
+     */
+    @Test
+    public final void testSortSmall() {
+        final double[] objectives = { 1, 5, // front 0
+                                      2, 4, // front 0
+                                      3, 3, // front 0
+                                      5, 1, // front 0
+                                      1, 4, // front 1
+                                      2, 2, // front 1
+                                      1, 1, // front 2
+                                      Double.NaN, 9 }; // front 0 (NaN is worst, but 9 is best)
+        final int[] ranks = new int[8];
+        final NonDominatedSorter sorter = new NonDominatedSorter();
+        final int numFronts = sorter.sort(objectives, 8, 2, ranks);
+        assertEquals(3, numFronts);
+        assertArrayEquals(new int[] { 0, 0, 0, 0, 1, 1, 2, 0 }, ranks);
+        final double[] distances = new double[8];
+        sorter.crowdingDistances(objectives, 8, 2, ranks, numFronts, distances);
+        assertEquals(Double.POSITIVE_INFINITY, distances[3], 0);
+        assertEquals(Double.POSITIVE_INFINITY, distances[7], 0);
+        assertEquals(Double.POSITIVE_INFINITY, distances[4], 0);
+        assertEquals(Double.POSITIVE_INFINITY, distances[6], 0);
+        // The first objective's range can't be normalized (because of the NaN), so only the second one counts
+        assertEquals((5 - 3) / 8.0, distances[1], 1E-12);
+        assertEquals((4 - 1) / 8.0, distances[2], 1E-12);
+        assertEquals((9 - 4) / 8.0, distances[0], 1E-12);
+    }
+
+    /**
+     * Test method for {@link NonDominatedSorter#sort(double[], int, int, int[])}, comparing against repeatedly removing
+     * the non-dominated individuals.
+     */
+    @Test
+    public final void testSortRandom() {
+        final Random rng = new Random(23);
+        final int numIndividuals = 200;
+        final int numObjectives = 3;
+        final double[] objectives = new double[numIndividuals * numObjectives];
+        for (int i = 0; i < objectives.length; ++i) {
+            objectives[i] = rng.nextInt(10); // Plenty of ties
+        }
+        final int[] ranks = new int[numIndividuals];
+        final int numFronts = new NonDominatedSorter().sort(objectives, numIndividuals, numObjectives, ranks);
+        final int[] expected = new int[numIndividuals];
+        Arrays.fill(expected, -1);
+        int front = 0;
+        int numAssigned = 0;
+        while (numAssigned < numIndividuals) {
+            final boolean[] dominated = new boolean[numIndividuals];
+            for (int i = 0; i < numIndividuals; ++i) {
+                for (int j = 0; j < numIndividuals; ++j) {
+                    if (expected[i] < 0 && expected[j] < 0 && dominates(objectives, numObjectives, j, i)) {
+                        dominated[i] = true;
+                    }
+                }
+            }
+            for (int i = 0; i < numIndividuals; ++i) {
+                if (expected[i] < 0 && !dominated[i]) {
+                    expected[i] = -2 - front; // Don't let it affect the rest of this front
+                }
+            }
+            for (int i = 0; i < numIndividuals; ++i) {
+                if (expected[i] == -2 - front) {
+                    expected[i] = front;
+                    ++numAssigned;
+                }
+            }
+            ++front;
+        }
+        assertEquals(front, numFronts);
+        assertArrayEquals(expected, ranks);
+    }
+
+    private static boolean dominates(final double[] objectives, final int numObjectives, final int a, final int b) {
+        boolean better = false;
+        for (int k = 0; k < numObjectives; ++k) {
+            final double va = objectives[a * numObjectives + k];
+            final double vb = objectives[b * numObjectives + k];
+            if (va < vb) return false;
+            if (va > vb) better = true;
+        }
+        return better;
+    }
+
+    /**
+     * Test method for {@link NonDominatedSelect#select(Distribution)}, making sure that dominated individuals are
+     * selected less often than non-dominated ones, and that changes to the {@link Distribution} are seen.
+     */
+    @Test
+    public final void testSelect() {
+        final Distribution d = new Distribution();
+        d.add(new DistributionMember(0.1, Arrays.asList(2.0, 2.0),
+                                     StandardGenotypeTest.createStandardIntervalGenotype(5, 0.1)));
+        d.add(new DistributionMember(0.9, Arrays.asList(1.0, 1.0),
+                                     StandardGenotypeTest.createStandardIntervalGenotype(5, 0.9)));
+        // With a large tournament, the non-dominated individual (almost) always takes part, and so wins
+        final NonDominatedSelect allSelect = new NonDominatedSelect(new Random(29), 20);
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(d.getGenotype(0), allSelect.select(d));
+        }
+        final int[] indices = new int[4000];
+        new NonDominatedSelect(new Random(31)).createSession(d).selectMany(indices);
+        int numFirst = 0;
+        for (final int i : indices) {
+            if (i == 0) ++numFirst;
+        }
+        // Binary tournament: the worse individual only wins when it faces itself
+        assertEquals(0.75, numFirst / (double) indices.length, 0.03);
+        d.set(1, new DistributionMember(0.9, Arrays.asList(3.0, 3.0),
+                                        StandardGenotypeTest.createStandardIntervalGenotype(5, 0.9)));
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(d.getGenotype(1), allSelect.select(d));
+        }
+    }
+}
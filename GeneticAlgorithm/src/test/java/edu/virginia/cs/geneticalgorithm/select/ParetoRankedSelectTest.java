@@ -5,7 +5,10 @@
 package edu.virginia.cs.geneticalgorithm.select;
 
 import edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMemberTest;
 import edu.virginia.cs.geneticalgorithm.distribution.DistributionTest;
+import edu.virginia.cs.common.utils.ArrayNumberUtils;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -43,4 +46,34 @@ public class ParetoRankedSelectTest {
         assertEquals(expResult, result);
     }
 
+    /**
+     * Test of select method, of class ParetoRankedSelect, making sure that the rank weighting calculated once per
+     * distribution selects exactly as {@link SelectUtils#substituteSelect(Random, Distribution, List)} would, and is
+     * recalculated when the distribution changes.
+     */
+    @Test
+    public void testSelectMatchesSubstituteSelect() {
+        final Random valueRng = new Random(17);
+        final Distribution distribution = new Distribution();
+        for (int i = 0; i < 40; ++i) {
+            distribution.add(DistributionMemberTest.createDistributionMember(valueRng.nextDouble(), i / 40.0));
+        }
+        distribution.sort();
+        final ParetoRankedSelect instance = new ParetoRankedSelect(new Random(19));
+        final Random expectedRng = new Random(19);
+        for (int n = 0; n < 3; ++n) {
+            final int numIndividuals = distribution.size();
+            final List<Double> rankValues = new ArrayList<Double>();
+            for (int j = 0; j < numIndividuals; ++j) {
+                rankValues.add(Double.valueOf(numIndividuals - j));
+            }
+            final List<Double> expectedValues = ArrayNumberUtils.normalize(rankValues);
+            for (int i = 0; i < 200; ++i) {
+                assertSame(SelectUtils.substituteSelect(expectedRng, distribution, expectedValues),
+                           instance.select(distribution));
+            }
+            distribution.remove(0);
+        }
+    }
+
 }
\ No newline at end of file
@@ -45,4 +45,95 @@ public class StandardSelectTest {
         assertNotSame(d.get(0).getGenotype(), g);
         assertEquals(d.getLast().getGenotype(), g);
     }
+
+    private static Distribution createDistribution(final int size, final Random rng) {
+        final Distribution d = new Distribution();
+        for (int i = 0; i < size; ++i) {
+            d.add(DistributionMemberTest.createDistributionMember(rng.nextDouble(), i));
+        }
+        return d;
+    }
+
+    /**
+     * Test method for {@link StandardSelect#createSession(Distribution)}, making sure that selections are the same as
+     * a linear scan of the normalized {@link edu.virginia.cs.geneticalgorithm.fitness.Fitness} values would make.
+     */
+    @Test
+    public final void testSessionMatchesLinearScan() {
+        final Distribution d = createDistribution(57, new Random(3));
+        d.normalize();
+        final Random expectedRng = new Random(5);
+        final SelectionSession session = new StandardSelect(new Random(5)).createSession(d);
+        for (int n = 0; n < 1000; ++n) {
+            final double selector = expectedRng.nextDouble();
+            double totalProb = 0;
+            int expected = d.size() - 1;
+            for (int i = 0; i < d.size(); ++i) {
+                totalProb += d.getValue(i);
+                if (totalProb > selector) {
+                    expected = i;
+                    break;
+                }
+            }
+            assertEquals(expected, session.selectIndex());
+        }
+    }
+
+    /**
+     * Test method for {@link SelectionSession#selectMany(int[])} using an alias table, making sure that individuals are
+     * selected in proportion to their {@link edu.virginia.cs.geneticalgorithm.fitness.Fitness}.
+     */
+    @Test
+    public final void testAliasTable() {
+        final Distribution d = createDistribution(10, new Random(7));
+        d.set(4, DistributionMemberTest.createDistributionMember(0.0, 4));
+        d.normalize();
+        final SelectionSession session = new StandardSelect(new Random(11), true).createSession(d);
+        final int[] indices = new int[200000];
+        session.selectMany(indices);
+        final int[] counts = new int[d.size()];
+        for (final int i : indices) {
+            ++counts[i];
+        }
+        assertEquals(0, counts[4]);
+        for (int i = 0; i < d.size(); ++i) {
+            assertEquals(d.getValue(i), counts[i] / (double) indices.length, 0.01);
+        }
+    }
+
+    /**
+     * Test method for {@link StandardSelect#select(Distribution)}, making sure that changes to the {@link Distribution}
+     * are seen.
+     */
+    @Test
+    public final void testSelectAfterChange() {
+        final Distribution d = new Distribution();
+        d.add(DistributionMemberTest.createDistributionMember(1.0, 0.1));
+        d.add(DistributionMemberTest.createDistributionMember(0.0, 0.2));
+        final StandardSelect s = new StandardSelect(new Random(1));
+        final SelectionSession session = s.createSession(d);
+        assertTrue(session.isCurrent());
+        assertEquals(d.getGenotype(0), s.select(d));
+        d.set(0, DistributionMemberTest.createDistributionMember(0.0, 0.1));
+        d.set(1, DistributionMemberTest.createDistributionMember(1.0, 0.2));
+        assertFalse(session.isCurrent());
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(d.getGenotype(1), s.select(d));
+        }
+    }
+
+    /**
+     * Test method for {@link StandardSelect#select(Distribution)}, making sure that repeated selections are the same as
+     * those of a single session (as {@link edu.virginia.cs.geneticalgorithm.reproduction.Reproduction} makes), even
+     * though the {@link Distribution} was not normalized beforehand.
+     */
+    @Test
+    public final void testSelectMatchesSession() {
+        final Distribution d = createDistribution(57, new Random(3));
+        final StandardSelect s = new StandardSelect(new Random(5));
+        final SelectionSession session = new StandardSelect(new Random(5)).createSession(new Distribution(d));
+        for (int n = 0; n < 2 * d.size(); ++n) {
+            assertEquals(session.select(), s.select(d));
+        }
+    }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.surrogate;
+
+import static edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest.createStandardIntervalGenotype;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.checkpoint.CheckpointableRandom;
+import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.CachedFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.fitness.ProvisionalFitness;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+
+/**
+ * Test harness for the {@link SurrogateFitnessFactory} and its {@link SurrogateModel SurrogateModels}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class SurrogateFitnessFactoryTest {
+
+    /**
+     * Fitness values of the first gene's value and twice the second's, counting evaluations
+     */
+    private static final class LinearFitnessFactory implements FitnessFactory {
+        int _numEvaluations = 0;
+
+        @Override
+        public Fitness createFitness(final Genotype individual) {
+            return new AbstractFitness() {
+                private List<Double> _values = null;
+
+                @Override
+                public void prepare() {
+                    // No preparation required
+                }
+
+                @Override
+                public List<Double> fitnessValues() {
+                    if (_values != null) return _values;
+                    ++_numEvaluations;
+                    _values = Arrays.asList(((IntervalGene) individual.getGene(0)).getValue(),
+                                            2 * ((IntervalGene) individual.getGene(1)).getValue());
+                    return _values;
+                }
+
+                @Override
+                public int numFitnessValues() {
+                    return 2;
+                }
+            };
+        }
+
+        @Override
+        public void ready() {
+            // Nothing to do
+        }
+    }
+
+    /**
+     * Fitness of an evaluation that failed (e.g., a simulation that crashed), and so scored zero
+     */
+    private static final class FailedFitness extends AbstractFitness implements ProvisionalFitness {
+
+        @Override
+        public void prepare() {
+            // No preparation required
+        }
+
+        @Override
+        public List<Double> fitnessValues() {
+            return Arrays.asList(0.0, 0.0);
+        }
+
+        @Override
+        public int numFitnessValues() {
+            return 2;
+        }
+
+        @Override
+        public boolean isProvisional() {
+            return true;
+        }
+    }
+
+    private static Genotype createIndividual(final double first, final double second) {
+        final Genotype retval = createStandardIntervalGenotype(2, first);
+        retval.setGene(1, new IntervalGene(second));
+        return retval;
+    }
+
+    /**
+     * Test method for {@link NearestNeighborModel#predict(double[])}, making sure that a sample is predicted exactly,
+     * that other points are predicted from their nearest neighbors, and that the oldest samples are forgotten.
+     */
+    @Test
+    public final void testNearestNeighbor() {
+        final NearestNeighborModel model = new NearestNeighborModel(2, 3);
+        assertNull(model.predict(new double[] { 0 }));
+        model.add(new double[] { 0 }, new double[] { 10 });
+        model.add(new double[] { 1 }, new double[] { 20 });
+        model.add(new double[] { 3 }, new double[] { 40 });
+        assertArrayEquals(new double[] { 20 }, model.predict(new double[] { 1 }), 0.0);
+        assertArrayEquals(new double[] { 15 }, model.predict(new double[] { 0.5 }), 1E-9);
+        // Twice as close to 1 as to 0 (3 isn't one of the two nearest)
+        assertArrayEquals(new double[] { 50.0 / 3 }, model.predict(new double[] { 2.0 / 3 }), 1E-9);
+        model.add(new double[] { 4 }, new double[] { 50 }); // Forgets the sample at 0
+        // Twice as close to 1 as to 3
+        assertArrayEquals(new double[] { 80.0 / 3 }, model.predict(new double[] { -1 }), 1E-9);
+        assertEquals(4, model.getNumSamples());
+    }
+
+    /**
+     * Test method for {@link RidgeRegressionModel#add(double[], double[])}, making sure that a linear function is
+     * recovered from samples of it
+     */
+    @Test
+    public final void testRidgeRegression() {
+        final RidgeRegressionModel model = new RidgeRegressionModel(1E-6, 1.0);
+        final Random rng = new Random(11);
+        for (int i = 0; i < 50; ++i) {
+            final double a = rng.nextDouble();
+            final double b = rng.nextDouble();
+            model.add(new double[] { a, b }, new double[] { 3 * a - b + 2, a });
+        }
+        assertArrayEquals(new double[] { 2.8, 0.5 }, model.predict(new double[] { 0.5, 0.7 }), 1E-4);
+        assertEquals(50, model.getNumSamples());
+    }
+
+    /**
+     * Test method for {@link SurrogateFitnessFactory#createFitness(Genotype)}, making sure that individuals aren't
+     * screened out until the model has enough samples, that those predicted to be poor are then screened out (except to
+     * explore), and that evaluated individuals train the model
+     */
+    @Test
+    public final void testScreening() {
+        final LinearFitnessFactory real = new LinearFitnessFactory();
+        final SurrogateFitnessFactory factory =
+                new SurrogateFitnessFactory(real, new RidgeRegressionModel(1E-6, 1.0), new Random(3));
+        factory.setMinSamples(10);
+        factory.setScreenFraction(0.5);
+        factory.setExplorationRate(0.0);
+        final Random rng = new Random(7);
+        double minTotal = Double.POSITIVE_INFINITY;
+        double minSecond = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < 10; ++i) {
+            final Fitness fitness = factory.createFitness(createIndividual(rng.nextDouble(), rng.nextDouble()));
+            minTotal = Math.min(minTotal, fitness.totalFitness());
+            minSecond = Math.min(minSecond, fitness.fitnessValues().get(1));
+        }
+        assertEquals(10, real._numEvaluations);
+        assertEquals(10, factory.getNumEvaluated());
+        assertEquals(0, factory.getNumScreened());
+        assertTrue(factory.getThreshold() > 0);
+        final Fitness poor = factory.createFitness(createIndividual(0.01, 0.01));
+        assertTrue(poor instanceof CachedFitness);
+        // Predictions are no lower than any value the model was trained on
+        assertEquals(Math.max(0.03, minTotal), poor.totalFitness(), 1E-4);
+        assertEquals(Math.max(0.02, minSecond), poor.fitnessValues().get(1), 1E-4);
+        final Fitness good = factory.createFitness(createIndividual(0.99, 0.99));
+        assertEquals(2.97, good.totalFitness(), 1E-12);
+        assertEquals(1, factory.getNumScreened());
+        assertEquals(11, real._numEvaluations);
+        // Predictions were poor while there were too few samples to fit the model
+        assertTrue(factory.getMeanAbsoluteError() > 0);
+        factory.setExplorationRate(1.0);
+        factory.createFitness(createIndividual(0.01, 0.01)).totalFitness();
+        assertEquals(1, factory.getNumExplored());
+        assertEquals(12, real._numEvaluations);
+        assertEquals(12, factory.getModel().getNumSamples());
+    }
+
+    /**
+     * Test method for {@link SurrogateFitnessFactory#createFitness(Genotype)}, making sure that the model isn't trained
+     * again on an individual it has already been trained on, nor on a cached fitness
+     */
+    @Test
+    public final void testTrainOnce() {
+        final SurrogateFitnessFactory factory =
+                new SurrogateFitnessFactory(new LinearFitnessFactory(), new NearestNeighborModel(1, 10), new Random(3));
+        factory.createFitness(createIndividual(0.25, 0.5)).totalFitness();
+        factory.createFitness(createIndividual(0.25, 0.5)).totalFitness();
+        assertEquals(2, factory.getNumEvaluated());
+        assertEquals(1, factory.getModel().getNumSamples());
+        final CachedFitness cached = new CachedFitness(Arrays.asList(0.75, 1.5), 2.25);
+        final SurrogateFitnessFactory cachedFactory =
+                new SurrogateFitnessFactory(new FitnessFactory() {
+                    @Override
+                    public Fitness createFitness(final Genotype individual) {
+                        return cached;
+                    }
+
+                    @Override
+                    public void ready() {
+                        // Nothing to do
+                    }
+                }, new NearestNeighborModel(1, 10), new Random(3));
+        assertSame(cached, cachedFactory.createFitness(createIndividual(0.75, 0.75)));
+        assertEquals(0, cachedFactory.getNumEvaluated());
+        assertEquals(0, cachedFactory.getModel().getNumSamples());
+    }
+
+    /**
+     * Test method for {@link SurrogateFitnessFactory#createFitness(Genotype)}, making sure that a failed (i.e.,
+     * provisional) evaluation doesn't train the model, so that the individual can train it once it succeeds
+     */
+    @Test
+    public final void testProvisionalNotTrained() {
+        final SurrogateFitnessFactory factory = new SurrogateFitnessFactory(new FitnessFactory() {
+            private final FitnessFactory _real = new LinearFitnessFactory();
+            private boolean _failed = false;
+
+            @Override
+            public Fitness createFitness(final Genotype individual) {
+                if (_failed) return _real.createFitness(individual);
+                _failed = true;
+                return new FailedFitness();
+            }
+
+            @Override
+            public void ready() {
+                // Nothing to do
+            }
+        }, new NearestNeighborModel(1, 10), new Random(3));
+        final Fitness failed = factory.createFitness(createIndividual(0.25, 0.5));
+        assertEquals(0.0, failed.totalFitness(), 0.0);
+        assertTrue(AbstractFitness.isProvisional(failed));
+        assertEquals(1, factory.getNumEvaluated());
+        assertEquals(0, factory.getModel().getNumSamples());
+        final Fitness succeeded = factory.createFitness(createIndividual(0.25, 0.5));
+        assertEquals(1.25, succeeded.totalFitness(), 0.0);
+        assertFalse(AbstractFitness.isProvisional(succeeded));
+        assertEquals(2, factory.getNumEvaluated());
+        assertEquals(1, factory.getModel().getNumSamples());
+        assertArrayEquals(new double[] { 1.25, 0.25, 1.0 }, factory.getModel().predict(new double[] { 0.25, 0.5 }),
+                          0.0);
+    }
+
+    /**
+     * Test method for {@link SurrogateFitnessFactory#writeState(java.io.DataOutput)} and
+     * {@link SurrogateFitnessFactory#readState(java.io.DataInput)}, making sure that a restored factory (and model)
+     * screens, explores and trains just as the original does.
+     * @throws IOException If state cannot be saved or restored
+     */
+    @Test
+    public final void testWriteState() throws IOException {
+        for (final boolean useRidge : new boolean[] { false, true }) {
+            final SurrogateFitnessFactory original = createCheckpointedFactory(useRidge, 5);
+            original.createFitness(createIndividual(0.5, 0.5)).totalFitness();
+            final Random rng = new Random(13);
+            for (int i = 0; i < 15; ++i) {
+                original.createFitness(createIndividual(rng.nextDouble(), rng.nextDouble())).totalFitness();
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            original.writeState(new DataOutputStream(bytes));
+            final SurrogateFitnessFactory restored = createCheckpointedFactory(useRidge, 17);
+            restored.createFitness(createIndividual(0.25, 0.75)).totalFitness(); // Replaced by the checkpoint
+            restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+            assertEquals(original.getNumEvaluated(), restored.getNumEvaluated());
+            assertEquals(original.getNumScreened(), restored.getNumScreened());
+            assertEquals(original.getThreshold(), restored.getThreshold(), 0.0);
+            assertEquals(original.getModel().getNumSamples(), restored.getModel().getNumSamples());
+            for (int i = 0; i < 30; ++i) {
+                final Genotype individual = createIndividual(rng.nextDouble(), rng.nextDouble());
+                final Fitness expected = original.createFitness(individual);
+                final Fitness actual = restored.createFitness(individual.clone());
+                assertEquals(expected instanceof CachedFitness, actual instanceof CachedFitness);
+                assertEquals(expected.totalFitness(), actual.totalFitness(), 0.0);
+                assertEquals(expected.fitnessValues(), actual.fitnessValues());
+            }
+            assertTrue(original.getNumScreened() > 0);
+            assertTrue(original.getNumExplored() > 0);
+            assertEquals(original.getNumScreened(), restored.getNumScreened());
+            assertEquals(original.getNumExplored(), restored.getNumExplored());
+            assertEquals(original.getMeanAbsoluteError(), restored.getMeanAbsoluteError(), 0.0);
+            // An individual trained on before the checkpoint isn't trained on again
+            original.createFitness(createIndividual(0.5, 0.5)).totalFitness();
+            restored.createFitness(createIndividual(0.5, 0.5)).totalFitness();
+            assertEquals(original.getModel().getNumSamples(), restored.getModel().getNumSamples());
+        }
+    }
+
+    private static SurrogateFitnessFactory createCheckpointedFactory(final boolean useRidge, final long seed) {
+        final SurrogateModel model = useRidge ? new RidgeRegressionModel(1E-6, 0.99) : new NearestNeighborModel(3, 8);
+        final SurrogateFitnessFactory retval =
+                new SurrogateFitnessFactory(new LinearFitnessFactory(), model, new CheckpointableRandom(seed));
+        retval.setMinSamples(5);
+        retval.setScreenFraction(0.5);
+        retval.setExplorationRate(0.3);
+        return retval;
+    }
+}
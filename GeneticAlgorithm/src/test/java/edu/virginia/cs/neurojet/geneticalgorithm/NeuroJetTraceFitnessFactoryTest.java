@@ -170,4 +170,45 @@ public class NeuroJetTraceFitnessFactoryTest {
         factory = createNeuroJetTraceFitness(getNeuroJet(), new MockFile("dne", true, true));
         factory.ready(); // Just tests to make sure no error is thrown
     }
+
+    /**
+     * Test method for
+     * {@link edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetTraceFitnessFactory#generateKey(edu.virginia.cs.geneticalgorithm.gene.Genotype)}
+     * .
+     * @throws URISyntaxException Shouldn't happen
+     */
+    @Test
+    public final void testGenerateKey() throws URISyntaxException {
+        final NeuroJetTraceFitnessFactory factory = createNeuroJetTraceFitness();
+        final String key = factory.generateKey(StandardGenotypeTest.createStandardIntervalGenotype(30, 0.5));
+        assertEquals(40, key.length());
+        assertEquals(key, factory.generateKey(StandardGenotypeTest.createStandardIntervalGenotype(30, 0.5)));
+        assertEquals(key, createNeuroJetTraceFitness().generateKey(StandardGenotypeTest.createStandardIntervalGenotype(30,
+                                                                                                                       0.5)));
+        assertFalse(key.equals(factory.generateKey(StandardGenotypeTest.createStandardIntervalGenotype(30, 0.25))));
+    }
+
+    /**
+     * Test method for {@link edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetTraceFitnessFactory#getSavedTime()},
+     * making sure that halted simulations are credited with the rest of the mean wall time of completed simulations.
+     * @throws URISyntaxException Shouldn't happen
+     */
+    @Test
+    public final void testSavedTime() throws URISyntaxException {
+        final NeuroJetTraceFitnessFactory factory = createNeuroJetTraceFitness();
+        factory.simulationHalted(100); // Nothing to compare against yet
+        assertEquals(0, factory.getSavedTime());
+        assertTrue(Double.isNaN(factory.getMeanSimulationTime()));
+        factory.simulationCompleted(1000);
+        factory.simulationCompleted(3000);
+        assertEquals(2000.0, factory.getMeanSimulationTime(), 0.0);
+        factory.simulationHalted(500);
+        factory.simulationHalted(2500); // Took longer than usual, so saved nothing
+        assertEquals(1500, factory.getSavedTime());
+        assertEquals(3, factory.getNumHalted());
+        factory.resetSavedTime();
+        assertEquals(0, factory.getSavedTime());
+        assertEquals(0, factory.getNumHalted());
+        assertEquals(2000.0, factory.getMeanSimulationTime(), 0.0);
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.geneticalgorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.virginia.cs.data.FileLoader;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotypeTest;
+
+/**
+ * Test harness for {@link NeuroJetTraceFitnessIntermediary}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NeuroJetTraceFitnessIntermediaryTest {
+
+    /**
+     * Test method for {@link NeuroJetTraceFitnessIntermediary#getMeanTotalFitness(NeuroJetTraceFitness)} and
+     * {@link NeuroJetTraceFitnessIntermediary#getMeanFitnessValues(NeuroJetTraceFitness)}, making sure that samples
+     * finishing in reverse order give the same means as samples finishing in order
+     * @throws URISyntaxException Shouldn't happen
+     */
+    @Test
+    public final void testSampleOrder() throws URISyntaxException {
+        final NeuroJetTraceFitnessFactory factory = NeuroJetTraceFitnessFactoryTest.createNeuroJetTraceFitness();
+        final StandardGenotype individual = StandardGenotypeTest.createStandardIntervalGenotype(30, 0.375);
+        final List<File> scriptFiles = Collections.singletonList(FileLoader.getFile("trace_full.nj"));
+        final ScriptUpdater updater = NeuroJetGeneticAlgorithm.buildScriptUpdater();
+        final List<NeuroJetTraceFitness> samples = new ArrayList<NeuroJetTraceFitness>();
+        for (int i = 0; i < 3; ++i) {
+            samples.add(createSample(factory, individual, scriptFiles, updater));
+        }
+        final double[] totals = { 0.1, 0.2, 0.7 };
+        for (int i = samples.size() - 1; i >= 0; --i) {
+            samples.get(i).getParent().addSample(samples.get(i), values(totals[i]), totals[i], false);
+        }
+        // None had finished when they were handed out, so each is only its own sample
+        for (int i = 0; i < samples.size(); ++i) {
+            assertEquals(totals[i], samples.get(i).getParent().getMeanTotalFitness(samples.get(i)), 0.0);
+            assertTrue(samples.get(i).getParent().isProvisional(samples.get(i)));
+        }
+        // Once every sample has been taken, the last one is handed out again, now averaging all of them
+        final NeuroJetTraceFitness last = createSample(factory, individual, scriptFiles, updater);
+        assertSame(samples.get(2), last);
+        final double expected = ((0.1 + 0.2) + 0.7) / 3;
+        assertEquals(expected, last.getParent().getMeanTotalFitness(last), 0.0);
+        assertEquals(values(expected), last.getParent().getMeanFitnessValues(last));
+        assertFalse(last.getParent().isProvisional(last));
+    }
+
+    /**
+     * Test method for {@link NeuroJetTraceFitnessFactory#writeState(java.io.DataOutput)} and
+     * {@link NeuroJetTraceFitnessFactory#readState(java.io.DataInput)}, making sure that a restored factory hands out
+     * the same samples (with the same results and working directories) as the one that saved them
+     * @throws URISyntaxException Shouldn't happen
+     * @throws IOException Shouldn't happen
+     */
+    @Test
+    public final void testWriteState() throws URISyntaxException, IOException {
+        final NeuroJetTraceFitnessFactory factory = NeuroJetTraceFitnessFactoryTest.createNeuroJetTraceFitness();
+        final StandardGenotype individual = StandardGenotypeTest.createStandardIntervalGenotype(30, 0.375);
+        final List<File> scriptFiles = Collections.singletonList(FileLoader.getFile("trace_full.nj"));
+        final ScriptUpdater updater = factory.getUpdater();
+        final double[] totals = { 0.1, 0.2, 0.7 };
+        for (int i = 0; i < totals.length; ++i) {
+            final NeuroJetTraceFitness sample = createSample(factory, individual, scriptFiles, updater);
+            sample.getParent().addSample(sample, values(totals[i]), totals[i], false);
+        }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        factory.writeState(new DataOutputStream(bytes));
+        final NeuroJetTraceFitnessFactory restored = NeuroJetTraceFitnessFactoryTest.createNeuroJetTraceFitness();
+        restored.readState(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        final NeuroJetTraceFitness expected = createSample(factory, individual, scriptFiles, updater);
+        final NeuroJetTraceFitness actual = createSample(restored, individual, scriptFiles, restored.getUpdater());
+        assertEquals(expected.getDirID(), actual.getDirID());
+        assertEquals(expected.getParent().getMeanTotalFitness(expected),
+                     actual.getParent().getMeanTotalFitness(actual), 0.0);
+        assertEquals(expected.getParent().getMeanFitnessValues(expected),
+                     actual.getParent().getMeanFitnessValues(actual));
+        assertFalse(actual.getParent().isProvisional(actual));
+        // Restored results are not simulated again
+        assertEquals(expected.getParent().getMeanTotalFitness(expected), actual.totalFitness(), 0.0);
+    }
+
+    private static NeuroJetTraceFitness createSample(final NeuroJetTraceFitnessFactory factory,
+                                                     final StandardGenotype individual, final List<File> scriptFiles,
+                                                     final ScriptUpdater updater) throws URISyntaxException {
+        final Fitness f = NeuroJetTraceFitnessIntermediary.createFitness(factory, individual, scriptFiles, updater,
+                                                                         NeuroJetTraceFitnessFactoryTest.getNeuroJet(),
+                                                                         FileLoader.getDataDirectory(), 3);
+        return (NeuroJetTraceFitness) f;
+    }
+
+    private static List<Double> values(final double total) {
+        return new ArrayList<Double>(Collections.nCopies(NeuroJetTraceFitness.NUM_FIT_VALS, total));
+    }
+}
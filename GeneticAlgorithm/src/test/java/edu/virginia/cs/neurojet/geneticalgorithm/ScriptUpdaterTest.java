@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.geneticalgorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
+
+/**
+ * Test harness for the {@link ScriptUpdater}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class ScriptUpdaterTest {
+
+    private static final String TEMPLATE = "# Trace conditioning\r\n" + "SetVar -InternrnExcDecay insertAhere\r\n"
+                                           + "SetVar -Axonal insertChere -dend INSERTDHERE\n"
+                                           + "SetVar -minAx insertEhere -maxAx insertFhere\r"
+                                           + "SetVar -Act insertGhere # insertZZhere is not a variable\n" + "\n"
+                                           + "SetVar -mu insertOhere -lambda insertPhere -N insertNhere\n"
+                                           + "SetVar -X insertXhere -seed insertSeedhere -seed2 InsertSeedHere";
+
+    private static File createTemplate(final String text) throws IOException {
+        final File retval = File.createTempFile("template", ".nj");
+        retval.deleteOnExit();
+        writeTemplate(retval, text);
+        return retval;
+    }
+
+    private static void writeTemplate(final File template, final String text) throws IOException {
+        final Writer out = new OutputStreamWriter(new FileOutputStream(template));
+        try {
+            out.write(text);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    private static String readFile(final File file) throws IOException {
+        final StringBuilder retval = new StringBuilder();
+        final FileReader in = new FileReader(file);
+        try {
+            final char[] buffer = new char[1024];
+            int numRead;
+            while ((numRead = in.read(buffer)) >= 0) {
+                retval.append(buffer, 0, numRead);
+            }
+        }
+        finally {
+            in.close();
+        }
+        return retval.toString();
+    }
+
+    /**
+     * Replaces markers line by line with regular expressions (as scripts used to be created)
+     */
+    private static String regexReplace(final File template, final ScriptUpdater updater,
+                                       final StandardGenotype genotype, final Integer seed) throws IOException {
+        final String separator = System.getProperty("line.separator");
+        final Map<String, String> values = new HashMap<String, String>();
+        for (final String entry : updater.canonicalForm(genotype).split("\n")) {
+            final int equals = entry.indexOf('=');
+            values.put(entry.substring(0, equals), entry.substring(equals + 1));
+        }
+        final StringBuilder retval = new StringBuilder();
+        final BufferedReader in = new BufferedReader(new FileReader(template));
+        try {
+            String line;
+            while ((line = in.readLine()) != null) {
+                for (final Map.Entry<String, String> entry : values.entrySet()) {
+                    final Pattern p = Pattern.compile(entry.getKey(), Pattern.CANON_EQ | Pattern.CASE_INSENSITIVE);
+                    final Matcher m = p.matcher(line);
+                    line = m.replaceAll(entry.getValue());
+                }
+                if (seed != null) {
+                    final Pattern p = Pattern.compile("insertSeedhere", Pattern.CANON_EQ | Pattern.CASE_INSENSITIVE);
+                    line = p.matcher(line).replaceAll(seed.toString());
+                }
+                retval.append(line).append(separator);
+            }
+        }
+        finally {
+            in.close();
+        }
+        return retval.toString();
+    }
+
+    /**
+     * Test method for {@link ScriptUpdater#createScriptFromTemplate(File, File, StandardGenotype, Integer)}, making sure
+     * that the script is the same as replacing the markers line by line with regular expressions would create.
+     * @throws IOException If there's a problem with the temporary files
+     */
+    @Test
+    public final void testCreateScriptFromTemplate() throws IOException {
+        final ScriptUpdater updater = NeuroJetGeneticAlgorithm.buildScriptUpdater();
+        final File template = createTemplate(TEMPLATE);
+        final File script = File.createTempFile("script", ".nj");
+        script.deleteOnExit();
+        final Random rng = new Random(37);
+        for (int i = 0; i < 5; ++i) {
+            final StandardGenotype genotype =
+                    new StandardGenotype(NeuroJetGeneticAlgorithm.GENOTYPE_SIZE, new IntervalGene(), rng);
+            final Integer seed = (i == 0) ? null : Integer.valueOf(i);
+            updater.createScriptFromTemplate(script, template, genotype, seed);
+            final String expected = regexReplace(template, updater, genotype, seed);
+            assertEquals(expected, readFile(script));
+        }
+        assertTrue(readFile(script).contains("insertZZhere"));
+    }
+
+    /**
+     * Test method for {@link ScriptUpdater#getTemplate(File)}, making sure that a template is only compiled again if it
+     * changes.
+     * @throws IOException If there's a problem with the temporary files
+     */
+    @Test
+    public final void testTemplateCache() throws IOException {
+        final ScriptUpdater updater = NeuroJetGeneticAlgorithm.buildScriptUpdater();
+        final File template = createTemplate(TEMPLATE);
+        final ScriptTemplate compiled = updater.getTemplate(template);
+        assertEquals(12, compiled.getNumMarkers());
+        assertSame(compiled, updater.getTemplate(template));
+        writeTemplate(template, "SetVar -X insertXhere");
+        final ScriptTemplate recompiled = updater.getTemplate(template);
+        assertNotSame(compiled, recompiled);
+        assertEquals(1, recompiled.getNumMarkers());
+        updater.addConstantMapping(-1, "Z", "7");
+        assertNotSame(recompiled, updater.getTemplate(template));
+    }
+}
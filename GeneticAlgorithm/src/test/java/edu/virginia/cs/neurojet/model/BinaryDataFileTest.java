@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import static edu.virginia.cs.data.FileLoader.getFile;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.Test;
+
+/**
+ * Test harness for the {@link BinaryDataFile} (and the {@link BinaryDataConverter})
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class BinaryDataFileTest {
+
+    private static NumericData parse(final String text) {
+        return NumericFileParser.parse(ByteBuffer.wrap(text.getBytes()), 1.0);
+    }
+
+    private static File createTempDirectory() throws IOException {
+        final File retval = File.createTempFile("results", "");
+        retval.delete();
+        retval.mkdir();
+        retval.deleteOnExit();
+        return retval;
+    }
+
+    private static void assertSameData(final NumericData expected, final NumericData actual) {
+        assertEquals(expected.numRows(), actual.numRows());
+        for (int row = 0; row < expected.numRows(); ++row) {
+            assertEquals(expected.rowAsList(row), actual.rowAsList(row));
+        }
+        assertEquals(expected.sum(), actual.sum(), 0.0);
+        assertEquals(expected.sumOfSquares(), actual.sumOfSquares(), 0.0);
+        assertEquals(expected.slope(), actual.slope(), 0.0);
+    }
+
+    /**
+     * Test method for {@link BinaryDataFile#write(NumericData, File, boolean)} and
+     * {@link BinaryDataFile#read(File, double)}, making sure that data survives the round trip (with and without
+     * compression, and for both integer and floating point values).
+     * @throws IOException If there's a problem with the temporary files
+     */
+    @Test
+    public final void testRoundTrip() throws IOException {
+        final Random rng = new Random(3);
+        final StringBuilder doubles = new StringBuilder();
+        final StringBuilder ints = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            doubles.append(rng.nextGaussian()).append(i % 7 == 6 ? '\n' : ' ');
+            ints.append(rng.nextInt(100) - 50).append(i % 3 == 2 ? '\n' : ' ');
+        }
+        doubles.append("NaN -0.0\n");
+        final File file = File.createTempFile("data", ".njb");
+        file.deleteOnExit();
+        for (final String text : new String[] { doubles.toString(), ints.toString(), "" }) {
+            final NumericData data = parse(text);
+            for (final boolean compress : new boolean[] { false, true }) {
+                BinaryDataFile.write(data, file, compress);
+                assertSameData(data, BinaryDataFile.read(file, 1.0));
+                final NumericData scaled = BinaryDataFile.read(file, 2.5);
+                for (int i = 0; i < data.size(); ++i) {
+                    assertEquals(Double.valueOf(data.get(i) * 2.5), Double.valueOf(scaled.get(i)));
+                }
+            }
+        }
+        final NumericData ints1000 = parse(ints.toString());
+        BinaryDataFile.write(ints1000, file, false);
+        assertEquals(16 + 5 + 4 * ints1000.numRows() + 5 + 4 * ints1000.size() + 4, file.length());
+        BinaryDataFile.write(ints1000, file, true);
+        assertTrue(file.length() < 4 * ints1000.size());
+    }
+
+    /**
+     * Test method for {@link BinaryDataFile#read(File, double)}, making sure that corruption is detected.
+     * @throws IOException If there's a problem with the temporary file
+     */
+    @Test
+    public final void testChecksum() throws IOException {
+        final File file = File.createTempFile("data", ".njb");
+        file.deleteOnExit();
+        BinaryDataFile.write(parse("1.5 2.5\n3.5\n"), file, false);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(file.length() - 6); // In the last value
+            final int b = raf.read();
+            raf.seek(file.length() - 6);
+            raf.write(b ^ 1);
+        }
+        finally {
+            raf.close();
+        }
+        try {
+            BinaryDataFile.read(file, 1.0);
+            fail("Corruption not detected");
+        }
+        catch (final IOException e) {
+            assertTrue(e.getMessage().contains("Checksum"));
+        }
+    }
+
+    /**
+     * Test method for {@link BinaryDataFile#openRows(File, double)}, making sure that rows read one at a time match
+     * those read all at once, and that corruption is detected once every row has been read.
+     * @throws IOException If there's a problem with the temporary file
+     */
+    @Test
+    public final void testOpenRows() throws IOException {
+        final File file = File.createTempFile("data", ".njb");
+        file.deleteOnExit();
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 500; ++i) {
+            text.append(i + 1).append(' ').append(i % 7).append(i % 3 == 0 ? "\n" : " 1\n");
+        }
+        final NumericData data = parse(text.toString());
+        for (final boolean compress : new boolean[] { false, true }) {
+            BinaryDataFile.write(data, file, compress);
+            final double[] values = new double[3];
+            final BinaryDataFile.RowReader rows = BinaryDataFile.openRows(file, 2.0);
+            try {
+                assertEquals(data.numRows(), rows.numRows());
+                for (int row = 0; row < data.numRows(); ++row) {
+                    assertEquals(data.rowLength(row), rows.nextRow(values));
+                    for (int i = 0; i < data.rowLength(row); ++i) {
+                        assertEquals(2.0 * data.get(row, i), values[i], 0.0);
+                    }
+                }
+                assertEquals(-1, rows.nextRow(values));
+            }
+            finally {
+                rows.close();
+            }
+            // Reading only the first rows is fine
+            final BinaryDataFile.RowReader firstRows = BinaryDataFile.openRows(file, 1.0);
+            assertEquals(data.rowLength(0), firstRows.nextRow(values));
+            firstRows.close();
+        }
+        BinaryDataFile.write(data, file, false);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.seek(file.length() - 6); // In the last value
+            final int b = raf.read();
+            raf.seek(file.length() - 6);
+            raf.write(b ^ 1);
+        }
+        finally {
+            raf.close();
+        }
+        final BinaryDataFile.RowReader rows = BinaryDataFile.openRows(file, 1.0);
+        try {
+            while (rows.nextRow(new double[3]) >= 0) {
+                // Read every row
+            }
+            fail("Corruption not detected");
+        }
+        catch (final IOException e) {
+            assertTrue(e.getMessage().contains("Checksum"));
+        }
+        finally {
+            rows.close();
+        }
+    }
+
+    /**
+     * Test method for {@link BinaryDataConverter#convert(File)}, making sure that the model classes read the binary form
+     * of the files instead of the text, and get the same results.
+     * @throws IOException If there's a problem with the temporary files
+     * @throws URISyntaxException If the test data cannot be found
+     */
+    @Test
+    public final void testConverter() throws IOException, URISyntaxException {
+        final File directory = createTempDirectory();
+        final File nested = new File(directory, "trace_0");
+        nested.mkdir();
+        for (final String name : new String[] { "tstBuff.dat", "tstBuff.dat.ready", "fit2_150.dat" }) {
+            FileUtils.copyFileToDirectory(getFile(name), nested);
+        }
+        FileUtils.writeStringToFile(new File(directory, "notes.dat"), "Not numbers\n");
+        final FiringMatrix expected = new NeuroJetNeuronBuffer(nested, "tstBuff.dat").getFiringMatrix();
+        final NumericData expectedFit = NumericFileParser.parse(new File(nested, "fit2_150.dat"), 1.0);
+        final BinaryDataConverter converter = new BinaryDataConverter(true, true);
+        converter.convert(directory);
+        assertEquals(2, converter.getNumConverted());
+        assertEquals(1, converter.getNumSkipped());
+        assertTrue(converter.getBinaryBytes() < converter.getTextBytes());
+        assertFalse(new File(nested, "tstBuff.dat").exists());
+        final File fitFile = new File(nested, "fit2_150.dat");
+        assertEquals(BinaryDataFile.binaryFor(fitFile), BinaryDataFile.findSource(fitFile));
+        assertSameData(expectedFit, NumericFileParser.parse(fitFile, 1.0));
+        final FiringMatrix actual = new NeuroJetNeuronBuffer(nested, "tstBuff.dat").getFiringMatrix();
+        assertEquals(expected.numTimeSteps(), actual.numTimeSteps());
+        for (int t = 0; t < expected.numTimeSteps(); ++t) {
+            assertEquals(expected.firingNeurons(t), actual.firingNeurons(t));
+        }
+        FileUtils.deleteDirectory(directory);
+    }
+}
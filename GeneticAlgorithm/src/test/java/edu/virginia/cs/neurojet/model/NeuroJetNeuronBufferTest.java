@@ -118,4 +118,26 @@ public class NeuroJetNeuronBufferTest {
             assertEquals("Couldn't find file '" + fileName + ".ready'", t.getMessage());
         }
     }
+
+    /**
+     * Tests getFiringMatrix method in NeuroJetNeuronBuffer, including reading only the part of the file needed
+     * @throws URISyntaxException Shouldn't happen
+     */
+    @Test
+    public void testGetFiringMatrix() throws URISyntaxException {
+        final NeuroJetNeuronBuffer windowed = new NeuroJetNeuronBuffer(getDataDirectory(), "tstBuff.dat");
+        final IntegerRange window = new IntegerRange(601, 650);
+        assertEquals(_buffFile.fractionFired(getPuffRange(), window), windowed.fractionFired(getPuffRange(), window), 0);
+        assertEquals(750, windowed.numTimeSteps());
+        final FiringMatrix matrix = windowed.getFiringMatrix();
+        final List<Set<Integer>> buff = _buffFile.getFiringBuffer();
+        assertEquals(buff.size(), matrix.numTimeSteps());
+        for (int i = 0; i < buff.size(); ++i) {
+            assertEquals(buff.get(i), matrix.firingNeurons(i));
+            assertEquals(buff.get(i).size(), matrix.numFired(i));
+        }
+        assertTrue(matrix.isFiring(0, 30));
+        assertFalse(matrix.isFiring(0, 31));
+        assertFalse(matrix.isFiring(0, 5000));
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.virginia.cs.common.utils.ArrayNumberUtils;
+
+/**
+ * Test harness for the {@link NumericFileParser} (and the {@link NumericData} it creates)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NumericFileParserTest {
+
+    private static NumericData parse(final String text, final double scale) {
+        try {
+            return NumericFileParser.parse(ByteBuffer.wrap(text.getBytes("US-ASCII")), scale);
+        }
+        catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static File createFile(final String text) throws IOException {
+        final File retval = File.createTempFile("data", ".dat");
+        retval.deleteOnExit();
+        writeFile(retval, text);
+        return retval;
+    }
+
+    private static void writeFile(final File file, final String text) throws IOException {
+        final Writer out = new OutputStreamWriter(new FileOutputStream(file), "US-ASCII");
+        try {
+            out.write(text);
+        }
+        finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Test method for {@link NumericFileParser#parse(File, double)}, making sure that numbers are parsed exactly as
+     * {@link Double#valueOf(String)} would parse them (from a file large enough to be memory-mapped).
+     * @throws IOException If there's a problem with the temporary file
+     */
+    @Test
+    public final void testParseMatchesValueOf() throws IOException {
+        final List<String> tokens = new ArrayList<String>(Arrays.asList("0", "-0", "0.0", "+5", "1.", ".5", "-.25",
+                "1e5", "1E-5", "2.5e+10", "1e300", "4.9e-324", "123456789012345678901234567890", "0.1000000000000000055511",
+                "9007199254740993", "NaN", "-Infinity", "0.30000000000000004", "00012.5000"));
+        final Random rng = new Random(42);
+        for (int i = 0; i < 5000; ++i) {
+            final double value = (rng.nextDouble() - 0.5) * Math.pow(10, rng.nextInt(40) - 20);
+            tokens.add(i % 2 == 0 ? Double.toString(value) : String.format("%.6f", value));
+        }
+        final StringBuilder text = new StringBuilder();
+        for (final String token : tokens) {
+            text.append(token).append('\n');
+        }
+        final File file = createFile(text.toString());
+        assertTrue(file.length() >= 64 * 1024);
+        final NumericData data = NumericFileParser.parse(file, 1.0);
+        assertEquals(tokens.size(), data.size());
+        for (int i = 0; i < tokens.size(); ++i) {
+            assertEquals(tokens.get(i), Double.valueOf(tokens.get(i)), Double.valueOf(data.get(i)));
+        }
+    }
+
+    /**
+     * Test method for {@link NumericFileParser#parse(ByteBuffer, double)}, making sure that rows, blank lines and
+     * scaling are handled.
+     */
+    @Test
+    public final void testRows() {
+        final NumericData data = parse("1 2\t3\r\n\n4 5 6\r  \r7 8 9 10\n", 2.0);
+        assertEquals(3, data.numRows());
+        assertEquals(10, data.size());
+        assertEquals(3, data.rowLength(0));
+        assertEquals(4, data.rowLength(2));
+        assertEquals(12.0, data.get(1, 2), 0.0);
+        assertEquals(Arrays.asList(14.0, 16.0, 18.0, 20.0), data.rowAsList(2));
+        assertEquals(8.0, data.rowMean(1, 0, 0), 0.0);
+        assertEquals(19.0, data.rowMean(2, 2, Integer.MAX_VALUE - 1), 0.0);
+        assertEquals(Double.NaN, data.rowMean(0, 3, 5), 0.0);
+        assertEquals(0, parse("", 1.0).numRows());
+    }
+
+    /**
+     * Test method for the statistics of {@link NumericData}, making sure that they're the same as those calculated by
+     * {@link ArrayNumberUtils}.
+     */
+    @Test
+    public final void testStatistics() {
+        final Random rng = new Random(7);
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            text.append(rng.nextDouble()).append(i % 10 == 9 ? '\n' : ' ');
+        }
+        final NumericData data = parse(text.toString(), 0.5);
+        final List<Double> values = data.asList();
+        assertEquals(ArrayNumberUtils.sum(values), data.sum(), 0.0);
+        assertEquals(ArrayNumberUtils.sumOfSquares(values), data.sumOfSquares(), 0.0);
+        assertEquals(ArrayNumberUtils.mean(values), data.mean(), 0.0);
+        assertEquals(ArrayNumberUtils.slope(values), data.slope(), 0.0);
+        assertEquals(ArrayNumberUtils.mean(data.rowAsList(4), 2, 6), data.rowMean(4, 2, 6), 0.0);
+    }
+
+    /**
+     * Test method for {@link DataDirectory#getData(String, double, int, File)}, making sure that a file is only parsed
+     * again if it changes.
+     * @throws IOException If there's a problem with the temporary files
+     */
+    @Test
+    public final void testDataDirectory() throws IOException {
+        final File file = createFile("1\n2\n3\n");
+        final File signal = new File(file.getPath() + ".ready");
+        signal.createNewFile();
+        signal.deleteOnExit();
+        final DataDirectory directory = new DataDirectory(file.getParentFile());
+        final NumericData data = directory.getData(file.getName(), 1.0, 1000, null);
+        assertEquals(6.0, data.sum(), 0.0);
+        assertSame(data, directory.getData(file.getName(), 1.0, 1000, null));
+        assertNotSame(data, directory.getData(file.getName(), 2.0, 1000, null));
+        writeFile(file, "1\n2\n3\n4\n");
+        final NumericData changed = directory.getData(file.getName(), 2.0, 1000, null);
+        assertEquals(20.0, changed.sum(), 0.0);
+        directory.clear();
+        assertNotSame(changed, directory.getData(file.getName(), 2.0, 1000, null));
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.neurojet.simulator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.virginia.cs.data.FileLoader;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
+import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetGeneticAlgorithm;
+import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetQuickFitness;
+import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetTraceFitness;
+import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetTraceFitnessFactory;
+import edu.virginia.cs.neurojet.geneticalgorithm.ScriptUpdater;
+
+/**
+ * Test harness for the {@link NeuroJetSimulator}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class NeuroJetSimulatorTest {
+
+    private static final int GENOTYPE_SIZE = 21;
+    private File _dir;
+    private File _template;
+    private ScriptUpdater _updater;
+
+    /**
+     * Creates a directory for the scripts and results
+     * @throws IOException If the directory cannot be created
+     * @throws URISyntaxException Shouldn't happen
+     */
+    @Before
+    public void setUp() throws IOException, URISyntaxException {
+        _dir = File.createTempFile("simulator", "");
+        _dir.delete();
+        _dir.mkdirs();
+        _template = FileLoader.getFile("trace_full.nj");
+        _updater = NeuroJetGeneticAlgorithm.buildScriptUpdater();
+    }
+
+    /**
+     * Deletes the directory
+     * @throws IOException If the directory cannot be deleted
+     */
+    @After
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(_dir);
+    }
+
+    private File createScript(final String name, final StandardGenotype genotype, final int seed) throws IOException {
+        final File retval = new File(new File(_dir, name), _template.getName());
+        _updater.createScriptFromTemplate(retval, _template, genotype, seed);
+        return retval;
+    }
+
+    /**
+     * Test method for {@link NeuroJetSimulator#run(File, File)}, making sure that the fitness files are written, that
+     * the same script gives the same results, and that a different random seed gives different ones
+     * @throws IOException If there's a problem with the files
+     */
+    @Test
+    public final void testRun() throws IOException {
+        final StandardGenotype genotype = new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), new Random(5));
+        final File script = createScript("a", genotype, 1);
+        final Map<String, Double> variables = NeuroJetSimulator.readVariables(script);
+        assertEquals(150, variables.get("numTrainTrials"), 0.0);
+        assertEquals(1, variables.get("randomSeed"), 0.0);
+        assertEquals(_updater.getDesiredAct(genotype), variables.get("ActivityHz"), 1E-9);
+        final NeuroJetSimulator simulator = new NeuroJetSimulator().setDuration(0);
+        assertEquals(0, simulator.run(script, script.getParentFile()));
+        final File a = script.getParentFile();
+        for (final String name : new String[] { "fit_quick.ready", "fit_trn_ssd_act.dat", "fit_tst_ssd_act.dat",
+                                                "fit2_50.dat.ready", "fit2_100.dat.ready", "fit2_150.dat.ready" }) {
+            assertTrue(name, new File(a, name).exists());
+        }
+        assertEquals(15, FileUtils.readLines(new File(a, "fit_tst_mean_act.dat")).size());
+        assertEquals(15, FileUtils.readLines(new File(a, "fit2_150.dat")).size());
+        final File again = createScript("b", genotype, 1);
+        simulator.run(again, again.getParentFile());
+        assertTrue(FileUtils.contentEquals(new File(a, "fit2_150.dat"), new File(again.getParentFile(), "fit2_150.dat")));
+        final File reseeded = createScript("c", genotype, 2);
+        simulator.run(reseeded, reseeded.getParentFile());
+        assertFalse(FileUtils.contentEquals(new File(a, "fit2_150.dat"),
+                                            new File(reseeded.getParentFile(), "fit2_150.dat")));
+        assertEquals(1000, new NeuroJetSimulator().getDuration(Collections.<String, Double> emptyMap()));
+    }
+
+    /**
+     * Test method for {@link NeuroJetSimulator#setCrashRate(double)}, making sure that a crashed simulation fails
+     * without writing its final results
+     * @throws IOException If there's a problem with the files
+     */
+    @Test
+    public final void testCrash() throws IOException {
+        final File script =
+                createScript("a", new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), new Random(5)), 1);
+        final NeuroJetSimulator simulator = new NeuroJetSimulator().setDuration(0).setCrashRate(1);
+        assertEquals(NeuroJetSimulator.FAILED, simulator.run(script, script.getParentFile()));
+        assertFalse(new File(script.getParentFile(), "fit2_150.dat.ready").exists());
+    }
+
+    /**
+     * Test method for {@link NeuroJetSimulator#createLauncher(File)}, making sure that the launcher can take the place
+     * of NeuroJet when evaluating a {@link NeuroJetTraceFitness}
+     * @throws IOException If there's a problem with the files
+     */
+    @Test
+    public final void testLauncher() throws IOException {
+        final File launcher = new NeuroJetSimulator().setDuration(100).createLauncher(new File(_dir, "NeuroJet.sh"));
+        assertTrue(launcher.canExecute());
+        final List<File> scriptFiles = Collections.singletonList(_template);
+        final NeuroJetTraceFitnessFactory factory = new NeuroJetTraceFitnessFactory(scriptFiles, _updater, launcher, _dir);
+        final Fitness fitness =
+                factory.createFitness(new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), new Random(9)));
+        fitness.prepare();
+        assertEquals(NeuroJetTraceFitness.NUM_FIT_VALS, fitness.fitnessValues().size());
+        assertTrue(fitness.totalFitness() > 0);
+    }
+
+    /**
+     * Test method for {@link NeuroJetTraceFitness#halt()}, with the simulator run by a wrapper script: the proxy starts
+     * the simulation in the background, halting the simulation kills it (wrapper and all) and reclaims its working
+     * directory, and evaluating the fitness afterwards starts the simulation over
+     * @throws IOException If there's a problem with the files
+     */
+    @Test
+    public final void testHalt() throws IOException {
+        final File launcher = new NeuroJetSimulator().setDuration(60000).createLauncher(new File(_dir, "NeuroJet.sh"));
+        final NeuroJetTraceFitness fitness = createFitness(createWrapper(launcher));
+        fitness.prepare();
+        final File workingDir = fitness.getWorkingDir();
+        final Set<String> scripts = new HashSet<String>(Arrays.asList(workingDir.list()));
+        new NeuroJetQuickFitness(fitness).fitnessValues();
+        assertTrue(new File(workingDir, "fit_quick.ready").exists());
+        assertFalse(new File(workingDir, "fit2_150.dat.ready").exists());
+        final long start = System.currentTimeMillis();
+        fitness.halt();
+        assertTrue(System.currentTimeMillis() - start < 15000);
+        assertEquals(scripts, new HashSet<String>(Arrays.asList(workingDir.list())));
+        new NeuroJetSimulator().setDuration(100).createLauncher(launcher);
+        assertEquals(NeuroJetTraceFitness.NUM_FIT_VALS, fitness.fitnessValues().size());
+        assertTrue(new File(workingDir, "fit2_150.dat.ready").exists());
+    }
+
+    /**
+     * Test method for {@link NeuroJetQuickFitness#fitnessValues()}, making sure that the proxy stops waiting for the
+     * results of a simulation as soon as it crashes
+     * @throws IOException If there's a problem with the files
+     */
+    @Test
+    public final void testCrashBeforeProxy() throws IOException {
+        final File launcher = new File(_dir, "NeuroJet.sh");
+        FileUtils.writeStringToFile(launcher, "#!/bin/sh\nexit 1\n");
+        assertTrue(launcher.setExecutable(true));
+        final NeuroJetTraceFitness fitness = createFitness(launcher);
+        fitness.prepare();
+        final long start = System.currentTimeMillis();
+        try {
+            new NeuroJetQuickFitness(fitness).fitnessValues();
+            fail("Crashed simulation should have no results");
+        }
+        catch (final RuntimeException e) {
+            // expected
+        }
+        assertTrue(System.currentTimeMillis() - start < 60000);
+        // The simulation itself scores zero, but only provisionally, so that its result isn't cached
+        assertEquals(0.0, fitness.totalFitness(), 0.0);
+        assertTrue(fitness.isProvisional());
+    }
+
+    private NeuroJetTraceFitness createFitness(final File neuroJet) {
+        final List<File> scriptFiles = Collections.singletonList(_template);
+        final NeuroJetTraceFitnessFactory factory = new NeuroJetTraceFitnessFactory(scriptFiles, _updater, neuroJet, _dir);
+        return (NeuroJetTraceFitness) factory.createFitness(new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(),
+                                                                                 new Random(9)));
+    }
+
+    /**
+     * @return Script that runs the launcher as its child, rather than in its place
+     */
+    private File createWrapper(final File launcher) throws IOException {
+        final File retval = new File(_dir, "wrapper.sh");
+        FileUtils.writeStringToFile(retval, "#!/bin/sh\n'" + launcher.getPath() + "' \"$@\"\n");
+        assertTrue(retval.setExecutable(true));
+        return retval;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+import edu.virginia.cs.geneticalgorithm.fitness.AbstractFitness;
+import edu.virginia.cs.geneticalgorithm.fitness.Fitness;
+import edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGeneticFactory;
+
+/**
+ * Populations, distributions and a cheap in-process fitness function shared by the benchmarks, so that what they measure
+ * is the genetic algorithm itself rather than a simulation
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+public final class BenchmarkSupport {
+
+    /**
+     * Seed for every random number generator, so that runs of the same benchmark are comparable
+     */
+    public static final long SEED = 101;
+
+    private BenchmarkSupport() {
+        // Static utility class
+    }
+
+    /**
+     * @param popSize Number of individuals
+     * @param genotypeLength Number of genes in each individual
+     * @param compact Whether to store genes as {@link edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype
+     *            DoubleArrayGenotypes} (as is practical for very large populations) rather than lists of genes
+     * @return Population of individuals made up of {@link IntervalGene IntervalGenes}
+     */
+    public static List<Genotype> createPopulation(final int popSize, final int genotypeLength, final boolean compact) {
+        final IntervalGeneticFactory factory = new IntervalGeneticFactory(SEED);
+        return compact ? factory.createArrayPopulation(popSize, genotypeLength, 0.2)
+                       : factory.createPopulation(popSize, genotypeLength, 0.2);
+    }
+
+    /**
+     * @param population Individuals to evaluate
+     * @param numObjectives Number of fitness values for each individual
+     * @return Individuals with their {@link SyntheticFitnessFactory synthetic} fitness values, most fit first
+     */
+    public static Distribution createDistribution(final List<Genotype> population, final int numObjectives) {
+        final SyntheticFitnessFactory factory = new SyntheticFitnessFactory(numObjectives);
+        final Distribution retval = new Distribution();
+        for (final Genotype g : population) {
+            final Fitness fitness = factory.createFitness(g);
+            retval.add(new DistributionMember(fitness.totalFitness(), fitness.fitnessValues(), g));
+        }
+        retval.sort();
+        return retval;
+    }
+
+    /**
+     * @param size Number of pairs
+     * @param population Individuals to pair up
+     * @return Indices of randomly chosen pairs of individuals, flattened
+     */
+    public static int[] createPairs(final int size, final List<Genotype> population) {
+        final Random rng = new Random(SEED);
+        final int[] retval = new int[2 * size];
+        for (int i = 0; i < retval.length; ++i) {
+            retval[i] = rng.nextInt(population.size());
+        }
+        return retval;
+    }
+
+    /**
+     * Creates fitness functions whose objectives are sums of interleaved genes (objective k sums genes k, k + n, k + 2n,
+     * ... for n objectives), which takes time proportional to the genotype length and allocates only the result
+     */
+    public static final class SyntheticFitnessFactory implements FitnessFactory {
+
+        private final int _numObjectives;
+
+        /**
+         * @param numObjectives Number of fitness values for each individual
+         */
+        public SyntheticFitnessFactory(final int numObjectives) {
+            if (numObjectives < 1) throw new IllegalArgumentException("Number of objectives must be positive");
+            _numObjectives = numObjectives;
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#createFitness(edu.virginia.cs.geneticalgorithm.gene.Genotype)
+         */
+        @Override
+        public Fitness createFitness(final Genotype individual) {
+            return new AbstractFitness() {
+                private List<Double> _values = null;
+
+                @Override
+                public void prepare() {
+                    // No preparation required
+                }
+
+                @Override
+                public List<Double> fitnessValues() {
+                    if (_values == null) {
+                        final double[] sums = new double[_numObjectives];
+                        for (int i = 0; i < individual.getNumGenes(); ++i) {
+                            // Fitness values need to be positive
+                            sums[i % _numObjectives] += ((IntervalGene) individual.getGene(i)).getValue() + 0.01;
+                        }
+                        _values = new ArrayList<Double>(_numObjectives);
+                        for (final double sum : sums) {
+                            _values.add(sum);
+                        }
+                    }
+                    return _values;
+                }
+
+                @Override
+                public int numFitnessValues() {
+                    return _numObjectives;
+                }
+            };
+        }
+
+        /**
+         * @see edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory#ready()
+         */
+        @Override
+        public void ready() {
+            // Nothing to do
+        }
+    }
+}
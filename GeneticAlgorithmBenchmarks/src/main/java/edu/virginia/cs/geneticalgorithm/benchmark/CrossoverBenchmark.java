@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.virginia.cs.geneticalgorithm.crossover.Crossover;
+import edu.virginia.cs.geneticalgorithm.crossover.OnePointCrossover;
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+
+/**
+ * Measures breeding a batch of pairs of parents with each {@link Crossover} (mutating the children as usual)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrossoverBenchmark {
+
+    private static final int NUM_PAIRS = 1000;
+
+    /**
+     * Number of genes in each individual
+     */
+    @Param({ "19", "100", "1000" })
+    public int genotypeLength;
+
+    /**
+     * Whether genes are stored as {@link edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype DoubleArrayGenotypes}
+     */
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    /**
+     * Which crossover to measure: UNIFORM or ONE_POINT
+     */
+    @Param({ "UNIFORM", "ONE_POINT" })
+    public String crossover;
+
+    private List<Genotype> _population;
+    private int[] _pairs;
+    private Crossover _crossover;
+
+    /**
+     * Creates the parents and the crossover
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _population = BenchmarkSupport.createPopulation(NUM_PAIRS, genotypeLength, compact);
+        _pairs = BenchmarkSupport.createPairs(NUM_PAIRS, _population);
+        final Random rng = new Random(BenchmarkSupport.SEED);
+        final IntervalMutator mutator = new IntervalMutator(0.05, 0.2, rng);
+        if ("UNIFORM".equals(crossover)) {
+            _crossover = new UniformCrossover(mutator, 0.6, 0.5, rng);
+        }
+        else if ("ONE_POINT".equals(crossover)) {
+            _crossover = new OnePointCrossover(mutator, 0.6, rng);
+        }
+        else {
+            throw new IllegalArgumentException("Unknown crossover: " + crossover);
+        }
+    }
+
+    /**
+     * @param blackhole Consumes the children, so that breeding them isn't optimized away
+     */
+    @Benchmark
+    public void crossover(final Blackhole blackhole) {
+        for (int i = 0; i < _pairs.length; i += 2) {
+            blackhole.consume(_crossover.crossover(_population.get(_pairs[i]), _population.get(_pairs[i + 1])));
+        }
+    }
+}
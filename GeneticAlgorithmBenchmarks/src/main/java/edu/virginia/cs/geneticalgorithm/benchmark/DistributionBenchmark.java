@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.distribution.DistributionMember;
+
+/**
+ * Measures {@link Distribution#normalize()} and {@link Distribution#sort()}. Normalizing does nothing to a distribution
+ * that is already normalized, and sorting a sorted one is its best case, so each invocation starts from the original,
+ * shuffled fitness values.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DistributionBenchmark {
+
+    /**
+     * Number of individuals in the distribution
+     */
+    @Param({ "100", "10000", "1000000" })
+    public int popSize;
+
+    /**
+     * Number of fitness values for each individual
+     */
+    @Param({ "1", "3" })
+    public int numObjectives;
+
+    private List<DistributionMember> _members;
+    private Distribution _distribution;
+
+    /**
+     * Evaluates the population and shuffles it
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _members = new ArrayList<DistributionMember>(
+                BenchmarkSupport.createDistribution(BenchmarkSupport.createPopulation(popSize, 19, true), numObjectives));
+        Collections.shuffle(_members, new Random(BenchmarkSupport.SEED));
+        _distribution = new Distribution();
+        _distribution.addAll(_members);
+    }
+
+    /**
+     * Puts back the original fitness values in their original order
+     */
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < _members.size(); ++i) {
+            _distribution.set(i, _members.get(i));
+        }
+    }
+
+    /**
+     * @return Normalized distribution
+     */
+    @Benchmark
+    public Distribution normalize() {
+        _distribution.normalize();
+        return _distribution;
+    }
+
+    /**
+     * @return Sorted distribution
+     */
+    @Benchmark
+    public Distribution sort() {
+        _distribution.sort();
+        return _distribution;
+    }
+}
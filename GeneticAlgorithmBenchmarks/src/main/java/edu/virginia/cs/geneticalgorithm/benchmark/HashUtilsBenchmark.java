@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.virginia.cs.common.utils.HashUtils;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+
+/**
+ * Measures {@link HashUtils#hash(int, double)} over an individual's gene values, and {@link HashUtils#hash(int, Object)}
+ * over whole individuals (as used to find duplicates and cached fitness values)
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashUtilsBenchmark {
+
+    private static final int NUM_INDIVIDUALS = 100;
+
+    /**
+     * Number of genes in each individual
+     */
+    @Param({ "19", "100", "1000" })
+    public int genotypeLength;
+
+    /**
+     * Whether genes are stored as {@link edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype DoubleArrayGenotypes}
+     */
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    private List<Genotype> _population;
+    private double[] _values;
+
+    /**
+     * Creates the individuals
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _population = BenchmarkSupport.createPopulation(NUM_INDIVIDUALS, genotypeLength, compact);
+        _values = new double[genotypeLength];
+        for (int i = 0; i < genotypeLength; ++i) {
+            _values[i] = ((IntervalGene) _population.get(0).getGene(i)).getValue();
+        }
+    }
+
+    /**
+     * @return Hash of one individual's gene values
+     */
+    @Benchmark
+    public int hashDoubles() {
+        int retval = HashUtils.SEED;
+        for (final double value : _values) {
+            retval = HashUtils.hash(retval, value);
+        }
+        return retval;
+    }
+
+    /**
+     * @return Hash of every individual
+     */
+    @Benchmark
+    public int hashGenotypes() {
+        int retval = HashUtils.SEED;
+        for (final Genotype g : _population) {
+            retval = HashUtils.hash(retval, g);
+        }
+        return retval;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.mutator.DecayingIntervalMutator;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+import edu.virginia.cs.geneticalgorithm.mutator.Mutator;
+import edu.virginia.cs.geneticalgorithm.mutator.StandardMutator;
+
+/**
+ * Measures mutating a batch of individuals with each {@link Mutator}
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutatorBenchmark {
+
+    private static final int NUM_INDIVIDUALS = 1000;
+
+    /**
+     * Number of genes in each individual
+     */
+    @Param({ "19", "100", "1000" })
+    public int genotypeLength;
+
+    /**
+     * Whether genes are stored as {@link edu.virginia.cs.geneticalgorithm.gene.DoubleArrayGenotype DoubleArrayGenotypes}
+     */
+    @Param({ "false", "true" })
+    public boolean compact;
+
+    /**
+     * Which mutator to measure: INTERVAL, DECAYING or STANDARD
+     */
+    @Param({ "INTERVAL", "DECAYING", "STANDARD" })
+    public String mutator;
+
+    private List<Genotype> _population;
+    private Mutator _mutator;
+
+    /**
+     * Creates the individuals and the mutator
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _population = BenchmarkSupport.createPopulation(NUM_INDIVIDUALS, genotypeLength, compact);
+        final Random rng = new Random(BenchmarkSupport.SEED);
+        if ("INTERVAL".equals(mutator)) {
+            _mutator = new IntervalMutator(0.05, 0.2, rng);
+        }
+        else if ("DECAYING".equals(mutator)) {
+            _mutator = new DecayingIntervalMutator(0.05, 0.99, 0.2, 0.99, rng);
+        }
+        else if ("STANDARD".equals(mutator)) {
+            _mutator = new StandardMutator(0.05, rng);
+        }
+        else {
+            throw new IllegalArgumentException("Unknown mutator: " + mutator);
+        }
+    }
+
+    /**
+     * @param blackhole Consumes the mutants, so that creating them isn't optimized away
+     */
+    @Benchmark
+    public void mutate(final Blackhole blackhole) {
+        for (final Genotype g : _population) {
+            blackhole.consume(_mutator.mutate(g));
+        }
+    }
+}
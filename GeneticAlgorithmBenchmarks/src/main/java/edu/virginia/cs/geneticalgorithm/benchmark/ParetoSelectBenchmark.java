@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.select.SessionSelect;
+
+/**
+ * Measures choosing a generation's worth of parents with the selects that rank the population by Pareto dominance
+ * ({@link edu.virginia.cs.geneticalgorithm.select.ParetoRankedSelect ParetoRankedSelect} and
+ * {@link edu.virginia.cs.geneticalgorithm.select.NonDominatedSelect NonDominatedSelect})
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParetoSelectBenchmark {
+
+    /**
+     * Number of individuals to select from
+     */
+    @Param({ "100", "1000", "10000" })
+    public int popSize;
+
+    /**
+     * Number of fitness values for each individual
+     */
+    @Param({ "2", "5" })
+    public int numObjectives;
+
+    /**
+     * Which select to measure: PARETO or NONDOMINATED
+     */
+    @Param({ "PARETO", "NONDOMINATED" })
+    public String select;
+
+    private Distribution _distribution;
+    private SessionSelect _select;
+    private int[] _indices;
+
+    /**
+     * Evaluates the population and creates the select
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _distribution = BenchmarkSupport.createDistribution(BenchmarkSupport.createPopulation(popSize, 19, true),
+                                                            numObjectives);
+        _select = SelectBenchmark.createSelect(select, new Random(BenchmarkSupport.SEED));
+        _indices = new int[2 * popSize];
+    }
+
+    /**
+     * @return Indices of the chosen parents
+     */
+    @Benchmark
+    public int[] selectParents() {
+        _select.createSession(_distribution).selectMany(_indices);
+        return _indices;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.virginia.cs.geneticalgorithm.crossover.UniformCrossover;
+import edu.virginia.cs.geneticalgorithm.fitness.SerialFitnessEvaluator;
+import edu.virginia.cs.geneticalgorithm.gene.Genotype;
+import edu.virginia.cs.geneticalgorithm.mutator.IntervalMutator;
+import edu.virginia.cs.geneticalgorithm.reproduction.Reproduction;
+import edu.virginia.cs.geneticalgorithm.select.StandardSelect;
+
+/**
+ * Measures a whole generation of {@link Reproduction#reproduce(List, edu.virginia.cs.geneticalgorithm.fitness.FitnessFactory,
+ * edu.virginia.cs.geneticalgorithm.select.Select, edu.virginia.cs.geneticalgorithm.crossover.Crossover)}: evaluating
+ * the population with a {@link BenchmarkSupport.SyntheticFitnessFactory synthetic} fitness function, selecting parents
+ * and breeding the next generation. Each invocation starts again from the same population, so the population doesn't
+ * converge as the benchmark runs. Children that duplicate one already bred are discarded, which makes large populations
+ * slow to fill, so a million individuals has to be asked for explicitly (with -p popSize=1000000).
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReproductionBenchmark {
+
+    /**
+     * Number of individuals in each generation
+     */
+    @Param({ "100", "1000", "10000", "100000" })
+    public int popSize;
+
+    /**
+     * Number of genes in each individual
+     */
+    @Param({ "19", "100" })
+    public int genotypeLength;
+
+    /**
+     * Number of fitness values for each individual
+     */
+    @Param({ "1", "3" })
+    public int numObjectives;
+
+    private List<Genotype> _population;
+    private BenchmarkSupport.SyntheticFitnessFactory _fitnessFactory;
+    private StandardSelect _select;
+    private UniformCrossover _crossover;
+    private Reproduction _reproduction;
+
+    /**
+     * Creates the population (stored compactly when there are many individuals) and the operators
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Reproduction.DEBUG_LEVEL = 0;
+        _population = BenchmarkSupport.createPopulation(popSize, genotypeLength, popSize >= 100000);
+        _fitnessFactory = new BenchmarkSupport.SyntheticFitnessFactory(numObjectives);
+        final Random rng = new Random(BenchmarkSupport.SEED);
+        _select = new StandardSelect(rng);
+        _crossover = new UniformCrossover(new IntervalMutator(0.05, 0.2, rng), 0.6, 0.5, rng);
+    }
+
+    /**
+     * Forgets the previous invocation's history, so that every invocation does the same work
+     */
+    @Setup(Level.Invocation)
+    public void resetHistory() {
+        _reproduction = new Reproduction(false, false);
+        _reproduction.setFitnessEvaluator(new SerialFitnessEvaluator());
+    }
+
+    /**
+     * @return Next generation
+     */
+    @Benchmark
+    public List<Genotype> reproduce() {
+        return _reproduction.reproduce(_population, _fitnessFactory, _select, _crossover);
+    }
+}
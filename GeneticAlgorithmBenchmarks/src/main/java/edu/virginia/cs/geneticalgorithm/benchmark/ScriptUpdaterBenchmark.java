@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import edu.virginia.cs.geneticalgorithm.gene.IntervalGene;
+import edu.virginia.cs.geneticalgorithm.gene.StandardGenotype;
+import edu.virginia.cs.neurojet.geneticalgorithm.NeuroJetGeneticAlgorithm;
+import edu.virginia.cs.neurojet.geneticalgorithm.ScriptUpdater;
+
+/**
+ * Measures {@link ScriptUpdater#createScriptFromTemplate(File, File, StandardGenotype, Integer)} with the mappings that
+ * {@link NeuroJetGeneticAlgorithm} uses, writing a script for a different individual each time from a template in which
+ * every variable (and the seed) appears once in every few lines
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScriptUpdaterBenchmark {
+
+    private static final String[] VAR_NAMES = { "A", "C", "D", "E", "F", "G", "H", "I", "J", "K", "L", "M", "N", "O", "P",
+                                                "Q", "R", "S", "T", "U", "W", "X", "Seed" };
+    private static final int NUM_INDIVIDUALS = 64;
+    private static final int GENOTYPE_SIZE = 21; // Genes mapped by NeuroJetGeneticAlgorithm.buildScriptUpdater()
+
+    /**
+     * Number of lines in the template
+     */
+    @Param({ "100", "1000", "10000" })
+    public int templateLines;
+
+    private ScriptUpdater _updater;
+    private File _dir;
+    private File _template;
+    private File _script;
+    private StandardGenotype[] _individuals;
+    private int _next = 0;
+
+    /**
+     * Writes the template and creates the individuals
+     * @throws IOException If the template cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        _updater = NeuroJetGeneticAlgorithm.buildScriptUpdater();
+        _dir = File.createTempFile("benchmark", "");
+        _dir.delete();
+        _dir.mkdirs();
+        _template = new File(_dir, "template.nj");
+        _script = new File(_dir, "script.nj");
+        final PrintWriter out = new PrintWriter(new FileWriter(_template));
+        try {
+            for (int i = 0; i < templateLines; ++i) {
+                if (i % 4 == 0) {
+                    out.println("SetVar -name Var" + i + " -value insert" + VAR_NAMES[i / 4 % VAR_NAMES.length] + "here");
+                }
+                else {
+                    out.println("# Line " + i + " has no markers to replace");
+                }
+            }
+        }
+        finally {
+            out.close();
+        }
+        final Random rng = new Random(BenchmarkSupport.SEED);
+        _individuals = new StandardGenotype[NUM_INDIVIDUALS];
+        for (int i = 0; i < NUM_INDIVIDUALS; ++i) {
+            _individuals[i] = new StandardGenotype(GENOTYPE_SIZE, new IntervalGene(), rng);
+        }
+    }
+
+    /**
+     * Deletes the template and script
+     * @throws IOException If they cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(_dir);
+    }
+
+    /**
+     * @return Script that was written
+     * @throws IOException If the script cannot be written
+     */
+    @Benchmark
+    public File createScript() throws IOException {
+        final int i = _next;
+        _next = (_next + 1) % NUM_INDIVIDUALS;
+        _updater.createScriptFromTemplate(_script, _template, _individuals[i], Integer.valueOf(i));
+        return _script;
+    }
+}
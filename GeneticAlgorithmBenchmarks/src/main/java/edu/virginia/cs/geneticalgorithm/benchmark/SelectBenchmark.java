@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Ashlie B. Hocking All Rights reserved.
+ */
+package edu.virginia.cs.geneticalgorithm.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.virginia.cs.geneticalgorithm.distribution.Distribution;
+import edu.virginia.cs.geneticalgorithm.select.BonusSelect;
+import edu.virginia.cs.geneticalgorithm.select.NonDominatedSelect;
+import edu.virginia.cs.geneticalgorithm.select.ParetoRankedSelect;
+import edu.virginia.cs.geneticalgorithm.select.Select;
+import edu.virginia.cs.geneticalgorithm.select.SessionSelect;
+import edu.virginia.cs.geneticalgorithm.select.StandardSelect;
+
+/**
+ * Measures choosing a generation's worth of parents (two per individual) with each {@link SessionSelect}, including
+ * building the session's tables, both in one batch and one parent at a time through {@link Select#select(Distribution)}
+ * (as {@link edu.virginia.cs.geneticalgorithm.reproduction.Reproduction Reproduction} does). The Pareto selects rank
+ * the whole population, which takes time quadratic in its size, so they're measured separately (see
+ * {@link ParetoSelectBenchmark}) over smaller populations.
+ * @author <a href="mailto:benjaminhocking@gmail.com">Ashlie B. Hocking</a>
+ * @since Oct 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectBenchmark {
+
+    /**
+     * Number of individuals to select from
+     */
+    @Param({ "100", "10000", "1000000" })
+    public int popSize;
+
+    /**
+     * Number of fitness values for each individual
+     */
+    @Param({ "1", "3" })
+    public int numObjectives;
+
+    /**
+     * Which select to measure: STANDARD (cumulative distribution), ALIAS (alias table) or BONUS
+     */
+    @Param({ "STANDARD", "ALIAS", "BONUS" })
+    public String select;
+
+    private Distribution _distribution;
+    private SessionSelect _select;
+    private Random _rng;
+    private int[] _indices;
+
+    /**
+     * Evaluates the population and creates the select
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        _distribution = BenchmarkSupport.createDistribution(BenchmarkSupport.createPopulation(popSize, 19, true),
+                                                            numObjectives);
+        _rng = new Random(BenchmarkSupport.SEED);
+        _select = createSelect(select, _rng);
+        _indices = new int[2 * popSize];
+    }
+
+    /**
+     * @param name Name of the select
+     * @param rng Random number generator for the select
+     * @return Select with that name
+     */
+    static SessionSelect createSelect(final String name, final Random rng) {
+        if ("STANDARD".equals(name)) return new StandardSelect(rng, false);
+        if ("ALIAS".equals(name)) return new StandardSelect(rng, true);
+        if ("BONUS".equals(name)) return new BonusSelect(rng);
+        if ("PARETO".equals(name)) return new ParetoRankedSelect(rng);
+        if ("NONDOMINATED".equals(name)) return new NonDominatedSelect(rng);
+        throw new IllegalArgumentException("Unknown select: " + name);
+    }
+
+    /**
+     * @return Indices of the chosen parents
+     */
+    @Benchmark
+    public int[] selectParents() {
+        _select.createSession(_distribution).selectMany(_indices);
+        return _indices;
+    }
+
+    /**
+     * A new select is created each time, so that (as for a new generation) it builds its tables again
+     * @param blackhole Consumes the chosen parents, so that choosing them isn't optimized away
+     */
+    @Benchmark
+    public void selectEachParent(final Blackhole blackhole) {
+        final Select selFn = createSelect(select, _rng);
+        for (int i = 0; i < _indices.length; ++i) {
+            blackhole.consume(selFn.select(_distribution));
+        }
+    }
+}